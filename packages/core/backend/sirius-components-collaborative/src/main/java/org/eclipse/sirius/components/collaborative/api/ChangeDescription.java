@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2022 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,8 @@ import java.text.MessageFormat;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.core.api.IInput;
 
@@ -24,6 +26,11 @@ import org.eclipse.sirius.components.core.api.IInput;
  * collaborative layer. It helps the various representations event processors among others determine if they are
  * impacted by a change and thus if they should refresh the representation that they are managing.
  *
+ * <p>
+ * When the changes have been recorded while the input was handled, the change description also contains the
+ * identifiers of the semantic elements modified since the beginning of the handling of the input.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class ChangeDescription {
@@ -36,15 +43,33 @@ public class ChangeDescription {
 
     private final Map<String, Object> parameters;
 
+    private final Set<String> modifiedObjectIds;
+
     public ChangeDescription(String kind, String sourceId, IInput input) {
         this(kind, sourceId, input, new HashMap<>());
     }
 
     public ChangeDescription(String kind, String sourceId, IInput input, Map<String, Object> parameters) {
+        this(kind, sourceId, input, parameters, null);
+    }
+
+    private ChangeDescription(String kind, String sourceId, IInput input, Map<String, Object> parameters, Set<String> modifiedObjectIds) {
         this.kind = Objects.requireNonNull(kind);
         this.sourceId = Objects.requireNonNull(sourceId);
         this.input = Objects.requireNonNull(input);
         this.parameters = Objects.requireNonNull(parameters);
+        this.modifiedObjectIds = modifiedObjectIds;
+    }
+
+    /**
+     * Returns a copy of this change description with the identifiers of the semantic elements modified.
+     *
+     * @param modifiedObjectIds
+     *         The identifiers of the modified semantic elements
+     * @return A new change description
+     */
+    public ChangeDescription withModifiedObjectIds(Set<String> modifiedObjectIds) {
+        return new ChangeDescription(this.kind, this.sourceId, this.input, this.parameters, Set.copyOf(modifiedObjectIds));
     }
 
     public String getKind() {
@@ -63,6 +88,27 @@ public class ChangeDescription {
         return this.parameters;
     }
 
+    /**
+     * Returns the identifiers of the semantic elements modified.
+     *
+     * @return The identifiers of the modified semantic elements or an empty optional if they are not known
+     */
+    public Optional<Set<String>> getModifiedObjectIds() {
+        return Optional.ofNullable(this.modifiedObjectIds);
+    }
+
+    /**
+     * Indicates if the change may concern some of the given semantic elements.
+     *
+     * @param objectIds
+     *         The identifiers of some semantic elements
+     * @return <code>true</code> if one of the given semantic elements has been modified or if the modified semantic
+     * elements are not known, <code>false</code> otherwise
+     */
+    public boolean mayConcern(Set<String> objectIds) {
+        return this.modifiedObjectIds == null || this.modifiedObjectIds.stream().anyMatch(objectIds::contains);
+    }
+
     @Override
     public String toString() {
         String pattern = "{0} '{'kind: {1}, sourceId: {2}'}'";
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.api;
 
+import java.util.Set;
+
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
@@ -38,6 +40,36 @@ public interface IDanglingRepresentationDeletionService {
 
     void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext);
 
+    /**
+     * Deletes the representations left dangling by the modification of some semantic elements.
+     *
+     * <p>
+     *     Only the representations targeting one of the given semantic elements, which contain the ones removed by the
+     *     change, have to be considered. By default, all the representations of the editing context are considered.
+     * </p>
+     *
+     * @param cause
+     *            The cause of the deletion
+     * @param editingContext
+     *            The editing context
+     * @param modifiedObjectIds
+     *            The identifiers of the semantic elements modified, added or removed by the change
+     */
+    default void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> modifiedObjectIds) {
+        this.deleteDanglingRepresentations(cause, editingContext);
+    }
+
+    /**
+     * Indicates if the deletion of the dangling representations benefits from the identifiers of the semantic elements
+     * modified by a change, which are only recorded when they are used since the recording has a cost for each change.
+     *
+     * @return <code>true</code> if {@link #deleteDanglingRepresentations(ICause, IEditingContext, Set)} is optimized
+     *         for the modified semantic elements, <code>false</code> otherwise
+     */
+    default boolean usesModifiedObjectIds() {
+        return false;
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -17,6 +17,10 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 /**
  * Used to execute some behavior just before the creation of the {@link IEditingContextEventProcessor} or just after.
  *
+ * <p>
+ *     The behavior set up at the creation of the editing context event processor can be released once it is disposed.
+ * </p>
+ *
  * @author arichard
  */
 public interface IEditingContextEventProcessorInitializationHook {
@@ -29,6 +33,10 @@ public interface IEditingContextEventProcessorInitializationHook {
         // Do nothing
     }
 
+    default void onDisposed(String editingContextId) {
+        // Do nothing
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,20 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.api;
 
+import java.time.Duration;
+
+import io.micrometer.core.instrument.Timer;
+
 /**
  * Monitoring constants.
  *
+ * <p>
+ *     The meters of the event pipeline are only tagged with values from a bounded set, like the class of the inputs,
+ *     the kind of the representations or the outcome of an operation, so that their number does not grow with the
+ *     number of inputs handled. The identifiers of the inputs, editing contexts or representations must never be used
+ *     as tags.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public final class Monitoring {
@@ -24,10 +35,46 @@ public final class Monitoring {
     public static final String TIMER_REFRESH_REPRESENTATION = "timer_refresh_representation";
     public static final String TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR = "timer_create_representation_event_processor";
     public static final String TIMER_PROCESSING_INPUT = "timer_processing_input";
+    public static final String TIMER_PREPROCESSING_INPUT = "siriusweb_editingcontext_input_preprocessing";
+    public static final String TIMER_HANDLING_INPUT = "siriusweb_editingcontext_input_handling";
+    public static final String TIMER_REFRESH_REPRESENTATION_KIND = "siriusweb_editingcontext_representation_refresh";
+    public static final String TIMER_PERSISTENCE = "siriusweb_editingcontext_persistence";
+    public static final String TIMER_FLUSH = "siriusweb_editingcontext_flush";
+    public static final String TIMER_INTERPRETER_CREATION = "siriusweb_interpreter_creation";
+    public static final String INTERPRETER_CREATION_ALLOCATED_BYTES = "siriusweb_interpreter_creation_allocated_bytes";
+    public static final String INTERPRETER_POOL_REQUESTS = "siriusweb_interpreter_pool_requests";
+    public static final String EVALUATION_MEMO_REQUESTS = "siriusweb_evaluation_memo_requests";
+    public static final String TIMER_EVALUATION_MEMO_SAVED = "siriusweb_evaluation_memo_saved";
 
     public static final String NAME = "name";
+    public static final String INPUT = "input";
+    public static final String REPRESENTATION_KIND = "representationKind";
+    public static final String OUTCOME = "outcome";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String OUTCOME_CANCELLED = "cancelled";
+    public static final String OUTCOME_SHUTDOWN = "shutdown";
+    public static final String OUTCOME_HIT = "hit";
+    public static final String OUTCOME_MISS = "miss";
+    public static final String OUTCOME_INVALIDATED = "invalidated";
 
     private Monitoring() {
         // Prevent instantiation
     }
+
+    /**
+     * Returns the builder of a timer of the event pipeline publishing its percentiles and a percentile histogram.
+     *
+     * @param name
+     *         The name of the timer
+     * @return The builder of the timer
+     */
+    public static Timer.Builder timer(String name) {
+        return Timer.builder(name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(1));
+    }
 }
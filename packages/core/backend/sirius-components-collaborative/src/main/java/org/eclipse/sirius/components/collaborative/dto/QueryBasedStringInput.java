@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,12 +15,12 @@ package org.eclipse.sirius.components.collaborative.dto;
 import java.util.Map;
 import java.util.UUID;
 
-import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
 
 /**
  * The input object of the queryBasedStringEventHandler.
  *
  * @author fbarbin
  */
-public record QueryBasedStringInput(UUID id, String query, Map<String, Object> variables) implements IInput {
+public record QueryBasedStringInput(UUID id, String query, Map<String, Object> variables) implements IReadOnlyInput {
 }
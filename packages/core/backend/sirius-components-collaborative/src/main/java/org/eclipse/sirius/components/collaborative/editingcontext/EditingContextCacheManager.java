@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCacheManager;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSizeEstimator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Used to keep the editing contexts loaded in memory within a memory budget.
+ *
+ * <p>
+ *     The memory retained by each editing context is estimated once it has been loaded. When the sum of these
+ *     estimations exceeds the memory budget, the editing contexts which can be evicted are selected either by least
+ *     recent access (LRU) or by least number of accesses (LFU) until the budget is respected again. The editing contexts
+ *     accessed during the keep-alive duration are never selected, even if the budget is exceeded, and their disposal
+ *     once they are not used anymore is postponed until the end of this duration. Without memory budget, no editing
+ *     context is evicted.
+ * </p>
+ *
+ * <p>
+ *     The estimation walks through all the elements of the editing context, it is thus performed again after a semantic
+ *     change at most once per keep-alive duration, by the thread of the editing context. The estimated size of an
+ *     editing context may then ignore the changes performed during the keep-alive duration which preceded its last
+ *     access.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextCacheManager implements IEditingContextCacheManager {
+
+    public static final String LEAST_RECENTLY_USED = "LRU";
+
+    public static final String LEAST_FREQUENTLY_USED = "LFU";
+
+    private static final String GAUGE_ESTIMATED_SIZE = "siriusweb_editingcontext_estimated_size";
+
+    private static final String SUMMARY_SIZE = "siriusweb_editingcontext_size";
+
+    private static final String COUNTER_EVICTIONS = "siriusweb_editingcontext_evictions";
+
+    private final List<IEditingContextSizeEstimator> editingContextSizeEstimators;
+
+    private final long memoryBudget;
+
+    private final Comparator<CachedEditingContext> evictionOrder;
+
+    private final long minimumIdleNanos;
+
+    private final Map<String, CachedEditingContext> cachedEditingContexts = new ConcurrentHashMap<>();
+
+    private final DistributionSummary sizeSummary;
+
+    private final Counter evictionsCounter;
+
+    public EditingContextCacheManager(List<IEditingContextSizeEstimator> editingContextSizeEstimators, MeterRegistry meterRegistry,
+                                      @Value("${sirius.components.editingContext.memoryBudget:0B}") DataSize memoryBudget,
+                                      @Value("${sirius.components.editingContext.evictionPolicy:LRU}") String evictionPolicy,
+                                      @Value("${sirius.components.editingContext.memoryBudgetKeepAlive:1m}") Duration keepAlive) {
+        this.editingContextSizeEstimators = Objects.requireNonNull(editingContextSizeEstimators);
+        this.memoryBudget = memoryBudget.toBytes();
+        this.evictionOrder = this.getEvictionOrder(evictionPolicy);
+        this.minimumIdleNanos = keepAlive.toNanos();
+        this.sizeSummary = DistributionSummary.builder(SUMMARY_SIZE)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.evictionsCounter = Counter.builder(COUNTER_EVICTIONS)
+                .register(meterRegistry);
+        Gauge.builder(GAUGE_ESTIMATED_SIZE, this, EditingContextCacheManager::getEstimatedSize)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    private Comparator<CachedEditingContext> getEvictionOrder(String evictionPolicy) {
+        Comparator<CachedEditingContext> leastRecentlyUsed = Comparator.comparingLong(cachedEditingContext -> cachedEditingContext.lastAccess);
+        if (LEAST_FREQUENTLY_USED.equalsIgnoreCase(evictionPolicy)) {
+            return Comparator.<CachedEditingContext>comparingLong(cachedEditingContext -> cachedEditingContext.accessesCount.get()).thenComparing(leastRecentlyUsed);
+        }
+        return leastRecentlyUsed;
+    }
+
+    @Override
+    public void onLoaded(IEditingContext editingContext) {
+        long size = this.estimateSize(editingContext);
+        this.sizeSummary.record(size);
+        this.cachedEditingContexts.put(editingContext.getId(), new CachedEditingContext(editingContext.getId(), size));
+    }
+
+    private long estimateSize(IEditingContext editingContext) {
+        return this.editingContextSizeEstimators.stream()
+                .map(editingContextSizeEstimator -> editingContextSizeEstimator.estimateSize(editingContext))
+                .flatMap(Optional::stream)
+                .findFirst()
+                .orElse(0L);
+    }
+
+    @Override
+    public void onAccessed(String editingContextId) {
+        var cachedEditingContext = this.cachedEditingContexts.get(editingContextId);
+        if (cachedEditingContext != null) {
+            cachedEditingContext.lastAccess = System.nanoTime();
+            cachedEditingContext.accessesCount.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onChanged(IEditingContext editingContext) {
+        var cachedEditingContext = this.cachedEditingContexts.get(editingContext.getId());
+        if (this.memoryBudget > 0 && cachedEditingContext != null && System.nanoTime() - cachedEditingContext.lastEstimation >= this.minimumIdleNanos) {
+            cachedEditingContext.size = this.estimateSize(editingContext);
+            cachedEditingContext.lastEstimation = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void onDisposed(String editingContextId) {
+        this.cachedEditingContexts.remove(editingContextId);
+    }
+
+    @Override
+    public void onEvicted(String editingContextId) {
+        this.cachedEditingContexts.remove(editingContextId);
+        this.evictionsCounter.increment();
+    }
+
+    @Override
+    public synchronized List<String> selectEditingContextsToEvict(Predicate<String> canBeEvicted) {
+        List<String> editingContextIdsToEvict = new ArrayList<>();
+
+        long estimatedSize = this.getEstimatedSize();
+        if (this.memoryBudget > 0 && estimatedSize > this.memoryBudget) {
+            long now = System.nanoTime();
+            var candidates = this.cachedEditingContexts.values().stream()
+                    .filter(cachedEditingContext -> now - cachedEditingContext.lastAccess >= this.minimumIdleNanos)
+                    .filter(cachedEditingContext -> canBeEvicted.test(cachedEditingContext.id))
+                    .sorted(this.evictionOrder)
+                    .toList();
+
+            for (CachedEditingContext candidate : candidates) {
+                if (estimatedSize <= this.memoryBudget) {
+                    break;
+                }
+                editingContextIdsToEvict.add(candidate.id);
+                estimatedSize -= candidate.size;
+            }
+        }
+
+        return editingContextIdsToEvict;
+    }
+
+    @Override
+    public Duration getRemainingKeepAlive(String editingContextId) {
+        Duration remainingKeepAlive = Duration.ZERO;
+        var cachedEditingContext = this.cachedEditingContexts.get(editingContextId);
+        if (this.memoryBudget > 0 && cachedEditingContext != null) {
+            long remainingNanos = this.minimumIdleNanos - (System.nanoTime() - cachedEditingContext.lastAccess);
+            if (remainingNanos > 0) {
+                remainingKeepAlive = Duration.ofNanos(remainingNanos);
+            }
+        }
+        return remainingKeepAlive;
+    }
+
+    private long getEstimatedSize() {
+        return this.cachedEditingContexts.values().stream()
+                .mapToLong(cachedEditingContext -> cachedEditingContext.size)
+                .sum();
+    }
+
+    /**
+     * The estimated size and the accesses of an editing context loaded in memory.
+     *
+     * @author agent
+     */
+    private static final class CachedEditingContext {
+
+        private final String id;
+
+        private final AtomicLong accessesCount = new AtomicLong(1);
+
+        private volatile long size;
+
+        private volatile long lastAccess = System.nanoTime();
+
+        private volatile long lastEstimation = System.nanoTime();
+
+        public CachedEditingContext(String id, long size) {
+            this.id = id;
+            this.size = size;
+        }
+    }
+}
@@ -13,18 +13,27 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextLockRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IInputDispatcher;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationEventProcessorProvider;
@@ -32,9 +41,13 @@ import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IChangeDescriptionListener;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
 import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IBackgroundInput;
+import org.eclipse.sirius.components.core.api.IChangeScopeRecorder;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
 import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
+import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.Disposable;
@@ -47,8 +60,46 @@ import reactor.core.publisher.Sinks.Many;
 import reactor.core.publisher.Sinks.One;
 
 /**
- * Handles all the inputs which concern a particular editing context one at a time, in order of arrival, and in a
- * dedicated thread and emit the output events.
+ * Handles all the inputs which concern a particular editing context one at a time, in order of arrival and priority,
+ * and in a dedicated thread and emit the output events.
+ *
+ * <p>
+ * By default, the thread calling {@link #handle(IInput)} is blocked until the input has been processed. With the
+ * asynchronous dispatch, the payload is instead emitted by the dedicated thread once the input has been processed and
+ * the calling thread is released as soon as the input has been queued.
+ * </p>
+ *
+ * <p>
+ * The changes performed while an input is handled are recorded by the change scope recorders. The identifiers of the
+ * semantic elements modified since the beginning of the handling of the input are then added to the change
+ * descriptions emitted.
+ * </p>
+ *
+ * <p>
+ * When a read-only lane is available, the {@link IReadOnlyInput read-only inputs} are handled by its threads instead
+ * of the dedicated thread, so that they do not wait behind the inputs already queued. They are still handled one at a
+ * time under the write lock of the editing context, like all the other inputs, since their handlers share the
+ * interpreter of the editing context and may install adapters or resolve proxies on its elements. The lock being fair,
+ * a read-only input only waits for the input being handled when it arrives. The read-only inputs targeting a
+ * representation whose event processor has not been created yet are handled by the dedicated thread since the creation
+ * of a representation event processor modifies the editing context.
+ * </p>
+ *
+ * <p>
+ * The {@link IBackgroundInput background inputs} are handled once the other inputs queued have been handled. With an
+ * input queue capacity, the inputs received while too many inputs are waiting to be handled are rejected with a
+ * {@link RejectedExecutionException}. The inputs whose caller has stopped waiting for their payload, for example after
+ * a timeout, are removed from the queue. This cancellation only works with the asynchronous dispatch: otherwise the
+ * caller is blocked until its input has been handled, before the payload is returned, so that a timeout applied to
+ * this payload can never expire while the input is still queued.
+ * </p>
+ *
+ * <p>
+ * The inputs queued are counted both for this editing context, to enforce the input queue capacity, and in a count
+ * shared by all the editing contexts, published as a single gauge by the {@link EditingContextEventProcessorFactory}.
+ * The durations of the handling of the inputs are only tagged with the class of the inputs and the outcome of their
+ * handling.
+ * </p>
  *
  * @author sbegaudeau
  * @author pcdavid
@@ -59,6 +110,14 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     public static final String INPUT = "INPUT";
 
+    private static final String COUNTER_REJECTED_INPUTS = "siriusweb_editingcontext_rejected_inputs";
+
+    private static final String COUNTER_CANCELLED_INPUTS = "siriusweb_editingcontext_cancelled_inputs";
+
+    private static final int INPUT_PRIORITY = 0;
+
+    private static final int BACKGROUND_PRIORITY = 1;
+
     private final Logger logger = LoggerFactory.getLogger(EditingContextEventProcessor.class);
 
     private final IEditingContext editingContext;
@@ -83,25 +142,76 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
 
     private final MeterRegistry meterRegistry;
 
+    private final boolean asynchronousDispatch;
+
+    private final List<IChangeScopeRecorder> changeScopeRecorders;
+
+    private final IEditingContextLockRegistry editingContextLockRegistry;
+
+    private final IEditingContextPersistenceQueue persistenceQueue;
+
+    private final Optional<ExecutorService> optionalReadOnlyExecutorService;
+
+    private final int inputQueueCapacity;
+
+    private final Queue<QueuedInput> queuedInputs = new PriorityBlockingQueue<>();
+
+    private final AtomicLong queuedInputsSequence = new AtomicLong();
+
+    private final AtomicInteger queuedInputsCount = new AtomicInteger();
+
+    private final AtomicInteger allQueuedInputsCount;
+
     public EditingContextEventProcessor(IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider, IEditingContext editingContext, IRepresentationEventProcessorRegistry representationEventProcessorRegistry, IChangeDescriptionListener changeDescriptionListener, IInputDispatcher inputDispatcher, IRepresentationEventProcessorProvider representationEventProcessorProvider, MeterRegistry meterRegistry) {
-        this.editingContext = Objects.requireNonNull(editingContext);
-        this.representationEventProcessorRegistry = Objects.requireNonNull(representationEventProcessorRegistry);
-        this.changeDescriptionListener = Objects.requireNonNull(changeDescriptionListener);
-        this.executorService = executorServiceProvider.getExecutorService(this.editingContext);
-        this.inputDispatcher = Objects.requireNonNull(inputDispatcher);
-        this.representationEventProcessorProvider = Objects.requireNonNull(representationEventProcessorProvider);
-        this.meterRegistry = Objects.requireNonNull(meterRegistry);
-        this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
+        this(EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .executorServiceProvider(executorServiceProvider)
+                .editingContext(editingContext)
+                .representationEventProcessorRegistry(representationEventProcessorRegistry)
+                .changeDescriptionListener(changeDescriptionListener)
+                .inputDispatcher(inputDispatcher)
+                .representationEventProcessorProvider(representationEventProcessorProvider)
+                .meterRegistry(meterRegistry)
+                .build());
+    }
 
+    public EditingContextEventProcessor(EditingContextEventProcessorParameters parameters) {
+        this.editingContext = parameters.editingContext();
+        this.representationEventProcessorRegistry = parameters.representationEventProcessorRegistry();
+        this.changeDescriptionListener = parameters.changeDescriptionListener();
+        this.executorService = parameters.executorServiceProvider().getExecutorService(this.editingContext);
+        this.inputDispatcher = parameters.inputDispatcher();
+        this.representationEventProcessorProvider = parameters.representationEventProcessorProvider();
+        this.meterRegistry = parameters.meterRegistry();
+        this.asynchronousDispatch = parameters.asynchronousDispatch();
+        this.changeScopeRecorders = parameters.changeScopeRecorders();
+        this.editingContextLockRegistry = parameters.editingContextLockRegistry();
+        this.persistenceQueue = parameters.persistenceQueue();
+        this.optionalReadOnlyExecutorService = parameters.optionalReadOnlyExecutorService();
+        this.inputQueueCapacity = parameters.inputQueueCapacity();
+        this.allQueuedInputsCount = parameters.allQueuedInputsCount();
+        this.changeDescriptionDisposable = this.setupChangeDescriptionSinkConsumer();
     }
 
     private Disposable setupChangeDescriptionSinkConsumer() {
-        Consumer<ChangeDescription> consumer = changeDescription -> changeDescriptionListener.onChange(this.sink, this.canBeDisposedSink, this.editingContext, changeDescription);
+        Consumer<ChangeDescription> consumer = changeDescription -> changeDescriptionListener.onChange(this.sink, this.canBeDisposedSink, this.editingContext, this.withModifiedObjectIds(changeDescription));
         Consumer<Throwable> errorConsumer = throwable -> this.logger.warn(throwable.getMessage(), throwable);
 
         return this.changeDescriptionSink.asFlux().subscribe(consumer, errorConsumer);
     }
 
+    private ChangeDescription withModifiedObjectIds(ChangeDescription changeDescription) {
+        if (changeDescription.getModifiedObjectIds().isEmpty()) {
+            var optionalModifiedObjectIds = this.changeScopeRecorders.stream()
+                    .map(changeScopeRecorder -> changeScopeRecorder.getModifiedObjectIds(this.editingContext))
+                    .flatMap(Optional::stream)
+                    .findFirst();
+            if (optionalModifiedObjectIds.isPresent()) {
+                return changeDescription.withModifiedObjectIds(optionalModifiedObjectIds.get());
+            }
+        }
+        return changeDescription;
+    }
+
     @Override
     public String getEditingContextId() {
         return this.editingContext.getId();
@@ -112,29 +222,215 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         Timer.Sample handleTimer = Timer.start(this.meterRegistry);
         if (this.executorService.isShutdown()) {
             this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
-            handleTimer.stop(this.meterRegistry.timer(Monitoring.EVENT_HANDLER, INPUT, input.getClass().getSimpleName(), "inputId", input.id().toString()));
+            handleTimer.stop(this.getProcessingInputTimer(input, Monitoring.OUTCOME_SHUTDOWN));
             return Mono.empty();
         }
 
         this.logger.trace(input.toString());
 
+        if (!this.tryReserveQueueSlot()) {
+            this.logger.warn("Handler for editing context {} is overloaded and has rejected the input {}", this.editingContext.getId(), input.id());
+            this.meterRegistry.counter(COUNTER_REJECTED_INPUTS, Monitoring.INPUT, input.getClass().getSimpleName()).increment();
+            return Mono.error(new RejectedExecutionException("Too many inputs are waiting to be handled by the editing context " + this.editingContext.getId()));
+        }
+
         One<IPayload> payloadSink = Sinks.one();
-        Future<?> future = this.executorService.submit(() -> this.inputDispatcher.dispatch(this.executorService, payloadSink, this.canBeDisposedSink, this.changeDescriptionSink, this.editingContext, input));
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CountDownLatch handledLatch = new CountDownLatch(1);
+        boolean readOnly = this.optionalReadOnlyExecutorService.isPresent() && this.canBeHandledInReadOnlyLane(input);
+
+        Runnable task = () -> {
+            String outcome = Monitoring.OUTCOME_SUCCESS;
+            try {
+                if (cancelled.get()) {
+                    outcome = Monitoring.OUTCOME_CANCELLED;
+                    this.meterRegistry.counter(COUNTER_CANCELLED_INPUTS).increment();
+                    payloadSink.tryEmitEmpty();
+                } else if (readOnly) {
+                    this.dispatchReadOnly(payloadSink, input);
+                } else {
+                    this.dispatch(payloadSink, input);
+                }
+            } catch (RuntimeException exception) {
+                outcome = Monitoring.OUTCOME_ERROR;
+                this.logger.warn(exception.getMessage(), exception);
+                payloadSink.tryEmitEmpty();
+            } finally {
+                this.releaseQueueSlot();
+                handleTimer.stop(this.getProcessingInputTimer(input, outcome));
+                handledLatch.countDown();
+            }
+        };
+
+        var queuedInput = new QueuedInput(this.getPriority(input), this.queuedInputsSequence.getAndIncrement(), task);
+        try {
+            if (readOnly) {
+                this.optionalReadOnlyExecutorService.get().execute(task);
+            } else {
+                this.queuedInputs.add(queuedInput);
+                this.executorService.execute(this::handleNextQueuedInput);
+            }
+        } catch (RejectedExecutionException exception) {
+            if (readOnly || this.queuedInputs.remove(queuedInput)) {
+                this.releaseQueueSlot();
+            }
+            this.logger.warn("Handler for editing context {} has rejected the input {}", this.editingContext.getId(), input.id());
+            return Mono.empty();
+        }
+
+        if (!this.asynchronousDispatch) {
+            this.awaitHandling(handledLatch);
+        }
+
+        return this.toPayloadMono(payloadSink).doOnCancel(() -> this.cancel(queuedInput, cancelled));
+    }
+
+    private boolean tryReserveQueueSlot() {
+        if (this.inputQueueCapacity <= 0) {
+            this.queuedInputsCount.incrementAndGet();
+            this.allQueuedInputsCount.incrementAndGet();
+            return true;
+        }
+
+        int currentQueuedInputsCount = this.queuedInputsCount.get();
+        while (currentQueuedInputsCount < this.inputQueueCapacity) {
+            if (this.queuedInputsCount.compareAndSet(currentQueuedInputsCount, currentQueuedInputsCount + 1)) {
+                this.allQueuedInputsCount.incrementAndGet();
+                return true;
+            }
+            currentQueuedInputsCount = this.queuedInputsCount.get();
+        }
+        return false;
+    }
+
+    private void releaseQueueSlot() {
+        this.allQueuedInputsCount.decrementAndGet();
+        this.queuedInputsCount.decrementAndGet();
+    }
+
+    private Timer getProcessingInputTimer(IInput input, String outcome) {
+        return Monitoring.timer(Monitoring.TIMER_PROCESSING_INPUT)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .tag(Monitoring.OUTCOME, outcome)
+                .register(this.meterRegistry);
+    }
+
+    private int getPriority(IInput input) {
+        if (input instanceof IBackgroundInput backgroundInput && backgroundInput.isBackground()) {
+            return BACKGROUND_PRIORITY;
+        }
+        return INPUT_PRIORITY;
+    }
+
+    /**
+     * Handles the queued input with the highest priority, each queued input submits one call of this method to the
+     * thread of the editing context.
+     */
+    private void handleNextQueuedInput() {
+        QueuedInput queuedInput = this.queuedInputs.poll();
+        if (queuedInput != null) {
+            queuedInput.task().run();
+        }
+    }
+
+    private void awaitHandling(CountDownLatch handledLatch) {
         try {
             // Block until the event has been processed
-            future.get();
-        } catch (InterruptedException | ExecutionException exception) {
+            handledLatch.await();
+        } catch (InterruptedException exception) {
             this.logger.warn(exception.getMessage(), exception);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Cancels the handling of an input whose caller is not waiting for its payload anymore, for example after a
+     * timeout. An input which is already being handled is not interrupted.
+     */
+    private void cancel(QueuedInput queuedInput, AtomicBoolean cancelled) {
+        cancelled.set(true);
+        if (this.queuedInputs.remove(queuedInput)) {
+            this.releaseQueueSlot();
+            this.meterRegistry.counter(COUNTER_CANCELLED_INPUTS).increment();
+            this.logger.debug("The input queued for the editing context {} has been cancelled", this.editingContext.getId());
+        }
+    }
+
+    private void dispatch(One<IPayload> payloadSink, IInput input) {
+        Lock lock = this.editingContextLockRegistry.getLock(this.editingContext.getId()).writeLock();
+        lock.lock();
+        this.changeScopeRecorders.forEach(changeScopeRecorder -> changeScopeRecorder.beginRecording(this.editingContext));
+        try {
+            this.inputDispatcher.dispatch(this.executorService, payloadSink, this.canBeDisposedSink, this.changeDescriptionSink, this.editingContext, input);
+        } finally {
+            this.changeScopeRecorders.forEach(changeScopeRecorder -> changeScopeRecorder.endRecording(this.editingContext));
+            lock.unlock();
+        }
+    }
+
+    private boolean canBeHandledInReadOnlyLane(IInput input) {
+        if (input instanceof IReadOnlyInput) {
+            if (input instanceof IRepresentationInput representationInput) {
+                return this.representationEventProcessorRegistry.get(this.editingContext.getId(), representationInput.representationId()) != null;
+            }
+            return true;
         }
-        handleTimer.stop(this.meterRegistry.timer(Monitoring.TIMER_PROCESSING_INPUT, "input", input.getClass().getSimpleName(),
-                "inputId", input.id().toString()));
+        return false;
+    }
+
+    /**
+     * Handles a read-only input under the write lock of the editing context, the read-only inputs of an editing context
+     * are thus never handled concurrently with one another nor with its other inputs.
+     *
+     * <p>
+     * The change descriptions emitted by read-only inputs are not expected to require any refresh. If an input wrongly
+     * marked as read-only emits some other change description, it is forwarded to the thread of the editing context.
+     * </p>
+     */
+    private void dispatchReadOnly(One<IPayload> payloadSink, IInput input) {
+        Many<ChangeDescription> readOnlyChangeDescriptionSink = Sinks.many().unicast().onBackpressureBuffer();
+        readOnlyChangeDescriptionSink.asFlux()
+                .filter(changeDescription -> !ChangeKind.NOTHING.equals(changeDescription.getKind()))
+                .subscribe(this::forwardChangeDescription, throwable -> this.logger.warn(throwable.getMessage(), throwable));
+
+        Lock lock = this.editingContextLockRegistry.getLock(this.editingContext.getId()).writeLock();
+        lock.lock();
+        try {
+            if (this.executorService.isShutdown()) {
+                this.logger.warn("Handler for editing context {} is shutdown", this.editingContext.getId());
+                payloadSink.tryEmitEmpty();
+            } else {
+                this.inputDispatcher.dispatch(this.executorService, payloadSink, this.canBeDisposedSink, readOnlyChangeDescriptionSink, this.editingContext, input);
+            }
+        } finally {
+            lock.unlock();
+            readOnlyChangeDescriptionSink.tryEmitComplete();
+        }
+    }
 
+    private void forwardChangeDescription(ChangeDescription changeDescription) {
+        this.logger.warn("The read-only input {} has emitted a change description of kind {}", changeDescription.getInput().getClass().getSimpleName(), changeDescription.getKind());
+        try {
+            this.executorService.execute(() -> {
+                Lock lock = this.editingContextLockRegistry.getLock(this.editingContext.getId()).writeLock();
+                lock.lock();
+                try {
+                    this.changeDescriptionSink.tryEmitNext(changeDescription);
+                } finally {
+                    lock.unlock();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            this.logger.warn("Handler for editing context {} has rejected the change description {}", this.editingContext.getId(), changeDescription.getKind());
+        }
+    }
+
+    private Mono<IPayload> toPayloadMono(One<IPayload> payloadSink) {
         return payloadSink.asMono()
                 .log(this.getClass().getName(), Level.FINEST, SignalType.ON_NEXT, SignalType.ON_ERROR)
                 .doOnError(throwable -> this.logger.warn(throwable.getMessage(), throwable));
     }
 
-
     @Override
     public Optional<IRepresentationEventProcessor> acquireRepresentationEventProcessor(String representationId, IInput input) {
         return this.representationEventProcessorProvider.acquireRepresentationEventProcessor(this.executorService, this.canBeDisposedSink, this.editingContext, representationId, input);
@@ -155,10 +451,28 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         return this.canBeDisposedSink.asFlux();
     }
 
+    /**
+     * Persists the changes whose persistence has been delayed once all the inputs already queued have been handled.
+     */
+    private void flushPendingChanges() {
+        try {
+            this.executorService.submit(() -> this.persistenceQueue.flush(this.editingContext)).get();
+        } catch (RejectedExecutionException exception) {
+            this.persistenceQueue.flush(this.editingContext);
+        } catch (InterruptedException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
     @Override
     public void dispose() {
         this.logger.trace("Disposing the editing context event processor {}", this.editingContext.getId());
 
+        this.flushPendingChanges();
+
         EmitResult changeDescriptionEmitResult = this.changeDescriptionSink.tryEmitComplete();
         if (changeDescriptionEmitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
@@ -171,6 +485,7 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         this.representationEventProcessorRegistry.dispose(this.editingContext.getId());
 
         this.editingContext.dispose();
+        this.editingContextLockRegistry.dispose(this.editingContext.getId());
 
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
@@ -179,4 +494,21 @@ public class EditingContextEventProcessor implements IEditingContextEventProcess
         }
 
     }
+
+    /**
+     * An input waiting to be handled by the thread of the editing context, ordered by priority and then by order of
+     * arrival.
+     *
+     * @author agent
+     */
+    private record QueuedInput(int priority, long sequence, Runnable task) implements Comparable<QueuedInput> {
+        @Override
+        public int compareTo(QueuedInput queuedInput) {
+            int result = Integer.compare(this.priority, queuedInput.priority);
+            if (result == 0) {
+                result = Long.compare(this.sequence, queuedInput.sequence);
+            }
+            return result;
+        }
+    }
 }
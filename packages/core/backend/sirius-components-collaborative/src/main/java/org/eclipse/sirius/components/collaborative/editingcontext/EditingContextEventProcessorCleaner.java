@@ -13,6 +13,8 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescriptionParameters;
@@ -37,6 +39,10 @@ import reactor.core.publisher.Sinks;
  *     <li>Dispose the event processors of the dangling representations</li>
  *     <li>Delete the dangling representations</li>
  * </ul>
+ * <p>
+ *     When the semantic elements modified by the change are known, only the representations targeting one of them are
+ *     considered since the other ones cannot have become dangling.
+ * </p>
  *
  * @author sbegaudeau
  * @since v2025.10.0
@@ -58,9 +64,18 @@ public class EditingContextEventProcessorCleaner implements IChangeDescriptionCo
     @Override
     public void preAccept(Sinks.Many<IPayload> payloadSink, Sinks.Many<Boolean> canBeDisposedSink, IEditingContext editingContext, ChangeDescription changeDescription) {
         this.disposeDeletedRepresentations(canBeDisposedSink, editingContext, changeDescription);
-        this.disposeDanglingRepresentations(canBeDisposedSink, editingContext);
 
-        this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), editingContext);
+        Optional<Set<String>> optionalModifiedObjectIds = changeDescription.getModifiedObjectIds();
+        this.disposeDanglingRepresentations(canBeDisposedSink, editingContext, optionalModifiedObjectIds);
+
+        if (optionalModifiedObjectIds.isPresent()) {
+            Set<String> modifiedObjectIds = optionalModifiedObjectIds.get();
+            if (!modifiedObjectIds.isEmpty()) {
+                this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), editingContext, modifiedObjectIds);
+            }
+        } else {
+            this.danglingRepresentationDeletionService.deleteDanglingRepresentations(changeDescription.getInput(), editingContext);
+        }
     }
 
     private void disposeDeletedRepresentations(Sinks.Many<Boolean> canBeDisposedSink, IEditingContext editingContext, ChangeDescription changeDescription) {
@@ -73,12 +88,14 @@ public class EditingContextEventProcessorCleaner implements IChangeDescriptionCo
     }
 
     /**
-     * Disposes the representation when its target object has been removed.
+     * Disposes the representation when its target object, which may have been modified by the change, has been removed.
      */
-    private void disposeDanglingRepresentations(Sinks.Many<Boolean> canBeDisposedSink, IEditingContext editingContext) {
+    private void disposeDanglingRepresentations(Sinks.Many<Boolean> canBeDisposedSink, IEditingContext editingContext, Optional<Set<String>> optionalModifiedObjectIds) {
         for (var representationEventProcessor : this.representationEventProcessorRegistry.values(editingContext.getId())) {
-            if (this.danglingRepresentationDeletionService.isDangling(editingContext, representationEventProcessor.getRepresentation())) {
-                this.disposeRepresentation(canBeDisposedSink, editingContext, representationEventProcessor.getRepresentation().getId());
+            var representation = representationEventProcessor.getRepresentation();
+            boolean isTargetModified = optionalModifiedObjectIds.map(modifiedObjectIds -> modifiedObjectIds.contains(representation.getTargetObjectId())).orElse(true);
+            if (isTargetModified && this.danglingRepresentationDeletionService.isDangling(editingContext, representation)) {
+                this.disposeRepresentation(canBeDisposedSink, editingContext, representation.getId());
             }
         }
     }
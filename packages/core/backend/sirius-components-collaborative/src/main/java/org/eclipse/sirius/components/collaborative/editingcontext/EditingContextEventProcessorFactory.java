@@ -12,8 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
@@ -22,17 +28,37 @@ import org.eclipse.sirius.components.collaborative.editingcontext.api.IInputDisp
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationEventProcessorProvider;
 import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextLockRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.core.api.IChangeScopeRecorder;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+
 /**
  * Used to create an {@link IEditingContextEventProcessor}.
  *
+ * <p>
+ *     When a number of threads is configured for the read-only lane, the read-only inputs of all the editing contexts
+ *     are handled by a shared pool of workers instead of the threads of the editing contexts. The read-only inputs of
+ *     different editing contexts are handled concurrently but those of a single editing context are handled one at a
+ *     time.
+ * </p>
+ *
+ * <p>
+ *     The inputs queued by all the editing contexts created are counted together and published by a single gauge,
+ *     registered once by this factory since a meter registry only keeps the first gauge registered with a given name.
+ * </p>
+ *
  * @author gcoutable
  */
 @Service
 public class EditingContextEventProcessorFactory implements IEditingContextEventProcessorFactory {
 
+    private static final String GAUGE_QUEUED_INPUTS = "siriusweb_editingcontext_queued_inputs";
+
     private final IRepresentationEventProcessorRegistry representationEventProcessorRegistry;
 
     private final IInputDispatcher inputDispatcher;
@@ -45,19 +71,81 @@ public class EditingContextEventProcessorFactory implements IEditingContextEvent
 
     private final MeterRegistry meterRegistry;
 
+    private final boolean asynchronousDispatch;
+
+    private final List<IChangeScopeRecorder> changeScopeRecorders;
+
+    private final IEditingContextLockRegistry editingContextLockRegistry;
+
+    private final IEditingContextPersistenceQueue persistenceQueue;
+
+    private final Optional<ExecutorService> optionalReadOnlyExecutorService;
+
+    private final int inputQueueCapacity;
+
+    private final AtomicInteger allQueuedInputsCount = new AtomicInteger();
+
     public EditingContextEventProcessorFactory(IRepresentationEventProcessorRegistry representationEventProcessorRegistry, IInputDispatcher inputDispatcher, IRepresentationEventProcessorProvider representationEventProcessorProvider,
-                                               IChangeDescriptionListener changeDescriptionListener, IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider, MeterRegistry meterRegistry) {
+                                               IChangeDescriptionListener changeDescriptionListener, IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider, MeterRegistry meterRegistry,
+                                               @Value("${sirius.components.editingContext.asynchronousDispatch:false}") boolean asynchronousDispatch, List<IChangeScopeRecorder> changeScopeRecorders,
+                                               IEditingContextLockRegistry editingContextLockRegistry, IEditingContextPersistenceQueue persistenceQueue,
+                                               @Value("${sirius.components.editingContext.readOnlyLaneThreads:0}") int readOnlyLaneThreads,
+                                               @Value("${sirius.components.editingContext.inputQueueCapacity:0}") int inputQueueCapacity) {
         this.representationEventProcessorRegistry = Objects.requireNonNull(representationEventProcessorRegistry);
         this.inputDispatcher = Objects.requireNonNull(inputDispatcher);
         this.representationEventProcessorProvider = Objects.requireNonNull(representationEventProcessorProvider);
         this.changeDescriptionListener = Objects.requireNonNull(changeDescriptionListener);
         this.executorServiceProvider = Objects.requireNonNull(executorServiceProvider);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.asynchronousDispatch = asynchronousDispatch;
+        this.changeScopeRecorders = Objects.requireNonNull(changeScopeRecorders);
+        this.editingContextLockRegistry = Objects.requireNonNull(editingContextLockRegistry);
+        this.persistenceQueue = Objects.requireNonNull(persistenceQueue);
+        this.optionalReadOnlyExecutorService = this.createReadOnlyExecutorService(readOnlyLaneThreads);
+        this.inputQueueCapacity = inputQueueCapacity;
+
+        Gauge.builder(GAUGE_QUEUED_INPUTS, this.allQueuedInputsCount, AtomicInteger::get)
+                .register(this.meterRegistry);
+    }
+
+    private Optional<ExecutorService> createReadOnlyExecutorService(int readOnlyLaneThreads) {
+        Optional<ExecutorService> optionalExecutorService = Optional.empty();
+        if (readOnlyLaneThreads > 0) {
+            var threadsCount = new AtomicInteger();
+            optionalExecutorService = Optional.of(Executors.newFixedThreadPool(readOnlyLaneThreads, (Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Editing context read-only lane " + threadsCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+        return optionalExecutorService;
     }
 
     @Override
     public IEditingContextEventProcessor createEditingContextEventProcessor(IEditingContext editingContext) {
-        return new EditingContextEventProcessor(this.executorServiceProvider, editingContext, this.representationEventProcessorRegistry, this.changeDescriptionListener, this.inputDispatcher, this.representationEventProcessorProvider, this.meterRegistry);
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .executorServiceProvider(this.executorServiceProvider)
+                .editingContext(editingContext)
+                .representationEventProcessorRegistry(this.representationEventProcessorRegistry)
+                .changeDescriptionListener(this.changeDescriptionListener)
+                .inputDispatcher(this.inputDispatcher)
+                .representationEventProcessorProvider(this.representationEventProcessorProvider)
+                .meterRegistry(this.meterRegistry)
+                .asynchronousDispatch(this.asynchronousDispatch)
+                .changeScopeRecorders(this.changeScopeRecorders)
+                .editingContextLockRegistry(this.editingContextLockRegistry)
+                .persistenceQueue(this.persistenceQueue)
+                .optionalReadOnlyExecutorService(this.optionalReadOnlyExecutorService)
+                .inputQueueCapacity(this.inputQueueCapacity)
+                .allQueuedInputsCount(this.allQueuedInputsCount)
+                .build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        this.optionalReadOnlyExecutorService.ifPresent(ExecutorService::shutdown);
     }
 
 }
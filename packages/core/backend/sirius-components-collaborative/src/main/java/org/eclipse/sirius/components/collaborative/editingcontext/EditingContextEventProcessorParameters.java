@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IChangeDescriptionListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextEventProcessorExecutorServiceProvider;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextLockRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IInputDispatcher;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationEventProcessorProvider;
+import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IChangeScopeRecorder;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Parameters of the editing context event processor.
+ *
+ * @author agent
+ */
+public record EditingContextEventProcessorParameters(
+        IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider,
+        IEditingContext editingContext,
+        IRepresentationEventProcessorRegistry representationEventProcessorRegistry,
+        IChangeDescriptionListener changeDescriptionListener,
+        IInputDispatcher inputDispatcher,
+        IRepresentationEventProcessorProvider representationEventProcessorProvider,
+        MeterRegistry meterRegistry,
+        boolean asynchronousDispatch,
+        List<IChangeScopeRecorder> changeScopeRecorders,
+        IEditingContextLockRegistry editingContextLockRegistry,
+        IEditingContextPersistenceQueue persistenceQueue,
+        Optional<ExecutorService> optionalReadOnlyExecutorService,
+        int inputQueueCapacity,
+        AtomicInteger allQueuedInputsCount
+) {
+
+    public EditingContextEventProcessorParameters {
+        Objects.requireNonNull(executorServiceProvider);
+        Objects.requireNonNull(editingContext);
+        Objects.requireNonNull(representationEventProcessorRegistry);
+        Objects.requireNonNull(changeDescriptionListener);
+        Objects.requireNonNull(inputDispatcher);
+        Objects.requireNonNull(representationEventProcessorProvider);
+        Objects.requireNonNull(meterRegistry);
+        Objects.requireNonNull(changeScopeRecorders);
+        Objects.requireNonNull(editingContextLockRegistry);
+        Objects.requireNonNull(persistenceQueue);
+        Objects.requireNonNull(optionalReadOnlyExecutorService);
+        Objects.requireNonNull(allQueuedInputsCount);
+    }
+
+    public static Builder newEditingContextEventProcessorParameters() {
+        return new Builder();
+    }
+
+    /**
+     * The builder used to create the parameters.
+     *
+     * @author agent
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    @org.eclipse.sirius.components.annotations.Builder
+    public static final class Builder {
+
+        private IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider;
+
+        private IEditingContext editingContext;
+
+        private IRepresentationEventProcessorRegistry representationEventProcessorRegistry;
+
+        private IChangeDescriptionListener changeDescriptionListener;
+
+        private IInputDispatcher inputDispatcher;
+
+        private IRepresentationEventProcessorProvider representationEventProcessorProvider;
+
+        private MeterRegistry meterRegistry;
+
+        private boolean asynchronousDispatch;
+
+        private List<IChangeScopeRecorder> changeScopeRecorders = List.of();
+
+        private IEditingContextLockRegistry editingContextLockRegistry = new IEditingContextLockRegistry.NoOp();
+
+        private IEditingContextPersistenceQueue persistenceQueue = new IEditingContextPersistenceQueue.NoOp();
+
+        private Optional<ExecutorService> optionalReadOnlyExecutorService = Optional.empty();
+
+        private int inputQueueCapacity;
+
+        private AtomicInteger allQueuedInputsCount = new AtomicInteger();
+
+        private Builder() {
+            // Prevent instantiation
+        }
+
+        public Builder executorServiceProvider(IEditingContextEventProcessorExecutorServiceProvider executorServiceProvider) {
+            this.executorServiceProvider = Objects.requireNonNull(executorServiceProvider);
+            return this;
+        }
+
+        public Builder editingContext(IEditingContext editingContext) {
+            this.editingContext = Objects.requireNonNull(editingContext);
+            return this;
+        }
+
+        public Builder representationEventProcessorRegistry(IRepresentationEventProcessorRegistry representationEventProcessorRegistry) {
+            this.representationEventProcessorRegistry = Objects.requireNonNull(representationEventProcessorRegistry);
+            return this;
+        }
+
+        public Builder changeDescriptionListener(IChangeDescriptionListener changeDescriptionListener) {
+            this.changeDescriptionListener = Objects.requireNonNull(changeDescriptionListener);
+            return this;
+        }
+
+        public Builder inputDispatcher(IInputDispatcher inputDispatcher) {
+            this.inputDispatcher = Objects.requireNonNull(inputDispatcher);
+            return this;
+        }
+
+        public Builder representationEventProcessorProvider(IRepresentationEventProcessorProvider representationEventProcessorProvider) {
+            this.representationEventProcessorProvider = Objects.requireNonNull(representationEventProcessorProvider);
+            return this;
+        }
+
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = Objects.requireNonNull(meterRegistry);
+            return this;
+        }
+
+        public Builder asynchronousDispatch(boolean asynchronousDispatch) {
+            this.asynchronousDispatch = asynchronousDispatch;
+            return this;
+        }
+
+        public Builder changeScopeRecorders(List<IChangeScopeRecorder> changeScopeRecorders) {
+            this.changeScopeRecorders = Objects.requireNonNull(changeScopeRecorders);
+            return this;
+        }
+
+        public Builder editingContextLockRegistry(IEditingContextLockRegistry editingContextLockRegistry) {
+            this.editingContextLockRegistry = Objects.requireNonNull(editingContextLockRegistry);
+            return this;
+        }
+
+        public Builder persistenceQueue(IEditingContextPersistenceQueue persistenceQueue) {
+            this.persistenceQueue = Objects.requireNonNull(persistenceQueue);
+            return this;
+        }
+
+        public Builder optionalReadOnlyExecutorService(Optional<ExecutorService> optionalReadOnlyExecutorService) {
+            this.optionalReadOnlyExecutorService = Objects.requireNonNull(optionalReadOnlyExecutorService);
+            return this;
+        }
+
+        public Builder inputQueueCapacity(int inputQueueCapacity) {
+            this.inputQueueCapacity = inputQueueCapacity;
+            return this;
+        }
+
+        public Builder allQueuedInputsCount(AtomicInteger allQueuedInputsCount) {
+            this.allQueuedInputsCount = Objects.requireNonNull(allQueuedInputsCount);
+            return this;
+        }
+
+        public EditingContextEventProcessorParameters build() {
+            return new EditingContextEventProcessorParameters(
+                    this.executorServiceProvider,
+                    this.editingContext,
+                    this.representationEventProcessorRegistry,
+                    this.changeDescriptionListener,
+                    this.inputDispatcher,
+                    this.representationEventProcessorProvider,
+                    this.meterRegistry,
+                    this.asynchronousDispatch,
+                    this.changeScopeRecorders,
+                    this.editingContextLockRegistry,
+                    this.persistenceQueue,
+                    this.optionalReadOnlyExecutorService,
+                    this.inputQueueCapacity,
+                    this.allQueuedInputsCount
+            );
+        }
+    }
+}
@@ -17,13 +17,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorInitializationHook;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorFactory;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCacheManager;
 import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
 import org.eclipse.sirius.components.core.api.ErrorPayload;
 import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
@@ -43,6 +48,22 @@ import reactor.core.publisher.Mono;
 /**
  * Registry of the editing context event processors.
  *
+ * <p>
+ *     The editing context event processors are registered as futures completed once their editing context has been
+ *     loaded. The first caller looking for the processor of an editing context loads it on its own thread while the
+ *     concurrent callers looking for the same editing context wait for this future. Editing contexts of different
+ *     projects are thus loaded in parallel.
+ * </p>
+ *
+ * <p>
+ *     Once a new editing context has been loaded, the editing contexts which are not used by any representation may be
+ *     evicted by the {@link IEditingContextCacheManager} to keep the memory retained by the editing contexts within
+ *     its budget. The acquisitions of the editing contexts are counted, from the beginning of the search of their
+ *     processor until the end of the handling of the inputs dispatched, and the editing contexts with acquisitions in
+ *     flight are neither evicted nor disposed. Their disposal, once they are not used anymore, is also postponed until
+ *     the end of the keep-alive duration of the cache manager.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -62,25 +83,32 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
 
     private final ICollaborativeMessageService messageService;
 
-    private final Map<String, EditingContextEventProcessorEntry> editingContextEventProcessors = new ConcurrentHashMap<>();
+    private final IEditingContextCacheManager editingContextCacheManager;
+
+    private final Map<String, CompletableFuture<Optional<EditingContextEventProcessorEntry>>> editingContextEventProcessors = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> inFlightAcquisitionsCounts = new ConcurrentHashMap<>();
 
     public EditingContextEventProcessorRegistry(IEditingContextEventProcessorFactory editingContextEventProcessorFactory,
                                                 IRepresentationEventProcessorRegistry representationEventProcessorRegistry,
                                                 IEditingContextSearchService editingContextSearchService,
                                                 List<IEditingContextEventProcessorInitializationHook> editingContextEventProcessorInitializationHooks,
                                                 @Value("${sirius.components.editingContext.disposeDelay:1s}") Duration disposeDelay,
-                                                ICollaborativeMessageService messageService) {
+                                                ICollaborativeMessageService messageService, IEditingContextCacheManager editingContextCacheManager) {
         this.editingContextEventProcessorFactory = editingContextEventProcessorFactory;
         this.representationEventProcessorRegistry = representationEventProcessorRegistry;
         this.editingContextSearchService = Objects.requireNonNull(editingContextSearchService);
         this.editingContextEventProcessorInitializationHooks = Objects.requireNonNull(editingContextEventProcessorInitializationHooks);
         this.disposeDelay = disposeDelay;
         this.messageService = Objects.requireNonNull(messageService);
+        this.editingContextCacheManager = Objects.requireNonNull(editingContextCacheManager);
     }
 
     @Override
     public List<IEditingContextEventProcessor> getEditingContextEventProcessors() {
         return this.editingContextEventProcessors.values().stream()
+                .map(future -> future.getNow(Optional.empty()))
+                .flatMap(Optional::stream)
                 .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor)
                 .collect(Collectors.toUnmodifiableList());
     }
@@ -90,50 +118,151 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
         var timeoutFallback = Mono.just(new ErrorPayload(input.id(), this.messageService.timeout()))
                 .doOnSuccess(payload -> this.logger.warn("Timeout fallback for the input {}", input));
 
+        // The editing context stays acquired until the input has been handled
+        var released = new AtomicBoolean();
+        this.acquire(editingContextId);
         return this.getOrCreateEditingContextEventProcessor(editingContextId)
-                .map(processor -> processor.handle(input).timeout(Duration.ofSeconds(5), timeoutFallback))
-                .orElse(Mono.empty());
+                .map(processor -> processor.handle(input)
+                        .timeout(Duration.ofSeconds(5), timeoutFallback)
+                        .onErrorResume(RejectedExecutionException.class, exception -> Mono.just(new ErrorPayload(input.id(), this.messageService.overloaded()))))
+                .orElse(Mono.empty())
+                .doFinally(signalType -> {
+                    if (released.compareAndSet(false, true)) {
+                        this.release(editingContextId);
+                    }
+                });
     }
 
     @Override
-    public synchronized Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
+    public Optional<IEditingContextEventProcessor> getOrCreateEditingContextEventProcessor(String editingContextId) {
         Optional<IEditingContextEventProcessor> optionalEditingContextEventProcessor = Optional.empty();
         if (this.editingContextSearchService.existsById(editingContextId)) {
-            optionalEditingContextEventProcessor = Optional.ofNullable(this.editingContextEventProcessors.get(editingContextId))
-                    .map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
-            if (optionalEditingContextEventProcessor.isEmpty()) {
-                Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
-                if (optionalEditingContext.isPresent()) {
-                    IEditingContext editingContext = optionalEditingContext.get();
-
-                    this.editingContextEventProcessorInitializationHooks.forEach(hook -> hook.preProcess(editingContext));
-
-                    var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
-                    Disposable subscription = editingContextEventProcessor.canBeDisposed().delayElements(this.disposeDelay).subscribe(canBeDisposed -> {
-                        // We will wait for the delay before trying to dispose the editing context event processor
-                        // We will check if the editing context event processor is still empty
-                        if (canBeDisposed.booleanValue() && representationEventProcessorRegistry.values(editingContextId).isEmpty()) {
-                            this.disposeEditingContextEventProcessor(editingContextId);
-                        } else {
-                            this.logger.trace("Stopping the disposal of the editing context");
-                        }
-                    });
-
-                    var editingContextEventProcessorEntry = new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription);
-                    this.editingContextEventProcessors.put(editingContextId, editingContextEventProcessorEntry);
-
-                    this.editingContextEventProcessorInitializationHooks.forEach(hook -> hook.postProcess(editingContext));
-                    optionalEditingContextEventProcessor = Optional.of(editingContextEventProcessor);
+            // The acquisition is registered before the lookup of the processor so that an eviction cannot remove it in between
+            this.acquire(editingContextId);
+            try {
+                CompletableFuture<Optional<EditingContextEventProcessorEntry>> newFuture = new CompletableFuture<>();
+                var future = this.editingContextEventProcessors.computeIfAbsent(editingContextId, key -> newFuture);
+                if (future == newFuture) {
+                    this.createEditingContextEventProcessorEntry(editingContextId, newFuture);
+                    this.evictEditingContexts(editingContextId);
+                } else {
+                    this.editingContextCacheManager.onAccessed(editingContextId);
                 }
+
+                optionalEditingContextEventProcessor = future.join().map(EditingContextEventProcessorEntry::getEditingContextEventProcessor);
+            } finally {
+                this.release(editingContextId);
             }
         }
 
         return optionalEditingContextEventProcessor;
     }
 
+    private void acquire(String editingContextId) {
+        this.inFlightAcquisitionsCounts.merge(editingContextId, 1, Integer::sum);
+    }
+
+    private void release(String editingContextId) {
+        this.inFlightAcquisitionsCounts.computeIfPresent(editingContextId, (key, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            return null;
+        });
+    }
+
+    private boolean isUnused(String editingContextId) {
+        return !this.inFlightAcquisitionsCounts.containsKey(editingContextId) && this.representationEventProcessorRegistry.values(editingContextId).isEmpty();
+    }
+
+    private void createEditingContextEventProcessorEntry(String editingContextId, CompletableFuture<Optional<EditingContextEventProcessorEntry>> future) {
+        Optional<EditingContextEventProcessorEntry> optionalEditingContextEventProcessorEntry = Optional.empty();
+        try {
+            Optional<IEditingContext> optionalEditingContext = this.editingContextSearchService.findById(editingContextId);
+            if (optionalEditingContext.isPresent()) {
+                IEditingContext editingContext = optionalEditingContext.get();
+
+                this.editingContextEventProcessorInitializationHooks.forEach(hook -> hook.preProcess(editingContext));
+
+                var editingContextEventProcessor = this.editingContextEventProcessorFactory.createEditingContextEventProcessor(editingContext);
+                Disposable subscription = editingContextEventProcessor.canBeDisposed()
+                        .delayElements(this.disposeDelay)
+                        .concatMap(canBeDisposed -> this.awaitKeepAlive(editingContextId, canBeDisposed))
+                        .subscribe(canBeDisposed -> {
+                            // We will wait for the delay before trying to dispose the editing context event processor
+                            // We will check if the editing context event processor is still empty
+                            if (!canBeDisposed.booleanValue() || !this.disposeIfUnused(editingContextId)) {
+                                this.logger.trace("Stopping the disposal of the editing context");
+                            }
+                        });
+
+                optionalEditingContextEventProcessorEntry = Optional.of(new EditingContextEventProcessorEntry(editingContextEventProcessor, subscription));
+                this.editingContextCacheManager.onLoaded(editingContext);
+
+                this.editingContextEventProcessorInitializationHooks.forEach(hook -> hook.postProcess(editingContext));
+            }
+        } finally {
+            // The callers waiting for this editing context are released even if it could not be loaded
+            if (optionalEditingContextEventProcessorEntry.isEmpty()) {
+                this.editingContextEventProcessors.remove(editingContextId, future);
+            }
+            future.complete(optionalEditingContextEventProcessorEntry);
+        }
+    }
+
+    /**
+     * Postpones the disposal of an editing context which has been accessed during the keep-alive duration of the cache
+     * manager.
+     */
+    private Mono<Boolean> awaitKeepAlive(String editingContextId, Boolean canBeDisposed) {
+        Duration remainingKeepAlive = this.editingContextCacheManager.getRemainingKeepAlive(editingContextId);
+        if (canBeDisposed.booleanValue() && !remainingKeepAlive.isZero()) {
+            return Mono.delay(remainingKeepAlive).then(Mono.defer(() -> this.awaitKeepAlive(editingContextId, canBeDisposed)));
+        }
+        return Mono.just(canBeDisposed);
+    }
+
+    /**
+     * Disposes the editing contexts which are not used anymore if the editing contexts loaded do not fit within the
+     * memory budget, except the one which has just been loaded.
+     */
+    private void evictEditingContexts(String loadedEditingContextId) {
+        var editingContextIdsToEvict = this.editingContextCacheManager.selectEditingContextsToEvict(editingContextId -> !editingContextId.equals(loadedEditingContextId) && this.isUnused(editingContextId));
+        for (String editingContextId : editingContextIdsToEvict) {
+            if (this.disposeIfUnused(editingContextId)) {
+                this.logger.debug("Evicting the editing context {}", editingContextId);
+                this.editingContextCacheManager.onEvicted(editingContextId);
+            }
+        }
+    }
+
+    /**
+     * Disposes the editing context if it is neither acquired nor used by a representation. The test is performed while
+     * the processor is removed from the registry, it can thus not be acquired in between.
+     */
+    private boolean disposeIfUnused(String editingContextId) {
+        AtomicReference<CompletableFuture<Optional<EditingContextEventProcessorEntry>>> removedFuture = new AtomicReference<>();
+        this.editingContextEventProcessors.computeIfPresent(editingContextId, (key, future) -> {
+            if (this.isUnused(key)) {
+                removedFuture.set(future);
+                return null;
+            }
+            return future;
+        });
+
+        var future = removedFuture.get();
+        if (future != null) {
+            future.thenAccept(optionalEntry -> optionalEntry.ifPresent(entry -> this.disposeEntry(editingContextId, entry)));
+            this.editingContextCacheManager.onDisposed(editingContextId);
+        }
+        return future != null;
+    }
+
     @Override
     public void disposeEditingContextEventProcessor(String editingContextId) {
-        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId)).ifPresent(EditingContextEventProcessorEntry::dispose);
+        Optional.ofNullable(this.editingContextEventProcessors.remove(editingContextId))
+                .ifPresent(future -> future.thenAccept(optionalEntry -> optionalEntry.ifPresent(entry -> this.disposeEntry(editingContextId, entry))));
+        this.editingContextCacheManager.onDisposed(editingContextId);
 
         this.logger.trace("Editing context event processors count: {}", this.editingContextEventProcessors.size());
     }
@@ -142,7 +271,13 @@ public class EditingContextEventProcessorRegistry implements IEditingContextEven
     public void dispose() {
         this.logger.debug("Shutting down all the editing context event processors");
 
-        this.editingContextEventProcessors.values().forEach(EditingContextEventProcessorEntry::dispose);
+        this.editingContextEventProcessors.forEach((editingContextId, future) -> future.thenAccept(optionalEntry -> optionalEntry.ifPresent(entry -> this.disposeEntry(editingContextId, entry))));
+        this.editingContextEventProcessors.keySet().forEach(this.editingContextCacheManager::onDisposed);
         this.editingContextEventProcessors.clear();
     }
+
+    private void disposeEntry(String editingContextId, EditingContextEventProcessorEntry entry) {
+        entry.dispose();
+        this.editingContextEventProcessorInitializationHooks.forEach(hook -> hook.onDisposed(editingContextId));
+    }
 }
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextLockRegistry;
+import org.springframework.stereotype.Service;
+
+/**
+ * Registry of the locks of the editing contexts.
+ *
+ * <p>
+ *     The locks are fair so that the read-only inputs waiting for a mutation are not overtaken by the next mutations
+ *     queued by the thread of the editing context.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EditingContextLockRegistry implements IEditingContextLockRegistry {
+
+    private final Map<String, ReadWriteLock> editingContextLocks = new ConcurrentHashMap<>();
+
+    @Override
+    public ReadWriteLock getLock(String editingContextId) {
+        return this.editingContextLocks.computeIfAbsent(editingContextId, key -> new ReentrantReadWriteLock(true));
+    }
+
+    @Override
+    public void dispose(String editingContextId) {
+        this.editingContextLocks.remove(editingContextId);
+    }
+}
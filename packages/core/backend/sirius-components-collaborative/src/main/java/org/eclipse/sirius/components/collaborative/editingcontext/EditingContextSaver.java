@@ -12,36 +12,196 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IChangeDescriptionConsumer;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextLockRegistry;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.events.ICause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
 import reactor.core.publisher.Sinks;
 
 /**
  * Used to trigger the persistence of the editing context after receiving a change description.
  *
+ * <p>
+ *     When a write-behind delay is configured, the editing context is only marked as dirty after a semantic change. It
+ *     is then persisted by a dedicated thread once the delay has elapsed, along with all the changes performed in the
+ *     meantime. The persistence thread holds the lock of the editing context while it persists it, so that the
+ *     semantic elements are not modified during their serialization. The pending changes are persisted immediately when
+ *     the editing context is disposed and when the application is shut down.
+ * </p>
+ *
  * @author sbegaudeau
  * @since v2025.10.0
  */
 @Service
-public class EditingContextSaver implements IChangeDescriptionConsumer {
+public class EditingContextSaver implements IChangeDescriptionConsumer, IEditingContextPersistenceQueue {
+
+    private static final String GAUGE_DIRTY_AGE = "siriusweb_editingcontext_dirty_age";
 
     private final IEditingContextPersistenceService editingContextPersistenceService;
 
-    public EditingContextSaver(IEditingContextPersistenceService editingContextPersistenceService) {
+    private final IEditingContextLockRegistry editingContextLockRegistry;
+
+    private final Duration writeBehindDelay;
+
+    private final ScheduledExecutorService persistenceExecutorService;
+
+    private final Map<String, PendingPersistence> pendingPersistences = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+
+    private final Timer persistenceSuccessTimer;
+
+    private final Timer persistenceErrorTimer;
+
+    private final Logger logger = LoggerFactory.getLogger(EditingContextSaver.class);
+
+    public EditingContextSaver(IEditingContextPersistenceService editingContextPersistenceService, IEditingContextLockRegistry editingContextLockRegistry, MeterRegistry meterRegistry,
+                               @Value("${sirius.components.editingContext.writeBehindDelay:0ms}") Duration writeBehindDelay) {
         this.editingContextPersistenceService = Objects.requireNonNull(editingContextPersistenceService);
+        this.editingContextLockRegistry = Objects.requireNonNull(editingContextLockRegistry);
+        this.writeBehindDelay = Objects.requireNonNull(writeBehindDelay);
+        this.persistenceExecutorService = this.createPersistenceExecutorService(writeBehindDelay);
+        this.flushTimer = Monitoring.timer(Monitoring.TIMER_FLUSH).register(meterRegistry);
+        this.persistenceSuccessTimer = Monitoring.timer(Monitoring.TIMER_PERSISTENCE).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_SUCCESS).register(meterRegistry);
+        this.persistenceErrorTimer = Monitoring.timer(Monitoring.TIMER_PERSISTENCE).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_ERROR).register(meterRegistry);
+        Gauge.builder(GAUGE_DIRTY_AGE, this, EditingContextSaver::getDirtyAge)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    private ScheduledExecutorService createPersistenceExecutorService(Duration writeBehindDelay) {
+        ScheduledExecutorService executorService = null;
+        if (!writeBehindDelay.isZero() && !writeBehindDelay.isNegative()) {
+            executorService = Executors.newSingleThreadScheduledExecutor((Runnable runnable) -> {
+                Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                thread.setName("Editing context persistence");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executorService;
     }
 
     @Override
     public void postAccept(Sinks.Many<IPayload> payloadSink, Sinks.Many<Boolean> canBeDisposedSink, IEditingContext editingContext, ChangeDescription changeDescription) {
         if (ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind())) {
-            this.editingContextPersistenceService.persist(changeDescription.getInput(), editingContext);
+            if (this.persistenceExecutorService != null) {
+                this.markDirty(changeDescription.getInput(), editingContext);
+            } else {
+                this.persist(changeDescription.getInput(), editingContext);
+            }
+        }
+    }
+
+    /**
+     * Schedules the persistence of the editing context unless it is already scheduled, the changes performed before
+     * the end of the delay will be persisted at once.
+     *
+     * <p>
+     *     This method is called by the thread of the editing context which holds its lock, a flush of this editing
+     *     context cannot thus happen concurrently.
+     * </p>
+     */
+    private void markDirty(ICause cause, IEditingContext editingContext) {
+        String editingContextId = editingContext.getId();
+        var pendingPersistence = this.pendingPersistences.get(editingContextId);
+        if (pendingPersistence != null) {
+            this.pendingPersistences.put(editingContextId, new PendingPersistence(editingContext, cause, pendingPersistence.dirtySince()));
+        } else {
+            this.pendingPersistences.put(editingContextId, new PendingPersistence(editingContext, cause, System.nanoTime()));
+            try {
+                this.persistenceExecutorService.schedule(() -> this.flush(editingContextId), this.writeBehindDelay.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException exception) {
+                // The application is shutting down
+                this.flush(editingContextId);
+            }
         }
     }
+
+    @Override
+    public void flush(IEditingContext editingContext) {
+        this.flush(editingContext.getId());
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void flush(String editingContextId) {
+        Lock lock = this.editingContextLockRegistry.getLock(editingContextId).writeLock();
+        lock.lock();
+        try {
+            var pendingPersistence = this.pendingPersistences.remove(editingContextId);
+            if (pendingPersistence != null) {
+                this.flushTimer.record(() -> this.persist(pendingPersistence.cause(), pendingPersistence.editingContext()));
+            }
+        } catch (Exception exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void persist(ICause cause, IEditingContext editingContext) {
+        long start = System.nanoTime();
+        Timer timer = this.persistenceErrorTimer;
+        try {
+            this.editingContextPersistenceService.persist(cause, editingContext);
+            timer = this.persistenceSuccessTimer;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private double getDirtyAge() {
+        long now = System.nanoTime();
+        return this.pendingPersistences.values().stream()
+                .mapToLong(pendingPersistence -> TimeUnit.NANOSECONDS.toMillis(now - pendingPersistence.dirtySince()))
+                .max()
+                .orElse(0);
+    }
+
+    @PreDestroy
+    public void dispose() {
+        if (this.persistenceExecutorService != null) {
+            this.persistenceExecutorService.shutdown();
+            List.copyOf(this.pendingPersistences.keySet()).forEach(this::flush);
+        }
+    }
+
+    /**
+     * The changes of an editing context waiting for their persistence.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param cause
+     *         The cause of the last change
+     * @param dirtySince
+     *         The time of the first change which has not been persisted yet, in nanoseconds
+     */
+    private record PendingPersistence(IEditingContext editingContext, ICause cause, long dirtySince) {
+    }
 }
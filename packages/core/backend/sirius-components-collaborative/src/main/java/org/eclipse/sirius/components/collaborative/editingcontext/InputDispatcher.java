@@ -18,12 +18,15 @@ import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IInputDispatcher;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
 import org.eclipse.sirius.components.collaborative.editingcontext.api.IRepresentationEventProcessorProvider;
 import org.eclipse.sirius.components.collaborative.dto.DeleteRepresentationInput;
 import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
@@ -39,6 +42,11 @@ import reactor.core.publisher.Sinks;
 /**
  * Use to dispatch inputs to their handler.
  *
+ * <p>
+ * The durations of the pre-processing and of the handling of the inputs are measured separately, tagged with the class
+ * of the inputs.
+ * </p>
+ *
  * @author mcharfadi
  */
 @Service
@@ -58,12 +66,15 @@ public class InputDispatcher implements IInputDispatcher {
 
     private final IRepresentationEventProcessorProvider representationEventProcessorProvider;
 
-    public InputDispatcher(List<IInputPreProcessor> inputPreProcessors, List<IInputPostProcessor> inputPostProcessors, List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorRegistry representationEventProcessorRegistry, IRepresentationEventProcessorProvider representationEventProcessorProvider) {
+    private final MeterRegistry meterRegistry;
+
+    public InputDispatcher(List<IInputPreProcessor> inputPreProcessors, List<IInputPostProcessor> inputPostProcessors, List<IEditingContextEventHandler> editingContextEventHandlers, IRepresentationEventProcessorRegistry representationEventProcessorRegistry, IRepresentationEventProcessorProvider representationEventProcessorProvider, MeterRegistry meterRegistry) {
         this.inputPreProcessors = Objects.requireNonNull(inputPreProcessors);
         this.inputPostProcessors = Objects.requireNonNull(inputPostProcessors);
         this.editingContextEventHandlers = Objects.requireNonNull(editingContextEventHandlers);
         this.representationEventProcessorRegistry = Objects.requireNonNull(representationEventProcessorRegistry);
         this.representationEventProcessorProvider = Objects.requireNonNull(representationEventProcessorProvider);
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
     }
 
     @Override
@@ -71,13 +82,27 @@ public class InputDispatcher implements IInputDispatcher {
         this.logger.trace("Input received: {}", input);
         long start = System.currentTimeMillis();
 
+        var preProcessingSample = Timer.start(this.meterRegistry);
         AtomicReference<IInput> inputAfterPreProcessing = new AtomicReference<>(input);
         this.inputPreProcessors.forEach(preProcessor -> inputAfterPreProcessing.set(preProcessor.preProcess(editingContext, inputAfterPreProcessing.get(), changeDescriptionSink)));
-
-        if (inputAfterPreProcessing.get() instanceof IRepresentationInput representationInput) {
-            this.handleRepresentationInput(executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, representationInput);
-        } else {
-            this.handleInput(payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, inputAfterPreProcessing.get());
+        preProcessingSample.stop(Monitoring.timer(Monitoring.TIMER_PREPROCESSING_INPUT)
+                .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                .register(this.meterRegistry));
+
+        var handlingSample = Timer.start(this.meterRegistry);
+        String outcome = Monitoring.OUTCOME_ERROR;
+        try {
+            if (inputAfterPreProcessing.get() instanceof IRepresentationInput representationInput) {
+                this.handleRepresentationInput(executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, representationInput);
+            } else {
+                this.handleInput(payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, inputAfterPreProcessing.get());
+            }
+            outcome = Monitoring.OUTCOME_SUCCESS;
+        } finally {
+            handlingSample.stop(Monitoring.timer(Monitoring.TIMER_HANDLING_INPUT)
+                    .tag(Monitoring.INPUT, inputAfterPreProcessing.get().getClass().getSimpleName())
+                    .tag(Monitoring.OUTCOME, outcome)
+                    .register(this.meterRegistry));
         }
 
         this.inputPostProcessors.forEach(postProcessor -> postProcessor.postProcess(editingContext, inputAfterPreProcessing.get(), changeDescriptionSink));
@@ -13,6 +13,7 @@
 package org.eclipse.sirius.components.collaborative.editingcontext;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -23,14 +24,22 @@ import org.eclipse.sirius.components.collaborative.editingcontext.api.IChangeDes
 import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+
 import reactor.core.publisher.Sinks;
 
 /**
  * Used to refresh all the representation event processors.
  *
+ * <p>
+ *     The representations are refreshed one after the other by the thread of the editing context. None of them can be
+ *     refreshed concurrently for now since their rendering installs adapters on the semantic elements, resolves proxies
+ *     and shares the interpreter of their editing context.
+ * </p>
+ *
  * @author sbegaudeau
  * @since v2025.10.0
  */
@@ -58,26 +67,16 @@ public class RepresentationEventProcessorRefresher implements IChangeDescription
         try {
             RepresentationEventProcessorEntry representationEventProcessorEntry = this.representationEventProcessorRegistry.get(editingContext.getId(), changeDescription.getSourceId());
             if (representationEventProcessorEntry != null) {
-                IRepresentationEventProcessor representationEventProcessor = representationEventProcessorEntry.getRepresentationEventProcessor();
-
-                long start = System.currentTimeMillis();
-                representationEventProcessor.refresh(changeDescription);
-                long end = System.currentTimeMillis();
-
-                this.logger.atDebug()
-                        .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
-                        .addArgument(editingContext.getId())
-                        .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
-                        .addArgument(representationEventProcessor.getClass().getSimpleName())
-                        .addArgument(representationEventProcessor.getRepresentation().getId())
-                        .log();
+                this.refresh(editingContext, representationEventProcessorEntry.getRepresentationEventProcessor(), changeDescription);
             }
             this.refreshOtherRepresentations(editingContext, changeDescription);
         } catch (Exception exception) {
             this.logger.warn(exception.getMessage(), exception);
         }
 
-        var timer = this.meterRegistry.timer(Monitoring.TIMER_REFRESH_REPRESENTATION, "changeDescription", changeDescription.getSourceId());
+        var timer = Monitoring.timer(Monitoring.TIMER_REFRESH_REPRESENTATION)
+                .tag(Monitoring.INPUT, changeDescription.getInput().getClass().getSimpleName())
+                .register(this.meterRegistry);
         refreshRepresentationSample.stop(timer);
     }
 
@@ -90,18 +89,36 @@ public class RepresentationEventProcessorRefresher implements IChangeDescription
     private void refreshOtherRepresentations(IEditingContext editingContext, ChangeDescription changeDescription) {
         this.representationEventProcessorRegistry.values(editingContext.getId()).stream()
                 .filter(registry -> !Objects.equals(changeDescription.getSourceId(), registry.getRepresentation().getId()))
-                .forEach(representationEventProcessor -> {
-                    long start = System.currentTimeMillis();
-                    representationEventProcessor.refresh(changeDescription);
-                    long end = System.currentTimeMillis();
-
-                    this.logger.atDebug()
-                            .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
-                            .addArgument(editingContext.getId())
-                            .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
-                            .addArgument(representationEventProcessor.getClass().getSimpleName())
-                            .addArgument(representationEventProcessor.getRepresentation().getId())
-                            .log();
-                });
+                .forEach(representationEventProcessor -> this.refresh(editingContext, representationEventProcessor, changeDescription));
+    }
+
+    private void refresh(IEditingContext editingContext, IRepresentationEventProcessor representationEventProcessor, ChangeDescription changeDescription) {
+        long start = System.currentTimeMillis();
+        var refreshSample = Timer.start(this.meterRegistry);
+        String outcome = Monitoring.OUTCOME_ERROR;
+        try {
+            representationEventProcessor.refresh(changeDescription);
+            outcome = Monitoring.OUTCOME_SUCCESS;
+        } finally {
+            refreshSample.stop(Monitoring.timer(Monitoring.TIMER_REFRESH_REPRESENTATION_KIND)
+                    .tag(Monitoring.REPRESENTATION_KIND, this.getRepresentationKind(representationEventProcessor))
+                    .tag(Monitoring.OUTCOME, outcome)
+                    .register(this.meterRegistry));
+        }
+        long end = System.currentTimeMillis();
+
+        this.logger.atDebug()
+                .setMessage("EditingContext {}: {}ms to refresh the {} with id {}")
+                .addArgument(editingContext.getId())
+                .addArgument(() -> String.format(LOG_TIMING_FORMAT, end - start))
+                .addArgument(representationEventProcessor.getClass().getSimpleName())
+                .addArgument(representationEventProcessor.getRepresentation().getId())
+                .log();
+    }
+
+    private String getRepresentationKind(IRepresentationEventProcessor representationEventProcessor) {
+        return Optional.ofNullable(representationEventProcessor.getRepresentation())
+                .map(IRepresentation::getKind)
+                .orElse(representationEventProcessor.getClass().getSimpleName());
     }
 }
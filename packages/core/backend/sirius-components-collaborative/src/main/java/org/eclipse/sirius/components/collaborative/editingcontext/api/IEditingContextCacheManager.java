@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to keep track of the editing contexts loaded in memory in order to select the ones to evict.
+ *
+ * @author agent
+ */
+public interface IEditingContextCacheManager {
+
+    void onLoaded(IEditingContext editingContext);
+
+    void onAccessed(String editingContextId);
+
+    /**
+     * Called by the thread of the editing context after a semantic change, the memory retained by the editing context
+     * may then be estimated again.
+     *
+     * @param editingContext
+     *         The editing context which has been modified
+     */
+    void onChanged(IEditingContext editingContext);
+
+    void onDisposed(String editingContextId);
+
+    /**
+     * Called once an editing context selected for eviction has been disposed.
+     *
+     * @param editingContextId
+     *         The identifier of the editing context evicted
+     */
+    void onEvicted(String editingContextId);
+
+    /**
+     * Selects the editing contexts to dispose in order to fit within the memory budget.
+     *
+     * @param canBeEvicted
+     *         Used to test if the editing context with the given identifier can be evicted, for example because it is
+     *         not used by any representation
+     * @return The identifiers of the editing contexts to dispose
+     */
+    List<String> selectEditingContextsToEvict(Predicate<String> canBeEvicted);
+
+    /**
+     * Returns how long the editing context with the given identifier should still be kept in memory since it has been
+     * accessed recently.
+     *
+     * @param editingContextId
+     *         The identifier of an editing context
+     * @return The remaining duration or {@link Duration#ZERO} if the editing context can be disposed now
+     */
+    Duration getRemainingKeepAlive(String editingContextId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IEditingContextCacheManager {
+
+        @Override
+        public void onLoaded(IEditingContext editingContext) {
+        }
+
+        @Override
+        public void onAccessed(String editingContextId) {
+        }
+
+        @Override
+        public void onChanged(IEditingContext editingContext) {
+        }
+
+        @Override
+        public void onDisposed(String editingContextId) {
+        }
+
+        @Override
+        public void onEvicted(String editingContextId) {
+        }
+
+        @Override
+        public List<String> selectEditingContextsToEvict(Predicate<String> canBeEvicted) {
+            return List.of();
+        }
+
+        @Override
+        public Duration getRemainingKeepAlive(String editingContextId) {
+            return Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Registry of the locks used to coordinate the threads accessing the semantic elements of an editing context.
+ *
+ * <p>
+ *     The thread of the editing context holds the write lock while it handles an input. Other threads have to acquire
+ *     the lock before accessing the content of the editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IEditingContextLockRegistry {
+
+    ReadWriteLock getLock(String editingContextId);
+
+    void dispose(String editingContextId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IEditingContextLockRegistry {
+
+        @Override
+        public ReadWriteLock getLock(String editingContextId) {
+            return new ReentrantReadWriteLock();
+        }
+
+        @Override
+        public void dispose(String editingContextId) {
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext.api;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+
+/**
+ * Used to persist the pending changes of an editing context when their persistence has been delayed.
+ *
+ * @author agent
+ */
+public interface IEditingContextPersistenceQueue {
+
+    /**
+     * Persists immediately the changes of the given editing context which have not been persisted yet.
+     *
+     * @param editingContext
+     *         The editing context
+     */
+    void flush(IEditingContext editingContext);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IEditingContextPersistenceQueue {
+
+        @Override
+        public void flush(IEditingContext editingContext) {
+        }
+    }
+}
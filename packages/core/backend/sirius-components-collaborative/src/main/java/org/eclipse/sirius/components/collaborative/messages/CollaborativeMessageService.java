@@ -47,6 +47,11 @@ public class CollaborativeMessageService implements ICollaborativeMessageService
         return this.messageSourceAccessor.getMessage("TIMEOUT");
     }
 
+    @Override
+    public String overloaded() {
+        return this.messageSourceAccessor.getMessage("OVERLOADED");
+    }
+
     @Override
     public String notFound() {
         return this.messageSourceAccessor.getMessage("NOT_FOUND");
@@ -24,6 +24,8 @@ public interface ICollaborativeMessageService {
 
     String timeout();
 
+    String overloaded();
+
     String notFound();
 
     /**
@@ -48,6 +50,11 @@ public interface ICollaborativeMessageService {
             return "";
         }
 
+        @Override
+        public String overloaded() {
+            return "";
+        }
+
         @Override
         public String notFound() {
             return "";
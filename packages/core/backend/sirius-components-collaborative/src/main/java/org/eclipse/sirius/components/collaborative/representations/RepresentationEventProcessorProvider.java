@@ -27,6 +27,7 @@ import org.eclipse.sirius.components.collaborative.editingcontext.Representation
 import org.eclipse.sirius.components.collaborative.representations.api.IRepresentationEventProcessorRegistry;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -87,10 +88,13 @@ public class RepresentationEventProcessorProvider implements IRepresentationEven
                 this.logger.debug("The representation with the id {} does not exist", representationId);
             }
         } else {
-            var timer = this.meterRegistry.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR,
-                    "editingContext", editingContext.getId(),
-                    "input", input.getClass().getSimpleName(),
-                    REPRESENTATION_ID, representationId);
+            String representationKind = optionalRepresentationEventProcessor.map(IRepresentationEventProcessor::getRepresentation)
+                    .map(IRepresentation::getKind)
+                    .orElse("unknown");
+            var timer = Monitoring.timer(Monitoring.TIMER_CREATE_REPRESENATION_EVENT_PROCESSOR)
+                    .tag(Monitoring.INPUT, input.getClass().getSimpleName())
+                    .tag(Monitoring.REPRESENTATION_KIND, representationKind)
+                    .register(this.meterRegistry);
             getRepresentationEventProcessorSample.stop(timer);
         }
 
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of the clean up performed after a change.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorCleanerTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final int REPRESENTATIONS_COUNT = 2000;
+
+    private static final int OPENED_REPRESENTATIONS_COUNT = 20;
+
+    private final IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+
+    private final RepresentationEventProcessorRegistry representationEventProcessorRegistry = new RepresentationEventProcessorRegistry();
+
+    private final Set<String> semanticElementIds = new HashSet<>();
+
+    private CountingDanglingRepresentationDeletionService danglingRepresentationDeletionService;
+
+    private EditingContextEventProcessorCleaner cleaner;
+
+    @BeforeEach
+    public void beforeEach() {
+        Map<String, String> representationId2TargetObjectId = new HashMap<>();
+        for (int i = 0; i < REPRESENTATIONS_COUNT; i++) {
+            String targetObjectId = "object" + i;
+            this.semanticElementIds.add(targetObjectId);
+            representationId2TargetObjectId.put("representation" + i, targetObjectId);
+        }
+        for (int i = 0; i < OPENED_REPRESENTATIONS_COUNT; i++) {
+            this.openRepresentation("representation" + i, "object" + i);
+        }
+
+        this.danglingRepresentationDeletionService = new CountingDanglingRepresentationDeletionService(this.semanticElementIds, representationId2TargetObjectId);
+        this.cleaner = new EditingContextEventProcessorCleaner(this.representationEventProcessorRegistry, this.danglingRepresentationDeletionService);
+    }
+
+    @Test
+    public void givenTwoThousandRepresentationsWhenAChangeRemovesNothingThenNoDatabaseRoundTripIsPerformed() {
+        var changeDescription = this.semanticChange().withModifiedObjectIds(Set.of("object1", "object1500"));
+
+        this.cleaner.preAccept(Sinks.many().unicast().onBackpressureBuffer(), Sinks.many().unicast().onBackpressureBuffer(), this.editingContext, changeDescription);
+
+        assertThat(this.danglingRepresentationDeletionService.getDatabaseRoundTripsCount()).isZero();
+        assertThat(this.danglingRepresentationDeletionService.getResolvedTargetObjectIds()).containsExactlyInAnyOrder("object1", "object1", "object1500");
+        assertThat(this.danglingRepresentationDeletionService.getDeletedRepresentationIds()).isEmpty();
+        assertThat(this.representationEventProcessorRegistry.values(EDITING_CONTEXT_ID)).hasSize(OPENED_REPRESENTATIONS_COUNT);
+    }
+
+    @Test
+    public void givenTwoThousandRepresentationsWhenAChangeRemovesATargetThenOnlyItsRepresentationsAreDeleted() {
+        this.semanticElementIds.remove("object1");
+        this.semanticElementIds.remove("object1500");
+        var changeDescription = this.semanticChange().withModifiedObjectIds(Set.of("object0", "object1", "object1500"));
+
+        this.cleaner.preAccept(Sinks.many().unicast().onBackpressureBuffer(), Sinks.many().unicast().onBackpressureBuffer(), this.editingContext, changeDescription);
+
+        // One round trip for each deleted representation
+        assertThat(this.danglingRepresentationDeletionService.getDatabaseRoundTripsCount()).isEqualTo(2);
+        assertThat(this.danglingRepresentationDeletionService.getDeletedRepresentationIds()).containsExactlyInAnyOrder("representation1", "representation1500");
+        assertThat(this.representationEventProcessorRegistry.values(EDITING_CONTEXT_ID))
+                .hasSize(OPENED_REPRESENTATIONS_COUNT - 1)
+                .noneMatch(representationEventProcessor -> representationEventProcessor.getRepresentation().getId().equals("representation1"));
+    }
+
+    @Test
+    public void givenTwoThousandRepresentationsWhenAChangeModifiesNoSemanticElementThenNothingIsResolved() {
+        var changeDescription = new ChangeDescription(ChangeKind.REPRESENTATION_RENAMING, EDITING_CONTEXT_ID, this.input()).withModifiedObjectIds(Set.of());
+
+        this.cleaner.preAccept(Sinks.many().unicast().onBackpressureBuffer(), Sinks.many().unicast().onBackpressureBuffer(), this.editingContext, changeDescription);
+
+        assertThat(this.danglingRepresentationDeletionService.getDatabaseRoundTripsCount()).isZero();
+        assertThat(this.danglingRepresentationDeletionService.getResolvedTargetObjectIds()).isEmpty();
+    }
+
+    @Test
+    public void givenTwoThousandRepresentationsWhenTheModifiedSemanticElementsAreUnknownThenAllTheRepresentationsAreConsidered() {
+        this.semanticElementIds.remove("object1");
+
+        this.cleaner.preAccept(Sinks.many().unicast().onBackpressureBuffer(), Sinks.many().unicast().onBackpressureBuffer(), this.editingContext, this.semanticChange());
+
+        // One round trip to find all the representations and one to delete the dangling one
+        assertThat(this.danglingRepresentationDeletionService.getDatabaseRoundTripsCount()).isEqualTo(2);
+        assertThat(this.danglingRepresentationDeletionService.getResolvedTargetObjectIds()).hasSize(OPENED_REPRESENTATIONS_COUNT + REPRESENTATIONS_COUNT);
+        assertThat(this.danglingRepresentationDeletionService.getDeletedRepresentationIds()).containsExactly("representation1");
+        assertThat(this.representationEventProcessorRegistry.values(EDITING_CONTEXT_ID)).hasSize(OPENED_REPRESENTATIONS_COUNT - 1);
+    }
+
+    private ChangeDescription semanticChange() {
+        return new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, EDITING_CONTEXT_ID, this.input());
+    }
+
+    private IInput input() {
+        var inputId = UUID.randomUUID();
+        return () -> inputId;
+    }
+
+    private void openRepresentation(String representationId, String targetObjectId) {
+        var representation = new IRepresentation.NoOp() {
+            @Override
+            public String getId() {
+                return representationId;
+            }
+
+            @Override
+            public String getTargetObjectId() {
+                return targetObjectId;
+            }
+        };
+        var representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public IRepresentation getRepresentation() {
+                return representation;
+            }
+        };
+        this.representationEventProcessorRegistry.put(EDITING_CONTEXT_ID, representationId, new RepresentationEventProcessorEntry(representationEventProcessor, () -> { }));
+    }
+
+    /**
+     * Counts the database round trips performed like an implementation relying on a database to store the
+     * representations and on an index of their target objects, built when the editing context is loaded.
+     *
+     * @author agent
+     */
+    private static final class CountingDanglingRepresentationDeletionService implements IDanglingRepresentationDeletionService {
+
+        private final Set<String> semanticElementIds;
+
+        private final Map<String, String> representationId2TargetObjectId;
+
+        private final Map<String, Set<String>> targetObjectId2RepresentationIds = new HashMap<>();
+
+        private final List<String> resolvedTargetObjectIds = new ArrayList<>();
+
+        private final List<String> deletedRepresentationIds = new ArrayList<>();
+
+        private int databaseRoundTripsCount;
+
+        public CountingDanglingRepresentationDeletionService(Set<String> semanticElementIds, Map<String, String> representationId2TargetObjectId) {
+            this.semanticElementIds = semanticElementIds;
+            this.representationId2TargetObjectId = representationId2TargetObjectId;
+            representationId2TargetObjectId.forEach((representationId, targetObjectId) -> this.targetObjectId2RepresentationIds.computeIfAbsent(targetObjectId, key -> new HashSet<>()).add(representationId));
+        }
+
+        @Override
+        public boolean isDangling(IEditingContext editingContext, IRepresentation representation) {
+            return !this.resolve(representation.getTargetObjectId());
+        }
+
+        @Override
+        public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext) {
+            this.databaseRoundTripsCount++;
+            List.copyOf(this.representationId2TargetObjectId.keySet()).stream()
+                    .filter(representationId -> !this.resolve(this.representationId2TargetObjectId.get(representationId)))
+                    .forEach(this::delete);
+        }
+
+        @Override
+        public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> modifiedObjectIds) {
+            for (String modifiedObjectId : modifiedObjectIds) {
+                var representationIds = this.targetObjectId2RepresentationIds.getOrDefault(modifiedObjectId, Set.of());
+                if (!representationIds.isEmpty() && !this.resolve(modifiedObjectId)) {
+                    List.copyOf(representationIds).forEach(this::delete);
+                }
+            }
+        }
+
+        private boolean resolve(String targetObjectId) {
+            this.resolvedTargetObjectIds.add(targetObjectId);
+            return this.semanticElementIds.contains(targetObjectId);
+        }
+
+        private void delete(String representationId) {
+            this.databaseRoundTripsCount++;
+            this.deletedRepresentationIds.add(representationId);
+            String targetObjectId = this.representationId2TargetObjectId.remove(representationId);
+            this.targetObjectId2RepresentationIds.get(targetObjectId).remove(representationId);
+        }
+
+        public int getDatabaseRoundTripsCount() {
+            return this.databaseRoundTripsCount;
+        }
+
+        public List<String> getResolvedTargetObjectIds() {
+            return this.resolvedTargetObjectIds;
+        }
+
+        public List<String> getDeletedRepresentationIds() {
+            return this.deletedRepresentationIds;
+        }
+    }
+}
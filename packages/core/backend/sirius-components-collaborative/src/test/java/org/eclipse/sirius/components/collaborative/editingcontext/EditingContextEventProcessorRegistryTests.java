@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorInitializationHook;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextCacheManager;
+import org.eclipse.sirius.components.collaborative.messages.ICollaborativeMessageService;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.ErrorPayload;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.core.api.IEditingContextSizeEstimator;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of the registry of the editing context event processors.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorRegistryTests {
+
+    private static final long LOADING_DURATION_MILLIS = 500;
+
+    private static final int EDITING_CONTEXTS_COUNT = 20;
+
+    private static final long EDITING_CONTEXT_SIZE = 100;
+
+    @Test
+    public void givenDistinctEditingContextsWhenTheyAreOpenedConcurrentlyThenTheyAreLoadedInParallel() throws Exception {
+        var loadingsCount = new AtomicInteger();
+        var registry = this.createRegistry(loadingsCount);
+
+        List<Callable<Optional<IEditingContextEventProcessor>>> openings = new ArrayList<>();
+        for (int i = 0; i < EDITING_CONTEXTS_COUNT; i++) {
+            String editingContextId = "editingContext" + i;
+            openings.add(() -> registry.getOrCreateEditingContextEventProcessor(editingContextId));
+        }
+
+        long start = System.nanoTime();
+        List<Optional<IEditingContextEventProcessor>> editingContextEventProcessors = this.invokeAll(openings);
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(editingContextEventProcessors).hasSize(EDITING_CONTEXTS_COUNT).allMatch(Optional::isPresent);
+        assertThat(loadingsCount.get()).isEqualTo(EDITING_CONTEXTS_COUNT);
+        // A sequential loading would take twenty times longer than the slowest loading
+        assertThat(durationMillis).isLessThan(LOADING_DURATION_MILLIS * 3);
+        assertThat(registry.getEditingContextEventProcessors()).hasSize(EDITING_CONTEXTS_COUNT);
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenTheSameEditingContextWhenItIsOpenedConcurrentlyThenItIsLoadedOnce() throws Exception {
+        var loadingsCount = new AtomicInteger();
+        var registry = this.createRegistry(loadingsCount);
+
+        List<Callable<Optional<IEditingContextEventProcessor>>> openings = new ArrayList<>();
+        for (int i = 0; i < EDITING_CONTEXTS_COUNT; i++) {
+            openings.add(() -> registry.getOrCreateEditingContextEventProcessor("editingContext"));
+        }
+
+        List<Optional<IEditingContextEventProcessor>> editingContextEventProcessors = this.invokeAll(openings);
+
+        assertThat(loadingsCount.get()).isEqualTo(1);
+        assertThat(editingContextEventProcessors).allMatch(Optional::isPresent);
+        assertThat(editingContextEventProcessors.stream().map(Optional::get).distinct()).hasSize(1);
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAnEditingContextWhichCannotBeLoadedWhenItIsOpenedAgainThenItsLoadingIsRetried() {
+        var loadingsCount = new AtomicInteger();
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadingsCount.incrementAndGet();
+                return Optional.empty();
+            }
+        };
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), new RepresentationEventProcessorRegistry(),
+                editingContextSearchService, List.of(), Duration.ofSeconds(1), new ICollaborativeMessageService.NoOp(), new IEditingContextCacheManager.NoOp());
+
+        assertThat(registry.getOrCreateEditingContextEventProcessor("editingContext")).isEmpty();
+        assertThat(registry.getOrCreateEditingContextEventProcessor("editingContext")).isEmpty();
+        assertThat(loadingsCount.get()).isEqualTo(2);
+        assertThat(registry.getEditingContextEventProcessors()).isEmpty();
+    }
+
+    @Test
+    public void givenAnInitializationHookWhenAnEditingContextIsDisposedThenTheHookIsNotified() {
+        List<String> events = new ArrayList<>();
+        var initializationHook = new IEditingContextEventProcessorInitializationHook() {
+            @Override
+            public void postProcess(IEditingContext editingContext) {
+                events.add("postProcess " + editingContext.getId());
+            }
+
+            @Override
+            public void onDisposed(String editingContextId) {
+                events.add("onDisposed " + editingContextId);
+            }
+        };
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                return Optional.of(() -> editingContextId);
+            }
+        };
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp(), new RepresentationEventProcessorRegistry(),
+                editingContextSearchService, List.of(initializationHook), Duration.ofSeconds(1), new ICollaborativeMessageService.NoOp(), new IEditingContextCacheManager.NoOp());
+
+        assertThat(registry.getOrCreateEditingContextEventProcessor("editingContext")).isPresent();
+        registry.disposeEditingContextEventProcessor("editingContext");
+
+        assertThat(events).containsExactly("postProcess editingContext", "onDisposed editingContext");
+    }
+
+    @Test
+    public void givenAnOverloadedEditingContextWhenAnInputIsDispatchedThenAnErrorPayloadIsReturned() {
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                return Optional.of(() -> editingContextId);
+            }
+        };
+        ICollaborativeMessageService messageService = new ICollaborativeMessageService.NoOp() {
+            @Override
+            public String overloaded() {
+                return "overloaded";
+            }
+        };
+        var registry = new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public Mono<IPayload> handle(IInput input) {
+                return Mono.error(new RejectedExecutionException());
+            }
+
+            @Override
+            public Flux<Boolean> canBeDisposed() {
+                return Flux.never();
+            }
+        }, new RepresentationEventProcessorRegistry(), editingContextSearchService, List.of(), Duration.ofSeconds(1), messageService, new IEditingContextCacheManager.NoOp());
+
+        IInput input = () -> UUID.randomUUID();
+        IPayload payload = registry.dispatchEvent("editingContext", input).block(Duration.ofSeconds(5));
+
+        assertThat(payload).isInstanceOf(ErrorPayload.class);
+        assertThat(((ErrorPayload) payload).message()).isEqualTo("overloaded");
+
+        registry.dispose();
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenItIsExceededThenTheLeastRecentlyUsedEditingContextIsEvicted() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = this.createRegistry(new RepresentationEventProcessorRegistry(), meterRegistry, EditingContextCacheManager.LEAST_RECENTLY_USED);
+
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        registry.getOrCreateEditingContextEventProcessor("editingContext2");
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        registry.getOrCreateEditingContextEventProcessor("editingContext3");
+
+        assertThat(this.getEditingContextIds(registry)).containsExactlyInAnyOrder("editingContext1", "editingContext3");
+        assertThat(meterRegistry.get("siriusweb_editingcontext_evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_estimated_size").gauge().value()).isEqualTo(EDITING_CONTEXT_SIZE * 2);
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenItIsExceededThenTheLeastFrequentlyUsedEditingContextIsEvicted() {
+        var registry = this.createRegistry(new RepresentationEventProcessorRegistry(), new SimpleMeterRegistry(), EditingContextCacheManager.LEAST_FREQUENTLY_USED);
+
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        registry.getOrCreateEditingContextEventProcessor("editingContext2");
+        registry.getOrCreateEditingContextEventProcessor("editingContext3");
+
+        assertThat(this.getEditingContextIds(registry)).containsExactlyInAnyOrder("editingContext1", "editingContext3");
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenItIsExceededThenTheEditingContextsUsedByRepresentationsAreNotEvicted() {
+        var representationEventProcessorRegistry = new RepresentationEventProcessorRegistry();
+        var registry = this.createRegistry(representationEventProcessorRegistry, new SimpleMeterRegistry(), EditingContextCacheManager.LEAST_RECENTLY_USED);
+
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        representationEventProcessorRegistry.put("editingContext1", "representationId", new RepresentationEventProcessorEntry(new IRepresentationEventProcessor.NoOp(), () -> { }));
+        registry.getOrCreateEditingContextEventProcessor("editingContext2");
+        registry.getOrCreateEditingContextEventProcessor("editingContext3");
+
+        assertThat(this.getEditingContextIds(registry)).containsExactlyInAnyOrder("editingContext1", "editingContext3");
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenItIsExceededThenTheEditingContextsAccessedDuringTheKeepAliveAreNotEvicted() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var registry = this.createRegistry(new RepresentationEventProcessorRegistry(), meterRegistry, EditingContextCacheManager.LEAST_RECENTLY_USED, Duration.ofMinutes(1));
+
+        registry.getOrCreateEditingContextEventProcessor("editingContext1");
+        registry.getOrCreateEditingContextEventProcessor("editingContext2");
+        registry.getOrCreateEditingContextEventProcessor("editingContext3");
+
+        assertThat(this.getEditingContextIds(registry)).containsExactlyInAnyOrder("editingContext1", "editingContext2", "editingContext3");
+        assertThat(meterRegistry.get("siriusweb_editingcontext_evictions").counter().count()).isZero();
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenItIsExceededThenTheEditingContextsWithAnInputInFlightAreNotEvicted() {
+        Sinks.One<IPayload> payloadSink = Sinks.one();
+        var registry = this.createRegistry(new RepresentationEventProcessorRegistry(), new SimpleMeterRegistry(), EditingContextCacheManager.LEAST_RECENTLY_USED, Duration.ZERO, input -> payloadSink.asMono());
+
+        IInput input = () -> UUID.randomUUID();
+        var payload = registry.dispatchEvent("editingContext1", input).toFuture();
+        registry.getOrCreateEditingContextEventProcessor("editingContext2");
+        registry.getOrCreateEditingContextEventProcessor("editingContext2");
+        registry.getOrCreateEditingContextEventProcessor("editingContext3");
+
+        // The least recently used editing context is still handling an input
+        assertThat(this.getEditingContextIds(registry)).containsExactlyInAnyOrder("editingContext1", "editingContext3");
+
+        payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        assertThat(payload.join()).isInstanceOf(SuccessPayload.class);
+        registry.getOrCreateEditingContextEventProcessor("editingContext4");
+
+        assertThat(this.getEditingContextIds(registry)).containsExactlyInAnyOrder("editingContext3", "editingContext4");
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenAnEditingContextIsModifiedThenItsSizeIsEstimatedAgain() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var size = new AtomicLong(EDITING_CONTEXT_SIZE);
+        IEditingContext editingContext = () -> "editingContext";
+        var editingContextCacheManager = new EditingContextCacheManager(List.of(context -> Optional.of(size.get())), meterRegistry, DataSize.ofBytes(EDITING_CONTEXT_SIZE * 2), EditingContextCacheManager.LEAST_RECENTLY_USED, Duration.ZERO);
+
+        editingContextCacheManager.onLoaded(editingContext);
+        size.set(EDITING_CONTEXT_SIZE * 3);
+        editingContextCacheManager.onChanged(editingContext);
+
+        assertThat(meterRegistry.get("siriusweb_editingcontext_estimated_size").gauge().value()).isEqualTo(EDITING_CONTEXT_SIZE * 3);
+        assertThat(editingContextCacheManager.selectEditingContextsToEvict(editingContextId -> true)).containsExactly("editingContext");
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenAnEditingContextIsModifiedDuringTheKeepAliveThenItsSizeIsNotEstimatedAgainYet() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var size = new AtomicLong(EDITING_CONTEXT_SIZE);
+        IEditingContext editingContext = () -> "editingContext";
+        var editingContextCacheManager = new EditingContextCacheManager(List.of(context -> Optional.of(size.get())), meterRegistry, DataSize.ofBytes(EDITING_CONTEXT_SIZE * 2), EditingContextCacheManager.LEAST_RECENTLY_USED, Duration.ofMinutes(1));
+
+        editingContextCacheManager.onLoaded(editingContext);
+        size.set(EDITING_CONTEXT_SIZE * 3);
+        editingContextCacheManager.onChanged(editingContext);
+
+        assertThat(meterRegistry.get("siriusweb_editingcontext_estimated_size").gauge().value()).isEqualTo(EDITING_CONTEXT_SIZE);
+    }
+
+    @Test
+    public void givenAMemoryBudgetWhenAnEditingContextHasBeenAccessedDuringTheKeepAliveThenItsDisposalIsPostponed() {
+        IEditingContext editingContext = () -> "editingContext";
+        IEditingContextSizeEstimator editingContextSizeEstimator = context -> Optional.of(EDITING_CONTEXT_SIZE);
+        var withMemoryBudget = new EditingContextCacheManager(List.of(editingContextSizeEstimator), new SimpleMeterRegistry(), DataSize.ofBytes(EDITING_CONTEXT_SIZE * 2), EditingContextCacheManager.LEAST_RECENTLY_USED, Duration.ofMinutes(1));
+        var withoutMemoryBudget = new EditingContextCacheManager(List.of(editingContextSizeEstimator), new SimpleMeterRegistry(), DataSize.ofBytes(0), EditingContextCacheManager.LEAST_RECENTLY_USED, Duration.ofMinutes(1));
+
+        withMemoryBudget.onLoaded(editingContext);
+        withoutMemoryBudget.onLoaded(editingContext);
+
+        assertThat(withMemoryBudget.getRemainingKeepAlive("editingContext")).isGreaterThan(Duration.ZERO).isLessThanOrEqualTo(Duration.ofMinutes(1));
+        assertThat(withoutMemoryBudget.getRemainingKeepAlive("editingContext")).isZero();
+
+        withMemoryBudget.onDisposed("editingContext");
+        assertThat(withMemoryBudget.getRemainingKeepAlive("editingContext")).isZero();
+    }
+
+    private EditingContextEventProcessorRegistry createRegistry(RepresentationEventProcessorRegistry representationEventProcessorRegistry, MeterRegistry meterRegistry, String evictionPolicy) {
+        return this.createRegistry(representationEventProcessorRegistry, meterRegistry, evictionPolicy, Duration.ZERO);
+    }
+
+    private EditingContextEventProcessorRegistry createRegistry(RepresentationEventProcessorRegistry representationEventProcessorRegistry, MeterRegistry meterRegistry, String evictionPolicy, Duration keepAlive) {
+        return this.createRegistry(representationEventProcessorRegistry, meterRegistry, evictionPolicy, keepAlive, input -> Mono.just(new SuccessPayload(input.id())));
+    }
+
+    private EditingContextEventProcessorRegistry createRegistry(RepresentationEventProcessorRegistry representationEventProcessorRegistry, MeterRegistry meterRegistry, String evictionPolicy, Duration keepAlive,
+                                                                Function<IInput, Mono<IPayload>> inputHandler) {
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                return Optional.of(() -> editingContextId);
+            }
+        };
+        IEditingContextSizeEstimator editingContextSizeEstimator = editingContext -> Optional.of(EDITING_CONTEXT_SIZE);
+        // The memory budget allows two editing contexts to be loaded at the same time
+        var editingContextCacheManager = new EditingContextCacheManager(List.of(editingContextSizeEstimator), meterRegistry, DataSize.ofBytes(EDITING_CONTEXT_SIZE * 2), evictionPolicy, keepAlive);
+
+        return new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public String getEditingContextId() {
+                return editingContext.getId();
+            }
+
+            @Override
+            public Mono<IPayload> handle(IInput input) {
+                return inputHandler.apply(input);
+            }
+
+            @Override
+            public Flux<Boolean> canBeDisposed() {
+                return Flux.never();
+            }
+        }, representationEventProcessorRegistry, editingContextSearchService, List.of(), Duration.ofSeconds(1), new ICollaborativeMessageService.NoOp(), editingContextCacheManager);
+    }
+
+    private List<String> getEditingContextIds(EditingContextEventProcessorRegistry registry) {
+        return registry.getEditingContextEventProcessors().stream()
+                .map(IEditingContextEventProcessor::getEditingContextId)
+                .toList();
+    }
+
+    private EditingContextEventProcessorRegistry createRegistry(AtomicInteger loadingsCount) {
+        IEditingContextSearchService editingContextSearchService = new IEditingContextSearchService() {
+            @Override
+            public boolean existsById(String editingContextId) {
+                return true;
+            }
+
+            @Override
+            public Optional<IEditingContext> findById(String editingContextId) {
+                loadingsCount.incrementAndGet();
+                try {
+                    Thread.sleep(LOADING_DURATION_MILLIS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return Optional.of(() -> editingContextId);
+            }
+        };
+
+        return new EditingContextEventProcessorRegistry(editingContext -> new IEditingContextEventProcessor.NoOp() {
+            @Override
+            public Flux<Boolean> canBeDisposed() {
+                return Flux.never();
+            }
+        }, new RepresentationEventProcessorRegistry(), editingContextSearchService, List.of(), Duration.ofSeconds(1), new ICollaborativeMessageService.NoOp(), new IEditingContextCacheManager.NoOp());
+    }
+
+    private List<Optional<IEditingContextEventProcessor>> invokeAll(List<Callable<Optional<IEditingContextEventProcessor>>> openings) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(openings.size());
+        try {
+            List<Optional<IEditingContextEventProcessor>> results = new ArrayList<>();
+            for (Future<Optional<IEditingContextEventProcessor>> future : executorService.invokeAll(openings)) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
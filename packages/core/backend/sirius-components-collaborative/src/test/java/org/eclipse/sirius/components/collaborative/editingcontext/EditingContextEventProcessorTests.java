@@ -0,0 +1,685 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventHandler;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.collaborative.dto.EditingContextEventInput;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IChangeDescriptionListener;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IInputDispatcher;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IEditingContextPersistenceQueue;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IBackgroundInput;
+import org.eclipse.sirius.components.core.api.IChangeScopeRecorder;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
+import org.eclipse.sirius.components.core.api.IRepresentationInput;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks.Many;
+import reactor.core.publisher.Sinks.One;
+
+/**
+ * Tests of the editing context event processor.
+ *
+ * @author agent
+ */
+public class EditingContextEventProcessorTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final String EDITING_CONTEXT_THREAD_NAME = "Editing context " + EDITING_CONTEXT_ID;
+
+    private static final int READ_ONLY_LANE_THREADS_COUNT = 4;
+
+    private static final int QUEUED_MUTATIONS_COUNT = 5;
+
+    private static final int PALETTE_REQUESTS_COUNT = 20;
+
+    private static final int INPUT_QUEUE_CAPACITY = 100;
+
+    private static final int FLOODING_CLIENTS_COUNT = 4;
+
+    private static final int FLOODING_INPUTS_COUNT = 25_000;
+
+    private static final int MONITORED_INPUTS_COUNT = 10_000;
+
+    private final IllegalStateException dispatchFailure = new IllegalStateException("Failure during the dispatch");
+
+    @Test
+    public void givenBlockingDispatchWhenAnInputIsHandledThenThePayloadIsReturned() {
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, false);
+
+        var input = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        IPayload payload = editingContextEventProcessor.handle(input).block(Duration.ofSeconds(5));
+        assertThat(payload).isInstanceOf(SuccessPayload.class);
+        assertThat(payload.id()).isEqualTo(input.id());
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10, 100 })
+    public void givenAsynchronousDispatchWhenInputsAreInFlightThenASingleRequestThreadIsUsed(int inFlightInputsCount) throws Exception {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            try {
+                processingLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, true);
+
+        Set<Thread> requestThreads = ConcurrentHashMap.newKeySet();
+        ExecutorService requestExecutorService = Executors.newSingleThreadExecutor();
+        List<Mono<IPayload>> payloads = requestExecutorService.submit(() -> {
+            List<Mono<IPayload>> monos = new ArrayList<>();
+            for (int i = 0; i < inFlightInputsCount; i++) {
+                requestThreads.add(Thread.currentThread());
+                monos.add(editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)));
+            }
+            return monos;
+        }).get(5, TimeUnit.SECONDS);
+
+        // All the inputs have been accepted by a single request thread while none of them has been processed yet
+        assertThat(processingLatch.getCount()).isEqualTo(1);
+        assertThat(requestThreads).hasSize(1);
+        assertThat(payloads).hasSize(inFlightInputsCount);
+
+        processingLatch.countDown();
+
+        List<IPayload> results = Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(10));
+        assertThat(results).hasSize(inFlightInputsCount).allMatch(SuccessPayload.class::isInstance);
+
+        requestExecutorService.shutdown();
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenAsynchronousDispatchWhenTheDispatcherFailsThenThePayloadIsCompleted() {
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            throw this.dispatchFailure;
+        };
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, true);
+
+        Optional<IPayload> optionalPayload = editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)).blockOptional(Duration.ofSeconds(5));
+        assertThat(optionalPayload).isEmpty();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenChangeScopeRecorderWhenAChangeDescriptionIsEmittedThenItContainsTheModifiedObjectIds() {
+        var recording = new AtomicBoolean();
+        IChangeScopeRecorder changeScopeRecorder = new IChangeScopeRecorder() {
+            @Override
+            public void beginRecording(IEditingContext editingContext) {
+                recording.set(true);
+            }
+
+            @Override
+            public Optional<Set<String>> getModifiedObjectIds(IEditingContext editingContext) {
+                if (recording.get()) {
+                    return Optional.of(Set.of("modifiedObjectId"));
+                }
+                return Optional.empty();
+            }
+
+            @Override
+            public void endRecording(IEditingContext editingContext) {
+                recording.set(false);
+            }
+        };
+
+        List<ChangeDescription> changeDescriptions = new ArrayList<>();
+        IChangeDescriptionListener changeDescriptionListener = (payloadSink, canBeDisposedSink, editingContext, changeDescription) -> changeDescriptions.add(changeDescription);
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, EDITING_CONTEXT_ID, input));
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, changeDescriptionListener, false, List.of(changeScopeRecorder));
+
+        editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)).block(Duration.ofSeconds(5));
+
+        assertThat(recording.get()).isFalse();
+        assertThat(changeDescriptions).hasSize(1);
+        assertThat(changeDescriptions.get(0).getModifiedObjectIds()).contains(Set.of("modifiedObjectId"));
+        assertThat(changeDescriptions.get(0).mayConcern(Set.of("modifiedObjectId", "otherObjectId"))).isTrue();
+        assertThat(changeDescriptions.get(0).mayConcern(Set.of("otherObjectId"))).isFalse();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenReadOnlyLaneWhenReadOnlyInputsAreHandledThenTheyAreHandledOneAtATime() {
+        var runningInputsCount = new AtomicInteger();
+        var maximumRunningInputsCount = new AtomicInteger();
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            maximumRunningInputsCount.accumulateAndGet(runningInputsCount.incrementAndGet(), Math::max);
+            Thread.yield();
+            runningInputsCount.decrementAndGet();
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+        ExecutorService readOnlyExecutorService = Executors.newFixedThreadPool(READ_ONLY_LANE_THREADS_COUNT);
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, Optional.of(readOnlyExecutorService), new EditingContextLockRegistry());
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        for (int i = 0; i < PALETTE_REQUESTS_COUNT; i++) {
+            payloads.add(editingContextEventProcessor.handle(new ReadOnlyInput(UUID.randomUUID())));
+            payloads.add(editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)));
+        }
+
+        List<IPayload> results = Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(10));
+        assertThat(results).hasSize(PALETTE_REQUESTS_COUNT * 2).allMatch(SuccessPayload.class::isInstance);
+        // The handlers of the inputs share the interpreter of the editing context, they must never run at the same time
+        assertThat(maximumRunningInputsCount.get()).isEqualTo(1);
+
+        editingContextEventProcessor.dispose();
+        readOnlyExecutorService.shutdown();
+    }
+
+    @Test
+    public void givenReadOnlyLaneWhenAMutationIsInFlightThenTheReadOnlyInputsWaitForIt() throws Exception {
+        var editingContextLockRegistry = new EditingContextLockRegistry();
+        var lock = (ReentrantReadWriteLock) editingContextLockRegistry.getLock(EDITING_CONTEXT_ID);
+        var mutationInFlight = new AtomicBoolean();
+        var readDuringMutation = new AtomicBoolean();
+        CountDownLatch mutationLatch = new CountDownLatch(1);
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            if (input instanceof IReadOnlyInput) {
+                readDuringMutation.compareAndSet(false, mutationInFlight.get());
+            } else {
+                mutationInFlight.set(true);
+                mutationLatch.countDown();
+                this.awaitQueuedThreads(lock, 1);
+                mutationInFlight.set(false);
+            }
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+        ExecutorService readOnlyExecutorService = Executors.newFixedThreadPool(READ_ONLY_LANE_THREADS_COUNT);
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, Optional.of(readOnlyExecutorService), editingContextLockRegistry);
+
+        Mono<IPayload> mutationPayload = editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID));
+        assertThat(mutationLatch.await(5, TimeUnit.SECONDS)).isTrue();
+        IPayload readOnlyPayload = editingContextEventProcessor.handle(new ReadOnlyInput(UUID.randomUUID())).block(Duration.ofSeconds(5));
+
+        assertThat(readOnlyPayload).isInstanceOf(SuccessPayload.class);
+        assertThat(readDuringMutation.get()).isFalse();
+        assertThat(mutationPayload.block(Duration.ofSeconds(5))).isInstanceOf(SuccessPayload.class);
+
+        editingContextEventProcessor.dispose();
+        readOnlyExecutorService.shutdown();
+    }
+
+    @Test
+    public void givenReadOnlyLaneWhenAReadOnlyInputTargetsARepresentationWithoutEventProcessorThenItIsHandledByTheThreadOfTheEditingContext() {
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            threadNames.add(Thread.currentThread().getName());
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+        ExecutorService readOnlyExecutorService = Executors.newFixedThreadPool(2);
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(inputDispatcher, Optional.of(readOnlyExecutorService));
+
+        editingContextEventProcessor.handle(new ReadOnlyRepresentationInput(UUID.randomUUID(), UUID.randomUUID().toString())).block(Duration.ofSeconds(5));
+
+        assertThat(threadNames).containsExactly(EDITING_CONTEXT_THREAD_NAME);
+
+        editingContextEventProcessor.dispose();
+        readOnlyExecutorService.shutdown();
+    }
+
+    @Test
+    public void givenQueuedMutationsWhenAPaletteRequestIsHandledInTheReadOnlyLaneThenItOnlyWaitsForTheMutationInFlight() throws Exception {
+        var editingContextLockRegistry = new EditingContextLockRegistry();
+        var lock = (ReentrantReadWriteLock) editingContextLockRegistry.getLock(EDITING_CONTEXT_ID);
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        List<IInput> handledInputs = new CopyOnWriteArrayList<>();
+        ExecutorService readOnlyExecutorService = Executors.newFixedThreadPool(READ_ONLY_LANE_THREADS_COUNT);
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, handledInputs), Optional.of(readOnlyExecutorService), editingContextLockRegistry);
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        var mutationInFlight = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        payloads.add(editingContextEventProcessor.handle(mutationInFlight));
+        this.awaitWriteLocked(lock);
+        for (int i = 0; i < QUEUED_MUTATIONS_COUNT; i++) {
+            payloads.add(editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)));
+        }
+        var paletteInput = new ReadOnlyInput(UUID.randomUUID());
+        payloads.add(editingContextEventProcessor.handle(paletteInput));
+        // The palette request is waiting for the lock held by the mutation in flight while the other mutations are still queued
+        this.awaitQueuedThreads(lock, 1);
+        processingLatch.countDown();
+
+        List<IPayload> results = Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(10));
+        assertThat(results).hasSize(QUEUED_MUTATIONS_COUNT + 2).allMatch(SuccessPayload.class::isInstance);
+        assertThat(handledInputs).hasSize(QUEUED_MUTATIONS_COUNT + 2);
+        assertThat(handledInputs.subList(0, 2)).containsExactly(mutationInFlight, paletteInput);
+
+        editingContextEventProcessor.dispose();
+        readOnlyExecutorService.shutdown();
+    }
+
+    @Test
+    public void givenInputQueueCapacityWhenTooManyInputsAreWaitingThenTheNextOnesAreRejected() {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, new CopyOnWriteArrayList<>()), meterRegistry, 3);
+
+        List<Mono<IPayload>> payloads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            payloads.add(editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)));
+        }
+        Mono<IPayload> rejectedPayload = editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID));
+
+        assertThatThrownBy(() -> rejectedPayload.block(Duration.ofSeconds(5))).isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_queued_inputs").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_rejected_inputs").counter().count()).isEqualTo(1);
+
+        processingLatch.countDown();
+        List<IPayload> results = Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(5));
+        assertThat(results).hasSize(3).allMatch(SuccessPayload.class::isInstance);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_queued_inputs").gauge().value()).isZero();
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenTwoEditingContextsWhenInputsAreQueuedThenASingleGaugeCountsThemAll() {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        var meterRegistry = new SimpleMeterRegistry();
+        var factory = this.createEditingContextEventProcessorFactory(this.awaitingInputDispatcher(processingLatch, new CopyOnWriteArrayList<>()), meterRegistry, 0);
+        var firstEditingContextEventProcessor = factory.createEditingContextEventProcessor(() -> EDITING_CONTEXT_ID);
+        var secondEditingContextEventProcessor = factory.createEditingContextEventProcessor(() -> "otherEditingContextId");
+
+        List<Mono<IPayload>> payloads = List.of(
+                firstEditingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)),
+                secondEditingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), "otherEditingContextId"))
+        );
+
+        assertThat(meterRegistry.find("siriusweb_editingcontext_queued_inputs").gauges()).hasSize(1);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_queued_inputs").gauge().value()).isEqualTo(2);
+
+        processingLatch.countDown();
+        Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("siriusweb_editingcontext_queued_inputs").gauge().value()).isZero();
+
+        firstEditingContextEventProcessor.dispose();
+        secondEditingContextEventProcessor.dispose();
+        factory.dispose();
+    }
+
+    @Test
+    public void givenQueuedInputsWhenABackgroundInputIsQueuedBeforeAnInputOfAnEndUserThenTheInputOfTheEndUserIsHandledFirst() {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        List<IInput> handledInputs = new CopyOnWriteArrayList<>();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, handledInputs), new SimpleMeterRegistry(), 0);
+
+        var firstInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        var backgroundInput = new BackgroundInput(UUID.randomUUID());
+        var endUserInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        List<Mono<IPayload>> payloads = List.of(
+                editingContextEventProcessor.handle(firstInput),
+                editingContextEventProcessor.handle(backgroundInput),
+                editingContextEventProcessor.handle(endUserInput)
+        );
+
+        processingLatch.countDown();
+        Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(handledInputs).containsExactly(firstInput, endUserInput, backgroundInput);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenQueuedInputsWhenABackgroundInputCausedByAnEndUserIsQueuedThenItIsHandledInOrder() {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        List<IInput> handledInputs = new CopyOnWriteArrayList<>();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, handledInputs), new SimpleMeterRegistry(), 0);
+
+        var firstInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        var endUserBackgroundInput = new EndUserBackgroundInput(UUID.randomUUID());
+        var endUserInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        List<Mono<IPayload>> payloads = List.of(
+                editingContextEventProcessor.handle(firstInput),
+                editingContextEventProcessor.handle(endUserBackgroundInput),
+                editingContextEventProcessor.handle(endUserInput)
+        );
+
+        processingLatch.countDown();
+        Flux.mergeSequential(payloads).collectList().block(Duration.ofSeconds(5));
+
+        assertThat(handledInputs).containsExactly(firstInput, endUserBackgroundInput, endUserInput);
+
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenAQueuedInputWhenItsCallerTimesOutThenItIsNotHandled() {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        List<IInput> handledInputs = new CopyOnWriteArrayList<>();
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, handledInputs), meterRegistry, 0);
+
+        var firstInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        Mono<IPayload> firstPayload = editingContextEventProcessor.handle(firstInput);
+        var timedOutInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        IPayload timeoutPayload = editingContextEventProcessor.handle(timedOutInput)
+                .timeout(Duration.ofMillis(100), Mono.just(new SuccessPayload(UUID.randomUUID())))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(timeoutPayload.id()).isNotEqualTo(timedOutInput.id());
+        assertThat(meterRegistry.get("siriusweb_editingcontext_queued_inputs").gauge().value()).isEqualTo(1);
+
+        processingLatch.countDown();
+        firstPayload.block(Duration.ofSeconds(5));
+        editingContextEventProcessor.dispose();
+
+        assertThat(handledInputs).containsExactly(firstInput);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_cancelled_inputs").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenSynchronousDispatchWhenTheCallerOfAQueuedInputTimesOutThenItIsStillHandled() throws Exception {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        List<IInput> handledInputs = new CopyOnWriteArrayList<>();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, handledInputs), false);
+
+        var firstInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        var timedOutInput = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+        ExecutorService callersExecutorService = Executors.newFixedThreadPool(2);
+        Future<IPayload> firstPayload = callersExecutorService.submit(() -> editingContextEventProcessor.handle(firstInput).block(Duration.ofSeconds(5)));
+        Future<IPayload> timeoutPayload = callersExecutorService.submit(() -> editingContextEventProcessor.handle(timedOutInput)
+                .timeout(Duration.ofMillis(100), Mono.just(new SuccessPayload(UUID.randomUUID())))
+                .block(Duration.ofSeconds(5)));
+
+        // The callers are blocked until their inputs have been handled, their timeouts cannot expire in the meantime
+        this.sleep(200);
+        processingLatch.countDown();
+
+        assertThat(firstPayload.get(5, TimeUnit.SECONDS).id()).isEqualTo(firstInput.id());
+        assertThat(timeoutPayload.get(5, TimeUnit.SECONDS).id()).isEqualTo(timedOutInput.id());
+        assertThat(handledInputs).containsExactlyInAnyOrder(firstInput, timedOutInput);
+
+        callersExecutorService.shutdown();
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenInputQueueCapacityWhenClientsFloodTheEditingContextThenTheQueuedInputsAreBounded() throws Exception {
+        CountDownLatch processingLatch = new CountDownLatch(1);
+        var meterRegistry = new SimpleMeterRegistry();
+        var editingContextEventProcessor = this.createEditingContextEventProcessor(this.awaitingInputDispatcher(processingLatch, new CopyOnWriteArrayList<>()), meterRegistry, INPUT_QUEUE_CAPACITY);
+
+        var maxQueuedInputsCount = new AtomicInteger();
+        var rejectedInputsCount = new AtomicInteger();
+        ExecutorService clientsExecutorService = Executors.newFixedThreadPool(FLOODING_CLIENTS_COUNT);
+        List<Callable<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < FLOODING_CLIENTS_COUNT; i++) {
+            clients.add(() -> {
+                for (int j = 0; j < FLOODING_INPUTS_COUNT; j++) {
+                    editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID))
+                            .subscribe(payload -> { }, throwable -> rejectedInputsCount.incrementAndGet());
+                    maxQueuedInputsCount.accumulateAndGet((int) meterRegistry.get("siriusweb_editingcontext_queued_inputs").gauge().value(), Math::max);
+                }
+                return null;
+            });
+        }
+        for (Future<Void> future : clientsExecutorService.invokeAll(clients)) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        clientsExecutorService.shutdown();
+
+        // The inputs of the flood have all been queued or rejected while the editing context was busy
+        assertThat(maxQueuedInputsCount.get()).isLessThanOrEqualTo(INPUT_QUEUE_CAPACITY);
+        assertThat(rejectedInputsCount.get()).isGreaterThanOrEqualTo(FLOODING_CLIENTS_COUNT * FLOODING_INPUTS_COUNT - INPUT_QUEUE_CAPACITY);
+
+        processingLatch.countDown();
+        editingContextEventProcessor.dispose();
+    }
+
+    @Test
+    public void givenTheEventPipelineWhenTenThousandInputsAreHandledThenTheNumberOfMetersStaysConstant() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var representationEventProcessorRegistry = new RepresentationEventProcessorRegistry();
+        var representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+            @Override
+            public IRepresentation getRepresentation() {
+                return new IRepresentation.NoOp() {
+                    @Override
+                    public String getId() {
+                        return "representationId";
+                    }
+
+                    @Override
+                    public String getKind() {
+                        return "Diagram";
+                    }
+                };
+            }
+        };
+        representationEventProcessorRegistry.put(EDITING_CONTEXT_ID, "representationId", new RepresentationEventProcessorEntry(representationEventProcessor, () -> { }));
+
+        var editingContextEventHandler = new IEditingContextEventHandler() {
+            @Override
+            public boolean canHandle(IEditingContext editingContext, IInput input) {
+                return true;
+            }
+
+            @Override
+            public void handle(One<IPayload> payloadSink, Many<ChangeDescription> changeDescriptionSink, IEditingContext editingContext, IInput input) {
+                changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input));
+                payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+            }
+        };
+        var inputDispatcher = new InputDispatcher(List.of(), List.of(), List.of(editingContextEventHandler), representationEventProcessorRegistry,
+                (executorService, canBeDisposedSink, context, representationId, input) -> Optional.empty(), meterRegistry);
+        var representationEventProcessorRefresher = new RepresentationEventProcessorRefresher(representationEventProcessorRegistry, meterRegistry);
+        var editingContextSaver = new EditingContextSaver(new IEditingContextPersistenceService.NoOp(), new EditingContextLockRegistry(), meterRegistry, Duration.ZERO);
+        IChangeDescriptionListener changeDescriptionListener = (payloadSink, canBeDisposedSink, context, changeDescription) -> {
+            representationEventProcessorRefresher.accept(payloadSink, canBeDisposedSink, context, changeDescription);
+            editingContextSaver.postAccept(payloadSink, canBeDisposedSink, context, changeDescription);
+        };
+
+        IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor())
+                .editingContext(editingContext)
+                .representationEventProcessorRegistry(representationEventProcessorRegistry)
+                .changeDescriptionListener(changeDescriptionListener)
+                .inputDispatcher(inputDispatcher)
+                .representationEventProcessorProvider((executorService, canBeDisposedSink, context, representationId, input) -> Optional.empty())
+                .meterRegistry(meterRegistry)
+                .editingContextLockRegistry(new EditingContextLockRegistry())
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)).block(Duration.ofSeconds(5));
+        int metersCount = meterRegistry.getMeters().size();
+
+        for (int i = 0; i < MONITORED_INPUTS_COUNT; i++) {
+            IPayload payload = editingContextEventProcessor.handle(new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID)).block(Duration.ofSeconds(5));
+            assertThat(payload).isInstanceOf(SuccessPayload.class);
+        }
+
+        assertThat(meterRegistry.getMeters()).hasSize(metersCount);
+        assertThat(meterRegistry.get(Monitoring.TIMER_PROCESSING_INPUT).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_SUCCESS).timer().count()).isEqualTo(MONITORED_INPUTS_COUNT + 1);
+        assertThat(meterRegistry.get(Monitoring.TIMER_REFRESH_REPRESENTATION_KIND).tag(Monitoring.REPRESENTATION_KIND, "Diagram").timer().count()).isEqualTo(MONITORED_INPUTS_COUNT + 1);
+        assertThat(meterRegistry.get(Monitoring.TIMER_PERSISTENCE).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_SUCCESS).timer().count()).isEqualTo(MONITORED_INPUTS_COUNT + 1);
+
+        editingContextEventProcessor.dispose();
+        editingContextSaver.dispose();
+    }
+
+    private IInputDispatcher awaitingInputDispatcher(CountDownLatch processingLatch, List<IInput> handledInputs) {
+        return (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, editingContext, input) -> {
+            try {
+                processingLatch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            handledInputs.add(input);
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+    }
+
+    private void awaitWriteLocked(ReentrantReadWriteLock lock) {
+        while (!lock.isWriteLocked()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitQueuedThreads(ReentrantReadWriteLock lock, int queuedThreadsCount) {
+        while (lock.getQueueLength() < queuedThreadsCount) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IInputDispatcher inputDispatcher, boolean asynchronousDispatch) {
+        return this.createEditingContextEventProcessor(inputDispatcher, (payloadSink, canBeDisposedSink, context, changeDescription) -> { }, asynchronousDispatch, List.of());
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IInputDispatcher inputDispatcher, IChangeDescriptionListener changeDescriptionListener, boolean asynchronousDispatch, List<IChangeScopeRecorder> changeScopeRecorders) {
+        IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor())
+                .editingContext(editingContext)
+                .representationEventProcessorRegistry(new RepresentationEventProcessorRegistry())
+                .changeDescriptionListener(changeDescriptionListener)
+                .inputDispatcher(inputDispatcher)
+                .representationEventProcessorProvider((executorService, canBeDisposedSink, context, representationId, input) -> Optional.empty())
+                .meterRegistry(new SimpleMeterRegistry())
+                .asynchronousDispatch(asynchronousDispatch)
+                .changeScopeRecorders(changeScopeRecorders)
+                .build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IInputDispatcher inputDispatcher, Optional<ExecutorService> optionalReadOnlyExecutorService) {
+        return this.createEditingContextEventProcessor(inputDispatcher, optionalReadOnlyExecutorService, new EditingContextLockRegistry());
+    }
+
+    private EditingContextEventProcessor createEditingContextEventProcessor(IInputDispatcher inputDispatcher, Optional<ExecutorService> optionalReadOnlyExecutorService, EditingContextLockRegistry editingContextLockRegistry) {
+        IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, EDITING_CONTEXT_THREAD_NAME)))
+                .editingContext(editingContext)
+                .representationEventProcessorRegistry(new RepresentationEventProcessorRegistry())
+                .changeDescriptionListener((payloadSink, canBeDisposedSink, context, changeDescription) -> { })
+                .inputDispatcher(inputDispatcher)
+                .representationEventProcessorProvider((executorService, canBeDisposedSink, context, representationId, input) -> Optional.empty())
+                .meterRegistry(new SimpleMeterRegistry())
+                .asynchronousDispatch(true)
+                .editingContextLockRegistry(editingContextLockRegistry)
+                .optionalReadOnlyExecutorService(optionalReadOnlyExecutorService)
+                .build();
+        return new EditingContextEventProcessor(parameters);
+    }
+
+    private IEditingContextEventProcessor createEditingContextEventProcessor(IInputDispatcher inputDispatcher, MeterRegistry meterRegistry, int inputQueueCapacity) {
+        return this.createEditingContextEventProcessorFactory(inputDispatcher, meterRegistry, inputQueueCapacity).createEditingContextEventProcessor(() -> EDITING_CONTEXT_ID);
+    }
+
+    private EditingContextEventProcessorFactory createEditingContextEventProcessorFactory(IInputDispatcher inputDispatcher, MeterRegistry meterRegistry, int inputQueueCapacity) {
+        return new EditingContextEventProcessorFactory(new RepresentationEventProcessorRegistry(), inputDispatcher, (executorService, canBeDisposedSink, context, representationId, input) -> Optional.empty(),
+                (payloadSink, canBeDisposedSink, context, changeDescription) -> { }, context -> Executors.newSingleThreadExecutor(), meterRegistry, true, List.of(),
+                new EditingContextLockRegistry(), new IEditingContextPersistenceQueue.NoOp(), 0, inputQueueCapacity);
+    }
+
+    /**
+     * An input which is not performed on behalf of an end user.
+     *
+     * @author agent
+     */
+    private record BackgroundInput(UUID id) implements IBackgroundInput {
+    }
+
+    /**
+     * An input which is usually not performed on behalf of an end user, like a layout, but which has been caused by an
+     * end user this time.
+     *
+     * @author agent
+     */
+    private record EndUserBackgroundInput(UUID id) implements IBackgroundInput {
+
+        @Override
+        public boolean isBackground() {
+            return false;
+        }
+    }
+
+    /**
+     * A read-only input, like a palette request.
+     *
+     * @author agent
+     */
+    private record ReadOnlyInput(UUID id) implements IReadOnlyInput {
+    }
+
+    /**
+     * A read-only input targeting a representation.
+     *
+     * @author agent
+     */
+    private record ReadOnlyRepresentationInput(UUID id, String representationId) implements IReadOnlyInput, IRepresentationInput {
+    }
+}
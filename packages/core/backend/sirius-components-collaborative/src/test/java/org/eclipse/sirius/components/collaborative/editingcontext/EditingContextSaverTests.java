@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.dto.EditingContextEventInput;
+import org.eclipse.sirius.components.collaborative.editingcontext.api.IInputDispatcher;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.SuccessPayload;
+import org.eclipse.sirius.components.events.ICause;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of the persistence of the editing contexts after semantic changes.
+ *
+ * @author agent
+ */
+public class EditingContextSaverTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final int CHANGES_COUNT = 50;
+
+    private final IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+
+    private final List<ICause> persistedCauses = new CopyOnWriteArrayList<>();
+
+    private final IEditingContextPersistenceService editingContextPersistenceService = (cause, context) -> this.persistedCauses.add(cause);
+
+    @Test
+    public void givenNoWriteBehindDelayWhenSemanticChangesArePerformedThenEachOfThemIsPersisted() {
+        var saver = new EditingContextSaver(this.editingContextPersistenceService, new EditingContextLockRegistry(), new SimpleMeterRegistry(), Duration.ZERO);
+
+        List<IInput> inputs = this.performSemanticChanges(saver, CHANGES_COUNT);
+
+        assertThat(this.persistedCauses).containsExactlyElementsOf(inputs);
+    }
+
+    @Test
+    public void givenWriteBehindDelayWhenABurstOfSemanticChangesIsPerformedThenTheyArePersistedAtOnce() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var saver = new EditingContextSaver(this.editingContextPersistenceService, new EditingContextLockRegistry(), meterRegistry, Duration.ofMillis(200));
+
+        List<IInput> inputs = this.performSemanticChanges(saver, CHANGES_COUNT);
+        assertThat(this.persistedCauses).isEmpty();
+        assertThat(meterRegistry.get("siriusweb_editingcontext_dirty_age").gauge().value()).isGreaterThanOrEqualTo(0);
+
+        this.waitForPersistence(1);
+
+        assertThat(this.persistedCauses).containsExactly(inputs.get(inputs.size() - 1));
+        assertThat(meterRegistry.get("siriusweb_editingcontext_flush").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("siriusweb_editingcontext_dirty_age").gauge().value()).isZero();
+
+        saver.dispose();
+    }
+
+    @Test
+    public void givenWriteBehindDelayWhenSemanticChangesArePerformedAfterAPersistenceThenTheyArePersistedInOrder() throws Exception {
+        var saver = new EditingContextSaver(this.editingContextPersistenceService, new EditingContextLockRegistry(), new SimpleMeterRegistry(), Duration.ofMillis(100));
+
+        List<IInput> firstInputs = this.performSemanticChanges(saver, 2);
+        this.waitForPersistence(1);
+        List<IInput> secondInputs = this.performSemanticChanges(saver, 2);
+        this.waitForPersistence(2);
+
+        assertThat(this.persistedCauses).containsExactly(firstInputs.get(1), secondInputs.get(1));
+
+        saver.dispose();
+    }
+
+    @Test
+    public void givenWriteBehindDelayWhenTheEditingContextIsLockedThenItIsPersistedOnceUnlocked() throws Exception {
+        var editingContextLockRegistry = new EditingContextLockRegistry();
+        var saver = new EditingContextSaver(this.editingContextPersistenceService, editingContextLockRegistry, new SimpleMeterRegistry(), Duration.ofMillis(50));
+
+        List<IInput> inputs = this.performSemanticChanges(saver, 1);
+
+        // Simulates the handling of an input by the thread of the editing context
+        Lock lock = editingContextLockRegistry.getLock(EDITING_CONTEXT_ID).writeLock();
+        lock.lock();
+        try {
+            TimeUnit.MILLISECONDS.sleep(300);
+            assertThat(this.persistedCauses).isEmpty();
+        } finally {
+            lock.unlock();
+        }
+
+        this.waitForPersistence(1);
+        assertThat(this.persistedCauses).containsExactlyElementsOf(inputs);
+
+        saver.dispose();
+    }
+
+    @Test
+    public void givenWriteBehindDelayWhenTheApplicationIsShutDownThenThePendingChangesArePersisted() {
+        var saver = new EditingContextSaver(this.editingContextPersistenceService, new EditingContextLockRegistry(), new SimpleMeterRegistry(), Duration.ofHours(1));
+
+        List<IInput> inputs = this.performSemanticChanges(saver, CHANGES_COUNT);
+        assertThat(this.persistedCauses).isEmpty();
+
+        saver.dispose();
+
+        assertThat(this.persistedCauses).containsExactly(inputs.get(inputs.size() - 1));
+    }
+
+    @Test
+    public void givenWriteBehindDelayWhenTheEditingContextEventProcessorIsDisposedThenThePendingChangesArePersisted() {
+        var editingContextLockRegistry = new EditingContextLockRegistry();
+        var saver = new EditingContextSaver(this.editingContextPersistenceService, editingContextLockRegistry, new SimpleMeterRegistry(), Duration.ofHours(1));
+
+        IInputDispatcher inputDispatcher = (executorService, payloadSink, canBeDisposedSink, changeDescriptionSink, context, input) -> {
+            changeDescriptionSink.tryEmitNext(new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, EDITING_CONTEXT_ID, input));
+            payloadSink.tryEmitValue(new SuccessPayload(input.id()));
+        };
+        var parameters = EditingContextEventProcessorParameters.newEditingContextEventProcessorParameters()
+                .executorServiceProvider(context -> Executors.newSingleThreadExecutor())
+                .editingContext(this.editingContext)
+                .representationEventProcessorRegistry(new RepresentationEventProcessorRegistry())
+                .changeDescriptionListener(new ChangeDescriptionConsumerOrchestrator(List.of(saver)))
+                .inputDispatcher(inputDispatcher)
+                .representationEventProcessorProvider((executorService, canBeDisposedSink, context, representationId, input) -> Optional.empty())
+                .meterRegistry(new SimpleMeterRegistry())
+                .asynchronousDispatch(true)
+                .editingContextLockRegistry(editingContextLockRegistry)
+                .persistenceQueue(saver)
+                .build();
+        var editingContextEventProcessor = new EditingContextEventProcessor(parameters);
+
+        List<IInput> inputs = new ArrayList<>();
+        for (int i = 0; i < CHANGES_COUNT; i++) {
+            var input = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+            inputs.add(input);
+            editingContextEventProcessor.handle(input);
+        }
+
+        editingContextEventProcessor.dispose();
+
+        // The inputs queued before the disposal have been handled before the persistence
+        assertThat(this.persistedCauses).containsExactly(inputs.get(inputs.size() - 1));
+
+        saver.dispose();
+        assertThat(this.persistedCauses).hasSize(1);
+    }
+
+    private List<IInput> performSemanticChanges(EditingContextSaver saver, int count) {
+        List<IInput> inputs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            var input = new EditingContextEventInput(UUID.randomUUID(), EDITING_CONTEXT_ID);
+            inputs.add(input);
+            var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, EDITING_CONTEXT_ID, input);
+            saver.postAccept(Sinks.many().multicast().directBestEffort(), Sinks.many().multicast().directBestEffort(), this.editingContext, changeDescription);
+        }
+        return inputs;
+    }
+
+    private void waitForPersistence(int persistencesCount) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (this.persistedCauses.size() < persistencesCount && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
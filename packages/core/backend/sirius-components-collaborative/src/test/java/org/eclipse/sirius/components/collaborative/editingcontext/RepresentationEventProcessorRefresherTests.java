@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.editingcontext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Tests of the refresh of the representation event processors.
+ *
+ * @author agent
+ */
+public class RepresentationEventProcessorRefresherTests {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final int DIAGRAMS_COUNT = 10;
+
+    private final AtomicInteger runningRefreshesCount = new AtomicInteger();
+
+    private final AtomicInteger maximumRunningRefreshesCount = new AtomicInteger();
+
+    private final List<String> refreshedRepresentationIds = new ArrayList<>();
+
+    private final List<Thread> refreshThreads = new ArrayList<>();
+
+    @Test
+    public void givenTenOpenedDiagramsWhenASemanticChangeIsPerformedThenTheyAreRefreshedOneAfterTheOther() {
+        var registry = new RepresentationEventProcessorRegistry();
+        var representationIds = this.registerRepresentationEventProcessors(registry, DIAGRAMS_COUNT);
+
+        var refresher = new RepresentationEventProcessorRefresher(registry, new SimpleMeterRegistry());
+        this.refresh(refresher, EDITING_CONTEXT_ID);
+
+        assertThat(this.refreshedRepresentationIds).containsExactlyInAnyOrderElementsOf(representationIds);
+        assertThat(this.maximumRunningRefreshesCount.get()).isEqualTo(1);
+        assertThat(this.refreshThreads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void givenTenOpenedDiagramsWhenASemanticChangeIsPerformedFromOneOfThemThenItIsRefreshedFirst() {
+        var registry = new RepresentationEventProcessorRegistry();
+        var representationIds = this.registerRepresentationEventProcessors(registry, DIAGRAMS_COUNT);
+        String sourceId = representationIds.get(DIAGRAMS_COUNT - 1);
+
+        var refresher = new RepresentationEventProcessorRefresher(registry, new SimpleMeterRegistry());
+        this.refresh(refresher, sourceId);
+
+        assertThat(this.refreshedRepresentationIds).hasSize(DIAGRAMS_COUNT).containsExactlyInAnyOrderElementsOf(representationIds);
+        assertThat(this.refreshedRepresentationIds.get(0)).isEqualTo(sourceId);
+        assertThat(this.maximumRunningRefreshesCount.get()).isEqualTo(1);
+    }
+
+    private List<String> registerRepresentationEventProcessors(RepresentationEventProcessorRegistry registry, int count) {
+        List<String> representationIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String representationId = UUID.randomUUID().toString();
+            representationIds.add(representationId);
+
+            var representationEventProcessor = new IRepresentationEventProcessor.NoOp() {
+                @Override
+                public IRepresentation getRepresentation() {
+                    return new IRepresentation.NoOp() {
+                        @Override
+                        public String getId() {
+                            return representationId;
+                        }
+                    };
+                }
+
+                @Override
+                public void refresh(ChangeDescription changeDescription) {
+                    var tests = RepresentationEventProcessorRefresherTests.this;
+                    int runningRefreshesCount = tests.runningRefreshesCount.incrementAndGet();
+                    tests.maximumRunningRefreshesCount.accumulateAndGet(runningRefreshesCount, Math::max);
+                    tests.refreshedRepresentationIds.add(representationId);
+                    tests.refreshThreads.add(Thread.currentThread());
+                    tests.runningRefreshesCount.decrementAndGet();
+                }
+            };
+            registry.put(EDITING_CONTEXT_ID, representationId, new RepresentationEventProcessorEntry(representationEventProcessor, () -> { }));
+        }
+        return representationIds;
+    }
+
+    private void refresh(RepresentationEventProcessorRefresher refresher, String sourceId) {
+        IInput input = () -> UUID.randomUUID();
+        var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, sourceId, input);
+        IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+
+        refresher.accept(Sinks.many().multicast().directBestEffort(), Sinks.many().multicast().directBestEffort(), editingContext, changeDescription);
+    }
+}
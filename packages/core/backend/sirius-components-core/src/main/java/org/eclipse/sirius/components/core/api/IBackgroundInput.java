@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+/**
+ * Interface implemented by the inputs which are not performed on behalf of an end user waiting for their result.
+ *
+ * <p>
+ *     Such inputs, like the persistence of the layout of a diagram computed by the frontend, are handled after the
+ *     other inputs waiting for the same editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IBackgroundInput extends IInput {
+
+    /**
+     * Indicates if this input should be handled after the other inputs, it is decided when the input is dispatched and
+     * it can thus depend on its content.
+     *
+     * @return <code>true</code> if the input should be handled after the other inputs, <code>false</code> otherwise
+     */
+    default boolean isBackground() {
+        return true;
+    }
+}
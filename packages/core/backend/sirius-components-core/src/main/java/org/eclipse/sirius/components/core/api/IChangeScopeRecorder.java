@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Used to record the identifiers of the semantic elements modified in an editing context while an input is handled.
+ *
+ * @author agent
+ */
+public interface IChangeScopeRecorder {
+
+    void beginRecording(IEditingContext editingContext);
+
+    /**
+     * Returns the identifiers of the semantic elements modified, added to or removed from a container since the
+     * beginning of the recording.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The identifiers of the modified semantic elements or an empty optional if the changes are not recorded or
+     * if some of them cannot be attributed to semantic elements
+     */
+    Optional<Set<String>> getModifiedObjectIds(IEditingContext editingContext);
+
+    void endRecording(IEditingContext editingContext);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IChangeScopeRecorder {
+
+        @Override
+        public void beginRecording(IEditingContext editingContext) {
+        }
+
+        @Override
+        public Optional<Set<String>> getModifiedObjectIds(IEditingContext editingContext) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void endRecording(IEditingContext editingContext) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+import java.util.Optional;
+
+/**
+ * Used to estimate the memory retained by an editing context.
+ *
+ * @author agent
+ */
+public interface IEditingContextSizeEstimator {
+
+    /**
+     * Estimates the memory retained by the given editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The estimated size in bytes or an empty optional if this estimator does not support the editing context
+     */
+    Optional<Long> estimateSize(IEditingContext editingContext);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IEditingContextSizeEstimator {
+
+        @Override
+        public Optional<Long> estimateSize(IEditingContext editingContext) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+import java.util.Optional;
+
+/**
+ * Used to retrieve the modification stamp of a semantic element.
+ *
+ * <p>
+ *     The modification stamp of an object changes every time this object is modified. Two identical modification
+ *     stamps retrieved for the same object thus indicate that this object has not been modified in between.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IModificationStampProvider {
+
+    /**
+     * Returns the modification stamp of the given object.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param object
+     *         The object
+     * @return The modification stamp of the object or an empty optional if the modifications of this object are not
+     * tracked
+     */
+    Optional<Long> getModificationStamp(IEditingContext editingContext, Object object);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IModificationStampProvider {
+
+        @Override
+        public Optional<Long> getModificationStamp(IEditingContext editingContext, Object object) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.api;
+
+/**
+ * Interface implemented by the inputs which only query the state of the editing context.
+ *
+ * <p>
+ *     The handling of such an input must not modify the semantic elements nor the representations of the editing
+ *     context. It may thus be handled before the inputs already waiting for the editing context, but never at the same
+ *     time as another input of the same editing context.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IReadOnlyInput extends IInput {
+}
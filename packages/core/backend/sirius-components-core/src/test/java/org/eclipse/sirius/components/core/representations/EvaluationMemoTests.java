@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.representations.EvaluationMemo;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the memo of the results of the evaluation of the expressions.
+ *
+ * @author agent
+ */
+public class EvaluationMemoTests {
+
+    private static final String EXPRESSION = "aql:self.name";
+
+    @Test
+    public void givenSameVariablesWhenExpressionIsEvaluatedAgainThenItsResultIsReused() {
+        var memo = new EvaluationMemo();
+        var self = new Object();
+        var evaluations = new AtomicInteger();
+
+        Object result = memo.getOrCompute(EXPRESSION, Object.class, List.of(VariableManager.SELF), Map.of(VariableManager.SELF, self, "index", 0), () -> "result" + evaluations.incrementAndGet());
+        Object otherResult = memo.getOrCompute(EXPRESSION, Object.class, List.of(VariableManager.SELF), Map.of(VariableManager.SELF, self, "index", 1), () -> "result" + evaluations.incrementAndGet());
+
+        assertThat(otherResult).isSameAs(result);
+        assertThat(evaluations.get()).isEqualTo(1);
+        assertThat(memo.getHitCount()).isEqualTo(1);
+        assertThat(memo.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenEqualButDistinctVariablesWhenExpressionIsEvaluatedAgainThenItIsComputedAgain() {
+        var memo = new EvaluationMemo();
+        var evaluations = new AtomicInteger();
+
+        memo.getOrCompute(EXPRESSION, Object.class, List.of(VariableManager.SELF), Map.of(VariableManager.SELF, List.of("a")), evaluations::incrementAndGet);
+        memo.getOrCompute(EXPRESSION, Object.class, List.of(VariableManager.SELF), Map.of(VariableManager.SELF, new ArrayList<>(List.of("a"))), evaluations::incrementAndGet);
+
+        assertThat(evaluations.get()).isEqualTo(2);
+        assertThat(memo.getHitCount()).isZero();
+    }
+
+    @Test
+    public void givenOtherExpressionWhenItIsEvaluatedWithTheSameVariablesThenItIsComputed() {
+        var memo = new EvaluationMemo();
+        var self = new Object();
+        var evaluations = new AtomicInteger();
+
+        memo.getOrCompute(EXPRESSION, Object.class, List.of(VariableManager.SELF), Map.of(VariableManager.SELF, self), evaluations::incrementAndGet);
+        memo.getOrCompute("aql:self.label()", Object.class, List.of(VariableManager.SELF), Map.of(VariableManager.SELF, self), evaluations::incrementAndGet);
+        memo.getOrCompute("aql:self.label()", Object.class, List.of(VariableManager.SELF), Map.of(), evaluations::incrementAndGet);
+
+        assertThat(evaluations.get()).isEqualTo(3);
+        assertThat(memo.getMissCount()).isEqualTo(3);
+    }
+}
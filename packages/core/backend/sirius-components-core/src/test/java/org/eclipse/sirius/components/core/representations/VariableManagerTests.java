@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.core.representations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the variable manager.
+ *
+ * @author agent
+ */
+public class VariableManagerTests {
+
+    @Test
+    public void givenNestedScopesWhenVariablesAreRetrievedThenChildVariablesOverrideParentVariables() {
+        VariableManager root = new VariableManager();
+        root.put(VariableManager.SELF, "root");
+        root.put("editingContext", "editingContext");
+
+        VariableManager child = root.createChild();
+        child.put(VariableManager.SELF, "child");
+        child.put("index", 0);
+
+        var expectedVariables = Map.of(VariableManager.SELF, "child", "editingContext", "editingContext", "index", 0);
+        assertThat(child.getVariables()).isEqualTo(expectedVariables);
+        assertThat(child.getVariablesView()).isEqualTo(expectedVariables);
+        assertThat(root.getVariablesView()).isEqualTo(Map.of(VariableManager.SELF, "root", "editingContext", "editingContext"));
+    }
+
+    @Test
+    public void givenVariablesRetrievedAsAMapWhenTheMapIsModifiedThenTheVariableManagerIsNotModified() {
+        VariableManager variableManager = new VariableManager();
+        variableManager.put(VariableManager.SELF, "self");
+
+        var variables = variableManager.getVariables();
+        variables.put(VariableManager.SELF, "other");
+        variables.put("index", 0);
+
+        assertThat(variableManager.get(VariableManager.SELF, String.class)).hasValue("self");
+        assertThat(variableManager.getVariablesView()).doesNotContainKey("index");
+    }
+
+    @Test
+    public void givenAVariablesViewWhenAScopeIsModifiedThenTheViewReflectsTheModification() {
+        VariableManager root = new VariableManager();
+        root.put(VariableManager.SELF, "root");
+        VariableManager child = root.createChild();
+
+        var variablesView = child.getVariablesView();
+        assertThat(variablesView.get(VariableManager.SELF)).isEqualTo("root");
+
+        child.put(VariableManager.SELF, "child");
+        root.put("label", "label");
+
+        assertThat(variablesView.get(VariableManager.SELF)).isEqualTo("child");
+        assertThat(variablesView).containsEntry("label", "label").hasSize(2);
+        assertThat(variablesView.containsKey("missing")).isFalse();
+        assertThat(variablesView.get("missing")).isNull();
+    }
+
+    @Test
+    public void givenAVariablesViewWhenItsEntriesAreIteratedThenTheRedefinedVariablesAreOnlyReturnedOnce() {
+        VariableManager root = new VariableManager();
+        root.put(VariableManager.SELF, "root");
+        root.put("editingContext", "editingContext");
+        VariableManager child = root.createChild();
+        child.put(VariableManager.SELF, "child");
+
+        var entries = child.getVariablesView().entrySet();
+        assertThat(entries).hasSize(2).containsExactlyInAnyOrder(Map.entry(VariableManager.SELF, "child"), Map.entry("editingContext", "editingContext"));
+
+        child.put("index", 0);
+        assertThat(entries).hasSize(3).contains(Map.entry("index", 0));
+    }
+
+    @Test
+    public void givenAVariablesViewWhenItIsModifiedThenAnExceptionIsThrown() {
+        var variablesView = new VariableManager().getVariablesView();
+        assertThatThrownBy(() -> variablesView.put(VariableManager.SELF, "self")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> variablesView.entrySet().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
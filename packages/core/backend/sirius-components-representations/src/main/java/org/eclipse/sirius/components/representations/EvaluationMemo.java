@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.representations;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Used to reuse the results of the evaluation of the expressions without side effect during a single rendering.
+ *
+ * <p>
+ *     A memo can be made available to the expressions evaluated during the rendering of a representation with the
+ *     variable {@link #EVALUATION_MEMO} of the root variable manager. The result of an expression without side effect
+ *     can then be memoized with the identity of the values of the variables used by this expression, it is reused as long
+ *     as the expression is evaluated again with the very same values. Since the memo is held by the variable manager
+ *     of the rendering, it is discarded at the end of the rendering.
+ * </p>
+ *
+ * <p>
+ *     A memo is dedicated to a single rendering and it is not thread safe. The number of results reused and computed
+ *     are kept along with the time spent to compute the results which have been reused.
+ * </p>
+ *
+ * @author agent
+ */
+public class EvaluationMemo {
+
+    /**
+     * The name of the variable containing the memo of the current rendering.
+     */
+    public static final String EVALUATION_MEMO = "evaluationMemo";
+
+    private final Map<MemoKey, MemoizedResult> memoizedResults = new HashMap<>();
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long savedNanos;
+
+    /**
+     * Returns the result memoized for the given expression and the values of the given variables or computes it.
+     *
+     * @param expression
+     *         The expression
+     * @param type
+     *         The type of the result
+     * @param variableNames
+     *         The names of the variables used by the expression
+     * @param variables
+     *         The variables of the evaluation
+     * @param resultSupplier
+     *         Used to compute the result
+     * @return The memoized result or the result computed
+     */
+    public <T> T getOrCompute(Object expression, Class<T> type, Collection<String> variableNames, Map<String, Object> variables, Supplier<T> resultSupplier) {
+        Object[] values = new Object[variableNames.size()];
+        int index = 0;
+        for (String variableName : variableNames) {
+            values[index] = variables.get(variableName);
+            index++;
+        }
+        var key = new MemoKey(Objects.requireNonNull(expression), values);
+
+        var memoizedResult = this.memoizedResults.get(key);
+        if (memoizedResult != null && type.isInstance(memoizedResult.result())) {
+            this.hitCount++;
+            this.savedNanos += memoizedResult.computationNanos();
+            return type.cast(memoizedResult.result());
+        }
+
+        this.missCount++;
+        long start = System.nanoTime();
+        T result = resultSupplier.get();
+        this.memoizedResults.put(key, new MemoizedResult(result, System.nanoTime() - start));
+        return result;
+    }
+
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the time which would have been spent to compute again the results which have been reused.
+     *
+     * @return A number of nanoseconds
+     */
+    public long getSavedNanos() {
+        return this.savedNanos;
+    }
+
+    /**
+     * The key of a memoized result, the values of the variables are compared by identity.
+     *
+     * @author agent
+     */
+    private static final class MemoKey {
+
+        private final Object expression;
+
+        private final Object[] values;
+
+        private final int hashCode;
+
+        private MemoKey(Object expression, Object[] values) {
+            this.expression = expression;
+            this.values = values;
+
+            int result = expression.hashCode();
+            for (Object value : values) {
+                result = 31 * result + System.identityHashCode(value);
+            }
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            boolean isEqual = false;
+            if (object instanceof MemoKey memoKey && this.hashCode == memoKey.hashCode && this.expression.equals(memoKey.expression) && this.values.length == memoKey.values.length) {
+                isEqual = true;
+                for (int i = 0; i < this.values.length && isEqual; i++) {
+                    isEqual = this.values[i] == memoKey.values[i];
+                }
+            }
+            return isEqual;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * A memoized result with the time spent to compute it.
+     *
+     * @author agent
+     */
+    private record MemoizedResult(Object result, long computationNanos) {
+    }
+}
@@ -12,9 +12,19 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.representations;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.sirius.components.annotations.PublicApi;
 
@@ -29,6 +39,13 @@ import org.eclipse.sirius.components.annotations.PublicApi;
  * </p>
  *
  * <p>
+ *     The variables visible from a scope can be retrieved either as a new map with {@link #getVariables()} or as a
+ *     read-only view with {@link #getVariablesView()}. The view does not copy the variables of the scope and of its
+ *     parents, it should thus be preferred when the variables only have to be read, for example to evaluate an
+ *     expression.
+ * </p>
+ *
+ * <p>
  *     This concept was first introduced and validated in Eclipse EEF and leveraged in Sirius Desktop.
  * </p>
  *
@@ -59,6 +76,11 @@ public class VariableManager {
      */
     private Map<String, Object> variables = new HashMap<>();
 
+    /**
+     * The read-only view of the variables visible from this scope, created on demand.
+     */
+    private Map<String, Object> variablesView;
+
     /**
      * The constructor.
      */
@@ -81,13 +103,48 @@ public class VariableManager {
         return previous;
     }
 
+    /**
+     * Returns a new map containing the variables of this scope and of its parents.
+     *
+     * @return A new map of variables which can be modified by the caller
+     */
     public Map<String, Object> getVariables() {
-        if (this.parent != null) {
-            Map<String, Object> parentVariables = this.parent.getVariables();
-            parentVariables.putAll(this.variables);
-            return parentVariables;
+        Deque<Map<String, Object>> scopes = new ArrayDeque<>();
+        VariableManager current = this;
+        while (current != null) {
+            scopes.push(current.variables);
+            current = current.parent;
+        }
+
+        Map<String, Object> allVariables = new HashMap<>();
+        while (!scopes.isEmpty()) {
+            allVariables.putAll(scopes.pop());
         }
-        return new HashMap<>(this.variables);
+        return allVariables;
+    }
+
+    /**
+     * Returns a read-only view of the variables of this scope and of its parents.
+     *
+     * <p>
+     *     Contrary to {@link #getVariables()}, the variables are not copied. The view reflects the later modifications of
+     *     this scope and of its parents.
+     * </p>
+     *
+     * <p>
+     *     The view is not a persistent map with structural sharing since the scopes remain mutable once their children
+     *     have been created and the view has to reflect these modifications. Looking up a variable in the view costs
+     *     O(d) with d the depth of the scope while iterating on it or computing its size costs O(n) with n the number
+     *     of variables of the scope and of its parents, only the names already visited are retained by the iteration.
+     * </p>
+     *
+     * @return A read-only view of the variables
+     */
+    public Map<String, Object> getVariablesView() {
+        if (this.variablesView == null) {
+            this.variablesView = new VariablesView(this);
+        }
+        return this.variablesView;
     }
 
     public <T> Optional<T> get(String name, Class<T> expectedType) {
@@ -104,6 +161,14 @@ public class VariableManager {
         return value;
     }
 
+    private VariableManager findScope(Object name) {
+        VariableManager current = this;
+        while (current != null && !current.variables.containsKey(name)) {
+            current = current.parent;
+        }
+        return current;
+    }
+
     public VariableManager getParent() {
         return this.parent;
     }
@@ -131,4 +196,79 @@ public class VariableManager {
         }
         return stringBuilder.toString();
     }
+
+    /**
+     * Read-only view of the variables of a variable manager and of its parents.
+     *
+     * <p>
+     *     Single variables are looked up in the scopes from the variable manager to the root one. Iterating on the view
+     *     walks these scopes too, without merging their variables in a new map.
+     * </p>
+     *
+     * @author agent
+     */
+    private static final class VariablesView extends AbstractMap<String, Object> {
+
+        private final VariableManager variableManager;
+
+        VariablesView(VariableManager variableManager) {
+            this.variableManager = variableManager;
+        }
+
+        @Override
+        public Object get(Object key) {
+            VariableManager scope = this.variableManager.findScope(key);
+            if (scope != null) {
+                return scope.variables.get(key);
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return this.variableManager.findScope(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableSet(new VariablesEntrySet(this.variableManager));
+        }
+    }
+
+    /**
+     * Read-only view of the variables visible from a variable manager as a set of entries.
+     *
+     * <p>
+     *     The scopes are iterated from the variable manager to the root one and the variables redefined by a child scope
+     *     are skipped thanks to the names already visited, the variables are thus never copied in a new map.
+     * </p>
+     *
+     * @author agent
+     */
+    private static final class VariablesEntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        private final VariableManager variableManager;
+
+        VariablesEntrySet(VariableManager variableManager) {
+            this.variableManager = variableManager;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return this.entries().iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) this.entries().count();
+        }
+
+        private Stream<Map.Entry<String, Object>> entries() {
+            Set<String> visitedNames = new HashSet<>();
+            return Stream.iterate(this.variableManager, Objects::nonNull, VariableManager::getParent)
+                    .flatMap(scope -> scope.variables.entrySet().stream())
+                    .filter(entry -> visitedNames.add(entry.getKey()))
+                    .map(AbstractMap.SimpleImmutableEntry::new);
+        }
+    }
 }
@@ -18,6 +18,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.eclipse.sirius.components.collaborative.api.Monitoring;
@@ -37,13 +38,16 @@ import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.components.diagrams.renderer.IEdgeAppearanceHandler;
 import org.eclipse.sirius.components.diagrams.renderer.INodeAppearanceHandler;
 import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.EvaluationMemo;
 import org.eclipse.sirius.components.representations.IOperationValidator;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -66,10 +70,19 @@ public class DiagramCreationService implements IDiagramCreationService {
 
     private final Timer timer;
 
+    private final boolean evaluationMemo;
+
+    private final Counter evaluationMemoHitCounter;
+
+    private final Counter evaluationMemoMissCounter;
+
+    private final Timer evaluationMemoSavedTimer;
+
     private final Logger logger = LoggerFactory.getLogger(DiagramCreationService.class);
 
     public DiagramCreationService(IRepresentationDescriptionSearchService representationDescriptionSearchService, IObjectSearchService objectSearchService,
-                                  IOperationValidator operationValidator, List<INodeAppearanceHandler> nodeAppearanceHandlers, List<IEdgeAppearanceHandler> edgeAppearanceHandlers, MeterRegistry meterRegistry) {
+                                  IOperationValidator operationValidator, List<INodeAppearanceHandler> nodeAppearanceHandlers, List<IEdgeAppearanceHandler> edgeAppearanceHandlers, MeterRegistry meterRegistry,
+                                  @Value("${sirius.components.diagram.evaluationMemo:false}") boolean evaluationMemo) {
         this.representationDescriptionSearchService = Objects.requireNonNull(representationDescriptionSearchService);
         this.objectSearchService = Objects.requireNonNull(objectSearchService);
         this.operationValidator = Objects.requireNonNull(operationValidator);
@@ -78,6 +91,18 @@ public class DiagramCreationService implements IDiagramCreationService {
         this.timer = Timer.builder(Monitoring.REPRESENTATION_EVENT_PROCESSOR_REFRESH)
                 .tag(Monitoring.NAME, "diagram")
                 .register(meterRegistry);
+        this.evaluationMemo = evaluationMemo;
+        this.evaluationMemoHitCounter = Counter.builder(Monitoring.EVALUATION_MEMO_REQUESTS)
+                .description("Number of results of pure expressions reused or computed during the rendering of the diagrams")
+                .tag(Monitoring.OUTCOME, Monitoring.OUTCOME_HIT)
+                .register(meterRegistry);
+        this.evaluationMemoMissCounter = Counter.builder(Monitoring.EVALUATION_MEMO_REQUESTS)
+                .description("Number of results of pure expressions reused or computed during the rendering of the diagrams")
+                .tag(Monitoring.OUTCOME, Monitoring.OUTCOME_MISS)
+                .register(meterRegistry);
+        this.evaluationMemoSavedTimer = Monitoring.timer(Monitoring.TIMER_EVALUATION_MEMO_SAVED)
+                .description("Time which would have been spent to compute again the results of pure expressions reused during the rendering of a diagram")
+                .register(meterRegistry);
     }
 
     @Override
@@ -89,11 +114,20 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .map(DiagramDescription.class::cast)
                 .toList();
 
-        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty());
+        return this.doRender(targetObject, editingContext, diagramDescription, allDiagramDescriptions, Optional.empty(), Optional.empty());
     }
 
     @Override
     public Optional<Diagram> refresh(IEditingContext editingContext, DiagramContext diagramContext) {
+        return this.refresh(editingContext, diagramContext, Optional.empty());
+    }
+
+    @Override
+    public Optional<Diagram> refresh(IEditingContext editingContext, DiagramContext diagramContext, DiagramRenderingMemo renderingMemo) {
+        return this.refresh(editingContext, diagramContext, Optional.of(renderingMemo));
+    }
+
+    private Optional<Diagram> refresh(IEditingContext editingContext, DiagramContext diagramContext, Optional<DiagramRenderingMemo> optionalRenderingMemo) {
         Diagram previousDiagram = diagramContext.diagram();
 
         var optionalObject = this.objectSearchService.getObject(editingContext, previousDiagram.getTargetObjectId());
@@ -111,13 +145,14 @@ public class DiagramCreationService implements IDiagramCreationService {
         if (optionalObject.isPresent() && optionalDiagramDescription.isPresent()) {
             Object object = optionalObject.get();
             DiagramDescription diagramDescription = optionalDiagramDescription.get();
-            Diagram diagram = this.doRender(object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext));
+            Diagram diagram = this.doRender(object, editingContext, diagramDescription, allDiagramDescriptions, Optional.of(diagramContext), optionalRenderingMemo);
             return Optional.of(diagram);
         }
         return Optional.empty();
     }
 
-    private Diagram doRender(Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<DiagramContext> optionalDiagramContext) {
+    private Diagram doRender(Object targetObject, IEditingContext editingContext, DiagramDescription diagramDescription, List<DiagramDescription> allDiagramDescriptions, Optional<DiagramContext> optionalDiagramContext,
+                             Optional<DiagramRenderingMemo> optionalRenderingMemo) {
         long start = System.currentTimeMillis();
 
         VariableManager variableManager = new VariableManager();
@@ -127,6 +162,13 @@ public class DiagramCreationService implements IDiagramCreationService {
         variableManager.put(DiagramContext.DIAGRAM_CONTEXT, optionalDiagramContext.orElse(null));
         variableManager.put(IDiagramService.DIAGRAM_SERVICES, new DiagramService(optionalDiagramContext.orElse(null)));
 
+        // The memo is only referenced by the variables of this rendering, it is discarded at its end
+        Optional<EvaluationMemo> optionalEvaluationMemo = Optional.empty();
+        if (this.evaluationMemo) {
+            optionalEvaluationMemo = Optional.of(new EvaluationMemo());
+            variableManager.put(EvaluationMemo.EVALUATION_MEMO, optionalEvaluationMemo.get());
+        }
+
         List<IDiagramEvent> diagramEvents = optionalDiagramContext.map(DiagramContext::diagramEvents).orElse(List.of());
         Optional<Diagram> optionalPreviousDiagram = optionalDiagramContext.map(DiagramContext::diagram);
         List<ViewCreationRequest> viewCreationRequests = optionalDiagramContext.map(DiagramContext::viewCreationRequests).orElse(List.of());
@@ -142,12 +184,14 @@ public class DiagramCreationService implements IDiagramCreationService {
                 .previousDiagram(optionalPreviousDiagram)
                 .diagramEvents(diagramEvents)
                 .nodeAppearanceHandlers(this.nodeAppearanceHandlers)
-                .edgeAppearanceHandlers(this.edgeAppearanceHandlers);
+                .edgeAppearanceHandlers(this.edgeAppearanceHandlers)
+                .renderingMemo(optionalRenderingMemo);
 
         DiagramComponentProps props = builder.build();
         Element element = new Element(DiagramComponent.class, props);
 
         Diagram newDiagram = new DiagramRenderer().render(element);
+        optionalEvaluationMemo.ifPresent(this::recordEvaluationMemo);
 
         var newLayoutData = optionalPreviousDiagram.map(Diagram::getLayoutData).orElse(new DiagramLayoutData(Map.of(), Map.of(), Map.of()));
         newDiagram = Diagram.newDiagram(newDiagram)
@@ -160,4 +204,11 @@ public class DiagramCreationService implements IDiagramCreationService {
 
         return newDiagram;
     }
+
+    private void recordEvaluationMemo(EvaluationMemo memo) {
+        this.evaluationMemoHitCounter.increment(memo.getHitCount());
+        this.evaluationMemoMissCounter.increment(memo.getMissCount());
+        this.evaluationMemoSavedTimer.record(memo.getSavedNanos(), TimeUnit.NANOSECONDS);
+        this.logger.trace("{} results of pure expressions reused and {} computed, {}ms saved", memo.getHitCount(), memo.getMissCount(), TimeUnit.NANOSECONDS.toMillis(memo.getSavedNanos()));
+    }
 }
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+
+/**
+ * Used to rebuild the new version of a diagram from its previous version and a delta.
+ *
+ * <p>
+ *     Nothing is returned if the delta references nodes or edges unknown in the previous version of the diagram, the
+ *     whole diagram should then be retrieved again.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramDeltaApplier {
+
+    public Optional<Diagram> apply(Diagram previousDiagram, DiagramDeltaEventPayload delta) {
+        Map<String, NodeDelta> nodes = new LinkedHashMap<>();
+        previousDiagram.getNodes().forEach(node -> this.collect(node, nodes));
+        delta.removedNodeIds().forEach(nodes::remove);
+        delta.upsertedNodes().forEach(nodeDelta -> nodes.put(nodeDelta.node().getId(), nodeDelta));
+
+        List<String> rootNodeIds = Optional.ofNullable(delta.rootNodeIds())
+                .orElseGet(() -> previousDiagram.getNodes().stream().map(Node::getId).toList());
+        Optional<List<Node>> optionalRootNodes = this.build(rootNodeIds, nodes);
+
+        Map<String, Edge> edges = new LinkedHashMap<>();
+        previousDiagram.getEdges().forEach(edge -> edges.put(edge.getId(), edge));
+        delta.removedEdgeIds().forEach(edges::remove);
+        delta.upsertedEdges().forEach(edge -> edges.put(edge.getId(), edge));
+
+        List<String> edgeIds = Optional.ofNullable(delta.edgeIds())
+                .orElseGet(() -> previousDiagram.getEdges().stream().map(Edge::getId).toList());
+        if (optionalRootNodes.isEmpty() || !edges.keySet().containsAll(edgeIds)) {
+            return Optional.empty();
+        }
+        List<Edge> newEdges = edgeIds.stream()
+                .map(edges::get)
+                .toList();
+
+        var previousLayoutData = previousDiagram.getLayoutData();
+        var nodeLayoutData = new LinkedHashMap<>(previousLayoutData.nodeLayoutData());
+        var edgeLayoutData = new LinkedHashMap<>(previousLayoutData.edgeLayoutData());
+        var labelLayoutData = new LinkedHashMap<>(previousLayoutData.labelLayoutData());
+        delta.removedLayoutDataIds().forEach(id -> {
+            nodeLayoutData.remove(id);
+            edgeLayoutData.remove(id);
+            labelLayoutData.remove(id);
+        });
+        delta.layoutData().nodeLayoutData().forEach(layoutData -> nodeLayoutData.put(layoutData.id(), layoutData));
+        delta.layoutData().edgeLayoutData().forEach(layoutData -> edgeLayoutData.put(layoutData.id(), layoutData));
+        delta.layoutData().labelLayoutData().forEach(layoutData -> labelLayoutData.put(layoutData.id(), layoutData));
+
+        Diagram diagram = Diagram.newDiagram(previousDiagram)
+                .nodes(optionalRootNodes.get())
+                .edges(newEdges)
+                .layoutData(new DiagramLayoutData(nodeLayoutData, edgeLayoutData, labelLayoutData))
+                .build();
+        return Optional.of(diagram);
+    }
+
+    private void collect(Node node, Map<String, NodeDelta> nodes) {
+        List<String> childNodeIds = node.getChildNodes().stream().map(Node::getId).toList();
+        List<String> borderNodeIds = node.getBorderNodes().stream().map(Node::getId).toList();
+        nodes.put(node.getId(), new NodeDelta(node, childNodeIds, borderNodeIds));
+
+        node.getBorderNodes().forEach(borderNode -> this.collect(borderNode, nodes));
+        node.getChildNodes().forEach(childNode -> this.collect(childNode, nodes));
+    }
+
+    private Optional<List<Node>> build(List<String> nodeIds, Map<String, NodeDelta> nodes) {
+        List<Optional<Node>> optionalNodes = nodeIds.stream()
+                .map(nodeId -> this.build(nodeId, nodes))
+                .toList();
+        if (optionalNodes.stream().allMatch(Optional::isPresent)) {
+            return Optional.of(optionalNodes.stream().map(Optional::get).toList());
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Node> build(String nodeId, Map<String, NodeDelta> nodes) {
+        return Optional.ofNullable(nodes.get(nodeId)).flatMap(nodeDelta -> {
+            var optionalBorderNodes = this.build(nodeDelta.borderNodeIds(), nodes);
+            var optionalChildNodes = this.build(nodeDelta.childNodeIds(), nodes);
+            if (optionalBorderNodes.isEmpty() || optionalChildNodes.isEmpty()) {
+                return Optional.empty();
+            }
+            Node node = Node.newNode(nodeDelta.node())
+                    .borderNodes(optionalBorderNodes.get())
+                    .childNodes(optionalChildNodes.get())
+                    .build();
+            return Optional.of(node);
+        });
+    }
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramLayoutDataPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.NodeDelta;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.LabelLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+
+/**
+ * Used to compute the delta between two versions of a diagram.
+ *
+ * <p>
+ *     Nodes and edges are matched by identifier. Since the diagram elements do not implement equality, their content is
+ *     compared using their JSON representation. A node is compared without its child nodes and border nodes, it is
+ *     only considered modified if its own content or the identifiers of its children have changed. The snapshot of a
+ *     diagram can be kept to compare it with the next version without serializing it again.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramDeltaComputer {
+
+    private final ObjectMapper objectMapper;
+
+    public DiagramDeltaComputer(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    public DiagramSnapshot snapshot(Diagram diagram) {
+        Map<String, NodeSnapshot> nodes = new LinkedHashMap<>();
+        diagram.getNodes().forEach(node -> this.snapshot(node, nodes));
+
+        Map<String, EdgeSnapshot> edges = new LinkedHashMap<>();
+        for (Edge edge : diagram.getEdges()) {
+            edges.put(edge.getId(), new EdgeSnapshot(edge, this.objectMapper.valueToTree(edge)));
+        }
+
+        List<String> rootNodeIds = diagram.getNodes().stream().map(Node::getId).toList();
+        List<String> edgeIds = diagram.getEdges().stream().map(Edge::getId).toList();
+        return new DiagramSnapshot(diagram, rootNodeIds, nodes, edgeIds, edges);
+    }
+
+    private void snapshot(Node node, Map<String, NodeSnapshot> nodes) {
+        Node shallowNode = Node.newNode(node)
+                .childNodes(List.of())
+                .borderNodes(List.of())
+                .build();
+        List<String> childNodeIds = node.getChildNodes().stream().map(Node::getId).toList();
+        List<String> borderNodeIds = node.getBorderNodes().stream().map(Node::getId).toList();
+        nodes.put(node.getId(), new NodeSnapshot(shallowNode, this.objectMapper.valueToTree(shallowNode), childNodeIds, borderNodeIds));
+
+        node.getBorderNodes().forEach(borderNode -> this.snapshot(borderNode, nodes));
+        node.getChildNodes().forEach(childNode -> this.snapshot(childNode, nodes));
+    }
+
+    public DiagramDeltaEventPayload computeDelta(UUID id, String cause, ReferencePosition referencePosition, DiagramSnapshot previousSnapshot, DiagramSnapshot newSnapshot) {
+        List<NodeDelta> upsertedNodes = new ArrayList<>();
+        newSnapshot.nodes().forEach((nodeId, nodeSnapshot) -> {
+            var previousNodeSnapshot = previousSnapshot.nodes().get(nodeId);
+            if (previousNodeSnapshot == null || !previousNodeSnapshot.isSameAs(nodeSnapshot)) {
+                upsertedNodes.add(new NodeDelta(nodeSnapshot.shallowNode(), nodeSnapshot.childNodeIds(), nodeSnapshot.borderNodeIds()));
+            }
+        });
+        List<String> removedNodeIds = this.getRemovedIds(previousSnapshot.nodes(), newSnapshot.nodes());
+
+        List<Edge> upsertedEdges = new ArrayList<>();
+        newSnapshot.edges().forEach((edgeId, edgeSnapshot) -> {
+            var previousEdgeSnapshot = previousSnapshot.edges().get(edgeId);
+            if (previousEdgeSnapshot == null || !previousEdgeSnapshot.content().equals(edgeSnapshot.content())) {
+                upsertedEdges.add(edgeSnapshot.edge());
+            }
+        });
+        List<String> removedEdgeIds = this.getRemovedIds(previousSnapshot.edges(), newSnapshot.edges());
+
+        List<String> rootNodeIds = null;
+        if (!previousSnapshot.rootNodeIds().equals(newSnapshot.rootNodeIds())) {
+            rootNodeIds = newSnapshot.rootNodeIds();
+        }
+        List<String> edgeIds = null;
+        if (!previousSnapshot.edgeIds().equals(newSnapshot.edgeIds())) {
+            edgeIds = newSnapshot.edgeIds();
+        }
+
+        var previousLayoutData = previousSnapshot.diagram().getLayoutData();
+        var newLayoutData = newSnapshot.diagram().getLayoutData();
+        List<NodeLayoutData> nodeLayoutData = this.getUpsertedValues(previousLayoutData.nodeLayoutData(), newLayoutData.nodeLayoutData());
+        List<EdgeLayoutData> edgeLayoutData = this.getUpsertedValues(previousLayoutData.edgeLayoutData(), newLayoutData.edgeLayoutData());
+        List<LabelLayoutData> labelLayoutData = this.getUpsertedValues(previousLayoutData.labelLayoutData(), newLayoutData.labelLayoutData());
+        var layoutData = new DiagramLayoutDataPayload(nodeLayoutData, edgeLayoutData, labelLayoutData);
+
+        List<String> removedLayoutDataIds = new ArrayList<>();
+        removedLayoutDataIds.addAll(this.getRemovedIds(previousLayoutData.nodeLayoutData(), newLayoutData.nodeLayoutData()));
+        removedLayoutDataIds.addAll(this.getRemovedIds(previousLayoutData.edgeLayoutData(), newLayoutData.edgeLayoutData()));
+        removedLayoutDataIds.addAll(this.getRemovedIds(previousLayoutData.labelLayoutData(), newLayoutData.labelLayoutData()));
+
+        return new DiagramDeltaEventPayload(id, cause, referencePosition, rootNodeIds, upsertedNodes, removedNodeIds, edgeIds, upsertedEdges, removedEdgeIds, layoutData, removedLayoutDataIds);
+    }
+
+    private List<String> getRemovedIds(Map<String, ?> previousValues, Map<String, ?> newValues) {
+        return previousValues.keySet().stream()
+                .filter(id -> !newValues.containsKey(id))
+                .toList();
+    }
+
+    private <T> List<T> getUpsertedValues(Map<String, T> previousValues, Map<String, T> newValues) {
+        return newValues.entrySet().stream()
+                .filter(entry -> !Objects.equals(previousValues.get(entry.getKey()), entry.getValue()))
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * The snapshot of a diagram.
+     *
+     * @author agent
+     */
+    public record DiagramSnapshot(Diagram diagram, List<String> rootNodeIds, Map<String, NodeSnapshot> nodes, List<String> edgeIds, Map<String, EdgeSnapshot> edges) {
+    }
+
+    /**
+     * The snapshot of a node, without its child nodes and border nodes.
+     *
+     * @author agent
+     */
+    public record NodeSnapshot(Node shallowNode, JsonNode content, List<String> childNodeIds, List<String> borderNodeIds) {
+
+        public boolean isSameAs(NodeSnapshot nodeSnapshot) {
+            return this.content.equals(nodeSnapshot.content())
+                    && this.childNodeIds.equals(nodeSnapshot.childNodeIds())
+                    && this.borderNodeIds.equals(nodeSnapshot.borderNodeIds());
+        }
+    }
+
+    /**
+     * The snapshot of an edge.
+     *
+     * @author agent
+     */
+    public record EdgeSnapshot(Edge edge, JsonNode content) {
+    }
+}
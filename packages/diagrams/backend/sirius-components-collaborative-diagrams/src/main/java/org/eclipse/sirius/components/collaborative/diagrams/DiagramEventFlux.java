@@ -14,7 +14,10 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.sirius.components.collaborative.diagrams.DiagramDeltaComputer.DiagramSnapshot;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.ReferencePosition;
 import org.eclipse.sirius.components.core.api.IPayload;
@@ -32,6 +35,12 @@ import reactor.core.publisher.Sinks.Many;
 /**
  * Service used to manage the diagram event flux.
  *
+ * <p>
+ *     Subscribers can either receive the whole diagram after each refresh or only the delta with the previous version of
+ *     the diagram. The delta is computed once for all the subscribers. A subscriber which has missed a delta, for
+ *     example because it has subscribed during a refresh, receives the whole diagram again in order to resynchronize.
+ * </p>
+ *
  * @author sbegaudeau
  */
 public class DiagramEventFlux {
@@ -40,14 +49,23 @@ public class DiagramEventFlux {
 
     private final Many<IPayload> sink = Sinks.many().multicast().directBestEffort();
 
+    private final Many<DiagramDelta> deltaSink = Sinks.many().multicast().directBestEffort();
+
+    private final DiagramDeltaComputer diagramDeltaComputer;
+
     private Diagram currentDiagram;
 
-    public DiagramEventFlux(Diagram currentDiagram) {
+    private DiagramSnapshot currentSnapshot;
+
+    public DiagramEventFlux(Diagram currentDiagram, DiagramDeltaComputer diagramDeltaComputer) {
         this.currentDiagram = Objects.requireNonNull(currentDiagram);
+        this.diagramDeltaComputer = Objects.requireNonNull(diagramDeltaComputer);
     }
 
     public void diagramRefreshed(UUID id, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
+        Diagram previousDiagram = this.currentDiagram;
         this.currentDiagram = newDiagram;
+        this.emitDelta(id, previousDiagram, newDiagram, cause, referencePosition);
         if (this.sink.currentSubscriberCount() > 0) {
             this.logger.atDebug()
                     .setMessage("Diagram {} sent with {} nodes and {} edges")
@@ -64,21 +82,87 @@ public class DiagramEventFlux {
         }
     }
 
+    private void emitDelta(UUID id, Diagram previousDiagram, Diagram newDiagram, String cause, ReferencePosition referencePosition) {
+        if (this.deltaSink.currentSubscriberCount() > 0) {
+            DiagramSnapshot previousSnapshot = this.currentSnapshot;
+            if (previousSnapshot == null || previousSnapshot.diagram() != previousDiagram) {
+                previousSnapshot = this.diagramDeltaComputer.snapshot(previousDiagram);
+            }
+            DiagramSnapshot newSnapshot = this.diagramDeltaComputer.snapshot(newDiagram);
+            this.currentSnapshot = newSnapshot;
+
+            var payload = this.diagramDeltaComputer.computeDelta(id, cause, referencePosition, previousSnapshot, newSnapshot);
+            EmitResult emitResult = this.deltaSink.tryEmitNext(new DiagramDelta(previousDiagram, newDiagram, payload));
+            if (emitResult.isFailure()) {
+                String pattern = "An error has occurred while emitting a DiagramDeltaEventPayload: {}";
+                this.logger.warn(pattern, emitResult);
+            }
+        } else {
+            this.currentSnapshot = null;
+        }
+    }
+
     private int countChildNodes(Node node) {
         return node.getChildNodes().size() + node.getChildNodes().stream().map(this::countChildNodes).reduce(0, Integer::sum);
     }
 
     public Flux<IPayload> getFlux(UUID id, String cause) {
+        return this.getFlux(id, cause, false);
+    }
+
+    public Flux<IPayload> getFlux(UUID id, String cause, boolean deltas) {
+        if (deltas) {
+            return Flux.defer(() -> this.getDeltaFlux(id, cause));
+        }
         var initialRefresh = Mono.fromCallable(() -> new DiagramRefreshedEventPayload(id, this.currentDiagram, cause, null));
         return Flux.concat(initialRefresh, this.sink.asFlux());
     }
 
+    private Flux<IPayload> getDeltaFlux(UUID id, String cause) {
+        Diagram initialDiagram = this.currentDiagram;
+        AtomicReference<Diagram> lastDiagramSent = new AtomicReference<>(initialDiagram);
+
+        var initialRefresh = Mono.<IPayload>just(new DiagramRefreshedEventPayload(id, initialDiagram, cause, null));
+        var deltas = this.deltaSink.asFlux()
+                .filter(diagramDelta -> diagramDelta.newDiagram() != lastDiagramSent.get())
+                .map(diagramDelta -> {
+                    IPayload payload = diagramDelta.payload();
+                    if (diagramDelta.previousDiagram() != lastDiagramSent.get()) {
+                        var delta = diagramDelta.payload();
+                        payload = new DiagramRefreshedEventPayload(delta.id(), diagramDelta.newDiagram(), delta.cause(), delta.referencePosition());
+                    }
+                    lastDiagramSent.set(diagramDelta.newDiagram());
+                    return payload;
+                });
+        return Flux.concat(initialRefresh, deltas);
+    }
+
     public void dispose() {
         EmitResult emitResult = this.sink.tryEmitComplete();
         if (emitResult.isFailure()) {
             String pattern = "An error has occurred while marking the publisher as complete: {}";
             this.logger.warn(pattern, emitResult);
         }
+        emitResult = this.deltaSink.tryEmitComplete();
+        if (emitResult.isFailure()) {
+            String pattern = "An error has occurred while marking the publisher of the deltas as complete: {}";
+            this.logger.warn(pattern, emitResult);
+        }
+    }
+
+    /**
+     * The delta between two versions of the diagram.
+     *
+     * @param previousDiagram
+     *         The diagram on which the delta applies
+     * @param newDiagram
+     *         The diagram obtained once the delta is applied
+     * @param payload
+     *         The payload sent to the subscribers
+     *
+     * @author agent
+     */
+    private record DiagramDelta(Diagram previousDiagram, Diagram newDiagram, DiagramDeltaEventPayload payload) {
     }
 
 }
@@ -12,8 +12,10 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -30,6 +32,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventProcessor;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.EdgeLayoutDataInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LabelLayoutDataInput;
@@ -43,11 +46,14 @@ import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchSe
 import org.eclipse.sirius.components.core.api.IRepresentationInput;
 import org.eclipse.sirius.components.core.api.SuccessPayload;
 import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Edge;
+import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
 import org.eclipse.sirius.components.diagrams.layoutdata.EdgeLayoutData;
 import org.eclipse.sirius.components.diagrams.layoutdata.LabelLayoutData;
 import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +95,14 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
 
     private final List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders;
 
+    private final Optional<DiagramRenderingMemo> optionalRenderingMemo;
+
+    private final boolean changeScopeFiltering;
+
+    private Diagram renderedObjectIdsDiagram;
+
+    private Set<String> renderedObjectIds = Set.of();
+
     private DiagramContext diagramContext;
 
     private UUID currentRevisionId = UUID.randomUUID();
@@ -109,13 +123,15 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         this.diagramCreationService = parameters.diagramCreationService();
         this.diagramInputReferencePositionProviders = parameters.diagramInputReferencePositionProviders();
         this.diagramEventConsumers = parameters.diagramEventConsumers();
+        this.optionalRenderingMemo = parameters.renderingMemo();
+        this.changeScopeFiltering = parameters.changeScopeFiltering();
 
         // We automatically refresh the representation before using it since things may have changed since the moment it
         // has been saved in the database. This is quite similar to the auto-refresh on loading in Sirius.
-        Diagram diagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+        Diagram diagram = this.refreshDiagram().orElse(null);
         this.representationPersistenceService.save(null, this.editingContext, diagram);
         this.diagramContext = new DiagramContext(diagram, this.diagramContext.viewCreationRequests(), this.diagramContext.viewDeletionRequests(), this.diagramContext.diagramEvents());
-        this.diagramEventFlux = new DiagramEventFlux(diagram);
+        this.diagramEventFlux = new DiagramEventFlux(diagram, parameters.diagramDeltaComputer());
 
         if (diagram != null) {
             this.logger.trace("Diagram refreshed: {})", diagram.getId());
@@ -191,12 +207,18 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         }
     }
 
+    private Optional<Diagram> refreshDiagram() {
+        return this.optionalRenderingMemo
+                .map(renderingMemo -> this.diagramCreationService.refresh(this.editingContext, this.diagramContext, renderingMemo))
+                .orElseGet(() -> this.diagramCreationService.refresh(this.editingContext, this.diagramContext));
+    }
+
     @Override
     public void refresh(ChangeDescription changeDescription) {
         if (this.shouldRefresh(changeDescription)) {
             this.diagramEventConsumers.forEach(consumer -> consumer.accept(this.editingContext, this.diagramContext.diagram(), this.diagramContext.diagramEvents(), this.diagramContext.viewDeletionRequests(), this.diagramContext.viewCreationRequests(), changeDescription));
 
-            Diagram refreshedDiagram = this.diagramCreationService.refresh(this.editingContext, this.diagramContext).orElse(null);
+            Diagram refreshedDiagram = this.refreshDiagram().orElse(null);
             this.representationPersistenceService.save(changeDescription.getInput(), this.editingContext, refreshedDiagram);
 
             if (refreshedDiagram != null) {
@@ -253,7 +275,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     private IRepresentationRefreshPolicy getDefaultRefreshPolicy() {
         return changeDescription -> {
             boolean shouldRefresh = false;
-            shouldRefresh = shouldRefresh || ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind());
+            shouldRefresh = shouldRefresh || ChangeKind.SEMANTIC_CHANGE.equals(changeDescription.getKind()) && this.isInChangeScope(changeDescription);
             if (!shouldRefresh && changeDescription.getSourceId().equals(this.diagramContext.diagram().getId())) {
                 shouldRefresh = shouldRefresh || DiagramChangeKind.DIAGRAM_APPEARANCE_CHANGE.equals(changeDescription.getKind());
                 shouldRefresh = shouldRefresh || DiagramChangeKind.DIAGRAM_LAYOUT_CHANGE.equals(changeDescription.getKind());
@@ -264,6 +286,45 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
         };
     }
 
+    /**
+     * With the change scope filtering, a semantic change coming from another representation is ignored if none of the
+     * semantic elements it has modified are displayed by this diagram. It assumes that the diagram does not depend on
+     * the other semantic elements, for example to compute the semantic candidates or the labels of its elements.
+     */
+    private boolean isInChangeScope(ChangeDescription changeDescription) {
+        boolean isInChangeScope = !this.changeScopeFiltering;
+        isInChangeScope = isInChangeScope || changeDescription.getSourceId().equals(this.diagramContext.diagram().getId());
+        isInChangeScope = isInChangeScope || !this.diagramContext.diagramEvents().isEmpty();
+        isInChangeScope = isInChangeScope || !this.diagramContext.viewCreationRequests().isEmpty();
+        isInChangeScope = isInChangeScope || !this.diagramContext.viewDeletionRequests().isEmpty();
+        isInChangeScope = isInChangeScope || changeDescription.mayConcern(this.getRenderedObjectIds());
+        return isInChangeScope;
+    }
+
+    private Set<String> getRenderedObjectIds() {
+        Diagram diagram = this.diagramContext.diagram();
+        if (diagram != this.renderedObjectIdsDiagram) {
+            Set<String> objectIds = new HashSet<>();
+            objectIds.add(diagram.getTargetObjectId());
+            this.collectTargetObjectIds(diagram.getNodes(), objectIds);
+            diagram.getEdges().stream()
+                    .map(Edge::getTargetObjectId)
+                    .forEach(objectIds::add);
+
+            this.renderedObjectIdsDiagram = diagram;
+            this.renderedObjectIds = objectIds;
+        }
+        return this.renderedObjectIds;
+    }
+
+    private void collectTargetObjectIds(List<Node> nodes, Set<String> objectIds) {
+        for (Node node : nodes) {
+            objectIds.add(node.getTargetObjectId());
+            this.collectTargetObjectIds(node.getBorderNodes(), objectIds);
+            this.collectTargetObjectIds(node.getChildNodes(), objectIds);
+        }
+    }
+
     /**
      * Used to access the diagram context.
      *
@@ -282,7 +343,7 @@ public class DiagramEventProcessor implements IDiagramEventProcessor {
     @Override
     public Flux<IPayload> getOutputEvents(IInput input) {
         return Flux.merge(
-                this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause),
+                this.diagramEventFlux.getFlux(this.currentRevisionId, this.currentRevisionCause, input instanceof DiagramEventInput diagramEventInput && diagramEventInput.deltas()),
                 this.subscriptionManager.getFlux(input)
         );
     }
@@ -12,6 +12,8 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -28,8 +30,11 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventCon
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHandler;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IModificationStampProvider;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
 import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
@@ -58,9 +63,19 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
 
     private final List<IDiagramEventConsumer> diagramEventConsumers;
 
+    private final List<IModificationStampProvider> modificationStampProviders;
+
+    private final boolean incrementalRendering;
+
+    private final boolean changeScopeFiltering;
+
+    private final DiagramDeltaComputer diagramDeltaComputer;
+
     public DiagramEventProcessorFactory(RepresentationEventProcessorFactoryConfiguration configuration, IDiagramCreationService diagramCreationService,
             List<IDiagramEventHandler> diagramEventHandlers, IRepresentationPersistenceService representationPersistenceService, List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
-            List<IDiagramEventConsumer> diagramEventConsumers) {
+            List<IDiagramEventConsumer> diagramEventConsumers, List<IModificationStampProvider> modificationStampProviders, ObjectMapper objectMapper,
+            @Value("${sirius.components.diagram.incrementalRendering:false}") boolean incrementalRendering,
+            @Value("${sirius.components.diagram.changeScopeFiltering:false}") boolean changeScopeFiltering) {
         this.representationSearchService = Objects.requireNonNull(configuration.getRepresentationSearchService());
         this.diagramCreationService = Objects.requireNonNull(diagramCreationService);
         this.diagramEventHandlers = Objects.requireNonNull(diagramEventHandlers);
@@ -70,6 +85,10 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         this.representationRefreshPolicyRegistry = Objects.requireNonNull(configuration.getRepresentationRefreshPolicyRegistry());
         this.diagramInputReferencePositionProviders = Objects.requireNonNull(diagramInputReferencePositionProviders);
         this.diagramEventConsumers = Objects.requireNonNull(diagramEventConsumers);
+        this.modificationStampProviders = Objects.requireNonNull(modificationStampProviders);
+        this.incrementalRendering = incrementalRendering;
+        this.changeScopeFiltering = changeScopeFiltering;
+        this.diagramDeltaComputer = new DiagramDeltaComputer(objectMapper);
     }
 
     @Override
@@ -96,6 +115,9 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
                     .representationSearchService(this.representationSearchService)
                     .diagramInputReferencePositionProviders(this.diagramInputReferencePositionProviders)
                     .diagramEventConsumers(this.diagramEventConsumers)
+                    .renderingMemo(this.createRenderingMemo(editingContext))
+                    .changeScopeFiltering(this.changeScopeFiltering)
+                    .diagramDeltaComputer(this.diagramDeltaComputer)
                     .build();
 
             IRepresentationEventProcessor diagramEventProcessor = new DiagramEventProcessor(parameters);
@@ -104,4 +126,14 @@ public class DiagramEventProcessorFactory implements IRepresentationEventProcess
         }
         return Optional.empty();
     }
+
+    private Optional<DiagramRenderingMemo> createRenderingMemo(IEditingContext editingContext) {
+        if (this.incrementalRendering) {
+            return Optional.of(new DiagramRenderingMemo(object -> this.modificationStampProviders.stream()
+                    .map(modificationStampProvider -> modificationStampProvider.getModificationStamp(editingContext, object))
+                    .flatMap(Optional::stream)
+                    .findFirst()));
+        }
+        return Optional.empty();
+    }
 }
@@ -14,6 +14,7 @@ package org.eclipse.sirius.components.collaborative.diagrams;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.eclipse.sirius.components.collaborative.api.IRepresentationPersistenceService;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationRefreshPolicyRegistry;
@@ -25,6 +26,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramEventHan
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInputReferencePositionProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 
 /**
  * Parameters of the diagram event processor.
@@ -42,7 +44,10 @@ public record DiagramEventProcessorParameters(
         IRepresentationPersistenceService representationPersistenceService,
         IRepresentationSearchService representationSearchService,
         List<IDiagramInputReferencePositionProvider> diagramInputReferencePositionProviders,
-        List<IDiagramEventConsumer> diagramEventConsumers
+        List<IDiagramEventConsumer> diagramEventConsumers,
+        Optional<DiagramRenderingMemo> renderingMemo,
+        boolean changeScopeFiltering,
+        DiagramDeltaComputer diagramDeltaComputer
 ) {
 
     public DiagramEventProcessorParameters {
@@ -57,6 +62,8 @@ public record DiagramEventProcessorParameters(
         Objects.requireNonNull(representationSearchService);
         Objects.requireNonNull(diagramInputReferencePositionProviders);
         Objects.requireNonNull(diagramEventConsumers);
+        Objects.requireNonNull(renderingMemo);
+        Objects.requireNonNull(diagramDeltaComputer);
     }
 
     public static Builder newDiagramEventProcessorParameters() {
@@ -94,6 +101,12 @@ public record DiagramEventProcessorParameters(
 
         private List<IDiagramEventConsumer> diagramEventConsumers;
 
+        private Optional<DiagramRenderingMemo> renderingMemo = Optional.empty();
+
+        private boolean changeScopeFiltering;
+
+        private DiagramDeltaComputer diagramDeltaComputer;
+
         private Builder() {
             // Prevent instantiation
         }
@@ -153,6 +166,21 @@ public record DiagramEventProcessorParameters(
             return this;
         }
 
+        public Builder renderingMemo(Optional<DiagramRenderingMemo> renderingMemo) {
+            this.renderingMemo = Objects.requireNonNull(renderingMemo);
+            return this;
+        }
+
+        public Builder changeScopeFiltering(boolean changeScopeFiltering) {
+            this.changeScopeFiltering = changeScopeFiltering;
+            return this;
+        }
+
+        public Builder diagramDeltaComputer(DiagramDeltaComputer diagramDeltaComputer) {
+            this.diagramDeltaComputer = Objects.requireNonNull(diagramDeltaComputer);
+            return this;
+        }
+
         public DiagramEventProcessorParameters build() {
             return new DiagramEventProcessorParameters(
                     this.editingContext,
@@ -165,7 +193,10 @@ public record DiagramEventProcessorParameters(
                     this.representationPersistenceService,
                     this.representationSearchService,
                     this.diagramInputReferencePositionProviders,
-                    this.diagramEventConsumers
+                    this.diagramEventConsumers,
+                    this.renderingMemo,
+                    this.changeScopeFiltering,
+                    this.diagramDeltaComputer
             );
         }
     }
@@ -18,6 +18,7 @@ import org.eclipse.sirius.components.collaborative.diagrams.DiagramContext;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Diagram;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 
 /**
  * Service used to create diagrams from scratch or from an existing diagram.
@@ -56,6 +57,21 @@ public interface IDiagramCreationService {
      */
     Optional<Diagram> refresh(IEditingContext editingContext, DiagramContext diagramContext);
 
+    /**
+     * Refresh an existing diagram incrementally.
+     *
+     * @param editingContext
+     *            The editing context
+     * @param diagramContext
+     *            The diagram context
+     * @param renderingMemo
+     *            The memo used to reuse the values computed during the previous refresh of the diagram
+     * @return An updated diagram if we have been able to refresh it.
+     */
+    default Optional<Diagram> refresh(IEditingContext editingContext, DiagramContext diagramContext, DiagramRenderingMemo renderingMemo) {
+        return this.refresh(editingContext, diagramContext);
+    }
+
     /**
      * Implementation which does nothing, used for mocks in unit tests.
      *
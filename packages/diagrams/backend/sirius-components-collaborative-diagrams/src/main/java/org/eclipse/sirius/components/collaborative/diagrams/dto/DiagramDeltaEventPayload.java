@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.core.api.IPayload;
+import org.eclipse.sirius.components.diagrams.Edge;
+
+/**
+ * Payload used to indicate that the diagram has been refreshed by sending only its elements which have changed.
+ *
+ * <p>
+ *     The root node identifiers and edge identifiers are only sent when the list of the root nodes or the list of the
+ *     edges have changed, they are null otherwise. The layout data only contains the entries which have been added or
+ *     modified.
+ * </p>
+ *
+ * @author agent
+ */
+public record DiagramDeltaEventPayload(
+        UUID id,
+        String cause,
+        ReferencePosition referencePosition,
+        List<String> rootNodeIds,
+        List<NodeDelta> upsertedNodes,
+        List<String> removedNodeIds,
+        List<String> edgeIds,
+        List<Edge> upsertedEdges,
+        List<String> removedEdgeIds,
+        DiagramLayoutDataPayload layoutData,
+        List<String> removedLayoutDataIds) implements IPayload {
+
+    public DiagramDeltaEventPayload {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(cause);
+        Objects.requireNonNull(upsertedNodes);
+        Objects.requireNonNull(removedNodeIds);
+        Objects.requireNonNull(upsertedEdges);
+        Objects.requireNonNull(removedEdgeIds);
+        Objects.requireNonNull(layoutData);
+        Objects.requireNonNull(removedLayoutDataIds);
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -19,7 +19,16 @@ import org.eclipse.sirius.components.core.api.IInput;
 /**
  * The input of the diagram event subscription.
  *
+ * <p>
+ *     When deltas are requested, the subscriber receives the whole diagram once and then only the elements which have
+ *     changed during each refresh.
+ * </p>
+ *
  * @author sbegaudeau
  */
-public record DiagramEventInput(UUID id, String editingContextId, String diagramId) implements IInput {
+public record DiagramEventInput(UUID id, String editingContextId, String diagramId, boolean deltas) implements IInput {
+
+    public DiagramEventInput(UUID id, String editingContextId, String diagramId) {
+        this(id, editingContextId, diagramId, false);
+    }
 }
@@ -15,11 +15,12 @@ package org.eclipse.sirius.components.collaborative.diagrams.dto;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
 
 /**
  * The input for the "Get Actions" query.
  *
  * @author arichard
  */
-public record GetActionsInput(UUID id, String editingContextId, String representationId, String diagramElementId) implements IDiagramInput {
+public record GetActionsInput(UUID id, String editingContextId, String representationId, String diagramElementId) implements IDiagramInput, IReadOnlyInput {
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,11 +15,12 @@ package org.eclipse.sirius.components.collaborative.diagrams.dto;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
 
 /**
  * The input for the "Get Palette" query.
  *
  * @author arichard
  */
-public record GetPaletteInput(UUID id, String editingContextId, String representationId, String diagramElementId) implements IDiagramInput {
+public record GetPaletteInput(UUID id, String editingContextId, String representationId, String diagramElementId) implements IDiagramInput, IReadOnlyInput {
 }
@@ -15,14 +15,25 @@ package org.eclipse.sirius.components.collaborative.diagrams.dto;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramInput;
+import org.eclipse.sirius.components.core.api.IBackgroundInput;
 
 /**
  * Input used to layout diagrams.
  *
+ * <p>
+ * The layout sent by the frontend after the rendering of the diagram is handled after the inputs performed by the end
+ * users. The layout caused by an end user, like the move or the resize of a node, is handled as any other input.
+ * </p>
+ *
  * @author sbegaudeau
  */
-public record LayoutDiagramInput(UUID id, String editingContextId, String representationId, String cause, DiagramLayoutDataInput diagramLayoutData) implements IDiagramInput {
+public record LayoutDiagramInput(UUID id, String editingContextId, String representationId, String cause, DiagramLayoutDataInput diagramLayoutData) implements IDiagramInput, IBackgroundInput {
 
     public static final String CAUSE_LAYOUT = "layout";
 
+    @Override
+    public boolean isBackground() {
+        return !CAUSE_LAYOUT.equals(this.cause);
+    }
+
 }
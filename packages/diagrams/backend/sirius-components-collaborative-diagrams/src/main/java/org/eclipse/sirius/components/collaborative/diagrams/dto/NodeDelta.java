@@ -0,0 +1,37 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.diagrams.Node;
+
+/**
+ * A node added or modified by a refresh of the diagram.
+ *
+ * <p>
+ *     The node is sent without its child nodes and border nodes, only their identifiers are provided in order to let
+ *     the unmodified ones be reused.
+ * </p>
+ *
+ * @author agent
+ */
+public record NodeDelta(Node node, List<String> childNodeIds, List<String> borderNodeIds) {
+
+    public NodeDelta {
+        Objects.requireNonNull(node);
+        Objects.requireNonNull(childNodeIds);
+        Objects.requireNonNull(borderNodeIds);
+    }
+}
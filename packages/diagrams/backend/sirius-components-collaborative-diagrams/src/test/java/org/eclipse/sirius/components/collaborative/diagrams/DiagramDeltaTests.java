@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.collaborative.diagrams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramDeltaEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramEventInput;
+import org.eclipse.sirius.components.collaborative.diagrams.dto.DiagramRefreshedEventPayload;
+import org.eclipse.sirius.components.collaborative.diagrams.handlers.TestDiagramBuilder;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.layoutdata.DiagramLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.NodeLayoutData;
+import org.eclipse.sirius.components.diagrams.layoutdata.Position;
+import org.eclipse.sirius.components.diagrams.layoutdata.Size;
+import org.junit.jupiter.api.Test;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Tests of the computation and of the application of the deltas between two versions of a diagram.
+ *
+ * @author agent
+ */
+public class DiagramDeltaTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final TestDiagramBuilder testDiagramBuilder = new TestDiagramBuilder();
+
+    @Test
+    public void givenASequenceOfDiagramsWhenTheirDeltasAreAppliedThenTheDiagramsAreRebuilt() {
+        List<Diagram> diagrams = this.getDiagrams();
+
+        var diagramDeltaComputer = new DiagramDeltaComputer(this.objectMapper);
+        var diagramDeltaApplier = new DiagramDeltaApplier();
+
+        Diagram rebuiltDiagram = diagrams.get(0);
+        for (int i = 1; i < diagrams.size(); i++) {
+            var previousSnapshot = diagramDeltaComputer.snapshot(diagrams.get(i - 1));
+            var newSnapshot = diagramDeltaComputer.snapshot(diagrams.get(i));
+            var delta = diagramDeltaComputer.computeDelta(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, null, previousSnapshot, newSnapshot);
+
+            rebuiltDiagram = diagramDeltaApplier.apply(rebuiltDiagram, delta).orElseThrow();
+            assertThat(this.objectMapper.valueToTree(rebuiltDiagram).equals(this.objectMapper.valueToTree(diagrams.get(i)))).isTrue();
+        }
+    }
+
+    @Test
+    public void givenADeltaReferencingUnknownNodesWhenItIsAppliedThenNothingIsReturned() {
+        List<Diagram> diagrams = this.getDiagrams();
+
+        var diagramDeltaComputer = new DiagramDeltaComputer(this.objectMapper);
+        var delta = diagramDeltaComputer.computeDelta(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, null, diagramDeltaComputer.snapshot(diagrams.get(0)), diagramDeltaComputer.snapshot(diagrams.get(1)));
+
+        Diagram emptyDiagram = Diagram.newDiagram(diagrams.get(0))
+                .nodes(List.of())
+                .edges(List.of())
+                .build();
+        assertThat(new DiagramDeltaApplier().apply(emptyDiagram, delta)).isEmpty();
+    }
+
+    @Test
+    public void givenAnUnmodifiedDiagramWhenItsDeltaIsComputedThenTheDeltaIsEmpty() {
+        Diagram diagram = this.getDiagrams().get(0);
+        Diagram sameDiagram = Diagram.newDiagram(diagram).build();
+
+        var diagramDeltaComputer = new DiagramDeltaComputer(this.objectMapper);
+        var delta = diagramDeltaComputer.computeDelta(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, null, diagramDeltaComputer.snapshot(diagram), diagramDeltaComputer.snapshot(sameDiagram));
+
+        assertThat(delta.rootNodeIds()).isNull();
+        assertThat(delta.edgeIds()).isNull();
+        assertThat(delta.upsertedNodes()).isEmpty();
+        assertThat(delta.removedNodeIds()).isEmpty();
+        assertThat(delta.upsertedEdges()).isEmpty();
+        assertThat(delta.removedEdgeIds()).isEmpty();
+        assertThat(delta.layoutData().nodeLayoutData()).isEmpty();
+        assertThat(delta.removedLayoutDataIds()).isEmpty();
+    }
+
+    @Test
+    public void givenADeltaSubscriptionWhenTheDiagramIsRefreshedThenOnlyTheDeltaIsSent() {
+        List<Diagram> diagrams = this.getDiagrams();
+        var diagramEventFlux = new DiagramEventFlux(diagrams.get(0), new DiagramDeltaComputer(this.objectMapper));
+        var diagramDeltaApplier = new DiagramDeltaApplier();
+
+        List<Diagram> receivedDiagrams = new ArrayList<>();
+        Runnable refresh = () -> {
+            for (int i = 1; i < diagrams.size(); i++) {
+                diagramEventFlux.diagramRefreshed(UUID.randomUUID(), diagrams.get(i), DiagramRefreshedEventPayload.CAUSE_REFRESH, null);
+            }
+            diagramEventFlux.dispose();
+        };
+
+        StepVerifier.create(diagramEventFlux.getFlux(UUID.randomUUID(), DiagramRefreshedEventPayload.CAUSE_REFRESH, true))
+                .assertNext(payload -> {
+                    assertThat(payload).isInstanceOf(DiagramRefreshedEventPayload.class);
+                    receivedDiagrams.add(((DiagramRefreshedEventPayload) payload).diagram());
+                })
+                .then(refresh)
+                .thenConsumeWhile(DiagramDeltaEventPayload.class::isInstance, payload -> {
+                    Diagram previousDiagram = receivedDiagrams.get(receivedDiagrams.size() - 1);
+                    receivedDiagrams.add(diagramDeltaApplier.apply(previousDiagram, (DiagramDeltaEventPayload) payload).orElseThrow());
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        assertThat(receivedDiagrams).hasSize(diagrams.size());
+        assertThat(this.objectMapper.valueToTree(receivedDiagrams.get(diagrams.size() - 1)).equals(this.objectMapper.valueToTree(diagrams.get(diagrams.size() - 1)))).isTrue();
+    }
+
+    @Test
+    public void givenAnInputWithoutDeltasWhenItIsConvertedThenDeltasAreNotRequested() {
+        var input = this.objectMapper.convertValue(Map.of("id", UUID.randomUUID().toString(), "editingContextId", "editingContextId", "diagramId", "diagramId"), DiagramEventInput.class);
+        assertThat(input.deltas()).isFalse();
+
+        input = this.objectMapper.convertValue(Map.of("id", UUID.randomUUID().toString(), "editingContextId", "editingContextId", "diagramId", "diagramId", "deltas", true), DiagramEventInput.class);
+        assertThat(input.deltas()).isTrue();
+    }
+
+    private List<Diagram> getDiagrams() {
+        Node firstChild = this.testDiagramBuilder.getNode("firstChild", true);
+        Node secondChild = this.testDiagramBuilder.getNode("secondChild", false);
+        Node container = Node.newNode(this.testDiagramBuilder.getNode("container", true))
+                .childNodes(List.of(firstChild, secondChild))
+                .build();
+        Node first = this.testDiagramBuilder.getNode("first", true);
+        Diagram initialDiagram = Diagram.newDiagram(this.testDiagramBuilder.getDiagram("diagram"))
+                .nodes(List.of(container, first))
+                .edges(List.of(this.testDiagramBuilder.getEdge("firstEdge", "container", "first")))
+                .layoutData(new DiagramLayoutData(Map.of("container", this.getNodeLayoutData("container", 0)), Map.of(), Map.of()))
+                .build();
+
+        // A child node is removed, another one is modified and a new root node is added with a new edge
+        Node modifiedChild = Node.newNode(firstChild)
+                .pinned(true)
+                .build();
+        Node modifiedContainer = Node.newNode(container)
+                .childNodes(List.of(modifiedChild))
+                .build();
+        Node second = this.testDiagramBuilder.getNode("second", false);
+        Diagram modifiedDiagram = Diagram.newDiagram(initialDiagram)
+                .nodes(List.of(modifiedContainer, first, second))
+                .edges(List.of(this.testDiagramBuilder.getEdge("secondEdge", "first", "second")))
+                .layoutData(new DiagramLayoutData(Map.of("container", this.getNodeLayoutData("container", 10), "second", this.getNodeLayoutData("second", 20)), Map.of(), Map.of()))
+                .build();
+
+        // The root nodes are reordered and a border node is added
+        Node borderNode = this.testDiagramBuilder.getNode("borderNode", false);
+        Node firstWithBorderNode = Node.newNode(first)
+                .borderNodes(List.of(borderNode))
+                .build();
+        Diagram reorderedDiagram = Diagram.newDiagram(modifiedDiagram)
+                .nodes(List.of(second, modifiedContainer, firstWithBorderNode))
+                .layoutData(new DiagramLayoutData(Map.of("second", this.getNodeLayoutData("second", 20)), Map.of(), Map.of()))
+                .build();
+
+        return List.of(initialDiagram, modifiedDiagram, reorderedDiagram);
+    }
+
+    private NodeLayoutData getNodeLayoutData(String id, double x) {
+        return new NodeLayoutData(id, new Position(x, 0), new Size(100, 50), false, false, List.of());
+    }
+}
@@ -12,7 +12,14 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.collaborative.diagrams;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Predicate;
 
@@ -47,6 +54,8 @@ public class DiagramEventProcessorTests {
 
     private static final String DIAGRAM_DESCRIPTION_ID = UUID.randomUUID().toString();
 
+    private static final int DIAGRAMS_COUNT = 30;
+
     private static final Node INITIAL_TEST_NODE = getInitialTestNode();
 
     private static final Diagram INITIAL_TEST_DIAGRAM = Diagram.newDiagram(DIAGRAM_ID)
@@ -137,19 +146,78 @@ public class DiagramEventProcessorTests {
                 .verify();
     }
 
+    @Test
+    public void givenChangeScopeFilteringWhenASemanticElementDisplayedByOneDiagramIsModifiedThenOnlyThisDiagramIsRefreshed() {
+        var refreshesCount = this.getRefreshesCount(true, Optional.of(Set.of("objectId7")));
+        assertThat(refreshesCount).isEqualTo(1);
+    }
+
+    @Test
+    public void givenChangeScopeFilteringWhenTheModifiedSemanticElementsAreUnknownThenAllTheDiagramsAreRefreshed() {
+        var refreshesCount = this.getRefreshesCount(true, Optional.empty());
+        assertThat(refreshesCount).isEqualTo(DIAGRAMS_COUNT);
+    }
+
+    @Test
+    public void givenNoChangeScopeFilteringWhenASemanticElementDisplayedByOneDiagramIsModifiedThenAllTheDiagramsAreRefreshed() {
+        var refreshesCount = this.getRefreshesCount(false, Optional.of(Set.of("objectId7")));
+        assertThat(refreshesCount).isEqualTo(DIAGRAMS_COUNT);
+    }
+
+    /**
+     * Opens several diagrams displaying distinct semantic elements and returns the number of diagrams refreshed after a
+     * semantic change performed from another representation.
+     */
+    private int getRefreshesCount(boolean changeScopeFiltering, Optional<Set<String>> optionalModifiedObjectIds) {
+        List<MockDiagramCreationService> diagramCreationServices = new ArrayList<>();
+        List<DiagramEventProcessor> diagramEventProcessors = new ArrayList<>();
+        for (int i = 0; i < DIAGRAMS_COUNT; i++) {
+            var node = Node.newNode(INITIAL_TEST_NODE)
+                    .targetObjectId("objectId" + i)
+                    .build();
+            var diagram = Diagram.newDiagram(UUID.randomUUID().toString())
+                    .descriptionId(DIAGRAM_DESCRIPTION_ID)
+                    .targetObjectId("targetObjectId" + i)
+                    .nodes(List.of(node))
+                    .edges(List.of())
+                    .build();
+            var diagramCreationService = new MockDiagramCreationService(diagram);
+            diagramCreationServices.add(diagramCreationService);
+            diagramEventProcessors.add(this.createDiagramEventProcessor(diagram, diagramCreationService, changeScopeFiltering));
+        }
+
+        String otherRepresentationId = UUID.randomUUID().toString();
+        var input = new DiagramEventInput(UUID.randomUUID(), UUID.randomUUID().toString(), otherRepresentationId);
+        var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, otherRepresentationId, input);
+        var scopedChangeDescription = optionalModifiedObjectIds.map(changeDescription::withModifiedObjectIds).orElse(changeDescription);
+        diagramEventProcessors.forEach(diagramEventProcessor -> diagramEventProcessor.refresh(scopedChangeDescription));
+        diagramEventProcessors.forEach(DiagramEventProcessor::dispose);
+
+        // Each diagram is refreshed once when its event processor is created
+        return (int) diagramCreationServices.stream()
+                .filter(diagramCreationService -> diagramCreationService.getCount() > 1)
+                .count();
+    }
+
     private DiagramEventProcessor createDiagramEventProcessor() {
+        return this.createDiagramEventProcessor(INITIAL_TEST_DIAGRAM, this.diagramCreationService, false);
+    }
+
+    private DiagramEventProcessor createDiagramEventProcessor(Diagram diagram, IDiagramCreationService diagramCreationService, boolean changeScopeFiltering) {
         var parameters = DiagramEventProcessorParameters.newDiagramEventProcessorParameters()
                 .editingContext(new IEditingContext.NoOp())
-                .diagramContext(new DiagramContext(INITIAL_TEST_DIAGRAM))
+                .diagramContext(new DiagramContext(diagram))
                 .diagramEventHandlers(List.of())
                 .subscriptionManager(new SubscriptionManager())
-                .diagramCreationService(this.diagramCreationService)
+                .diagramCreationService(diagramCreationService)
                 .representationDescriptionSearchService(new IRepresentationDescriptionSearchService.NoOp())
                 .representationRefreshPolicyRegistry(new IRepresentationRefreshPolicyRegistry.NoOp())
                 .representationSearchService(new IRepresentationSearchService.NoOp())
                 .representationPersistenceService(new IRepresentationPersistenceService.NoOp())
                 .diagramEventConsumers(List.of())
                 .diagramInputReferencePositionProviders(List.of())
+                .changeScopeFiltering(changeScopeFiltering)
+                .diagramDeltaComputer(new DiagramDeltaComputer(new ObjectMapper()))
                 .build();
         return new DiagramEventProcessor(parameters);
     }
@@ -59,4 +59,8 @@ public class MockDiagramCreationService implements IDiagramCreationService {
         return Optional.of(this.diagram);
     }
 
+    public int getCount() {
+        return this.count;
+    }
+
 }
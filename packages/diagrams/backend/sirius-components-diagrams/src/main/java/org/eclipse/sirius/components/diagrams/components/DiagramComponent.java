@@ -23,6 +23,7 @@ import org.eclipse.sirius.components.diagrams.description.NodeDescription;
 import org.eclipse.sirius.components.diagrams.elements.DiagramElementProps;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
 import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingCache;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.components.representations.Element;
 import org.eclipse.sirius.components.representations.IComponent;
 import org.eclipse.sirius.components.representations.VariableManager;
@@ -53,7 +54,9 @@ public class DiagramComponent implements IComponent {
         String diagramId = optionalPreviousDiagram.map(Diagram::getId).orElseGet(() -> UUID.randomUUID().toString());
         String targetObjectId = diagramDescription.getTargetObjectIdProvider().apply(variableManager);
 
-        DiagramRenderingCache cache = new DiagramRenderingCache();
+        var optionalRenderingMemo = this.props.getRenderingMemo();
+        optionalRenderingMemo.ifPresent(DiagramRenderingMemo::beginRendering);
+        DiagramRenderingCache cache = new DiagramRenderingCache(optionalRenderingMemo);
 
         IDiagramElementRequestor diagramElementRequestor = new DiagramElementRequestor();
         INodeDescriptionRequestor nodeDescriptionRequestor = new NodeDescriptionRequestor(allDiagramDescriptions);
@@ -22,6 +22,7 @@ import org.eclipse.sirius.components.diagrams.ViewCreationRequest;
 import org.eclipse.sirius.components.diagrams.ViewDeletionRequest;
 import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.events.IDiagramEvent;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
 import org.eclipse.sirius.components.diagrams.renderer.IEdgeAppearanceHandler;
 import org.eclipse.sirius.components.diagrams.renderer.INodeAppearanceHandler;
 import org.eclipse.sirius.components.representations.IOperationValidator;
@@ -58,6 +59,8 @@ public final class DiagramComponentProps implements IProps {
 
     private List<IEdgeAppearanceHandler> edgeAppearanceHandlers;
 
+    private Optional<DiagramRenderingMemo> renderingMemo;
+
     private DiagramComponentProps() {
         // Prevent instantiation
     }
@@ -102,6 +105,10 @@ public final class DiagramComponentProps implements IProps {
         return this.edgeAppearanceHandlers;
     }
 
+    public Optional<DiagramRenderingMemo> getRenderingMemo() {
+        return this.renderingMemo;
+    }
+
     public static Builder newDiagramComponentProps() {
         return new Builder();
     }
@@ -134,6 +141,8 @@ public final class DiagramComponentProps implements IProps {
 
         private List<IEdgeAppearanceHandler> edgeAppearanceHandlers;
 
+        private Optional<DiagramRenderingMemo> renderingMemo = Optional.empty();
+
         public Builder variableManager(VariableManager variableManager) {
             this.variableManager = Objects.requireNonNull(variableManager);
             return this;
@@ -184,6 +193,11 @@ public final class DiagramComponentProps implements IProps {
             return this;
         }
 
+        public Builder renderingMemo(Optional<DiagramRenderingMemo> renderingMemo) {
+            this.renderingMemo = Objects.requireNonNull(renderingMemo);
+            return this;
+        }
+
         public DiagramComponentProps build() {
             DiagramComponentProps diagramComponentProps = new DiagramComponentProps();
             diagramComponentProps.variableManager = Objects.requireNonNull(this.variableManager);
@@ -196,6 +210,7 @@ public final class DiagramComponentProps implements IProps {
             diagramComponentProps.diagramEvents = Objects.requireNonNull(this.diagramEvents);
             diagramComponentProps.nodeAppearanceHandlers = Objects.requireNonNull(this.nodeAppearanceHandlers);
             diagramComponentProps.edgeAppearanceHandlers = Objects.requireNonNull(this.edgeAppearanceHandlers);
+            diagramComponentProps.renderingMemo = Objects.requireNonNull(this.renderingMemo);
             return diagramComponentProps;
         }
     }
@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.sirius.components.diagrams.InsideLabel;
 import org.eclipse.sirius.components.diagrams.Node;
@@ -68,6 +69,12 @@ public class NodeChildrenComponent implements IComponent {
             InsideLabelComponentProps insideLabelComponentProps = new InsideLabelComponentProps(this.props.getVariableManager(), labelDescription, optionalPreviousLabel,
                     this.props.getNodeComponentProps().getDiagramEvents(), nodeId);
             Element insideLabelElement = new Element(InsideLabelComponent.class, insideLabelComponentProps);
+
+            boolean isCustomized = optionalPreviousLabel.map(InsideLabel::getCustomizedStyleProperties).filter(properties -> !properties.isEmpty()).isPresent();
+            if (!isCustomized) {
+                String labelId = new LabelIdProvider().getInsideLabelId(nodeId);
+                insideLabelElement = this.memoize(labelId, labelDescription, insideLabelElement, () -> new InsideLabelComponent(insideLabelComponentProps).render());
+            }
             nodeChildren.add(insideLabelElement);
         }
         return nodeChildren;
@@ -78,11 +85,41 @@ public class NodeChildrenComponent implements IComponent {
         return this.props.getNodeComponentProps().getNodeDescription().getOutsideLabelDescriptions().stream().map(outsideLabelDescription -> {
             OutsideLabelComponentProps outsideLabelComponentProps = new OutsideLabelComponentProps(this.props.getVariableManager(), outsideLabelDescription, nodeId, optionalPreviousLabels, this.props.getNodeComponentProps()
                     .getDiagramEvents());
-            return new Element(OutsideLabelComponent.class, outsideLabelComponentProps);
+            Element outsideLabelElement = new Element(OutsideLabelComponent.class, outsideLabelComponentProps);
+
+            String labelId = new LabelIdProvider().getOutsideLabelId(nodeId, outsideLabelDescription.getOutsideLabelLocation().name());
+            boolean isCustomized = optionalPreviousLabels.stream()
+                    .filter(previousLabel -> previousLabel.id().equals(labelId))
+                    .anyMatch(previousLabel -> !previousLabel.customizedStyleProperties().isEmpty());
+            if (!isCustomized) {
+                outsideLabelElement = this.memoize(labelId, outsideLabelDescription, outsideLabelElement, () -> new OutsideLabelComponent(outsideLabelComponentProps).render());
+            }
+            return outsideLabelElement;
         }).toList();
 
     }
 
+    /**
+     * Reuses the label rendered during the previous rendering if the diagram is rendered incrementally and if neither
+     * the semantic element of the node nor the state of the node have changed since. Labels impacted by diagram events
+     * are always rendered again.
+     */
+    private Element memoize(String labelId, Object labelDescription, Element labelElement, Supplier<Element> renderedLabelSupplier) {
+        var optionalRenderingMemo = this.props.getNodeComponentProps().getCache().getRenderingMemo();
+        if (optionalRenderingMemo.isEmpty() || !this.props.getNodeComponentProps().getDiagramEvents().isEmpty()) {
+            return labelElement;
+        }
+
+        var variableManager = this.props.getVariableManager();
+        Object semanticElement = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        List<Object> dependencies = List.of(
+                labelDescription,
+                variableManager.get(NodeComponent.COLLAPSING_STATE, Object.class),
+                variableManager.get(NodeComponent.IS_BORDER_NODE, Object.class)
+        );
+        return optionalRenderingMemo.get().getOrCompute(labelId, Element.class, semanticElement, dependencies, renderedLabelSupplier);
+    }
+
     private List<Element> getBorderNodes(Optional<Node> optionalPreviousNode, String nodeId) {
         NodeDescription nodeDescription = this.props.getNodeComponentProps().getNodeDescription();
         DiagramRenderingCache cache = this.props.getNodeComponentProps().getCache();
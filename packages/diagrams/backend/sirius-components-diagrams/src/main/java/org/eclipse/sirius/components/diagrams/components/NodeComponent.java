@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.sirius.components.diagrams.CollapsingState;
 import org.eclipse.sirius.components.diagrams.INodeStyle;
@@ -151,26 +152,37 @@ public class NodeComponent implements IComponent {
 
         String nodeId = optionalPreviousNode.map(Node::getId).orElseGet(() -> this.computeNodeId(targetObjectId));
 
-        Set<ViewModifier> defaultModifiers = this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
-        Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousNode, nodeId, defaultModifiers);
+        DefaultState defaultState = this.memoize(nodeId, DefaultState.class, nodeVariableManager, List.of(nodeDescription), () -> {
+            Set<ViewModifier> defaultModifiers = this.computeDefaultModifiers(nodeDescription, nodeVariableManager);
+            boolean isCollapsedByDefault = nodeDescription.getIsCollapsedByDefaultPredicate().test(nodeVariableManager);
+            return new DefaultState(defaultModifiers, isCollapsedByDefault);
+        });
+        Set<ViewModifier> modifiers = this.computeModifiers(diagramEvents, optionalPreviousNode, nodeId, defaultState.defaultModifiers());
         ViewModifier state = this.computeState(modifiers);
 
         boolean isPinned = this.isPinned(diagramEvents, nodeId, optionalPreviousNode);
-        boolean isCollapsedByDefault = nodeDescription.getIsCollapsedByDefaultPredicate().test(nodeVariableManager);
-        CollapsingState collapsingState = this.computeCollapsingState(nodeId, optionalPreviousNode, diagramEvents, isCollapsedByDefault);
+        CollapsingState collapsingState = this.computeCollapsingState(nodeId, optionalPreviousNode, diagramEvents, defaultState.collapsedByDefault());
 
         nodeVariableManager.put(NodeComponent.COLLAPSING_STATE, collapsingState);
         nodeVariableManager.put(NodeComponent.IS_BORDER_NODE, isBorderNode);
 
-        String type = nodeDescription.getTypeProvider().apply(nodeVariableManager);
-        String targetObjectKind = nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager);
-        String targetObjectLabel = nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager);
+        NodeAttributes nodeAttributes = this.memoize(nodeId, NodeAttributes.class, nodeVariableManager, List.of(nodeDescription, collapsingState, isBorderNode), () -> new NodeAttributes(
+                nodeDescription.getTypeProvider().apply(nodeVariableManager),
+                nodeDescription.getTargetObjectKindProvider().apply(nodeVariableManager),
+                nodeDescription.getTargetObjectLabelProvider().apply(nodeVariableManager),
+                nodeDescription.getStyleProvider().apply(nodeVariableManager),
+                nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager),
+                nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager)
+        ));
+        String type = nodeAttributes.type();
+        String targetObjectKind = nodeAttributes.targetObjectKind();
+        String targetObjectLabel = nodeAttributes.targetObjectLabel();
 
         Optional<NodeAppearance> optionalPreviousAppearance = optionalPreviousNode.map(previousNode ->
                 new NodeAppearance(previousNode.getStyle(), previousNode.getCustomizedStyleProperties())
         );
 
-        INodeStyle providedStyle = nodeDescription.getStyleProvider().apply(nodeVariableManager);
+        INodeStyle providedStyle = nodeAttributes.providedStyle();
 
         List<INodeAppearanceChange> appearanceChanges = diagramEvents.stream()
                 .filter(EditAppearanceEvent.class::isInstance)
@@ -202,8 +214,8 @@ public class NodeComponent implements IComponent {
                 .build();
         Element nodeChildren = new Element(NodeChildrenComponent.class, nodeChildrenComponentProps);
 
-        Integer defaultWidth = nodeDescription.getDefaultWidthProvider().apply(nodeVariableManager);
-        Integer defaultHeight = nodeDescription.getDefaultHeightProvider().apply(nodeVariableManager);
+        Integer defaultWidth = nodeAttributes.defaultWidth();
+        Integer defaultHeight = nodeAttributes.defaultHeight();
         var initialBorderNodePosition = this.props.getInitialBorderNodePosition();
 
         var nodeElementProps = NodeElementProps.newNodeElementProps(nodeId)
@@ -229,6 +241,19 @@ public class NodeComponent implements IComponent {
         return new Element(NodeElementProps.TYPE, nodeElementProps);
     }
 
+    /**
+     * Reuses the value computed for this node during the previous rendering if the diagram is rendered incrementally
+     * and if neither the semantic element of the node nor the given dependencies have changed since.
+     */
+    private <T> T memoize(String nodeId, Class<T> type, VariableManager nodeVariableManager, List<Object> dependencies, Supplier<T> valueSupplier) {
+        return this.props.getCache().getRenderingMemo()
+                .map(renderingMemo -> {
+                    Object semanticElement = nodeVariableManager.get(VariableManager.SELF, Object.class).orElse(null);
+                    return renderingMemo.getOrCompute(nodeId, type, semanticElement, dependencies, valueSupplier);
+                })
+                .orElseGet(valueSupplier);
+    }
+
     private CollapsingState computeCollapsingState(String nodeId, Optional<Node> optionalPreviousNode, List<IDiagramEvent> diagramEvents, boolean isCollapsedByDefault) {
         CollapsingState newCollapsingState = CollapsingState.EXPANDED;
 
@@ -336,4 +361,19 @@ public class NodeComponent implements IComponent {
         return new NodeIdProvider().getNodeId(parentElementId, nodeDescription.getId(), containmentKind, targetObjectId);
     }
 
+    /**
+     * The default state of a node computed from its description.
+     *
+     * @author agent
+     */
+    private record DefaultState(Set<ViewModifier> defaultModifiers, boolean collapsedByDefault) {
+    }
+
+    /**
+     * The attributes of a node computed from its description.
+     *
+     * @author agent
+     */
+    private record NodeAttributes(String type, String targetObjectKind, String targetObjectLabel, INodeStyle providedStyle, Integer defaultWidth, Integer defaultHeight) {
+    }
 }
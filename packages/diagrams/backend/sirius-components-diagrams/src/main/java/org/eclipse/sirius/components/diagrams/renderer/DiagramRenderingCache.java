@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import org.eclipse.sirius.components.diagrams.elements.NodeElementProps;
@@ -41,6 +42,26 @@ public class DiagramRenderingCache {
 
     private final Map<String, List<Element>> nodeIdToChildren = new LinkedHashMap<>();
 
+    private final Optional<DiagramRenderingMemo> optionalRenderingMemo;
+
+    public DiagramRenderingCache() {
+        this(Optional.empty());
+    }
+
+    public DiagramRenderingCache(Optional<DiagramRenderingMemo> optionalRenderingMemo) {
+        this.optionalRenderingMemo = Objects.requireNonNull(optionalRenderingMemo);
+    }
+
+    /**
+     * Returns the memo used to reuse the values computed during the previous rendering of the diagram, if the diagram
+     * is rendered incrementally.
+     *
+     * @return The rendering memo or an empty optional
+     */
+    public Optional<DiagramRenderingMemo> getRenderingMemo() {
+        return this.optionalRenderingMemo;
+    }
+
     public void put(String nodeDescriptionId, Element nodeElement) {
         this.diagramElementDescriptionIdToElements.computeIfAbsent(nodeDescriptionId, id -> new ArrayList<>()).add(nodeElement);
     }
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Used to reuse the values computed for the elements of a diagram from one rendering to the next.
+ *
+ * <p>
+ *     The values computed by the evaluation of the description of a diagram element are memoized with the modification
+ *     stamp of its semantic element and with the other values they depend on, such as the description itself. As long
+ *     as the semantic element has not been modified since, the memoized values are reused instead of being computed
+ *     again. This incremental rendering thus assumes that those values only depend on the semantic element of the
+ *     diagram element and on the given dependencies.
+ * </p>
+ *
+ * <p>
+ *     Only the values computed for a diagram element itself, such as the attributes of a node or its labels, are
+ *     memoized. Whole subtrees of the previous diagram are not reused, even if the modification stamp of the containment
+ *     of their semantic element has not changed, since:
+ * </p>
+ * <ul>
+ *     <li>the semantic candidates of the children of a node are computed by expressions which can navigate anywhere in
+ *     the model, for example through cross references, and not only in the containment of its semantic element</li>
+ *     <li>rendering a subtree fills the {@link DiagramRenderingCache} used to resolve the source and the target of the
+ *     edges, reusing a subtree would require to replay these registrations</li>
+ *     <li>the modifiers, the collapsing state and the appearance of a node also depend on the diagram events, the view
+ *     creation and deletion requests and the previous diagram, which change from one rendering to the next</li>
+ * </ul>
+ *
+ * <p>
+ *     A memo is dedicated to a single diagram and it is not thread safe, it is meant to be used by the renderings of
+ *     this diagram, one after the other. The values of the diagram elements which have not been rendered during a
+ *     rendering are discarded at the beginning of the next one.
+ * </p>
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemo {
+
+    private final Function<Object, Optional<Long>> modificationStampProvider;
+
+    private final Map<MemoKey, MemoizedValue> memoizedValues = new HashMap<>();
+
+    private Set<MemoKey> renderedKeys = new HashSet<>();
+
+    /**
+     * Creates a new memo.
+     *
+     * @param modificationStampProvider
+     *         Returns the modification stamp of a semantic element or an empty optional if its modifications are not
+     *         tracked, the values of the diagram elements of such semantic elements are then never memoized
+     */
+    public DiagramRenderingMemo(Function<Object, Optional<Long>> modificationStampProvider) {
+        this.modificationStampProvider = Objects.requireNonNull(modificationStampProvider);
+    }
+
+    public void beginRendering() {
+        this.memoizedValues.keySet().retainAll(this.renderedKeys);
+        this.renderedKeys = new HashSet<>();
+    }
+
+    /**
+     * Returns the value memoized for the given diagram element or computes it if it cannot be reused.
+     *
+     * @param id
+     *         The identifier of the diagram element
+     * @param type
+     *         The type of the value
+     * @param semanticElement
+     *         The semantic element of the diagram element
+     * @param dependencies
+     *         The other values on which the value depends
+     * @param valueSupplier
+     *         Used to compute the value
+     * @return The memoized value or the value computed
+     */
+    public <T> T getOrCompute(String id, Class<T> type, Object semanticElement, List<Object> dependencies, Supplier<T> valueSupplier) {
+        var optionalModificationStamp = Optional.ofNullable(semanticElement).flatMap(this.modificationStampProvider);
+        if (optionalModificationStamp.isEmpty()) {
+            return valueSupplier.get();
+        }
+
+        long modificationStamp = optionalModificationStamp.get();
+        var key = new MemoKey(id, type);
+        this.renderedKeys.add(key);
+
+        var memoizedValue = this.memoizedValues.get(key);
+        if (memoizedValue != null && memoizedValue.modificationStamp() == modificationStamp && memoizedValue.dependencies().equals(dependencies)) {
+            return type.cast(memoizedValue.value());
+        }
+
+        T value = valueSupplier.get();
+        this.memoizedValues.put(key, new MemoizedValue(modificationStamp, List.copyOf(dependencies), value));
+        return value;
+    }
+
+    /**
+     * The key of a memoized value.
+     *
+     * @param id
+     *         The identifier of the diagram element
+     * @param type
+     *         The type of the value
+     *
+     * @author agent
+     */
+    private record MemoKey(String id, Class<?> type) {
+    }
+
+    /**
+     * A memoized value.
+     *
+     * @param modificationStamp
+     *         The modification stamp of the semantic element when the value has been computed
+     * @param dependencies
+     *         The other values on which the value depends
+     * @param value
+     *         The value
+     *
+     * @author agent
+     */
+    private record MemoizedValue(long modificationStamp, List<Object> dependencies, Object value) {
+    }
+}
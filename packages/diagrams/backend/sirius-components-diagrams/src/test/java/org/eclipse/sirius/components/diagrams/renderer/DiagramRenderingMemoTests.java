@@ -0,0 +1,199 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.diagrams.renderer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabel;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LabelVisibility;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for the incremental rendering of diagrams.
+ *
+ * @author agent
+ */
+public class DiagramRenderingMemoTests {
+
+    private static final int NODES_COUNT = 10;
+
+    private final List<String> semanticElements = new ArrayList<>();
+
+    private final Map<Object, Long> modificationStamps = new HashMap<>();
+
+    private final AtomicInteger styleEvaluationsCount = new AtomicInteger();
+
+    private final AtomicInteger labelEvaluationsCount = new AtomicInteger();
+
+    @Test
+    public void givenAnIncrementalRenderingWhenTheDiagramIsRenderedAgainThenTheUnmodifiedNodesAreReused() {
+        for (int i = 0; i < NODES_COUNT; i++) {
+            String semanticElement = "element" + i;
+            this.semanticElements.add(semanticElement);
+            this.modificationStamps.put(semanticElement, 0L);
+        }
+
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+        var renderingMemo = new DiagramRenderingMemo(object -> Optional.ofNullable(this.modificationStamps.get(object)));
+
+        Diagram initialDiagram = this.render(diagramDescription, Optional.empty(), Optional.of(renderingMemo));
+        assertThat(initialDiagram.getNodes()).hasSize(NODES_COUNT);
+        assertThat(this.styleEvaluationsCount.get()).isEqualTo(NODES_COUNT);
+        assertThat(this.labelEvaluationsCount.get()).isEqualTo(NODES_COUNT);
+
+        Diagram refreshedDiagram = this.render(diagramDescription, Optional.of(initialDiagram), Optional.of(renderingMemo));
+        assertThat(refreshedDiagram.getNodes()).hasSize(NODES_COUNT);
+        assertThat(this.styleEvaluationsCount.get()).isEqualTo(NODES_COUNT);
+        assertThat(this.labelEvaluationsCount.get()).isEqualTo(NODES_COUNT);
+        assertThat(refreshedDiagram.getNodes()).extracting(Node::getInsideLabel).extracting(InsideLabel::getText)
+                .containsExactlyElementsOf(initialDiagram.getNodes().stream().map(Node::getInsideLabel).map(InsideLabel::getText).toList());
+
+        this.modificationStamps.put("element0", 1L);
+        this.semanticElements.add("element" + NODES_COUNT);
+        this.modificationStamps.put("element" + NODES_COUNT, 0L);
+
+        Diagram modifiedDiagram = this.render(diagramDescription, Optional.of(refreshedDiagram), Optional.of(renderingMemo));
+        assertThat(modifiedDiagram.getNodes()).hasSize(NODES_COUNT + 1);
+        assertThat(this.styleEvaluationsCount.get()).isEqualTo(NODES_COUNT + 2);
+        assertThat(this.labelEvaluationsCount.get()).isEqualTo(NODES_COUNT + 2);
+    }
+
+    @Test
+    public void givenARenderingWithoutMemoWhenTheDiagramIsRenderedAgainThenAllTheNodesAreEvaluated() {
+        for (int i = 0; i < NODES_COUNT; i++) {
+            this.semanticElements.add("element" + i);
+        }
+
+        DiagramDescription diagramDescription = this.getDiagramDescription();
+
+        Diagram initialDiagram = this.render(diagramDescription, Optional.empty(), Optional.empty());
+        this.render(diagramDescription, Optional.of(initialDiagram), Optional.empty());
+
+        assertThat(this.styleEvaluationsCount.get()).isEqualTo(2 * NODES_COUNT);
+        assertThat(this.labelEvaluationsCount.get()).isEqualTo(2 * NODES_COUNT);
+    }
+
+    private Diagram render(DiagramDescription diagramDescription, Optional<Diagram> previousDiagram, Optional<DiagramRenderingMemo> renderingMemo) {
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(new VariableManager())
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(previousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .nodeAppearanceHandlers(List.of())
+                .edgeAppearanceHandlers(List.of())
+                .renderingMemo(renderingMemo)
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+
+    private DiagramDescription getDiagramDescription() {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> "black")
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> "black")
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .visibilityProvider(variableManager -> LabelVisibility.visible)
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription("insideLabelDescriptionId")
+                .textProvider(variableManager -> {
+                    this.labelEvaluationsCount.incrementAndGet();
+                    return variableManager.get(VariableManager.SELF, String.class).orElse("");
+                })
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> false)
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        NodeDescription nodeDescription = NodeDescription.newNodeDescription(UUID.randomUUID().toString())
+                .typeProvider(variableManager -> "node:rectangular")
+                .semanticElementsProvider(variableManager -> List.copyOf(this.semanticElements))
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, String.class).orElse(""))
+                .targetObjectKindProvider(variableManager -> "")
+                .targetObjectLabelProvider(variableManager -> "")
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> {
+                    this.styleEvaluationsCount.incrementAndGet();
+                    return RectangularNodeStyle.newRectangularNodeStyle()
+                            .background("white")
+                            .borderColor("black")
+                            .borderSize(1)
+                            .borderStyle(LineStyle.Solid)
+                            .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                            .build();
+                })
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(List.of())
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .initialChildBorderNodePositions(Map.of())
+                .build();
+
+        return DiagramDescription.newDiagramDescription(UUID.randomUUID().toString())
+                .label("")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "diagramTargetObjectId")
+                .labelProvider(variableManager -> "Diagram")
+                .nodeDescriptions(List.of(nodeDescription))
+                .edgeDescriptions(List.of())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+}
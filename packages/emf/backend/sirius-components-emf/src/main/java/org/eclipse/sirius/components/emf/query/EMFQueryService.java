@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2023 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -37,6 +37,7 @@ import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.emf.query.api.IQueryJavaServiceProvider;
 import org.eclipse.sirius.components.emf.services.IEditingContextEPackageService;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
 import org.springframework.stereotype.Service;
@@ -55,9 +56,12 @@ public class EMFQueryService implements IQueryService {
 
     private final List<IQueryJavaServiceProvider> queryJavaServiceProviders;
 
-    public EMFQueryService(IEditingContextEPackageService editingContextEPackageService, List<IQueryJavaServiceProvider> queryJavaServiceProviders) {
+    private final IAQLInterpreterPool aqlInterpreterPool;
+
+    public EMFQueryService(IEditingContextEPackageService editingContextEPackageService, List<IQueryJavaServiceProvider> queryJavaServiceProviders, IAQLInterpreterPool aqlInterpreterPool) {
         this.editingContextEPackageService = Objects.requireNonNull(editingContextEPackageService);
         this.queryJavaServiceProviders = Objects.requireNonNull(queryJavaServiceProviders);
+        this.aqlInterpreterPool = Objects.requireNonNull(aqlInterpreterPool);
     }
 
     @Override
@@ -130,7 +134,7 @@ public class EMFQueryService implements IQueryService {
         Map<String, Object> variables = new HashMap<>(providedVariables);
         variables.put(IEditingContext.EDITING_CONTEXT, editingContext);
 
-        var interpreter = new AQLInterpreter(classes, ePackages);
+        var interpreter = this.aqlInterpreterPool.getInterpreter(editingContext, List.copyOf(classes), ePackages, () -> new AQLInterpreter(classes, ePackages));
         return interpreter.evaluateExpression(variables, query);
     }
 
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.emf.services.api.AQLExpressionProfile;
+import org.eclipse.sirius.components.emf.services.api.AQLPooledInterpreter;
+import org.eclipse.sirius.components.emf.services.api.IAQLExpressionProfileProvider;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.ExpressionProfiler;
+import org.springframework.stereotype.Service;
+
+/**
+ * Retrieves the statistics of the AQL expressions evaluated by the interpreters kept for an editing context.
+ *
+ * <p>
+ *     The expressions are attributed to the elements of the scope of their interpreter, like the elements of a View,
+ *     with a single valued string attribute containing this very expression. The attribution is computed by the pool
+ *     when a profiled interpreter is created so that the scope is never read by the threads requesting the statistics.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class AQLExpressionProfileProvider implements IAQLExpressionProfileProvider {
+
+    private final IAQLInterpreterPool aqlInterpreterPool;
+
+    public AQLExpressionProfileProvider(IAQLInterpreterPool aqlInterpreterPool) {
+        this.aqlInterpreterPool = Objects.requireNonNull(aqlInterpreterPool);
+    }
+
+    @Override
+    public List<AQLExpressionProfile> getExpressionProfiles(String editingContextId) {
+        List<AQLExpressionProfile> expressionProfiles = new ArrayList<>();
+        for (AQLPooledInterpreter pooledInterpreter : this.aqlInterpreterPool.getInterpreters(editingContextId)) {
+            var optionalProfiler = pooledInterpreter.interpreter().getProfiler();
+            if (optionalProfiler.isPresent()) {
+                var expressionToOwnerURIs = pooledInterpreter.expressionToOwnerURIs();
+                optionalProfiler.get().getStatistics().stream()
+                        .map(expressionStatistics -> new AQLExpressionProfile(expressionStatistics.expression(), expressionToOwnerURIs.getOrDefault(expressionStatistics.expression(), List.of()),
+                                expressionStatistics.count(), expressionStatistics.totalNanos(), expressionStatistics.allocatedBytes()))
+                        .forEach(expressionProfiles::add);
+            }
+        }
+        return expressionProfiles.stream()
+                .sorted(Comparator.comparingLong(AQLExpressionProfile::totalNanos).reversed())
+                .toList();
+    }
+
+    @Override
+    public void reset(String editingContextId) {
+        this.aqlInterpreterPool.getInterpreters(editingContextId).stream()
+                .map(AQLPooledInterpreter::interpreter)
+                .map(AQLInterpreter::getProfiler)
+                .flatMap(Optional::stream)
+                .forEach(ExpressionProfiler::reset);
+    }
+}
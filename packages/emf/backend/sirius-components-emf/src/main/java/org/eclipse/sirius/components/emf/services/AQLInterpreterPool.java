@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorInitializationHook;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.AQLPooledInterpreter;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Keeps the AQL interpreters of the editing contexts loaded, for each of their scopes, until they are disposed or until
+ * their scope, like a View, is removed from its resource.
+ *
+ * <p>
+ *     The creation of an interpreter registers the EPackages visible and the Java services, which are instantiated
+ *     for this interpreter, in a new query environment. The duration of the creation of each interpreter and the
+ *     number of bytes allocated by the thread creating it are published with the number of interpreters reused.
+ * </p>
+ *
+ * <p>
+ *     With {@code sirius.components.interpreter.profiling=true}, the profiling of the evaluations is enabled on the
+ *     interpreters created and their expressions are attributed to the elements of their scope. Their statistics are
+ *     discarded with them.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class AQLInterpreterPool implements IAQLInterpreterPool, IEditingContextEventProcessorInitializationHook {
+
+    private final Map<String, EditingContextInterpreters> editingContextIdToInterpreters = new ConcurrentHashMap<>();
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
+    private final Timer creationTimer;
+
+    private final DistributionSummary creationAllocatedBytes;
+
+    private final Counter hitCounter;
+
+    private final Counter missCounter;
+
+    private final Counter invalidatedCounter;
+
+    private final boolean profiling;
+
+    public AQLInterpreterPool(MeterRegistry meterRegistry, @Value("${sirius.components.interpreter.profiling:false}") boolean profiling) {
+        this.creationTimer = Monitoring.timer(Monitoring.TIMER_INTERPRETER_CREATION)
+                .description("Duration of the creation of an AQL interpreter")
+                .register(meterRegistry);
+        this.creationAllocatedBytes = DistributionSummary.builder(Monitoring.INTERPRETER_CREATION_ALLOCATED_BYTES)
+                .description("Number of bytes allocated by the creation of an AQL interpreter")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.hitCounter = this.poolRequestsCounter(meterRegistry, Monitoring.OUTCOME_HIT);
+        this.missCounter = this.poolRequestsCounter(meterRegistry, Monitoring.OUTCOME_MISS);
+        this.invalidatedCounter = this.poolRequestsCounter(meterRegistry, Monitoring.OUTCOME_INVALIDATED);
+        this.profiling = profiling;
+    }
+
+    private Counter poolRequestsCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder(Monitoring.INTERPRETER_POOL_REQUESTS)
+                .description("Number of AQL interpreters requested, either reused, created or created again after an invalidation")
+                .tag(Monitoring.OUTCOME, outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AQLInterpreter getInterpreter(IEditingContext editingContext, Object scope, List<EPackage> ePackages, Supplier<AQLInterpreter> interpreterSupplier) {
+        var editingContextInterpreters = this.editingContextIdToInterpreters.compute(editingContext.getId(), (editingContextId, current) -> {
+            if (current == null || current.editingContext() != editingContext) {
+                // The editing context has been reloaded, the interpreters of its previous instance cannot be used anymore
+                return new EditingContextInterpreters(editingContext, new ConcurrentHashMap<>());
+            }
+            return current;
+        });
+
+        var scopeToInterpreters = editingContextInterpreters.scopeToInterpreters();
+        this.removeDetachedScopes(scopeToInterpreters);
+
+        long scopeVersion = this.getScopeVersion(scope);
+        var pooledInterpreterHolder = scopeToInterpreters.computeIfAbsent(scope, key -> new AtomicReference<>());
+
+        // The interpreter is created outside of the map to avoid blocking the other scopes, the holder only prevents the concurrent creations for this scope
+        synchronized (pooledInterpreterHolder) {
+            var current = pooledInterpreterHolder.get();
+            if (current != null && current.scopeVersion() == scopeVersion && current.ePackages().equals(ePackages)) {
+                this.hitCounter.increment();
+                return current.interpreter();
+            }
+
+            if (current != null) {
+                this.invalidatedCounter.increment();
+            } else {
+                this.missCounter.increment();
+            }
+            var pooledInterpreter = new PooledInterpreter(this.createInterpreter(interpreterSupplier), List.copyOf(ePackages), scopeVersion, this.getResource(scope), this.getExpressionToOwnerURIs(scope));
+            pooledInterpreterHolder.set(pooledInterpreter);
+            return pooledInterpreter.interpreter();
+        }
+    }
+
+    /**
+     * Forgets the interpreters of the scopes, like the Views, which have been removed from their resource since the
+     * creation of their interpreter.
+     */
+    private void removeDetachedScopes(Map<Object, AtomicReference<PooledInterpreter>> scopeToInterpreters) {
+        scopeToInterpreters.entrySet().removeIf(entry -> {
+            var pooledInterpreter = entry.getValue().get();
+            return pooledInterpreter != null && pooledInterpreter.resource() != null && this.getResource(entry.getKey()) != pooledInterpreter.resource();
+        });
+    }
+
+    private Resource getResource(Object scope) {
+        Resource resource = null;
+        if (scope instanceof EObject eObject) {
+            resource = eObject.eResource();
+        }
+        return resource;
+    }
+
+    @Override
+    public List<AQLPooledInterpreter> getInterpreters(String editingContextId) {
+        return Optional.ofNullable(this.editingContextIdToInterpreters.get(editingContextId))
+                .map(EditingContextInterpreters::scopeToInterpreters)
+                .map(scopeToInterpreters -> scopeToInterpreters.entrySet().stream()
+                        .filter(entry -> entry.getValue().get() != null)
+                        .map(entry -> new AQLPooledInterpreter(entry.getKey(), entry.getValue().get().interpreter(), entry.getValue().get().expressionToOwnerURIs()))
+                        .toList())
+                .orElse(List.of());
+    }
+
+    /**
+     * Attributes the expressions of a profiled interpreter to the elements of its scope, like the elements of a View,
+     * with a single valued string attribute containing this very expression.
+     *
+     * <p>
+     *     It is computed with the interpreter, by the thread of the editing context, since the scope cannot be read
+     *     safely once the editing context has moved on and any modification of the scope creates a new interpreter.
+     * </p>
+     */
+    private Map<String, List<String>> getExpressionToOwnerURIs(Object scope) {
+        Map<String, List<String>> expressionToOwnerURIs = new HashMap<>();
+        if (this.profiling && scope instanceof EObject root) {
+            this.collectExpressions(root, expressionToOwnerURIs);
+            root.eAllContents().forEachRemaining(eObject -> this.collectExpressions(eObject, expressionToOwnerURIs));
+        }
+        return expressionToOwnerURIs.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+    }
+
+    private void collectExpressions(EObject eObject, Map<String, List<String>> expressionToOwnerURIs) {
+        for (EAttribute eAttribute : eObject.eClass().getEAllAttributes()) {
+            if (!eAttribute.isMany() && eObject.eGet(eAttribute) instanceof String expression && !expression.isBlank()) {
+                List<String> ownerURIs = expressionToOwnerURIs.computeIfAbsent(expression, key -> new ArrayList<>());
+                String ownerURI = EcoreUtil.getURI(eObject).toString();
+                if (!ownerURIs.contains(ownerURI)) {
+                    ownerURIs.add(ownerURI);
+                }
+            }
+        }
+    }
+
+    private long getScopeVersion(Object scope) {
+        if (scope instanceof EObject eObject) {
+            return this.adapterInstaller.getOrInstall(eObject, ScopeModificationAdapter.class, ScopeModificationAdapter::new).getVersion();
+        }
+        return 0;
+    }
+
+    private AQLInterpreter createInterpreter(Supplier<AQLInterpreter> interpreterSupplier) {
+        long allocatedBytesBefore = this.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        AQLInterpreter interpreter = interpreterSupplier.get();
+        if (this.profiling) {
+            interpreter.enableProfiling();
+        }
+
+        this.creationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        long allocatedBytesAfter = this.getCurrentThreadAllocatedBytes();
+        if (allocatedBytesBefore >= 0 && allocatedBytesAfter >= allocatedBytesBefore) {
+            this.creationAllocatedBytes.record(allocatedBytesAfter - allocatedBytesBefore);
+        }
+        return interpreter;
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread or -1 if the JVM cannot measure it.
+     */
+    private long getCurrentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    @Override
+    public void onDisposed(String editingContextId) {
+        this.editingContextIdToInterpreters.remove(editingContextId);
+    }
+
+    /**
+     * The interpreters of an editing context.
+     *
+     * @author agent
+     */
+    private record EditingContextInterpreters(IEditingContext editingContext, Map<Object, AtomicReference<PooledInterpreter>> scopeToInterpreters) {
+    }
+
+    /**
+     * An interpreter with the state of its scope when it has been created.
+     *
+     * @author agent
+     */
+    private record PooledInterpreter(AQLInterpreter interpreter, List<EPackage> ePackages, long scopeVersion, Resource resource, Map<String, List<String>> expressionToOwnerURIs) {
+    }
+}
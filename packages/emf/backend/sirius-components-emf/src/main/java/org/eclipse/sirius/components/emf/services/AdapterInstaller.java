@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notifier;
+
+/**
+ * Used to share a single adapter of a given type, like a content adapter maintaining some state about a resource set,
+ * between all the services which need it.
+ *
+ * <p>
+ *     The adapters are looked up and installed while holding the lock of their notifier so that two threads requesting
+ *     the same adapter cannot install it twice.
+ * </p>
+ *
+ * @author agent
+ */
+public class AdapterInstaller {
+
+    /**
+     * Returns the adapter of the given type installed on the notifier, if any.
+     *
+     * @param notifier
+     *         The notifier
+     * @param adapterType
+     *         The type of the adapter
+     * @return The adapter or an empty optional if it has not been installed
+     */
+    public <T extends Adapter> Optional<T> find(Notifier notifier, Class<T> adapterType) {
+        synchronized (notifier) {
+            return notifier.eAdapters().stream()
+                    .filter(adapterType::isInstance)
+                    .map(adapterType::cast)
+                    .findFirst();
+        }
+    }
+
+    /**
+     * Returns the adapter of the given type installed on the notifier, it is created and installed if needed.
+     *
+     * @param notifier
+     *         The notifier
+     * @param adapterType
+     *         The type of the adapter
+     * @param adapterSupplier
+     *         Creates the adapter if it has not been installed yet
+     * @return The adapter
+     */
+    public <T extends Adapter> T getOrInstall(Notifier notifier, Class<T> adapterType, Supplier<T> adapterSupplier) {
+        synchronized (notifier) {
+            var optionalAdapter = this.find(notifier, adapterType);
+            if (optionalAdapter.isPresent()) {
+                return optionalAdapter.get();
+            }
+
+            var adapter = adapterSupplier.get();
+            notifier.eAdapters().add(adapter);
+            return adapter;
+        }
+    }
+}
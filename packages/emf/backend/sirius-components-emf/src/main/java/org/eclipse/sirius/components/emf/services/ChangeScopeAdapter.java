@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to record the objects of a resource set modified during a recording.
+ *
+ * <p>
+ * The notifier of each notification received during the recording is recorded, along with the objects removed from
+ * the resource set. Since the modifications of the content of the resources, like the addition of a root object, and
+ * of the resource set cannot be attributed to an object, they make the scope of the recording unknown.
+ * </p>
+ *
+ * @author agent
+ */
+public class ChangeScopeAdapter extends EContentAdapter {
+
+    private final Set<EObject> modifiedObjects = new LinkedHashSet<>();
+
+    private boolean recording;
+
+    private boolean unknownScope;
+
+    public synchronized void beginRecording() {
+        this.modifiedObjects.clear();
+        this.unknownScope = false;
+        this.recording = true;
+    }
+
+    /**
+     * Returns the objects modified since the beginning of the recording.
+     *
+     * @return The modified objects or an empty optional if the scope of the changes is unknown
+     */
+    public synchronized Optional<Set<EObject>> getModifiedObjects() {
+        if (this.recording && !this.unknownScope) {
+            return Optional.of(Set.copyOf(this.modifiedObjects));
+        }
+        return Optional.empty();
+    }
+
+    public synchronized void endRecording() {
+        this.recording = false;
+        this.modifiedObjects.clear();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            synchronized (this) {
+                if (this.recording) {
+                    if (notification.getNotifier() instanceof EObject eObject) {
+                        this.modifiedObjects.add(eObject);
+                    } else if (notification.getNotifier() instanceof Resource && this.isContentOrURIChange(notification) || notification.getNotifier() instanceof ResourceSet) {
+                        this.unknownScope = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean isContentOrURIChange(Notification notification) {
+        int featureID = notification.getFeatureID(Resource.class);
+        return featureID == Resource.RESOURCE__CONTENTS || featureID == Resource.RESOURCE__URI;
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+
+        synchronized (this) {
+            if (this.recording) {
+                this.modifiedObjects.add(target);
+            }
+        }
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
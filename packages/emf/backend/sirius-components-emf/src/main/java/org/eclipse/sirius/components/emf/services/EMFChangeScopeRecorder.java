@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
+import org.eclipse.sirius.components.core.api.IChangeScopeRecorder;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IIdentityService;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to record the identifiers of the EObjects modified in an EMF based editing context.
+ *
+ * <p>
+ *     The changes are only recorded, with a content adapter installed on the resource set, when their scope is used
+ *     either to filter the refresh of the diagrams, with {@code sirius.components.diagram.changeScopeFiltering=true},
+ *     or to find the dangling representations. Otherwise, the scope of the changes is left unknown.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EMFChangeScopeRecorder implements IChangeScopeRecorder {
+
+    private final IIdentityService identityService;
+
+    private final boolean enabled;
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
+    public EMFChangeScopeRecorder(IIdentityService identityService, IDanglingRepresentationDeletionService danglingRepresentationDeletionService,
+            @Value("${sirius.components.diagram.changeScopeFiltering:false}") boolean changeScopeFiltering) {
+        this.identityService = Objects.requireNonNull(identityService);
+        this.enabled = changeScopeFiltering || danglingRepresentationDeletionService.usesModifiedObjectIds();
+    }
+
+    @Override
+    public void beginRecording(IEditingContext editingContext) {
+        if (this.enabled && editingContext instanceof IEMFEditingContext emfEditingContext) {
+            this.adapterInstaller.getOrInstall(emfEditingContext.getDomain().getResourceSet(), ChangeScopeAdapter.class, ChangeScopeAdapter::new).beginRecording();
+        }
+    }
+
+    @Override
+    public Optional<Set<String>> getModifiedObjectIds(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var optionalModifiedObjects = this.adapterInstaller.find(emfEditingContext.getDomain().getResourceSet(), ChangeScopeAdapter.class)
+                    .flatMap(ChangeScopeAdapter::getModifiedObjects);
+            if (optionalModifiedObjects.isPresent()) {
+                Set<String> modifiedObjectIds = new HashSet<>();
+                for (EObject modifiedObject : optionalModifiedObjects.get()) {
+                    String id = this.identityService.getId(modifiedObject);
+                    if (id == null) {
+                        // An object which cannot be identified anymore could be displayed by any representation
+                        return Optional.empty();
+                    }
+                    modifiedObjectIds.add(id);
+                }
+                return Optional.of(modifiedObjectIds);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void endRecording(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            this.adapterInstaller.find(emfEditingContext.getDomain().getResourceSet(), ChangeScopeAdapter.class)
+                    .ifPresent(ChangeScopeAdapter::endRecording);
+        }
+    }
+}
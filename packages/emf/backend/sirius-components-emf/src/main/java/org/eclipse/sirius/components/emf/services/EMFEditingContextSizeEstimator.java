@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextSizeEstimator;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to estimate the memory retained by the resources of an EMF based editing context.
+ *
+ * <p>
+ * The estimation relies on the number of objects in the resources and on the number of structural features of their
+ * classes. It does not measure the actual values of the attributes, like the content of the strings.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class EMFEditingContextSizeEstimator implements IEditingContextSizeEstimator {
+
+    /**
+     * The estimated size of an object without the storage of its features, including its adapters and its container.
+     */
+    private static final long OBJECT_SIZE = 64;
+
+    /**
+     * The estimated size of the storage of the value of a feature.
+     */
+    private static final long FEATURE_SIZE = 16;
+
+    @Override
+    public Optional<Long> estimateSize(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            long size = 0;
+            for (Resource resource : List.copyOf(emfEditingContext.getDomain().getResourceSet().getResources())) {
+                TreeIterator<EObject> iterator = EcoreUtil.getAllProperContents(resource, false);
+                while (iterator.hasNext()) {
+                    size += OBJECT_SIZE + FEATURE_SIZE * iterator.next().eClass().getFeatureCount();
+                }
+            }
+            return Optional.of(size);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IModificationStampProvider;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to retrieve the modification stamp of the EObjects of an EMF based editing context.
+ *
+ * @author agent
+ */
+@Service
+public class EMFModificationStampProvider implements IModificationStampProvider {
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
+    @Override
+    public Optional<Long> getModificationStamp(IEditingContext editingContext, Object object) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext && object instanceof EObject eObject) {
+            var resourceSet = emfEditingContext.getDomain().getResourceSet();
+            var resource = eObject.eResource();
+            if (resource != null && resource.getResourceSet() == resourceSet) {
+                var adapter = this.adapterInstaller.getOrInstall(resourceSet, ModificationStampAdapter.class, ModificationStampAdapter::new);
+                return Optional.of(adapter.getModificationStamp(eObject));
+            }
+        }
+        return Optional.empty();
+    }
+}
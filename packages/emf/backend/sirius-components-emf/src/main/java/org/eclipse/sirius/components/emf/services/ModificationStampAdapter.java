@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to keep track of the last modification of the objects of a resource set.
+ *
+ * <p>
+ * Each modification of an object increments a counter shared by the whole resource set and the new value of this
+ * counter becomes the modification stamp of the object. Objects which have not been modified since the installation
+ * of the adapter have a modification stamp of 0.
+ * </p>
+ *
+ * @author agent
+ */
+public class ModificationStampAdapter extends EContentAdapter {
+
+    private final Map<EObject, Long> modificationStamps = new WeakHashMap<>();
+
+    private long counter;
+
+    public synchronized long getModificationStamp(EObject eObject) {
+        return Optional.ofNullable(this.modificationStamps.get(eObject)).orElse(0L);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch() && notification.getNotifier() instanceof EObject eObject) {
+            synchronized (this) {
+                this.counter++;
+                this.modificationStamps.put(eObject, this.counter);
+            }
+        }
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
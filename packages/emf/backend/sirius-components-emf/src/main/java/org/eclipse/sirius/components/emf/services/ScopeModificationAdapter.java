@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+
+/**
+ * Used to keep track of the modifications of an object and its content.
+ *
+ * <p>
+ * Each modification of the object or of one of its descendants increments its version, the objects computed from it,
+ * like an AQL interpreter for a View, can thus be computed again when its version changes.
+ * </p>
+ *
+ * @author agent
+ */
+public class ScopeModificationAdapter extends EContentAdapter {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            this.version.incrementAndGet();
+        }
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
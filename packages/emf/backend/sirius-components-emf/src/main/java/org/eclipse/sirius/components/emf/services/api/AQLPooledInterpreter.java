@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services.api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+
+/**
+ * An interpreter kept for an editing context.
+ *
+ * @param scope
+ *         The object for which the interpreter has been created, like a View
+ * @param interpreter
+ *         The interpreter
+ * @param expressionToOwnerURIs
+ *         The URIs of the elements of the scope defining each expression, as they were when the interpreter has been
+ *         created, only computed for the profiled interpreters
+ *
+ * @author agent
+ */
+public record AQLPooledInterpreter(Object scope, AQLInterpreter interpreter, Map<String, List<String>> expressionToOwnerURIs) {
+    public AQLPooledInterpreter {
+        Objects.requireNonNull(scope);
+        Objects.requireNonNull(interpreter);
+        Objects.requireNonNull(expressionToOwnerURIs);
+    }
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services.api;
+
+import java.util.List;
+
+/**
+ * Used to retrieve the statistics of the AQL expressions evaluated in an editing context.
+ *
+ * <p>
+ *     The statistics are only available for the interpreters of the editing context which are profiled.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IAQLExpressionProfileProvider {
+
+    /**
+     * Returns the statistics of the expressions evaluated in the given editing context, starting with those which have
+     * taken the most time.
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     * @return The statistics of the expressions
+     */
+    List<AQLExpressionProfile> getExpressionProfiles(String editingContextId);
+
+    /**
+     * Forgets the evaluations recorded so far in the given editing context.
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     */
+    void reset(String editingContextId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IAQLExpressionProfileProvider {
+
+        @Override
+        public List<AQLExpressionProfile> getExpressionProfiles(String editingContextId) {
+            return List.of();
+        }
+
+        @Override
+        public void reset(String editingContextId) {
+            // Do nothing
+        }
+    }
+}
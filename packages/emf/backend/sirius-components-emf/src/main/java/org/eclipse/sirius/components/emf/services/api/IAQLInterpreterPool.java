@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services.api;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+
+/**
+ * Used to reuse the AQL interpreters, and the instances of the Java services they hold, of an editing context.
+ *
+ * @author agent
+ */
+public interface IAQLInterpreterPool {
+
+    /**
+     * Returns the interpreter of the given editing context for the given scope, it is only created if needed.
+     *
+     * <p>
+     *     The interpreter is created again if the EPackages visible are not the same as those used to create it or if
+     *     the scope is an EObject, like a View, whose content has been modified since then.
+     * </p>
+     *
+     * @param editingContext
+     *         The editing context
+     * @param scope
+     *         The object for which the interpreter is created, like a View
+     * @param ePackages
+     *         The EPackages visible by the interpreter
+     * @param interpreterSupplier
+     *         Creates the interpreter and the instances of its Java services
+     * @return The interpreter
+     */
+    AQLInterpreter getInterpreter(IEditingContext editingContext, Object scope, List<EPackage> ePackages, Supplier<AQLInterpreter> interpreterSupplier);
+
+    /**
+     * Returns the interpreters currently kept for the given editing context with their scope.
+     *
+     * <p>
+     *     This method can be called from any thread, it does not read the content of the scopes.
+     * </p>
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     * @return The interpreters of the editing context
+     */
+    List<AQLPooledInterpreter> getInterpreters(String editingContextId);
+
+    /**
+     * Implementation which does nothing, used for mocks in unit tests.
+     *
+     * @author agent
+     */
+    class NoOp implements IAQLInterpreterPool {
+
+        @Override
+        public AQLInterpreter getInterpreter(IEditingContext editingContext, Object scope, List<EPackage> ePackages, Supplier<AQLInterpreter> interpreterSupplier) {
+            return interpreterSupplier.get();
+        }
+
+        @Override
+        public List<AQLPooledInterpreter> getInterpreters(String editingContextId) {
+            return List.of();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2021, 2024 Obeo.
+ * Copyright (c) 2021, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -44,6 +44,7 @@ import org.eclipse.sirius.components.core.api.IPayload;
 import org.eclipse.sirius.components.emf.services.EditingDomainFactory;
 import org.eclipse.sirius.components.emf.services.IDAdapter;
 import org.eclipse.sirius.components.emf.services.IEditingContextEPackageService;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.junit.jupiter.api.Test;
 
@@ -64,7 +65,7 @@ public class EMFQueryServiceTests {
                 return List.of(EcorePackage.eINSTANCE);
             }
         };
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of());
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of(), new IAQLInterpreterPool.NoOp());
 
         QueryBasedObjectsInput input = new QueryBasedObjectsInput(UUID.randomUUID(), "aql:editingContext.allContents()", Map.of());
         IPayload payload = queryService.execute(editingContext, input);
@@ -83,7 +84,7 @@ public class EMFQueryServiceTests {
                 return List.of(EcorePackage.eINSTANCE);
             }
         };
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of());
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of(), new IAQLInterpreterPool.NoOp());
 
         QueryBasedIntInput input = new QueryBasedIntInput(UUID.randomUUID(), "aql:editingContext.contents()->size()", Map.of());
         IPayload payload = queryService.execute(editingContext, input);
@@ -102,7 +103,7 @@ public class EMFQueryServiceTests {
             }
         };
 
-        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of());
+        IQueryService queryService = new EMFQueryService(editingContextEPackageService, List.of(), new IAQLInterpreterPool.NoOp());
 
         EObject eObjectToRetrieve = editingContext.getDomain().getResourceSet()
                 .getResources().get(0)
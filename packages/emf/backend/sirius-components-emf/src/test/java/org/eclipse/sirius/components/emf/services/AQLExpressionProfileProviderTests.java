@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.AQLExpressionProfile;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the provider of the statistics of the AQL expressions.
+ *
+ * @author agent
+ */
+public class AQLExpressionProfileProviderTests {
+
+    private static final String LABEL_EXPRESSION = "aql:self.name";
+
+    private static final String OTHER_EXPRESSION = "aql:self.nsURI";
+
+    @Test
+    public void givenProfiledInterpreterWhenExpressionsAreEvaluatedThenTheyAreAttributedToTheElementsOfTheScope() {
+        var pool = new AQLInterpreterPool(new SimpleMeterRegistry(), true);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        var eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        eAnnotation.getDetails().put("labelExpression", LABEL_EXPRESSION);
+        scope.getEAnnotations().add(eAnnotation);
+
+        var interpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), () -> new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE)));
+        var variables = Map.<String, Object>of("self", EcorePackage.eINSTANCE);
+        interpreter.evaluateExpression(variables, LABEL_EXPRESSION);
+        interpreter.evaluateExpression(variables, LABEL_EXPRESSION);
+        interpreter.evaluateExpression(variables, OTHER_EXPRESSION);
+
+        var provider = new AQLExpressionProfileProvider(pool);
+        List<AQLExpressionProfile> expressionProfiles = provider.getExpressionProfiles(editingContext.getId());
+        assertThat(expressionProfiles).extracting(AQLExpressionProfile::expression).containsExactlyInAnyOrder(LABEL_EXPRESSION, OTHER_EXPRESSION);
+        assertThat(expressionProfiles).filteredOn(expressionProfile -> expressionProfile.expression().equals(LABEL_EXPRESSION)).singleElement()
+                .satisfies(expressionProfile -> {
+                    assertThat(expressionProfile.count()).isEqualTo(2);
+                    assertThat(expressionProfile.ownerURIs()).containsExactly(EcoreUtil.getURI(eAnnotation.getDetails().get(0)).toString());
+                });
+        assertThat(expressionProfiles).filteredOn(expressionProfile -> expressionProfile.expression().equals(OTHER_EXPRESSION)).singleElement()
+                .satisfies(expressionProfile -> assertThat(expressionProfile.ownerURIs()).isEmpty());
+
+        provider.reset(editingContext.getId());
+        assertThat(provider.getExpressionProfiles(editingContext.getId())).isEmpty();
+    }
+
+    @Test
+    public void givenProfiledInterpreterWhenItsScopeIsReadThenTheAttributionOfItsCreationIsUsed() {
+        var pool = new AQLInterpreterPool(new SimpleMeterRegistry(), true);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        var eAnnotation = EcoreFactory.eINSTANCE.createEAnnotation();
+        eAnnotation.getDetails().put("labelExpression", LABEL_EXPRESSION);
+        scope.getEAnnotations().add(eAnnotation);
+
+        var interpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), () -> new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE)));
+        var pooledInterpreters = pool.getInterpreters(editingContext.getId());
+        assertThat(pooledInterpreters).singleElement()
+                .satisfies(pooledInterpreter -> assertThat(pooledInterpreter.expressionToOwnerURIs()).containsOnlyKeys(LABEL_EXPRESSION));
+
+        // The scope is modified after the creation of the interpreter, as it would be by the editing context while the statistics are requested
+        eAnnotation.getDetails().put("otherExpression", OTHER_EXPRESSION);
+        interpreter.evaluateExpression(Map.of("self", EcorePackage.eINSTANCE), OTHER_EXPRESSION);
+
+        var provider = new AQLExpressionProfileProvider(pool);
+        assertThat(provider.getExpressionProfiles(editingContext.getId())).singleElement()
+                .satisfies(expressionProfile -> {
+                    assertThat(expressionProfile.expression()).isEqualTo(OTHER_EXPRESSION);
+                    assertThat(expressionProfile.ownerURIs()).isEmpty();
+                });
+    }
+
+    @Test
+    public void givenInterpreterWithoutProfilingWhenExpressionsAreEvaluatedThenNoStatisticsAreAvailable() {
+        var pool = new AQLInterpreterPool(new SimpleMeterRegistry(), false);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+
+        var interpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), () -> new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE)));
+        interpreter.evaluateExpression(Map.of("self", EcorePackage.eINSTANCE), LABEL_EXPRESSION);
+
+        assertThat(new AQLExpressionProfileProvider(pool).getExpressionProfiles(editingContext.getId())).isEmpty();
+    }
+}
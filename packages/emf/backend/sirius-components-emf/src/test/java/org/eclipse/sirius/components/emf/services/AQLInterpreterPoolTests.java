@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.sirius.components.collaborative.api.Monitoring;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.AQLPooledInterpreter;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the pool of AQL interpreters.
+ *
+ * @author agent
+ */
+public class AQLInterpreterPoolTests {
+
+    @Test
+    public void givenSameScopeWhenInterpreterIsRequestedTwiceThenItIsReused() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var pool = new AQLInterpreterPool(meterRegistry, false);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        var creations = new AtomicInteger();
+        Supplier<AQLInterpreter> supplier = this.supplier(creations);
+
+        var interpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), supplier);
+        var otherInterpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), supplier);
+
+        assertThat(otherInterpreter).isSameAs(interpreter);
+        assertThat(creations.get()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.INTERPRETER_POOL_REQUESTS).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_MISS).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.INTERPRETER_POOL_REQUESTS).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_HIT).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(Monitoring.TIMER_INTERPRETER_CREATION).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenModifiedScopeWhenInterpreterIsRequestedThenItIsCreatedAgain() {
+        var meterRegistry = new SimpleMeterRegistry();
+        var pool = new AQLInterpreterPool(meterRegistry, false);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        var creations = new AtomicInteger();
+        Supplier<AQLInterpreter> supplier = this.supplier(creations);
+
+        var interpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), supplier);
+        scope.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        var otherInterpreter = pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), supplier);
+
+        assertThat(otherInterpreter).isNotSameAs(interpreter);
+        assertThat(creations.get()).isEqualTo(2);
+        assertThat(meterRegistry.get(Monitoring.INTERPRETER_POOL_REQUESTS).tag(Monitoring.OUTCOME, Monitoring.OUTCOME_INVALIDATED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void givenOtherEPackagesWhenInterpreterIsRequestedThenItIsCreatedAgain() {
+        var pool = new AQLInterpreterPool(new SimpleMeterRegistry(), false);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        var creations = new AtomicInteger();
+        Supplier<AQLInterpreter> supplier = this.supplier(creations);
+
+        pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE), supplier);
+        EPackage otherEPackage = EcoreFactory.eINSTANCE.createEPackage();
+        pool.getInterpreter(editingContext, scope, List.of(EcorePackage.eINSTANCE, otherEPackage), supplier);
+
+        assertThat(creations.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenDisposedOrReloadedEditingContextWhenInterpreterIsRequestedThenItIsCreatedAgain() {
+        var pool = new AQLInterpreterPool(new SimpleMeterRegistry(), false);
+        var editingContext = new IEditingContext.NoOp();
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        var creations = new AtomicInteger();
+        Supplier<AQLInterpreter> supplier = this.supplier(creations);
+
+        pool.getInterpreter(editingContext, scope, List.of(), supplier);
+        pool.onDisposed(editingContext.getId());
+        pool.getInterpreter(editingContext, scope, List.of(), supplier);
+        assertThat(creations.get()).isEqualTo(2);
+
+        var reloadedEditingContext = new IEditingContext.NoOp();
+        pool.getInterpreter(reloadedEditingContext, scope, List.of(), supplier);
+        assertThat(creations.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void givenScopeRemovedFromItsResourceWhenAnotherInterpreterIsRequestedThenItsInterpreterIsForgotten() {
+        var pool = new AQLInterpreterPool(new SimpleMeterRegistry(), false);
+        var editingContext = new IEditingContext.NoOp();
+        var resource = new ResourceImpl(URI.createURI("view"));
+        var scope = EcoreFactory.eINSTANCE.createEPackage();
+        resource.getContents().add(scope);
+        var otherScope = EcoreFactory.eINSTANCE.createEPackage();
+        Supplier<AQLInterpreter> supplier = this.supplier(new AtomicInteger());
+
+        pool.getInterpreter(editingContext, scope, List.of(), supplier);
+        pool.getInterpreter(editingContext, otherScope, List.of(), supplier);
+        assertThat(pool.getInterpreters(editingContext.getId())).extracting(AQLPooledInterpreter::scope).containsExactlyInAnyOrder(scope, otherScope);
+
+        resource.getContents().remove(scope);
+        pool.getInterpreter(editingContext, otherScope, List.of(), supplier);
+        assertThat(pool.getInterpreters(editingContext.getId())).extracting(AQLPooledInterpreter::scope).containsExactly(otherScope);
+    }
+
+    private Supplier<AQLInterpreter> supplier(AtomicInteger creations) {
+        return () -> {
+            creations.incrementAndGet();
+            return new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        };
+    }
+}
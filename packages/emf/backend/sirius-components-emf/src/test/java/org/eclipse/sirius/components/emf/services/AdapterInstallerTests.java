@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.emf.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the installation of the adapters shared by several services.
+ *
+ * @author agent
+ */
+public class AdapterInstallerTests {
+
+    @Test
+    public void givenNotifierWhenAnAdapterIsRequestedTwiceThenItIsOnlyInstalledOnce() {
+        var adapterInstaller = new AdapterInstaller();
+        var resourceSet = new ResourceSetImpl();
+        var creations = new AtomicInteger();
+
+        assertThat(adapterInstaller.find(resourceSet, ModificationStampAdapter.class)).isEmpty();
+
+        var adapter = adapterInstaller.getOrInstall(resourceSet, ModificationStampAdapter.class, () -> {
+            creations.incrementAndGet();
+            return new ModificationStampAdapter();
+        });
+        var otherAdapter = adapterInstaller.getOrInstall(resourceSet, ModificationStampAdapter.class, () -> {
+            creations.incrementAndGet();
+            return new ModificationStampAdapter();
+        });
+
+        assertThat(otherAdapter).isSameAs(adapter);
+        assertThat(creations.get()).isEqualTo(1);
+        assertThat(resourceSet.eAdapters()).containsExactly(adapter);
+        assertThat(adapterInstaller.find(resourceSet, ModificationStampAdapter.class)).containsSame(adapter);
+        assertThat(adapterInstaller.find(resourceSet, ChangeScopeAdapter.class)).isEmpty();
+    }
+}
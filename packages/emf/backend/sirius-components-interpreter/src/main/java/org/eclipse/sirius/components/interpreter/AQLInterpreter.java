@@ -17,13 +17,18 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.acceleo.query.ast.Call;
+import org.eclipse.acceleo.query.ast.Expression;
+import org.eclipse.acceleo.query.ast.VarRef;
 import org.eclipse.acceleo.query.parser.AstResult;
 import org.eclipse.acceleo.query.runtime.EvaluationResult;
 import org.eclipse.acceleo.query.runtime.ICompletionResult;
@@ -31,6 +36,7 @@ import org.eclipse.acceleo.query.runtime.IQueryBuilderEngine;
 import org.eclipse.acceleo.query.runtime.IQueryCompletionEngine;
 import org.eclipse.acceleo.query.runtime.IQueryEnvironment;
 import org.eclipse.acceleo.query.runtime.IQueryEvaluationEngine;
+import org.eclipse.acceleo.query.runtime.IService;
 import org.eclipse.acceleo.query.runtime.Query;
 import org.eclipse.acceleo.query.runtime.QueryCompletion;
 import org.eclipse.acceleo.query.runtime.QueryEvaluation;
@@ -45,6 +51,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.impl.EStringToStringMapEntryImpl;
 import org.eclipse.sirius.components.interpreter.api.IInterpreter;
+import org.eclipse.sirius.components.representations.EvaluationMemo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,15 +70,53 @@ public class AQLInterpreter implements IInterpreter {
     private final Logger logger = LoggerFactory.getLogger(AQLInterpreter.class);
 
     /**
-     * The cache of the expressions parsed.
+     * The maximum number of expressions evaluated on the fly kept in the cache.
      */
-    private LoadingCache<String, AstResult> parsedExpressions;
+    private static final int MAX_CACHE_SIZE = 500;
+
+    /**
+     * The expressions compiled ahead of time, kept as long as the interpreter.
+     */
+    private final Map<String, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
+    /**
+     * The cache of the expressions compiled on the fly when they are evaluated.
+     */
+    private LoadingCache<String, CompiledExpression> parsedExpressions;
+
+    /**
+     * The query builder engine.
+     */
+    private IQueryBuilderEngine builder;
+
+    /**
+     * The evaluation engine shared by all the expressions compiled by this interpreter.
+     */
+    private IQueryEvaluationEngine evaluationEngine;
+
+    /**
+     * The classifier of the expressions which can be evaluated without AQL.
+     */
+    private final ExpressionClassifier expressionClassifier = new ExpressionClassifier();
 
     /**
      * The query environment.
      */
     private IQueryEnvironment queryEnvironment;
 
+    /**
+     * The names of the services registered from Java classes, instances and EPackages on top of the default services of
+     * AQL. The expressions calling them are never memoized since they may have side effects.
+     */
+    private final Set<String> registeredServiceNames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The profiler of the evaluations, only used once the profiling has been enabled.
+     */
+    private final ExpressionProfiler profiler = new ExpressionProfiler();
+
+    private volatile boolean profiling;
+
     /**
      * The constructor.
      *
@@ -102,12 +147,10 @@ public class AQLInterpreter implements IInterpreter {
         this.queryEnvironment.registerCustomClassMapping(EcorePackage.eINSTANCE.getEStringToStringMapEntry(), EStringToStringMapEntryImpl.class);
 
         for (Class<?> aClass : classes) {
-            var services = ServiceUtils.getServices(this.queryEnvironment, aClass);
-            ServiceUtils.registerServices(this.queryEnvironment, services);
+            this.registerServices(ServiceUtils.getServices(this.queryEnvironment, aClass));
         }
         for (Object instance : instances) {
-            var services = ServiceUtils.getServices(this.queryEnvironment, instance);
-            ServiceUtils.registerServices(this.queryEnvironment, services);
+            this.registerServices(ServiceUtils.getServices(this.queryEnvironment, instance));
         }
 
         ePackages.stream().filter(this::isValidEPackage).forEach(ePackage -> {
@@ -129,6 +172,7 @@ public class AQLInterpreter implements IInterpreter {
                 .log();
         });
 
+        this.evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
         this.initExpressionsCache();
     }
 
@@ -138,19 +182,22 @@ public class AQLInterpreter implements IInterpreter {
         if (this.queryEnvironment.getEPackageProvider() instanceof EPackageProvider ePackageProvider) {
             EPackage registeredEPackage = ePackageProvider.registerPackage(ePackage);
             if (registeredEPackage != null) {
-                var optionalCachedServices = ePackage.eAdapters().stream()
-                        .filter(AQLServicesAdapter.class::isInstance)
-                        .map(AQLServicesAdapter.class::cast)
-                        .map(AQLServicesAdapter::getServices)
-                        .findFirst();
-                if (optionalCachedServices.isPresent()) {
-                    cacheHit = true;
-                    ServiceUtils.registerServices(this.queryEnvironment, optionalCachedServices.get());
-                } else {
-                    var services = ServiceUtils.getServices(registeredEPackage);
-                    var cache = new AQLServicesAdapter(services);
-                    registeredEPackage.eAdapters().add(cache);
-                    ServiceUtils.registerServices(this.queryEnvironment, services);
+                // The EPackages are shared by the interpreters of all the editing contexts which may be created concurrently
+                synchronized (registeredEPackage) {
+                    var optionalCachedServices = ePackage.eAdapters().stream()
+                            .filter(AQLServicesAdapter.class::isInstance)
+                            .map(AQLServicesAdapter.class::cast)
+                            .map(AQLServicesAdapter::getServices)
+                            .findFirst();
+                    if (optionalCachedServices.isPresent()) {
+                        cacheHit = true;
+                        this.registerServices(optionalCachedServices.get());
+                    } else {
+                        var services = ServiceUtils.getServices(registeredEPackage);
+                        var cache = new AQLServicesAdapter(services);
+                        registeredEPackage.eAdapters().add(cache);
+                        this.registerServices(services);
+                    }
                 }
             }
         }
@@ -158,6 +205,13 @@ public class AQLInterpreter implements IInterpreter {
         return cacheHit;
     }
 
+    private void registerServices(Set<IService<?>> services) {
+        ServiceUtils.registerServices(this.queryEnvironment, services);
+        services.stream()
+                .map(IService::getName)
+                .forEach(this.registeredServiceNames::add);
+    }
+
     private boolean isValidEPackage(EPackage ePackage) {
         return ePackage != null && ePackage.getName() != null && ePackage.getNsURI() != null;
     }
@@ -166,23 +220,176 @@ public class AQLInterpreter implements IInterpreter {
      * Initializes the cache of the expressions.
      */
     private void initExpressionsCache() {
-        IQueryBuilderEngine builder = QueryParsing.newBuilder();
-        int maxCacheSize = 500;
-        this.parsedExpressions = Caffeine.newBuilder().maximumSize(maxCacheSize).build(builder::build);
+        this.builder = QueryParsing.newBuilder();
+        this.parsedExpressions = Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE).build(this::compile);
     }
 
-    @Override
-    public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
+    /**
+     * Compiles the given expression ahead of time.
+     *
+     * <p>
+     *     The expression is converted into AQL and parsed only once, the compiled expression returned can be kept by
+     *     the caller to be evaluated directly. It is also used by this interpreter, for as long as it lives, when the
+     *     same expression is evaluated from its text.
+     * </p>
+     *
+     * @param expressionBody
+     *         The expression
+     * @return The compiled expression
+     */
+    public CompiledExpression compileExpression(String expressionBody) {
+        String key = Optional.ofNullable(expressionBody).orElse("");
+        return this.compiledExpressions.computeIfAbsent(key, this::compile);
+    }
+
+    private CompiledExpression compile(String expressionBody) {
         String expression = new ExpressionConverter().convertExpression(expressionBody);
         if (expression.startsWith(AQL_PREFIX)) {
             expression = expression.substring(AQL_PREFIX.length());
         }
+        AstResult astResult = this.builder.build(expression);
+        IDirectExpression directExpression = this.expressionClassifier.classify(expression).orElse(null);
+        return new CompiledExpression(this, expressionBody, expression, astResult, this.evaluationEngine, directExpression, this.getVariableNames(astResult), this.isMemoizable(astResult));
+    }
+
+    /**
+     * Returns the names of the variables referenced by the given AST, including those declared in the expression itself
+     * like the parameters of its lambdas.
+     */
+    private List<String> getVariableNames(AstResult astResult) {
+        Set<String> variableNames = new LinkedHashSet<>();
+        Expression ast = astResult.getAst();
+        if (ast instanceof VarRef varRef) {
+            variableNames.add(varRef.getVariableName());
+        } else if (ast != null) {
+            ast.eAllContents().forEachRemaining(eObject -> {
+                if (eObject instanceof VarRef varRef) {
+                    variableNames.add(varRef.getVariableName());
+                }
+            });
+        }
+        return List.copyOf(variableNames);
+    }
+
+    /**
+     * Indicates if the result of the given AST can be memoized, which is the case if it has been parsed without error
+     * and if it only calls the default services of AQL which do not have any side effect.
+     */
+    private boolean isMemoizable(AstResult astResult) {
+        Expression ast = astResult.getAst();
+        boolean isMemoizable = ast != null && Diagnostic.OK == astResult.getDiagnostic().getSeverity();
+        if (isMemoizable) {
+            List<Object> astElements = new ArrayList<>();
+            astElements.add(ast);
+            ast.eAllContents().forEachRemaining(astElements::add);
+            isMemoizable = astElements.stream()
+                    .filter(Call.class::isInstance)
+                    .map(Call.class::cast)
+                    .noneMatch(call -> this.registeredServiceNames.contains(call.getServiceName()));
+        }
+        return isMemoizable;
+    }
+
+    @Override
+    public Result evaluateExpression(Map<String, Object> variables, String expressionBody) {
+        return this.evaluateExpression(variables, this.getCompiledExpression(expressionBody));
+    }
+
+    /**
+     * Evaluates an expression whose result may be reused during the current rendering.
+     *
+     * <p>
+     *     If the variables contain an {@link EvaluationMemo} and if the expression only calls the default services of
+     *     AQL, which do not have any side effect, its result is memoized and reused as long as the expression is evaluated
+     *     with the very same values of the variables it uses. The expressions calling the Java services or the
+     *     EOperations registered in this interpreter are always evaluated.
+     * </p>
+     *
+     * <p>
+     *     The purity of an expression is inferred from the services it calls instead of being declared by the
+     *     specifier: there is no way yet to declare that a Java service has no side effect, an expression calling one
+     *     of them is thus never memoized even if it is pure. The default services of AQL can still navigate the model,
+     *     their results are only valid as long as the model is not modified, which is the case during a rendering.
+     * </p>
+     *
+     * @param variables
+     *         The variables
+     * @param expressionBody
+     *         The expression
+     * @return The result of the evaluation
+     */
+    public Result evaluateMemoizableExpression(Map<String, Object> variables, String expressionBody) {
+        CompiledExpression compiledExpression = this.getCompiledExpression(expressionBody);
+        if (compiledExpression.isMemoizable() && variables.get(EvaluationMemo.EVALUATION_MEMO) instanceof EvaluationMemo evaluationMemo) {
+            return evaluationMemo.getOrCompute(compiledExpression, Result.class, compiledExpression.getVariableNames(), variables, () -> this.evaluateExpression(variables, compiledExpression));
+        }
+        return this.evaluateExpression(variables, compiledExpression);
+    }
+
+    private CompiledExpression getCompiledExpression(String expressionBody) {
+        String key = Optional.ofNullable(expressionBody).orElse("");
+        CompiledExpression compiledExpression = this.compiledExpressions.get(key);
+        if (compiledExpression == null) {
+            compiledExpression = this.parsedExpressions.get(key);
+        }
+        return compiledExpression;
+    }
+
+    /**
+     * Evaluates an expression compiled by this interpreter.
+     *
+     * @param variables
+     *         The variables
+     * @param compiledExpression
+     *         The compiled expression
+     * @return The result of the evaluation
+     */
+    public Result evaluateExpression(Map<String, Object> variables, CompiledExpression compiledExpression) {
+        if (this.profiling) {
+            return this.evaluateProfiledExpression(variables, compiledExpression);
+        }
+        return this.doEvaluateExpression(variables, compiledExpression);
+    }
+
+    private Result evaluateProfiledExpression(Map<String, Object> variables, CompiledExpression compiledExpression) {
+        long allocatedBytesBefore = this.profiler.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        Result result = this.doEvaluateExpression(variables, compiledExpression);
+
+        long nanos = System.nanoTime() - start;
+        long allocatedBytes = -1;
+        if (allocatedBytesBefore >= 0) {
+            allocatedBytes = this.profiler.getCurrentThreadAllocatedBytes() - allocatedBytesBefore;
+        }
+        this.profiler.record(compiledExpression.getExpressionBody(), nanos, allocatedBytes);
+        return result;
+    }
+
+    private Result doEvaluateExpression(Map<String, Object> variables, CompiledExpression compiledExpression) {
+        var optionalResult = compiledExpression.getDirectExpression().flatMap(directExpression -> directExpression.evaluate(variables));
+        if (optionalResult.isPresent()) {
+            return optionalResult.get();
+        }
+        return this.evaluateExpressionWithAQL(variables, compiledExpression);
+    }
+
+    /**
+     * Evaluates an expression compiled by this interpreter with AQL, even if it could be evaluated directly.
+     *
+     * @param variables
+     *         The variables
+     * @param compiledExpression
+     *         The compiled expression
+     * @return The result of the evaluation
+     */
+    Result evaluateExpressionWithAQL(Map<String, Object> variables, CompiledExpression compiledExpression) {
+        String expressionBody = compiledExpression.getExpressionBody();
 
         long start = System.currentTimeMillis();
 
-        AstResult build = this.parsedExpressions.get(expression);
-        IQueryEvaluationEngine evaluationEngine = QueryEvaluation.newEngine(this.queryEnvironment);
-        EvaluationResult evalResult = evaluationEngine.eval(build, variables);
+        AstResult build = compiledExpression.getAstResult();
+        EvaluationResult evalResult = compiledExpression.getEvaluationEngine().eval(build, variables);
 
         BasicDiagnostic diagnostic = new BasicDiagnostic();
         if (Diagnostic.OK != build.getDiagnostic().getSeverity()) {
@@ -206,6 +413,25 @@ public class AQLInterpreter implements IInterpreter {
         return new Result(Optional.ofNullable(evalResult.getResult()), Status.getStatus(diagnostic.getSeverity()));
     }
 
+    /**
+     * Starts to record the number of evaluations, the time spent and the bytes allocated for each expression.
+     */
+    public void enableProfiling() {
+        this.profiling = true;
+    }
+
+    /**
+     * Returns the profiler of the evaluations if the profiling has been enabled.
+     *
+     * @return The profiler of the evaluations
+     */
+    public Optional<ExpressionProfiler> getProfiler() {
+        if (this.profiling) {
+            return Optional.of(this.profiler);
+        }
+        return Optional.empty();
+    }
+
     private void log(String expression, Diagnostic diagnostic) {
         if (diagnostic.getMessage() != null) {
             if (Diagnostic.INFO == diagnostic.getSeverity()) {
@@ -23,19 +23,21 @@ import org.eclipse.sirius.components.representations.VariableManager;
  * @author fbarbin
  */
 public class BooleanValueProvider implements Function<VariableManager, Boolean> {
-    private final AQLInterpreter interpreter;
-
-    private final String expression;
+    private final CompiledExpression compiledExpression;
 
     public BooleanValueProvider(AQLInterpreter interpreter, String expression) {
-        this.interpreter = Objects.requireNonNull(interpreter);
-        this.expression = expression;
+        Objects.requireNonNull(interpreter);
+        if (expression != null && !expression.isBlank()) {
+            this.compiledExpression = interpreter.compileExpression(expression);
+        } else {
+            this.compiledExpression = null;
+        }
     }
 
     @Override
     public Boolean apply(VariableManager variableManager) {
-        if (this.expression != null && !this.expression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+        if (this.compiledExpression != null) {
+            Result result = this.compiledExpression.evaluate(variableManager.getVariablesView());
             return result.asBoolean().orElse(Boolean.FALSE);
         }
         return Boolean.FALSE;
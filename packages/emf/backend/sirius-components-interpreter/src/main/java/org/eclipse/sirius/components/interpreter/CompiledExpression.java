@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.acceleo.query.parser.AstResult;
+import org.eclipse.acceleo.query.runtime.IQueryEvaluationEngine;
+
+/**
+ * An expression compiled once by an {@link AQLInterpreter} and evaluated as many times as needed.
+ *
+ * <p>
+ *     It holds the result of the conversion of the expression into AQL, the parsed AST and the evaluation engine of
+ *     the interpreter which has compiled it. It should only be evaluated with this interpreter. Trivial expressions
+ *     also have a direct expression which is used to evaluate them without AQL when possible.
+ * </p>
+ *
+ * @author agent
+ */
+public final class CompiledExpression {
+
+    private final AQLInterpreter interpreter;
+
+    private final String expressionBody;
+
+    private final String aqlExpression;
+
+    private final AstResult astResult;
+
+    private final IQueryEvaluationEngine evaluationEngine;
+
+    private final IDirectExpression directExpression;
+
+    private final List<String> variableNames;
+
+    private final boolean memoizable;
+
+    CompiledExpression(AQLInterpreter interpreter, String expressionBody, String aqlExpression, AstResult astResult, IQueryEvaluationEngine evaluationEngine, IDirectExpression directExpression,
+            List<String> variableNames, boolean memoizable) {
+        this.interpreter = Objects.requireNonNull(interpreter);
+        this.expressionBody = Objects.requireNonNull(expressionBody);
+        this.aqlExpression = Objects.requireNonNull(aqlExpression);
+        this.astResult = Objects.requireNonNull(astResult);
+        this.evaluationEngine = Objects.requireNonNull(evaluationEngine);
+        this.directExpression = directExpression;
+        this.variableNames = Objects.requireNonNull(variableNames);
+        this.memoizable = memoizable;
+    }
+
+    /**
+     * Returns the expression as written by the specifier, before its conversion into AQL.
+     *
+     * @return The original expression
+     */
+    public String getExpressionBody() {
+        return this.expressionBody;
+    }
+
+    /**
+     * Returns the expression converted into AQL, without its {@code aql:} prefix.
+     *
+     * @return The AQL expression
+     */
+    public String getAqlExpression() {
+        return this.aqlExpression;
+    }
+
+    public AstResult getAstResult() {
+        return this.astResult;
+    }
+
+    public IQueryEvaluationEngine getEvaluationEngine() {
+        return this.evaluationEngine;
+    }
+
+    public Optional<IDirectExpression> getDirectExpression() {
+        return Optional.ofNullable(this.directExpression);
+    }
+
+    /**
+     * Returns the names of the variables used by the expression.
+     *
+     * @return The names of the variables
+     */
+    public List<String> getVariableNames() {
+        return this.variableNames;
+    }
+
+    /**
+     * Indicates if the result of the expression can be reused as long as the values of its variables are the same,
+     * which is the case if it does not call any of the services registered in its interpreter.
+     *
+     * @return <code>true</code> if the result of the expression can be memoized
+     */
+    public boolean isMemoizable() {
+        return this.memoizable;
+    }
+
+    /**
+     * Evaluates the expression with the given variables.
+     *
+     * @param variables
+     *         The variables
+     * @return The result of the evaluation
+     */
+    public Result evaluate(Map<String, Object> variables) {
+        return this.interpreter.evaluateExpression(variables, this);
+    }
+
+    @Override
+    public String toString() {
+        return this.expressionBody;
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.FeatureMapUtil;
+
+/**
+ * Used to recognize the trivial AQL expressions which can be evaluated directly with EMF.
+ *
+ * <p>
+ *     The expressions recognized are the literals, the access to a variable, the access to a structural feature of a
+ *     variable and the calls to {@code eContainer()}, {@code eContents()} and {@code eClass()} on a variable, like
+ *     {@code self}, {@code self.name} or {@code self.eContents()}. They are evaluated with the same semantics as AQL.
+ *     When the variables do not allow such a direct evaluation, for example if a variable is missing or if it does not
+ *     have the feature used, the expression should be evaluated by AQL which will produce the proper diagnostics.
+ * </p>
+ *
+ * @author agent
+ */
+public class ExpressionClassifier {
+
+    private static final String IDENTIFIER = "[a-zA-Z_][a-zA-Z0-9_]*";
+
+    private static final Pattern VARIABLE = Pattern.compile("(" + IDENTIFIER + ")");
+
+    private static final Pattern FEATURE_ACCESS = Pattern.compile("(" + IDENTIFIER + ")\\.(" + IDENTIFIER + ")");
+
+    private static final Pattern ECORE_CALL = Pattern.compile("(" + IDENTIFIER + ")\\.(eContainer|eContents|eClass)\\(\\)");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'([^'\\\\]*)'");
+
+    private static final Pattern INTEGER_LITERAL = Pattern.compile("[0-9]{1,9}");
+
+    /**
+     * The keywords and the names of the types of AQL which cannot be used as the name of a variable or a feature.
+     */
+    private static final Set<String> RESERVED_NAMES = Set.of("not", "and", "or", "xor", "implies", "let", "in", "if", "then", "else", "endif", "true", "false", "null", "lambda", "String",
+            "Integer", "Real", "Boolean", "Sequence", "OrderedSet", "Set", "Bag");
+
+    /**
+     * The operations of EObject supported, the lists returned by EMF are copied like those returned by AQL so that the
+     * results are not modified with the model.
+     */
+    private static final Map<String, Function<EObject, Object>> ECORE_OPERATIONS = Map.of(
+            "eContainer", EObject::eContainer,
+            "eContents", eObject -> new ArrayList<>(eObject.eContents()),
+            "eClass", EObject::eClass
+    );
+
+    /**
+     * Classifies the given expression.
+     *
+     * @param aqlExpression
+     *         An AQL expression, without its {@code aql:} prefix
+     * @return The expression to evaluate directly or an empty optional if the expression should always be evaluated by
+     *         AQL
+     */
+    public Optional<IDirectExpression> classify(String aqlExpression) {
+        String expression = aqlExpression.strip();
+
+        Optional<IDirectExpression> optionalDirectExpression = this.classifyLiteral(expression);
+        if (optionalDirectExpression.isEmpty()) {
+            optionalDirectExpression = this.classifyNavigation(expression);
+        }
+        return optionalDirectExpression;
+    }
+
+    private Optional<IDirectExpression> classifyLiteral(String expression) {
+        Optional<Object> optionalValue = Optional.empty();
+
+        Matcher stringLiteralMatcher = STRING_LITERAL.matcher(expression);
+        if (stringLiteralMatcher.matches()) {
+            optionalValue = Optional.of(stringLiteralMatcher.group(1));
+        } else if (INTEGER_LITERAL.matcher(expression).matches()) {
+            optionalValue = Optional.of(Integer.valueOf(expression));
+        } else if ("true".equals(expression) || "false".equals(expression)) {
+            optionalValue = Optional.of(Boolean.valueOf(expression));
+        }
+
+        return optionalValue.map(value -> {
+            Result result = new Result(Optional.of(value), Status.OK);
+            return variables -> Optional.of(result);
+        });
+    }
+
+    private Optional<IDirectExpression> classifyNavigation(String expression) {
+        Optional<IDirectExpression> optionalDirectExpression = Optional.empty();
+
+        Matcher variableMatcher = VARIABLE.matcher(expression);
+        Matcher featureAccessMatcher = FEATURE_ACCESS.matcher(expression);
+        Matcher ecoreCallMatcher = ECORE_CALL.matcher(expression);
+        if (variableMatcher.matches() && this.isValidName(variableMatcher.group(1))) {
+            String variableName = variableMatcher.group(1);
+            optionalDirectExpression = Optional.of(variables -> this.getVariable(variables, variableName)
+                    .map(value -> new Result(Optional.of(value), Status.OK)));
+        } else if (ecoreCallMatcher.matches() && this.isValidName(ecoreCallMatcher.group(1))) {
+            String variableName = ecoreCallMatcher.group(1);
+            Function<EObject, Object> operation = ECORE_OPERATIONS.get(ecoreCallMatcher.group(2));
+            optionalDirectExpression = Optional.of(variables -> this.getVariable(variables, variableName)
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .map(eObject -> new Result(Optional.ofNullable(operation.apply(eObject)), Status.OK)));
+        } else if (featureAccessMatcher.matches() && this.isValidName(featureAccessMatcher.group(1)) && this.isValidName(featureAccessMatcher.group(2))) {
+            String variableName = featureAccessMatcher.group(1);
+            String featureName = featureAccessMatcher.group(2);
+            optionalDirectExpression = Optional.of(variables -> this.getVariable(variables, variableName)
+                    .filter(EObject.class::isInstance)
+                    .map(EObject.class::cast)
+                    .flatMap(eObject -> this.getFeatureValue(eObject, featureName)));
+        }
+
+        return optionalDirectExpression;
+    }
+
+    private boolean isValidName(String name) {
+        return !RESERVED_NAMES.contains(name);
+    }
+
+    private Optional<Object> getVariable(Map<String, Object> variables, String variableName) {
+        return Optional.ofNullable(variables.get(variableName));
+    }
+
+    private Optional<Result> getFeatureValue(EObject eObject, String featureName) {
+        Optional<Result> optionalResult = Optional.empty();
+
+        EStructuralFeature feature = eObject.eClass().getEStructuralFeature(featureName);
+        if (feature != null && !(feature.getEType() instanceof EEnum) && !FeatureMapUtil.isFeatureMap(feature)) {
+            Object value = eObject.eGet(feature);
+            if (value instanceof List<?> list) {
+                value = new ArrayList<>(list);
+            }
+            optionalResult = Optional.of(new Result(Optional.ofNullable(value), Status.OK));
+        }
+
+        return optionalResult;
+    }
+}
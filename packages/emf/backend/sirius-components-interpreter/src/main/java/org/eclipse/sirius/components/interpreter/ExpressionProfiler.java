@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the number of evaluations, the time spent and the bytes allocated for each expression of an interpreter.
+ *
+ * <p>
+ *     The statistics are only kept for the expression and not for each evaluation, the cost of the profiling is thus
+ *     limited to the measure of the time and of the bytes allocated by the current thread around each evaluation and
+ *     to the update of a few counters designed to limit the contention between the threads. The bytes allocated are
+ *     not measured if the JVM does not support it.
+ * </p>
+ *
+ * @author agent
+ */
+public class ExpressionProfiler {
+
+    private final Map<String, ExpressionProfile> expressionBodyToProfile = new ConcurrentHashMap<>();
+
+    /**
+     * Records an evaluation of the given expression.
+     *
+     * @param expressionBody
+     *         The expression
+     * @param nanos
+     *         The duration of the evaluation
+     * @param allocatedBytes
+     *         The number of bytes allocated by the evaluation or a negative value if it could not be measured
+     */
+    public void record(String expressionBody, long nanos, long allocatedBytes) {
+        var profile = this.expressionBodyToProfile.get(expressionBody);
+        if (profile == null) {
+            profile = this.expressionBodyToProfile.computeIfAbsent(expressionBody, key -> new ExpressionProfile());
+        }
+        profile.count().increment();
+        profile.totalNanos().add(nanos);
+        if (allocatedBytes > 0) {
+            profile.allocatedBytes().add(allocatedBytes);
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread or -1 if the JVM cannot measure it.
+     *
+     * @return A number of bytes
+     */
+    public long getCurrentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadMXBean && threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return threadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the statistics of the expressions evaluated, starting with those which have taken the most time.
+     *
+     * @return The statistics of the expressions
+     */
+    public List<ExpressionStatistics> getStatistics() {
+        return this.expressionBodyToProfile.entrySet().stream()
+                .map(entry -> new ExpressionStatistics(entry.getKey(), entry.getValue().count().sum(), entry.getValue().totalNanos().sum(), entry.getValue().allocatedBytes().sum()))
+                .sorted(Comparator.comparingLong(ExpressionStatistics::totalNanos).reversed())
+                .toList();
+    }
+
+    /**
+     * Forgets the evaluations recorded so far.
+     */
+    public void reset() {
+        this.expressionBodyToProfile.clear();
+    }
+
+    /**
+     * The counters of an expression.
+     *
+     * @author agent
+     */
+    private record ExpressionProfile(LongAdder count, LongAdder totalNanos, LongAdder allocatedBytes) {
+        ExpressionProfile() {
+            this(new LongAdder(), new LongAdder(), new LongAdder());
+        }
+    }
+}
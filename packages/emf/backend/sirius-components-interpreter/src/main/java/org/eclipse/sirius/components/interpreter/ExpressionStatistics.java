@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.Objects;
+
+/**
+ * The statistics of the evaluations of an expression recorded by an {@link ExpressionProfiler}.
+ *
+ * @param expression
+ *         The expression
+ * @param count
+ *         The number of evaluations
+ * @param totalNanos
+ *         The time spent to evaluate the expression
+ * @param allocatedBytes
+ *         The number of bytes allocated by the evaluations, 0 if the JVM cannot measure it
+ *
+ * @author agent
+ */
+public record ExpressionStatistics(String expression, long count, long totalNanos, long allocatedBytes) {
+    public ExpressionStatistics {
+        Objects.requireNonNull(expression);
+    }
+}
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A trivial expression evaluated directly, without the AQL evaluation engine.
+ *
+ * @author agent
+ */
+@FunctionalInterface
+public interface IDirectExpression {
+
+    /**
+     * Evaluates the expression with the given variables.
+     *
+     * @param variables
+     *         The variables
+     * @return The result of the evaluation or an empty optional if the expression cannot be evaluated directly with
+     *         these variables, it should then be evaluated by AQL in order to produce the proper diagnostics
+     */
+    Optional<Result> evaluate(Map<String, Object> variables);
+}
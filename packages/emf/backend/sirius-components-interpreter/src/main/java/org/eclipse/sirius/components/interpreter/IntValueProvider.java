@@ -24,18 +24,15 @@ import org.eclipse.sirius.components.representations.VariableManager;
  */
 public class IntValueProvider implements Function<VariableManager, Integer> {
 
-    private final AQLInterpreter interpreter;
-
-    private final String expression;
+    private final CompiledExpression compiledExpression;
 
     public IntValueProvider(AQLInterpreter interpreter, String expression) {
-        this.interpreter = Objects.requireNonNull(interpreter);
-        this.expression = expression;
+        this.compiledExpression = Objects.requireNonNull(interpreter).compileExpression(expression);
     }
 
     @Override
     public Integer apply(VariableManager variableManager) {
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+        Result result = this.compiledExpression.evaluate(variableManager.getVariablesView());
         return result.asInt()
                 .orElse(0);
     }
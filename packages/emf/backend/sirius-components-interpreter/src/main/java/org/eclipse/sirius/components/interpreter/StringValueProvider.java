@@ -24,18 +24,15 @@ import org.eclipse.sirius.components.representations.VariableManager;
  */
 public class StringValueProvider implements Function<VariableManager, String> {
 
-    private final AQLInterpreter interpreter;
-
-    private final String expression;
+    private final CompiledExpression compiledExpression;
 
     public StringValueProvider(AQLInterpreter interpreter, String expression) {
-        this.interpreter = Objects.requireNonNull(interpreter);
-        this.expression = expression;
+        this.compiledExpression = Objects.requireNonNull(interpreter).compileExpression(expression);
     }
 
     @Override
     public String apply(VariableManager variableManager) {
-        Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), this.expression);
+        Result result = this.compiledExpression.evaluate(variableManager.getVariablesView());
         return result.asString()
                 .orElse("");
     }
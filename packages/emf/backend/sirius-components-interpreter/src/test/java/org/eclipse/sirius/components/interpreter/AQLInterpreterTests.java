@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import java.util.Optional;
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.sirius.components.representations.EvaluationMemo;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -124,4 +125,72 @@ public class AQLInterpreterTests {
         assertThat(result.asString()).contains("instance");
     }
 
+    @Test
+    public void testCompiledExpressionIsReusedAndEvaluatedLikeItsText() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        CompiledExpression compiledExpression = interpreter.compileExpression("feature:name");
+        assertThat(compiledExpression.getAqlExpression()).isEqualTo("self.name");
+        assertThat(interpreter.compileExpression("feature:name")).isSameAs(compiledExpression);
+
+        var variables = Map.<String, Object>of(SELF, EcorePackage.eINSTANCE.getEModelElement());
+        assertThat(compiledExpression.evaluate(variables).asString()).isEqualTo(interpreter.evaluateExpression(variables, "feature:name").asString());
+        assertThat(compiledExpression.evaluate(variables).asString()).contains(EcorePackage.eINSTANCE.getEModelElement().getName());
+    }
+
+    @Test
+    public void testMemoizableExpressionIsMemoizedWithTheValuesOfItsVariables() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        assertThat(interpreter.compileExpression("aql:self.eClassifiers->select(c | c.name <> name)").getVariableNames()).containsExactlyInAnyOrder(SELF, "c", "name");
+
+        var evaluationMemo = new EvaluationMemo();
+        var variables = Map.<String, Object>of(SELF, EcorePackage.eINSTANCE, "index", 0, EvaluationMemo.EVALUATION_MEMO, evaluationMemo);
+        Result result = interpreter.evaluateMemoizableExpression(variables, "aql:self.eClassifiers");
+        var otherVariables = Map.<String, Object>of(SELF, EcorePackage.eINSTANCE, "index", 1, EvaluationMemo.EVALUATION_MEMO, evaluationMemo);
+        assertThat(interpreter.evaluateMemoizableExpression(otherVariables, "aql:self.eClassifiers")).isSameAs(result);
+        assertThat(evaluationMemo.getHitCount()).isEqualTo(1);
+
+        var variablesWithOtherSelf = Map.<String, Object>of(SELF, EcorePackage.eINSTANCE.getEClass(), EvaluationMemo.EVALUATION_MEMO, evaluationMemo);
+        assertThat(interpreter.evaluateMemoizableExpression(variablesWithOtherSelf, "aql:self.eClassifiers")).isNotSameAs(result);
+        assertThat(interpreter.evaluateExpression(variables, "aql:self.eClassifiers")).isNotSameAs(result);
+        assertThat(evaluationMemo.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testExpressionCallingAServiceIsNotMemoized() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(TestServices.class), List.of(EcorePackage.eINSTANCE));
+        assertThat(interpreter.compileExpression("aql:self.name.toUpper()").isMemoizable()).isTrue();
+        assertThat(interpreter.compileExpression("aql:self.getCreationMessage()").isMemoizable()).isFalse();
+
+        var evaluationMemo = new EvaluationMemo();
+        var variables = Map.<String, Object>of(SELF, EcorePackage.eINSTANCE, EvaluationMemo.EVALUATION_MEMO, evaluationMemo);
+        interpreter.evaluateMemoizableExpression(variables, "aql:self.getCreationMessage()");
+        interpreter.evaluateMemoizableExpression(variables, "aql:self.getCreationMessage()");
+        assertThat(evaluationMemo.getHitCount()).isZero();
+        assertThat(evaluationMemo.getMissCount()).isZero();
+    }
+
+    @Test
+    public void testProfiledEvaluationsAreAggregatedForEachExpression() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        var variables = Map.<String, Object>of(SELF, EcorePackage.eINSTANCE);
+        interpreter.evaluateExpression(variables, "aql:self.name");
+        assertThat(interpreter.getProfiler()).isEmpty();
+
+        interpreter.enableProfiling();
+        interpreter.evaluateExpression(variables, "aql:self.name");
+        interpreter.evaluateExpression(variables, "aql:self.name");
+        interpreter.compileExpression("aql:self.eClassifiers->size()").evaluate(variables);
+
+        assertThat(interpreter.getProfiler()).isPresent();
+        List<ExpressionStatistics> statistics = interpreter.getProfiler().get().getStatistics();
+        assertThat(statistics).extracting(ExpressionStatistics::expression).containsExactlyInAnyOrder("aql:self.name", "aql:self.eClassifiers->size()");
+        assertThat(statistics).filteredOn(expressionStatistics -> expressionStatistics.expression().equals("aql:self.name")).singleElement()
+                .satisfies(expressionStatistics -> {
+                    assertThat(expressionStatistics.count()).isEqualTo(2);
+                    assertThat(expressionStatistics.totalNanos()).isPositive();
+                });
+
+        interpreter.getProfiler().get().reset();
+        assertThat(interpreter.getProfiler().get().getStatistics()).isEmpty();
+    }
 }
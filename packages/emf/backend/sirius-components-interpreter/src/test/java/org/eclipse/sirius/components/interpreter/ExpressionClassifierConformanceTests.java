@@ -0,0 +1,272 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.interpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EAnnotation;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EOperation;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EParameter;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Checks that the expressions evaluated directly produce the same results as AQL on generated models.
+ *
+ * @author agent
+ */
+public class ExpressionClassifierConformanceTests {
+
+    private static final String SELF = "self";
+
+    private static final String ROOT = "root";
+
+    private static final List<String> FAST_PATH_EXPRESSIONS = List.of(
+            "aql:self",
+            "var:self",
+            "aql:root",
+            "aql:self.name",
+            "feature:name",
+            "aql:root.name",
+            "aql:self.nsURI",
+            "aql:self.abstract",
+            "aql:self.interface",
+            "aql:self.lowerBound",
+            "aql:self.upperBound",
+            "aql:self.containment",
+            "aql:self.eType",
+            "aql:self.eOpposite",
+            "aql:self.eSuperTypes",
+            "aql:self.eStructuralFeatures",
+            "aql:self.eClassifiers",
+            "aql:self.eSubpackages",
+            "aql:self.eParameters",
+            "aql:self.eLiterals",
+            "aql:self.eAnnotations",
+            "aql:self.source",
+            "aql:self.eContents()",
+            "feature:eContents",
+            "aql:self.eContainer()",
+            "feature:eContainer",
+            "aql:self.eClass()",
+            "feature:eClass",
+            "",
+            "Label",
+            "true",
+            "42",
+            "aql:'Label'",
+            "aql:true",
+            "aql:false",
+            "aql:42"
+    );
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 10, 100 })
+    public void givenGeneratedModelWhenFastPathExpressionsAreEvaluatedThenTheyProduceTheSameResultsAsAQL(int size) {
+        EPackage root = this.generate(size);
+        List<EObject> eObjects = new ArrayList<>();
+        eObjects.add(root);
+        root.eAllContents().forEachRemaining(eObjects::add);
+
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        for (String expression : FAST_PATH_EXPRESSIONS) {
+            CompiledExpression compiledExpression = interpreter.compileExpression(expression);
+            assertThat(compiledExpression.getDirectExpression()).as(expression).isPresent();
+            IDirectExpression directExpression = compiledExpression.getDirectExpression().get();
+
+            int directEvaluationsCount = 0;
+            for (EObject eObject : eObjects) {
+                Map<String, Object> variables = Map.of(SELF, eObject, ROOT, root);
+                var optionalDirectResult = directExpression.evaluate(variables);
+                if (optionalDirectResult.isPresent()) {
+                    directEvaluationsCount++;
+                    Result directResult = optionalDirectResult.get();
+                    Result aqlResult = interpreter.evaluateExpressionWithAQL(variables, compiledExpression);
+
+                    String description = expression + " on " + eObject;
+                    assertThat(directResult.getStatus()).as(description).isEqualTo(aqlResult.getStatus());
+                    assertThat(directResult.asObject()).as(description).isEqualTo(aqlResult.asObject());
+                    assertThat(directResult.asObjects()).as(description).isEqualTo(aqlResult.asObjects());
+                    assertThat(directResult.asString()).as(description).isEqualTo(aqlResult.asString());
+                    assertThat(directResult.asBoolean()).as(description).isEqualTo(aqlResult.asBoolean());
+                    assertThat(directResult.asInt()).as(description).isEqualTo(aqlResult.asInt());
+                }
+            }
+            assertThat(directEvaluationsCount).as(expression).isPositive();
+        }
+    }
+
+    @Test
+    public void givenManyValuedExpressionsWhenTheyAreEvaluatedDirectlyThenTheLiveListsOfTheModelAreNotReturned() {
+        EPackage root = this.generate(10);
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        Map<String, Object> variables = Map.of(SELF, root, ROOT, root);
+
+        var expressionToLiveList = Map.of(
+                "aql:self.eContents()", root.eContents(),
+                "feature:eContents", root.eContents(),
+                "aql:self.eClassifiers", root.getEClassifiers()
+        );
+        for (var entry : expressionToLiveList.entrySet()) {
+            var optionalDirectExpression = interpreter.compileExpression(entry.getKey()).getDirectExpression();
+            assertThat(optionalDirectExpression).as(entry.getKey()).isPresent();
+
+            var optionalResult = optionalDirectExpression.get().evaluate(variables);
+            assertThat(optionalResult).as(entry.getKey()).isPresent();
+
+            Object value = optionalResult.get().asObject().orElse(null);
+            assertThat(value).as(entry.getKey()).isEqualTo(entry.getValue()).isNotSameAs(entry.getValue());
+        }
+
+        Object eContents = interpreter.compileExpression("aql:self.eContents()").getDirectExpression().get().evaluate(variables).get().asObject().orElse(null);
+        assertThat(eContents).isInstanceOf(List.class);
+        int size = ((List<?>) eContents).size();
+        root.getEClassifiers().add(EcoreFactory.eINSTANCE.createEClass());
+        assertThat((List<?>) eContents).hasSize(size);
+    }
+
+    @Test
+    public void givenComplexExpressionsWhenTheyAreCompiledThenTheyAreEvaluatedByAQL() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        var expressions = List.of(
+                "aql:self.name.toUpper()",
+                "aql:self.eContents()->size()",
+                "aql:self.eContainer().name",
+                "aql:self.oclIsKindOf(ecore::EClass)",
+                "aql:String",
+                "aql:null",
+                "aql:'it\\'s'",
+                "aql:12345678901",
+                "it's"
+        );
+        for (String expression : expressions) {
+            assertThat(interpreter.compileExpression(expression).getDirectExpression()).as(expression).isEmpty();
+        }
+    }
+
+    @Test
+    public void givenMissingVariableWhenFastPathExpressionIsEvaluatedThenAQLReportsTheProblem() {
+        AQLInterpreter interpreter = new AQLInterpreter(List.of(), List.of(EcorePackage.eINSTANCE));
+        CompiledExpression compiledExpression = interpreter.compileExpression("aql:self.name");
+        assertThat(compiledExpression.getDirectExpression()).isPresent();
+        assertThat(compiledExpression.getDirectExpression().get().evaluate(Map.of())).isEmpty();
+
+        Result result = compiledExpression.evaluate(Map.of());
+        assertThat(result.getStatus()).isNotEqualTo(Status.OK);
+        assertThat(result).usingRecursiveComparison().isEqualTo(interpreter.evaluateExpressionWithAQL(Map.of(), compiledExpression));
+    }
+
+    /**
+     * Generates an Ecore model whose number of classes and enumerations is proportional to the given size.
+     */
+    private EPackage generate(int size) {
+        EcoreFactory factory = EcoreFactory.eINSTANCE;
+
+        EPackage root = factory.createEPackage();
+        root.setName("root");
+        root.setNsPrefix("root");
+        root.setNsURI("https://www.eclipse.org/sirius/tests/root");
+
+        EPackage currentPackage = root;
+        List<EClass> eClasses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 9) {
+                EPackage subPackage = factory.createEPackage();
+                subPackage.setName("package" + i);
+                subPackage.setNsPrefix("package" + i);
+                subPackage.setNsURI(root.getNsURI() + "/package" + i);
+                currentPackage.getESubpackages().add(subPackage);
+                currentPackage = subPackage;
+            }
+
+            EClass eClass = factory.createEClass();
+            eClass.setName("Class" + i);
+            eClass.setAbstract(i % 3 == 0);
+            eClass.setInterface(i % 7 == 0);
+            if (!eClasses.isEmpty()) {
+                eClass.getESuperTypes().add(eClasses.get(i / 2));
+            }
+            currentPackage.getEClassifiers().add(eClass);
+            eClasses.add(eClass);
+
+            EAttribute eAttribute = factory.createEAttribute();
+            eAttribute.setName("attribute" + i);
+            eAttribute.setEType(EcorePackage.Literals.ESTRING);
+            if (i % 2 == 0) {
+                eAttribute.setUpperBound(-1);
+            }
+            eClass.getEStructuralFeatures().add(eAttribute);
+
+            EOperation eOperation = factory.createEOperation();
+            eOperation.setName("operation" + i);
+            eOperation.setEType(EcorePackage.Literals.EBOOLEAN);
+            EParameter eParameter = factory.createEParameter();
+            eParameter.setName("parameter" + i);
+            eParameter.setEType(EcorePackage.Literals.EINT);
+            eOperation.getEParameters().add(eParameter);
+            eClass.getEOperations().add(eOperation);
+
+            EAnnotation eAnnotation = factory.createEAnnotation();
+            eAnnotation.setSource("https://www.eclipse.org/sirius/tests/annotation" + i);
+            eAnnotation.getDetails().put("key" + i, "value" + i);
+            eClass.getEAnnotations().add(eAnnotation);
+
+            if (i % 5 == 0) {
+                EEnum eEnum = factory.createEEnum();
+                eEnum.setName("Enum" + i);
+                for (int j = 0; j < 3; j++) {
+                    EEnumLiteral eEnumLiteral = factory.createEEnumLiteral();
+                    eEnumLiteral.setName("LITERAL" + j);
+                    eEnumLiteral.setValue(j);
+                    eEnum.getELiterals().add(eEnumLiteral);
+                }
+                currentPackage.getEClassifiers().add(eEnum);
+            }
+        }
+
+        for (int i = 0; i < eClasses.size(); i++) {
+            EClass source = eClasses.get(i);
+            EClass target = eClasses.get((i + 1) % eClasses.size());
+
+            EReference containment = factory.createEReference();
+            containment.setName("children" + i);
+            containment.setContainment(true);
+            containment.setUpperBound(-1);
+            containment.setEType(target);
+            source.getEStructuralFeatures().add(containment);
+
+            EReference container = factory.createEReference();
+            container.setName("parent" + i);
+            container.setEType(source);
+            container.setEOpposite(containment);
+            containment.setEOpposite(container);
+            target.getEStructuralFeatures().add(container);
+        }
+
+        return root;
+    }
+}
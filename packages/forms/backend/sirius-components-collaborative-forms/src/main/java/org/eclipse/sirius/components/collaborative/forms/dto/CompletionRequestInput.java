@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2023 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,11 +15,12 @@ package org.eclipse.sirius.components.collaborative.forms.dto;
 import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.forms.api.IFormInput;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
 
 /**
  * Represents a request for code completion inside a text field which supports it.
  *
  * @author pcdavid
  */
-public record CompletionRequestInput(UUID id, String editingContextId, String representationId, String widgetId, String currentText, int cursorPosition) implements IFormInput {
+public record CompletionRequestInput(UUID id, String editingContextId, String representationId, String widgetId, String currentText, int cursorPosition) implements IFormInput, IReadOnlyInput {
 }
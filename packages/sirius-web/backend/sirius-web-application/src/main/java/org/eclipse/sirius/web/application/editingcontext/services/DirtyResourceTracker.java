@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+
+/**
+ * Used to keep track of the resources of an editing context which have been modified since their last persistence.
+ *
+ * <p>
+ * A resource is only considered clean once it has been persisted and as long as neither its content nor its metadata
+ * have changed since. The data of the document created during its last persistence are kept in order to reuse them
+ * instead of serializing the resource again.
+ * </p>
+ *
+ * @author agent
+ */
+public class DirtyResourceTracker extends EContentAdapter {
+
+    private final Map<Resource, DocumentData> cleanResources = new WeakHashMap<>();
+
+    /**
+     * Returns the data of the last persistence of the given resource if it has not been modified since.
+     *
+     * @param resource
+     *         The resource
+     * @return The data of the document persisted for this resource or an empty optional if the resource has to be
+     * serialized again
+     */
+    public synchronized Optional<DocumentData> getCleanDocumentData(Resource resource) {
+        var optionalDocumentData = Optional.ofNullable(this.cleanResources.get(resource));
+        if (optionalDocumentData.isPresent()) {
+            var document = optionalDocumentData.get().document();
+            var sameMetadata = resource.eAdapters().stream()
+                    .filter(ResourceMetadataAdapter.class::isInstance)
+                    .map(ResourceMetadataAdapter.class::cast)
+                    .findFirst()
+                    .map(adapter -> Objects.equals(adapter.getName(), document.getName()) && adapter.isReadOnly() == document.isReadOnly())
+                    .orElse(false);
+            if (!sameMetadata) {
+                this.cleanResources.remove(resource);
+                optionalDocumentData = Optional.empty();
+            }
+        }
+        return optionalDocumentData;
+    }
+
+    public synchronized boolean isDirty(Resource resource) {
+        return !this.cleanResources.containsKey(resource);
+    }
+
+    public synchronized void markClean(Resource resource, DocumentData documentData) {
+        this.cleanResources.put(resource, Objects.requireNonNull(documentData));
+    }
+
+    public synchronized void markDirty(Resource resource) {
+        this.cleanResources.remove(resource);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch()) {
+            Object notifier = notification.getNotifier();
+            if (notifier instanceof EObject eObject) {
+                Optional.ofNullable(eObject.eResource()).ifPresent(this::markDirty);
+            } else if (notifier instanceof Resource resource && this.isContentOrURIChange(notification)) {
+                this.markDirty(resource);
+            } else if (notifier instanceof ResourceSet && notification.getOldValue() instanceof Resource resource) {
+                this.markDirty(resource);
+            }
+        }
+    }
+
+    private boolean isContentOrURIChange(Notification notification) {
+        int featureID = notification.getFeatureID(Resource.class);
+        return featureID == Resource.RESOURCE__CONTENTS || featureID == Resource.RESOURCE__URI;
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+}
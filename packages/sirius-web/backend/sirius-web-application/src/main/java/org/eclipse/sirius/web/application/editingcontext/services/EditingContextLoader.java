@@ -108,6 +108,9 @@ public class EditingContextLoader implements IEditingContextLoader {
         // This is required for IncomingTreeDescriptionProvider to be efficient for example.
         resourceSet.eAdapters().add(new ECrossReferenceAdapter());
 
+        // Install a DirtyResourceTracker so that only the resources modified since their last persistence are saved.
+        resourceSet.eAdapters().add(new DirtyResourceTracker());
+
         this.logger.debug("{} documents loaded for the editing context {}", resourceSet.getResources().size(), editingContext.getId());
     }
 
@@ -12,17 +12,18 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
+import org.eclipse.sirius.components.emf.services.AdapterInstaller;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.web.application.UUIDParser;
@@ -31,13 +32,14 @@ import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingCo
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
-import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataUpdateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -45,6 +47,11 @@ import io.micrometer.core.instrument.Timer;
 /**
  * Used to save the editing context.
  *
+ * <p>
+ * If the resource set of the editing context is observed by a {@link DirtyResourceTracker}, only the resources
+ * modified since their last persistence are serialized, the documents of the other resources are reused as is.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -54,8 +61,6 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private final ISemanticDataUpdateService semanticDataUpdateService;
 
-    private final ISemanticDataSearchService semanticDataSearchService;
-
     private final IResourceToDocumentService resourceToDocumentService;
 
     private final List<IEditingContextPersistenceFilter> persistenceFilters;
@@ -66,11 +71,11 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
 
     private final Logger logger = LoggerFactory.getLogger(EditingContextPersistenceService.class);
 
-    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, ISemanticDataSearchService semanticDataSearchService,
-            IResourceToDocumentService resourceToDocumentService, List<IEditingContextPersistenceFilter> persistenceFilters,
-            List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, MeterRegistry meterRegistry) {
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
+    public EditingContextPersistenceService(ISemanticDataUpdateService semanticDataUpdateService, IResourceToDocumentService resourceToDocumentService,
+            List<IEditingContextPersistenceFilter> persistenceFilters, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates, MeterRegistry meterRegistry) {
         this.semanticDataUpdateService = Objects.requireNonNull(semanticDataUpdateService);
-        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
         this.resourceToDocumentService = Objects.requireNonNull(resourceToDocumentService);
         this.persistenceFilters = Objects.requireNonNull(persistenceFilters);
         this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
@@ -89,39 +94,31 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
                     .ifPresent(semanticDataUUID -> {
                         AggregateReference<SemanticData, UUID> semanticDataId = AggregateReference.to(semanticDataUUID);
 
+                        var optionalDirtyResourceTracker = this.adapterInstaller.find(emfEditingContext.getDomain().getResourceSet(), DirtyResourceTracker.class);
+
                         // Iterate on a copy of the resources as both persistence filters and actual document saving may
                         // trigger loading of new resources inside the ResourceSet due to proxy resolution.
-                        var documentData = List.copyOf(emfEditingContext.getDomain().getResourceSet().getResources()).stream()
+                        Map<Resource, DocumentData> resource2DocumentData = new LinkedHashMap<>();
+                        List.copyOf(emfEditingContext.getDomain().getResourceSet().getResources()).stream()
                                 .filter(resource -> IEMFEditingContext.RESOURCE_SCHEME.equals(resource.getURI().scheme()))
                                 .filter(resource -> this.persistenceFilters.stream().allMatch(filter -> filter.shouldPersist(resource)))
-                                .map(resource -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
-                                .flatMap(Optional::stream)
-                                .collect(Collectors.toSet());
-
-                        Set<Document> alreadyPersistedDocuments = this.semanticDataSearchService.findById(semanticDataUUID)
-                                .map(SemanticData::getDocuments)
-                                .orElseGet(Set::of);
+                                .forEach(resource -> optionalDirtyResourceTracker.flatMap(tracker -> tracker.getCleanDocumentData(resource))
+                                        .or(() -> this.resourceToDocumentService.toDocument(resource, applyMigrationParticipants))
+                                        .ifPresent(data -> resource2DocumentData.put(resource, data)));
+                        var documentData = resource2DocumentData.values();
 
                         var documents = new LinkedHashSet<Document>();
                         var domainUris = new LinkedHashSet<String>();
 
+                        // Read-only documents which have already been persisted are kept as is by the semantic data
                         documentData.forEach(data -> {
-                            if (data.document().isReadOnly()) {
-                                // Do not persist a document if it is read-only and another version of it has already
-                                // been persisted (instead persist the existing version).
-                                // This ensures that read-only documents are effectively read-only.
-                                alreadyPersistedDocuments.stream()
-                                        .filter(alreadyPersistedDocument -> Objects.equals(alreadyPersistedDocument.getId(), data.document().getId())
-                                                && alreadyPersistedDocument.isReadOnly())
-                                        .findFirst()
-                                        .ifPresentOrElse(documents::add, () -> documents.add(data.document()));
-                            } else {
-                                documents.add(data.document());
-                            }
+                            documents.add(data.document());
                             domainUris.addAll(data.ePackageEntries().stream().map(EPackageEntry::nsURI).toList());
                         });
 
                         this.semanticDataUpdateService.updateDocuments(cause, semanticDataId, documents, domainUris);
+
+                        optionalDirtyResourceTracker.ifPresent(tracker -> this.markClean(tracker, resource2DocumentData));
                     });
         }
 
@@ -134,4 +131,21 @@ public class EditingContextPersistenceService implements IEditingContextPersiste
                 .addArgument(() -> String.format("%1$6s", end - start))
                 .log();
     }
+
+    /**
+     * Marks the persisted resources as clean once the transaction has been committed, if the transaction is rolled back
+     * they will be serialized again during the next persistence.
+     */
+    private void markClean(DirtyResourceTracker tracker, Map<Resource, DocumentData> resource2DocumentData) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    resource2DocumentData.forEach(tracker::markClean);
+                }
+            });
+        } else {
+            resource2DocumentData.forEach(tracker::markClean);
+        }
+    }
 }
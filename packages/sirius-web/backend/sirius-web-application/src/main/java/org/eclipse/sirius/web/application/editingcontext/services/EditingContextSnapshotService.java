@@ -12,41 +12,88 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.editingcontext.services;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.AdapterInstaller;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextSnapshot;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextSnapshotService;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
 import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
 import org.eclipse.sirius.web.application.library.services.LibraryMetadataAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * Creates and restores snapshots of editing contexts.
  *
+ * <p>
+ *     By default, a snapshot only records the changes performed after its creation and it is restored by reversing
+ *     them, the resources which have been added to or removed from the resource set are removed or added back. A full
+ *     snapshot, which serializes all the resources to load them again during its restoration, can still be used
+ *     instead by setting <code>sirius.web.editingContext.fullSnapshots</code> to <code>true</code>. A full snapshot is
+ *     always used before an operation unloading some resources since unloaded objects are turned into proxies, and
+ *     lose their adapters, which cannot be reversed by the changes recorded.
+ * </p>
+ *
  * @author gdaniel
  */
 @Service
 public class EditingContextSnapshotService implements IEditingContextSnapshotService {
 
+    private final Logger logger = LoggerFactory.getLogger(EditingContextSnapshotService.class);
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
     private final IResourceToDocumentService resourceToDocumentService;
 
     private final IResourceLoader resourceLoader;
 
-    public EditingContextSnapshotService(IResourceToDocumentService resourceToDocumentService, IResourceLoader resourceLoader) {
+    private final boolean fullSnapshots;
+
+    public EditingContextSnapshotService(IResourceToDocumentService resourceToDocumentService, IResourceLoader resourceLoader, @Value("${sirius.web.editingContext.fullSnapshots:false}") boolean fullSnapshots) {
         this.resourceToDocumentService = Objects.requireNonNull(resourceToDocumentService);
         this.resourceLoader = Objects.requireNonNull(resourceLoader);
+        this.fullSnapshots = fullSnapshots;
     }
 
     @Override
     public Optional<IEditingContextSnapshot> createSnapshot(IEditingContext editingContext) {
+        Optional<IEditingContextSnapshot> result = Optional.empty();
+        if (editingContext instanceof EditingContext siriusWebEditingContext && !this.fullSnapshots) {
+            ResourceSet resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
+            List<Resource> resources = new ArrayList<>(resourceSet.getResources());
+
+            Map<Resource, DocumentData> cleanDocumentData = new HashMap<>();
+            this.adapterInstaller.find(resourceSet, DirtyResourceTracker.class).ifPresent(tracker -> resources.forEach(resource -> tracker.getCleanDocumentData(resource)
+                    .ifPresent(documentData -> cleanDocumentData.put(resource, documentData))));
+
+            ChangeRecorder changeRecorder = new ChangeRecorder();
+            changeRecorder.setResolveProxies(false);
+            changeRecorder.beginRecording(resources);
+
+            result = Optional.of(new RecordedEditingContextSnapshot(changeRecorder, resources, cleanDocumentData));
+        } else {
+            result = this.createFullSnapshot(editingContext);
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<IEditingContextSnapshot> createFullSnapshot(IEditingContext editingContext) {
         Optional<IEditingContextSnapshot> result = Optional.empty();
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
             ResourceSet resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
@@ -75,7 +122,24 @@ public class EditingContextSnapshotService implements IEditingContextSnapshotSer
 
     @Override
     public void restoreSnapshot(IEditingContext editingContext, IEditingContextSnapshot snapshot) {
-        if (editingContext instanceof EditingContext siriusWebEditingContext && snapshot instanceof EditingContextSnapshot siriusWebSnapshot) {
+        if (editingContext instanceof EditingContext siriusWebEditingContext && snapshot instanceof RecordedEditingContextSnapshot recordedSnapshot) {
+            ResourceSet resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
+
+            recordedSnapshot.resources().stream()
+                    .filter(resource -> !resource.isLoaded())
+                    .forEach(resource -> this.logger.warn("The resource {} has been unloaded since the creation of a snapshot which cannot restore it, a full snapshot should be used instead", resource.getURI()));
+
+            ChangeRecorder changeRecorder = recordedSnapshot.changeRecorder();
+            if (changeRecorder.isRecording()) {
+                changeRecorder.endRecording().apply();
+            }
+            changeRecorder.dispose();
+
+            ECollections.setEList(resourceSet.getResources(), recordedSnapshot.resources());
+
+            // The content of the resources is identical to the one they had when they were last persisted
+            this.adapterInstaller.find(resourceSet, DirtyResourceTracker.class).ifPresent(tracker -> recordedSnapshot.cleanDocumentData().forEach(tracker::markClean));
+        } else if (editingContext instanceof EditingContext siriusWebEditingContext && snapshot instanceof EditingContextSnapshot siriusWebSnapshot) {
             ResourceSet resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
             resourceSet.getResources().clear();
 
@@ -86,5 +150,4 @@ public class EditingContextSnapshotService implements IEditingContextSnapshotSer
             }
         }
     }
-
 }
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.editingcontext.services;
+
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.change.util.ChangeRecorder;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextSnapshot;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A snapshot of an editing context restored by reversing the changes recorded since its creation.
+ *
+ * @author agent
+ */
+public record RecordedEditingContextSnapshot(@NotNull ChangeRecorder changeRecorder,
+        @NotNull List<Resource> resources,
+        @NotNull Map<Resource, DocumentData> cleanDocumentData) implements IEditingContextSnapshot {
+
+}
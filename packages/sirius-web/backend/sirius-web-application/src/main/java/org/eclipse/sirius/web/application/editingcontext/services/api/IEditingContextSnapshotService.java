@@ -25,5 +25,20 @@ public interface IEditingContextSnapshotService {
 
     Optional<IEditingContextSnapshot> createSnapshot(IEditingContext editingContext);
 
+    /**
+     * Creates a snapshot serializing all the resources of the editing context.
+     *
+     * <p>
+     *     It should be used instead of {@link #createSnapshot(IEditingContext)} before an operation which may unload
+     *     some resources, like the update of a library, since the unloaded objects cannot be restored by reversing the
+     *     changes recorded.
+     * </p>
+     *
+     * @param editingContext
+     *         The editing context
+     * @return The snapshot
+     */
+    Optional<IEditingContextSnapshot> createFullSnapshot(IEditingContext editingContext);
+
     void restoreSnapshot(IEditingContext editingContext, IEditingContextSnapshot snapshot);
 }
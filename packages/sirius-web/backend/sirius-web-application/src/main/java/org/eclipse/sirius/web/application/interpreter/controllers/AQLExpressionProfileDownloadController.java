@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.interpreter.controllers;
+
+import java.io.ByteArrayInputStream;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.web.application.interpreter.services.api.IAQLExpressionProfileReportService;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * The entry point of the HTTP API to download the report of the AQL expressions evaluated in an editing context.
+ *
+ * @author agent
+ */
+@Controller
+@RequestMapping("/api/editingcontexts/{editingContextId}/aqlprofile")
+public class AQLExpressionProfileDownloadController {
+
+    private final IAQLExpressionProfileReportService aqlExpressionProfileReportService;
+
+    public AQLExpressionProfileDownloadController(IAQLExpressionProfileReportService aqlExpressionProfileReportService) {
+        this.aqlExpressionProfileReportService = Objects.requireNonNull(aqlExpressionProfileReportService);
+    }
+
+    @ResponseBody
+    @GetMapping
+    public ResponseEntity<Resource> downloadReport(@PathVariable String editingContextId) {
+        ResponseEntity<Resource> responseEntity = new ResponseEntity<>(null, new HttpHeaders(), HttpStatus.NOT_FOUND);
+
+        Optional<byte[]> optionalBytes = this.aqlExpressionProfileReportService.getCsvReport(editingContextId);
+        if (optionalBytes.isPresent()) {
+            ContentDisposition contentDisposition = ContentDisposition.builder("attachment")
+                    .filename("aql-profile-" + editingContextId + ".csv")
+                    .build();
+
+            HttpHeaders responseHeaders = new HttpHeaders();
+            responseHeaders.setContentDisposition(contentDisposition);
+            responseHeaders.setContentType(MediaType.parseMediaType("text/csv"));
+            responseHeaders.setContentLength(optionalBytes.get().length);
+
+            InputStreamResource inputStreamResource = new InputStreamResource(new ByteArrayInputStream(optionalBytes.get()));
+            responseEntity = new ResponseEntity<>(inputStreamResource, responseHeaders, HttpStatus.OK);
+        }
+        return responseEntity;
+    }
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.interpreter.controllers;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessor;
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorRegistry;
+import org.eclipse.sirius.components.emf.services.api.AQLExpressionProfile;
+import org.eclipse.sirius.components.emf.services.api.IAQLExpressionProfileProvider;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * The actuator endpoint exposing the statistics of the AQL expressions evaluated in the editing contexts loaded.
+ *
+ * <p>
+ *     The statistics are only available when the profiling is enabled with
+ *     {@code sirius.components.interpreter.profiling=true}, the endpoint should be exposed with
+ *     {@code management.endpoints.web.exposure.include=aqlprofiles}.
+ * </p>
+ *
+ * @author agent
+ */
+@Component
+@Endpoint(id = "aqlprofiles")
+public class AQLExpressionProfilesEndpoint {
+
+    /**
+     * The number of expressions returned for each editing context in the summary of all the editing contexts.
+     */
+    private static final int SUMMARY_SIZE = 20;
+
+    private final IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry;
+
+    private final IAQLExpressionProfileProvider aqlExpressionProfileProvider;
+
+    public AQLExpressionProfilesEndpoint(IEditingContextEventProcessorRegistry editingContextEventProcessorRegistry, IAQLExpressionProfileProvider aqlExpressionProfileProvider) {
+        this.editingContextEventProcessorRegistry = Objects.requireNonNull(editingContextEventProcessorRegistry);
+        this.aqlExpressionProfileProvider = Objects.requireNonNull(aqlExpressionProfileProvider);
+    }
+
+    @ReadOperation
+    public Map<String, List<AQLExpressionProfile>> getExpressionProfiles() {
+        Map<String, List<AQLExpressionProfile>> editingContextIdToExpressionProfiles = new LinkedHashMap<>();
+        this.editingContextEventProcessorRegistry.getEditingContextEventProcessors().stream()
+                .map(IEditingContextEventProcessor::getEditingContextId)
+                .forEach(editingContextId -> {
+                    var expressionProfiles = this.aqlExpressionProfileProvider.getExpressionProfiles(editingContextId);
+                    if (!expressionProfiles.isEmpty()) {
+                        editingContextIdToExpressionProfiles.put(editingContextId, expressionProfiles.stream().limit(SUMMARY_SIZE).toList());
+                    }
+                });
+        return editingContextIdToExpressionProfiles;
+    }
+
+    @ReadOperation
+    public List<AQLExpressionProfile> getEditingContextExpressionProfiles(@Selector String editingContextId) {
+        return this.aqlExpressionProfileProvider.getExpressionProfiles(editingContextId);
+    }
+
+    @DeleteOperation
+    public void reset(@Selector String editingContextId) {
+        this.aqlExpressionProfileProvider.reset(editingContextId);
+    }
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.interpreter.services;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.sirius.components.emf.services.api.AQLExpressionProfile;
+import org.eclipse.sirius.components.emf.services.api.IAQLExpressionProfileProvider;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
+import org.eclipse.sirius.web.application.interpreter.services.api.IAQLExpressionProfileReportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to produce the report of the AQL expressions evaluated in an editing context as a CSV resource.
+ *
+ * @author agent
+ */
+@Service
+public class AQLExpressionProfileReportService implements IAQLExpressionProfileReportService {
+
+    private final Logger logger = LoggerFactory.getLogger(AQLExpressionProfileReportService.class);
+
+    private final IAQLInterpreterPool aqlInterpreterPool;
+
+    private final IAQLExpressionProfileProvider aqlExpressionProfileProvider;
+
+    public AQLExpressionProfileReportService(IAQLInterpreterPool aqlInterpreterPool, IAQLExpressionProfileProvider aqlExpressionProfileProvider) {
+        this.aqlInterpreterPool = Objects.requireNonNull(aqlInterpreterPool);
+        this.aqlExpressionProfileProvider = Objects.requireNonNull(aqlExpressionProfileProvider);
+    }
+
+    @Override
+    public Optional<byte[]> getCsvReport(String editingContextId) {
+        if (this.aqlInterpreterPool.getInterpreters(editingContextId).isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<byte[]> result = Optional.empty();
+        CsvMapper csvMapper = new CsvMapper();
+        try (StringWriter stringWriter = new StringWriter()) {
+            var writer = csvMapper.writer()
+                    .writeValues(stringWriter);
+            writer.write(List.of("expression", "count", "totalNanos", "averageNanos", "allocatedBytes", "ownerURIs"));
+            for (AQLExpressionProfile expressionProfile : this.aqlExpressionProfileProvider.getExpressionProfiles(editingContextId)) {
+                long averageNanos = expressionProfile.totalNanos() / Math.max(1, expressionProfile.count());
+                writer.write(List.of(expressionProfile.expression(), expressionProfile.count(), expressionProfile.totalNanos(), averageNanos, expressionProfile.allocatedBytes(),
+                        String.join(" ", expressionProfile.ownerURIs())));
+            }
+            writer.close();
+            result = Optional.of(stringWriter.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.interpreter.services.api;
+
+import java.util.Optional;
+
+/**
+ * Used to produce the report of the AQL expressions evaluated in an editing context.
+ *
+ * @author agent
+ */
+public interface IAQLExpressionProfileReportService {
+
+    /**
+     * Returns the report of the given editing context.
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     * @return The CSV report or an empty optional if the editing context is not loaded or has not created any
+     *         interpreter yet
+     */
+    Optional<byte[]> getCsvReport(String editingContextId);
+
+}
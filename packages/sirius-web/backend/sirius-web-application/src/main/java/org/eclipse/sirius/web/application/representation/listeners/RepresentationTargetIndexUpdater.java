@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.listeners;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationTargetIndex;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataCreatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataDeletedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.events.RepresentationMetadataUpdatedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to keep the index of the target object of the representations up to date.
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationTargetIndexUpdater {
+
+    private final IRepresentationTargetIndex representationTargetIndex;
+
+    public RepresentationTargetIndexUpdater(IRepresentationTargetIndex representationTargetIndex) {
+        this.representationTargetIndex = Objects.requireNonNull(representationTargetIndex);
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationMetadataCreatedEvent(RepresentationMetadataCreatedEvent event) {
+        this.representationTargetIndex.put(event.representationMetadata());
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationMetadataUpdatedEvent(RepresentationMetadataUpdatedEvent event) {
+        this.representationTargetIndex.put(event.representationMetadata());
+    }
+
+    @TransactionalEventListener
+    public void onRepresentationMetadataDeletedEvent(RepresentationMetadataDeletedEvent event) {
+        this.representationTargetIndex.remove(event.representationMetadata());
+    }
+}
@@ -12,8 +12,12 @@
  *******************************************************************************/
 package org.eclipse.sirius.web.application.representation.services;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.eclipse.sirius.components.collaborative.api.IDanglingRepresentationDeletionService;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -21,6 +25,7 @@ import org.eclipse.sirius.components.core.api.IObjectSearchService;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.representations.IRepresentation;
 import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationTargetIndex;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataDeletionService;
 import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
@@ -31,6 +36,12 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Used to delete dangling representations.
  *
+ * <p>
+ *     When the semantic elements modified by a change are known, the index of the target objects of the representations
+ *     is used to only resolve the elements targeted by some representations instead of querying all the representations
+ *     of the project.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -42,10 +53,14 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
 
     private final IRepresentationMetadataDeletionService representationMetadataDeletionService;
 
-    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationMetadataDeletionService representationMetadataDeletionService) {
+    private final IRepresentationTargetIndex representationTargetIndex;
+
+    public DanglingRepresentationDeletionService(IObjectSearchService objectSearchService, IRepresentationMetadataSearchService representationMetadataSearchService, IRepresentationMetadataDeletionService representationMetadataDeletionService,
+            IRepresentationTargetIndex representationTargetIndex) {
         this.objectSearchService = Objects.requireNonNull(objectSearchService);
         this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
         this.representationMetadataDeletionService = Objects.requireNonNull(representationMetadataDeletionService);
+        this.representationTargetIndex = Objects.requireNonNull(representationTargetIndex);
     }
 
     @Override
@@ -65,4 +80,28 @@ public class DanglingRepresentationDeletionService implements IDanglingRepresent
                         .forEach(representationId -> this.representationMetadataDeletionService.delete(cause, representationId))
         );
     }
+
+    @Override
+    public boolean usesModifiedObjectIds() {
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void deleteDanglingRepresentations(ICause cause, IEditingContext editingContext, Set<String> modifiedObjectIds) {
+        List<UUID> danglingRepresentationIds = new ArrayList<>();
+        for (String modifiedObjectId : modifiedObjectIds) {
+            var optionalRepresentationIds = this.representationTargetIndex.findRepresentationIds(editingContext.getId(), modifiedObjectId);
+            if (optionalRepresentationIds.isEmpty()) {
+                this.deleteDanglingRepresentations(cause, editingContext);
+                return;
+            }
+
+            var representationIds = optionalRepresentationIds.get();
+            if (!representationIds.isEmpty() && this.objectSearchService.getObject(editingContext, modifiedObjectId).isEmpty()) {
+                danglingRepresentationIds.addAll(representationIds);
+            }
+        }
+        danglingRepresentationIds.forEach(representationId -> this.representationMetadataDeletionService.delete(cause, representationId));
+    }
 }
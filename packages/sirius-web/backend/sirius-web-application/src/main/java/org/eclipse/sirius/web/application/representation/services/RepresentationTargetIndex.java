@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.sirius.components.collaborative.api.IEditingContextEventProcessorInitializationHook;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.web.application.UUIDParser;
+import org.eclipse.sirius.web.application.representation.services.api.IRepresentationTargetIndex;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.services.api.IRepresentationMetadataSearchService;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps track of the target object of the representations of the loaded editing contexts.
+ *
+ * <p>
+ *     The representations of an editing context are indexed with a single query once it is loaded and the index is
+ *     then kept up to date thanks to the events of the representation metadata until the editing context is disposed.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class RepresentationTargetIndex implements IRepresentationTargetIndex, IEditingContextEventProcessorInitializationHook {
+
+    private final IRepresentationMetadataSearchService representationMetadataSearchService;
+
+    private final Map<String, RepresentationTargets> editingContextId2RepresentationTargets = new ConcurrentHashMap<>();
+
+    public RepresentationTargetIndex(IRepresentationMetadataSearchService representationMetadataSearchService) {
+        this.representationMetadataSearchService = Objects.requireNonNull(representationMetadataSearchService);
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        new UUIDParser().parse(editingContext.getId()).ifPresent(semanticDataId -> {
+            // Registered before the query to keep the representations created in the meantime
+            var representationTargets = new RepresentationTargets();
+            this.editingContextId2RepresentationTargets.put(editingContext.getId(), representationTargets);
+
+            this.representationMetadataSearchService.findAllRepresentationMetadataBySemanticData(AggregateReference.to(semanticDataId))
+                    .forEach(representationMetadata -> representationTargets.put(representationMetadata.getId(), representationMetadata.getTargetObjectId()));
+        });
+    }
+
+    @Override
+    public void onDisposed(String editingContextId) {
+        this.editingContextId2RepresentationTargets.remove(editingContextId);
+    }
+
+    @Override
+    public void put(RepresentationMetadata representationMetadata) {
+        this.getRepresentationTargets(representationMetadata)
+                .ifPresent(representationTargets -> representationTargets.put(representationMetadata.getId(), representationMetadata.getTargetObjectId()));
+    }
+
+    @Override
+    public void remove(RepresentationMetadata representationMetadata) {
+        this.getRepresentationTargets(representationMetadata)
+                .ifPresent(representationTargets -> representationTargets.remove(representationMetadata.getId()));
+    }
+
+    @Override
+    public Optional<Set<UUID>> findRepresentationIds(String editingContextId, String targetObjectId) {
+        return Optional.ofNullable(this.editingContextId2RepresentationTargets.get(editingContextId))
+                .map(representationTargets -> representationTargets.getRepresentationIds(targetObjectId));
+    }
+
+    private Optional<RepresentationTargets> getRepresentationTargets(RepresentationMetadata representationMetadata) {
+        return Optional.ofNullable(representationMetadata.getSemanticData().getId())
+                .map(UUID::toString)
+                .map(this.editingContextId2RepresentationTargets::get);
+    }
+
+    /**
+     * The target object of the representations of an editing context.
+     *
+     * @author agent
+     */
+    private static final class RepresentationTargets {
+
+        private final Map<UUID, String> representationId2TargetObjectId = new HashMap<>();
+
+        private final Map<String, Set<UUID>> targetObjectId2RepresentationIds = new HashMap<>();
+
+        public synchronized void put(UUID representationId, String targetObjectId) {
+            this.remove(representationId);
+            this.representationId2TargetObjectId.put(representationId, targetObjectId);
+            this.targetObjectId2RepresentationIds.computeIfAbsent(targetObjectId, key -> new HashSet<>()).add(representationId);
+        }
+
+        public synchronized void remove(UUID representationId) {
+            String targetObjectId = this.representationId2TargetObjectId.remove(representationId);
+            if (targetObjectId != null) {
+                var representationIds = this.targetObjectId2RepresentationIds.get(targetObjectId);
+                representationIds.remove(representationId);
+                if (representationIds.isEmpty()) {
+                    this.targetObjectId2RepresentationIds.remove(targetObjectId);
+                }
+            }
+        }
+
+        public synchronized Set<UUID> getRepresentationIds(String targetObjectId) {
+            return Set.copyOf(this.targetObjectId2RepresentationIds.getOrDefault(targetObjectId, Set.of()));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.representation.services.api;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.representationdata.RepresentationMetadata;
+
+/**
+ * Used to find the representations of a loaded editing context from their target object without querying the database.
+ *
+ * @author agent
+ */
+public interface IRepresentationTargetIndex {
+
+    void put(RepresentationMetadata representationMetadata);
+
+    void remove(RepresentationMetadata representationMetadata);
+
+    /**
+     * Returns the identifiers of the representations of the given editing context targeting the given object.
+     *
+     * @param editingContextId
+     *         The identifier of the editing context
+     * @param targetObjectId
+     *         The identifier of the target object
+     * @return The identifiers of the representations or an empty optional if the representations of the editing context
+     * are not indexed
+     */
+    Optional<Set<UUID>> findRepresentationIds(String editingContextId, String targetObjectId);
+}
@@ -17,28 +17,15 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
 import org.eclipse.sirius.components.domain.Domain;
-import org.eclipse.sirius.components.domain.DomainPackage;
 import org.eclipse.sirius.components.domain.emf.DomainConverter;
-import org.eclipse.sirius.components.view.View;
-import org.eclipse.sirius.components.view.ViewPackage;
-import org.eclipse.sirius.components.view.deck.DeckPackage;
-import org.eclipse.sirius.components.view.diagram.DiagramPackage;
-import org.eclipse.sirius.components.view.form.FormPackage;
-import org.eclipse.sirius.components.view.gantt.GanttPackage;
-import org.eclipse.sirius.components.view.table.TablePackage;
-import org.eclipse.sirius.components.view.tree.TreePackage;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
-import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
-import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
 import org.eclipse.sirius.web.application.studio.services.api.IDomainProvider;
-import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
-import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
-import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsRegistry;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,75 +37,43 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class EditingContextInitializer implements IEditingContextProcessor {
 
-    private final ISemanticDataSearchService semanticDataSearchService;
-
-    private final IResourceLoader resourceLoader;
-
-    private final IStudioColorPalettesLoader studioColorPalettesLoader;
+    private final IStudioArtifactsRegistry studioArtifactsRegistry;
 
     private final List<IDomainProvider> domainProviders;
 
-    private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
-
-    public EditingContextInitializer(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, List<IDomainProvider> domainProviders, IStudioColorPalettesLoader studioColorPalettesLoader, List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
-        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
-        this.resourceLoader = Objects.requireNonNull(resourceLoader);
+    public EditingContextInitializer(IStudioArtifactsRegistry studioArtifactsRegistry, List<IDomainProvider> domainProviders) {
+        this.studioArtifactsRegistry = Objects.requireNonNull(studioArtifactsRegistry);
         this.domainProviders = Objects.requireNonNull(domainProviders);
-        this.studioColorPalettesLoader = Objects.requireNonNull(studioColorPalettesLoader);
-        this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
     }
 
     @Override
     @Transactional(readOnly = true)
     public void preProcess(IEditingContext editingContext) {
         if (editingContext instanceof EditingContext siriusWebEditingContext) {
-            List<Domain> domains = new ArrayList<>();
-
-            this.domainProviders.stream()
+            List<Domain> providedDomains = this.domainProviders.stream()
                     .map(domainProvider -> domainProvider.getDomains(siriusWebEditingContext))
                     .flatMap(Collection::stream)
-                    .forEach(domains::add);
-
-            List<View> views = new ArrayList<>();
-
-            var allSemanticData = this.semanticDataSearchService.findAllByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
-            for (var semanticData : allSemanticData) {
-                ResourceSet resourceSet = new ResourceSetImpl();
-
-                resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
-                resourceSet.getPackageRegistry().put(TablePackage.eNS_URI, TablePackage.eINSTANCE);
-                this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
-
-                semanticData.getDocuments().forEach(document -> this.toResource(semanticData.getId().toString(), resourceSet, document));
-
-                var treeIterator = resourceSet.getAllContents();
-                while (treeIterator.hasNext()) {
-                    var next = treeIterator.next();
-                    if (next instanceof View view) {
-                        views.add(view);
-                        treeIterator.prune();
-                    } else if (next instanceof Domain domain) {
-                        domains.add(domain);
-                        treeIterator.prune();
-                    }
-                }
+                    .toList();
+
+            var allStudioArtifacts = this.studioArtifactsRegistry.getStudioArtifacts();
+            allStudioArtifacts.stream()
+                    .flatMap(studioArtifacts -> studioArtifacts.views().stream())
+                    .forEach(siriusWebEditingContext.getViews()::add);
+
+            List<EPackage> ePackages;
+            if (providedDomains.isEmpty()) {
+                ePackages = this.studioArtifactsRegistry.getEPackages(allStudioArtifacts);
+            } else {
+                // The provided domains are specific to this editing context, their conversion can thus not be shared
+                var domains = new ArrayList<>(providedDomains);
+                allStudioArtifacts.stream()
+                        .map(StudioArtifacts::domains)
+                        .forEach(domains::addAll);
+                ePackages = new DomainConverter().convert(domains).toList();
             }
 
-            siriusWebEditingContext.getViews().addAll(views);
-
             var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
-            new DomainConverter().convert(domains).forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
+            ePackages.forEach(ePackage -> resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage));
         }
     }
-
-    private void toResource(String editingContextId, ResourceSet resourceSet, Document document) {
-        boolean useMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContextId));
-        this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), useMigrationParticipants, true);
-    }
 }
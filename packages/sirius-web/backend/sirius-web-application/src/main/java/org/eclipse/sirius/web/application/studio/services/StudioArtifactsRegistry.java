@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.impl.EPackageImpl;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.domain.emf.DomainConverter;
+import org.eclipse.sirius.components.emf.services.AdapterInstaller;
+import org.eclipse.sirius.components.emf.services.ScopeModificationAdapter;
+import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.deck.DeckPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramPackage;
+import org.eclipse.sirius.components.view.form.FormPackage;
+import org.eclipse.sirius.components.view.gantt.GanttPackage;
+import org.eclipse.sirius.components.view.table.TablePackage;
+import org.eclipse.sirius.components.view.tree.TreePackage;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IEditingContextMigrationParticipantPredicate;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsRegistry;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioColorPalettesLoader;
+import org.eclipse.sirius.web.application.studio.services.api.StudioArtifacts;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.events.SemanticDataUpdatedEvent;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Used to parse the studios only once for all the editing contexts.
+ *
+ * <p>
+ * The artifacts of a studio are kept as long as the date of the last modification of its semantic data does not
+ * change. Only this date is retrieved for each studio while an editing context is loaded, the documents of the studio
+ * are loaded and parsed again only once it has been modified. The EPackages converted from the domains of the studios
+ * are also kept for the last set of studios requested.
+ * </p>
+ *
+ * <p>
+ * The documents are loaded and parsed outside of any lock, two editing contexts loaded at the same time may thus both
+ * parse a modified studio, only the artifacts of its most recent version are kept. Since the artifacts are shared by
+ * all the editing contexts, they are prepared before being published: the proxies are resolved, the adapters lazily
+ * installed by the AQL interpreter pool on the views are installed and the converted EPackages are frozen so that the
+ * caches of their EClasses are computed.
+ * </p>
+ *
+ * @author agent
+ */
+@Service
+public class StudioArtifactsRegistry implements IStudioArtifactsRegistry {
+
+    private final ISemanticDataSearchService semanticDataSearchService;
+
+    private final IResourceLoader resourceLoader;
+
+    private final IStudioColorPalettesLoader studioColorPalettesLoader;
+
+    private final List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates;
+
+    private final Map<UUID, StudioArtifacts> semanticDataId2StudioArtifacts = new ConcurrentHashMap<>();
+
+    private final AtomicReference<ConvertedDomains> convertedDomains = new AtomicReference<>();
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
+    public StudioArtifactsRegistry(ISemanticDataSearchService semanticDataSearchService, IResourceLoader resourceLoader, IStudioColorPalettesLoader studioColorPalettesLoader,
+            List<IEditingContextMigrationParticipantPredicate> migrationParticipantPredicates) {
+        this.semanticDataSearchService = Objects.requireNonNull(semanticDataSearchService);
+        this.resourceLoader = Objects.requireNonNull(resourceLoader);
+        this.studioColorPalettesLoader = Objects.requireNonNull(studioColorPalettesLoader);
+        this.migrationParticipantPredicates = Objects.requireNonNull(migrationParticipantPredicates);
+    }
+
+    @Override
+    public List<StudioArtifacts> getStudioArtifacts() {
+        var semanticDataVersions = this.semanticDataSearchService.findAllVersionsByDomains(List.of(DomainPackage.eNS_URI, ViewPackage.eNS_URI));
+
+        Set<UUID> semanticDataIds = semanticDataVersions.stream()
+                .map(SemanticDataVersion::id)
+                .collect(Collectors.toSet());
+        this.semanticDataId2StudioArtifacts.keySet().retainAll(semanticDataIds);
+
+        List<StudioArtifacts> allStudioArtifacts = new ArrayList<>();
+        for (var semanticDataVersion : semanticDataVersions) {
+            var cachedStudioArtifacts = this.semanticDataId2StudioArtifacts.get(semanticDataVersion.id());
+            if (cachedStudioArtifacts != null && !cachedStudioArtifacts.lastModifiedOn().isBefore(semanticDataVersion.lastModifiedOn())) {
+                allStudioArtifacts.add(cachedStudioArtifacts);
+            } else {
+                this.semanticDataSearchService.findById(semanticDataVersion.id())
+                        .map(this::toStudioArtifacts)
+                        .map(studioArtifacts -> this.semanticDataId2StudioArtifacts.merge(studioArtifacts.semanticDataId(), studioArtifacts, this::getMostRecent))
+                        .ifPresent(allStudioArtifacts::add);
+            }
+        }
+        return allStudioArtifacts;
+    }
+
+    /**
+     * Keeps the artifacts parsed from the most recent version of a studio when it has been parsed by several threads
+     * at the same time.
+     */
+    private StudioArtifacts getMostRecent(StudioArtifacts cachedStudioArtifacts, StudioArtifacts studioArtifacts) {
+        if (cachedStudioArtifacts.lastModifiedOn().isAfter(studioArtifacts.lastModifiedOn())) {
+            return cachedStudioArtifacts;
+        }
+        return studioArtifacts;
+    }
+
+    @Override
+    public List<EPackage> getEPackages(List<StudioArtifacts> studioArtifacts) {
+        var versions = studioArtifacts.stream()
+                .map(artifacts -> new SemanticDataVersion(artifacts.semanticDataId(), artifacts.lastModifiedOn()))
+                .toList();
+
+        var currentConvertedDomains = this.convertedDomains.get();
+        if (currentConvertedDomains != null && currentConvertedDomains.versions().equals(versions)) {
+            return currentConvertedDomains.ePackages();
+        }
+
+        List<Domain> domains = studioArtifacts.stream()
+                .flatMap(artifacts -> artifacts.domains().stream())
+                .toList();
+        var ePackages = List.copyOf(new DomainConverter().convert(domains).toList());
+
+        // The EPackages will be read concurrently by several editing contexts, their lazily computed caches are thus computed now
+        ePackages.stream()
+                .filter(EPackageImpl.class::isInstance)
+                .map(EPackageImpl.class::cast)
+                .forEach(EPackageImpl::freeze);
+        this.convertedDomains.set(new ConvertedDomains(versions, ePackages));
+        return ePackages;
+    }
+
+    @Override
+    public void invalidate(UUID semanticDataId) {
+        this.semanticDataId2StudioArtifacts.remove(semanticDataId);
+    }
+
+    @TransactionalEventListener
+    public void onSemanticDataUpdatedEvent(SemanticDataUpdatedEvent semanticDataUpdatedEvent) {
+        this.invalidate(semanticDataUpdatedEvent.semanticData().getId());
+    }
+
+    private StudioArtifacts toStudioArtifacts(SemanticData semanticData) {
+        ResourceSet resourceSet = new ResourceSetImpl();
+
+        resourceSet.getPackageRegistry().put(DomainPackage.eNS_URI, DomainPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(ViewPackage.eNS_URI, ViewPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DeckPackage.eNS_URI, DeckPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(DiagramPackage.eNS_URI, DiagramPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(FormPackage.eNS_URI, FormPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(GanttPackage.eNS_URI, GanttPackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(TreePackage.eNS_URI, TreePackage.eINSTANCE);
+        resourceSet.getPackageRegistry().put(TablePackage.eNS_URI, TablePackage.eINSTANCE);
+        this.studioColorPalettesLoader.loadStudioColorPalettes(resourceSet);
+
+        semanticData.getDocuments().forEach(document -> this.toResource(semanticData.getId().toString(), resourceSet, document));
+
+        // The artifacts will be read concurrently by several editing contexts, their proxies are thus resolved now
+        EcoreUtil.resolveAll(resourceSet);
+
+        List<View> views = new ArrayList<>();
+        List<Domain> domains = new ArrayList<>();
+
+        var treeIterator = resourceSet.getAllContents();
+        while (treeIterator.hasNext()) {
+            var next = treeIterator.next();
+            if (next instanceof View view) {
+                // The version of the views is tracked by the AQL interpreter pool, its adapter is thus installed before they are shared
+                this.adapterInstaller.getOrInstall(view, ScopeModificationAdapter.class, ScopeModificationAdapter::new);
+                views.add(view);
+                treeIterator.prune();
+            } else if (next instanceof Domain domain) {
+                domains.add(domain);
+                treeIterator.prune();
+            }
+        }
+
+        return new StudioArtifacts(semanticData.getId(), semanticData.getLastModifiedOn(), List.copyOf(views), List.copyOf(domains));
+    }
+
+    private void toResource(String editingContextId, ResourceSet resourceSet, Document document) {
+        boolean useMigrationParticipants = this.migrationParticipantPredicates.stream().anyMatch(predicate -> predicate.test(editingContextId));
+        this.resourceLoader.toResource(resourceSet, document.getId().toString(), document.getName(), document.getContent(), useMigrationParticipants, true);
+    }
+
+    /**
+     * The EPackages converted from the domains of some versions of the studios.
+     *
+     * @param versions
+     *         The versions of the studios
+     * @param ePackages
+     *         The EPackages converted from their domains
+     *
+     * @author agent
+     */
+    private record ConvertedDomains(List<SemanticDataVersion> versions, List<EPackage> ePackages) {
+    }
+}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EPackage;
+
+/**
+ * Used to share the artifacts parsed from the studios among all the editing contexts.
+ *
+ * <p>
+ * The artifacts returned are shared and must thus be considered as read-only by their consumers.
+ * </p>
+ *
+ * @author agent
+ */
+public interface IStudioArtifactsRegistry {
+
+    /**
+     * Returns the up-to-date artifacts of all the studios, the studios which have not been modified since their last
+     * parsing are not parsed again.
+     *
+     * @return The artifacts of all the studios
+     */
+    List<StudioArtifacts> getStudioArtifacts();
+
+    /**
+     * Returns the EPackages converted from the domains of the given studio artifacts.
+     *
+     * @param studioArtifacts
+     *         Some studio artifacts
+     * @return The EPackages converted from their domains
+     */
+    List<EPackage> getEPackages(List<StudioArtifacts> studioArtifacts);
+
+    void invalidate(UUID semanticDataId);
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.studio.services.api;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
+
+/**
+ * The views and domains parsed from the semantic data of a studio.
+ *
+ * @param semanticDataId
+ *         The identifier of the semantic data of the studio
+ * @param lastModifiedOn
+ *         The date of the last modification of the semantic data which have been parsed
+ * @param views
+ *         The views of the studio
+ * @param domains
+ *         The domains of the studio
+ *
+ * @author agent
+ */
+public record StudioArtifacts(UUID semanticDataId, Instant lastModifiedOn, List<View> views, List<Domain> domains) {
+    public StudioArtifacts {
+        Objects.requireNonNull(semanticDataId);
+        Objects.requireNonNull(lastModifiedOn);
+        Objects.requireNonNull(views);
+        Objects.requireNonNull(domains);
+    }
+}
@@ -85,7 +85,8 @@ public class InvokeUpdateLibraryImpactAnalysisHandler implements IEditingContext
         ChangeDescription changeDescription = new ChangeDescription(ChangeKind.NOTHING, editingContext.getId(), input);
 
         if (input instanceof InvokeUpdateLibraryImpactAnalysisInput invokeUpdateLibraryImpactAnalysisInput && editingContext instanceof EditingContext siriusWebEditingContext) {
-            var editingContextSnapshot = this.editingContextSnapshotService.createSnapshot(siriusWebEditingContext);
+            // The update of the library unloads its previous version, it can only be reverted with a full snapshot
+            var editingContextSnapshot = this.editingContextSnapshotService.createFullSnapshot(siriusWebEditingContext);
             if (editingContextSnapshot.isPresent()) {
                 ChangeRecorder changeRecorder = siriusWebEditingContext.getChangeRecorder();
                 changeRecorder.beginRecording(siriusWebEditingContext.getDomain().getResourceSet().getResources());
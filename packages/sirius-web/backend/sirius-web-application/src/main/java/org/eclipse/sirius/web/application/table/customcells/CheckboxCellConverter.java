@@ -58,12 +58,12 @@ public class CheckboxCellConverter implements ICustomCellConverter {
                     .orElse("");
 
             Predicate<VariableManager> canCreatePredicate =
-                    variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false);
+                    variableManager -> interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false);
 
             BiFunction<VariableManager, Object, Boolean> cellValueProvider = (variableManager, columnTargetObject) -> {
                 var child = variableManager.createChild();
                 child.put("columnTargetObject", columnTargetObject);
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getValueExpression())
+                return interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getValueExpression())
                         .asBoolean()
                         .orElse(false);
             };
@@ -71,7 +71,7 @@ public class CheckboxCellConverter implements ICustomCellConverter {
             BiFunction<VariableManager, Object, String> cellTooltipValueProvider = (variableManager, columnTargetObject) -> {
                 var child = variableManager.createChild();
                 child.put("columnTargetObject", columnTargetObject);
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getTooltipExpression()).asString().orElse("");
+                return interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getTooltipExpression()).asString().orElse("");
             };
 
             return Optional.of(CheckboxCellDescription.newCheckboxCellDescription(tableIdProvider.getId(viewCellDescription))
@@ -88,7 +88,7 @@ public class CheckboxCellConverter implements ICustomCellConverter {
     private Optional<Object> getSelf(CellDescription viewCellDescription, AQLInterpreter interpreter, VariableManager variableManager) {
         Optional<Object> optionalSelf = variableManager.get(VariableManager.SELF, Object.class);
         if (viewCellDescription.getSelectedTargetObjectExpression() != null && !viewCellDescription.getSelectedTargetObjectExpression().isBlank()) {
-            optionalSelf = interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
+            optionalSelf = interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
         }
         return optionalSelf;
     }
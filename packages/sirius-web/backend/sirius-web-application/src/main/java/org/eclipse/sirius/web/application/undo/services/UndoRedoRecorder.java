@@ -18,8 +18,6 @@ import java.util.List;
 import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
 import org.eclipse.sirius.components.collaborative.api.IInputPostProcessor;
 import org.eclipse.sirius.components.collaborative.api.IInputPreProcessor;
-import org.eclipse.sirius.components.collaborative.diagrams.dto.GetActionsInput;
-import org.eclipse.sirius.components.collaborative.diagrams.dto.GetPaletteInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.InitialDirectEditElementLabelInput;
 import org.eclipse.sirius.components.collaborative.diagrams.dto.LayoutDiagramInput;
 import org.eclipse.sirius.components.collaborative.dto.EditingContextRepresentationDescriptionsInput;
@@ -30,6 +28,7 @@ import org.eclipse.sirius.components.collaborative.trees.dto.TreeItemContextMenu
 import org.eclipse.sirius.components.collaborative.trees.dto.TreePathInput;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.core.api.IReadOnlyInput;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
 import org.eclipse.sirius.web.application.undo.dto.RedoInput;
 import org.eclipse.sirius.web.application.undo.dto.UndoInput;
@@ -50,9 +49,11 @@ public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor
      * Whitelist of input types that should not trigger undo/redo recording, either because it does not make sense
      * (undo/redo operations themselves), because we do not support under/redo operations on them (diagram layout), or
      * because they correspond to known read-only operations where recording can have performance drawbacks for no
-     * benefits (as they do not actually change the backend state).
+     * benefits (as they do not actually change the backend state). The read-only inputs may also be handled
+     * concurrently, they must thus never use the change recorder of the editing context.
      */
     private static final List<Class<?>> INGORED_INPUT_TYPES = List.of(
+            IReadOnlyInput.class,
             UndoInput.class,
             RedoInput.class,
             LayoutDiagramInput.class,
@@ -61,9 +62,7 @@ public class UndoRedoRecorder implements IInputPreProcessor, IInputPostProcessor
             EditingContextRepresentationDescriptionsInput.class,
             GetEditingContextActionsInput.class,
             GetRepresentationDescriptionInput.class,
-            GetPaletteInput.class,
             GetSelectionDescriptionMessageInput.class,
-            GetActionsInput.class,
             InitialDirectEditElementLabelInput.class,
             org.eclipse.sirius.components.collaborative.trees.dto.InitialDirectEditElementLabelInput.class
     );
@@ -109,7 +109,7 @@ public class EvaluateExpressionEventHandler implements IEditingContextEventHandl
                 variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
                 variableManager.put(VariableManager.SELF, self);
                 variableManager.put("selection", selection);
-                var evaluationResult = interpreter.evaluateExpression(variableManager.getVariables(), evaluateExpressionInput.expression());
+                var evaluationResult = interpreter.evaluateExpression(variableManager.getVariablesView(), evaluateExpressionInput.expression());
 
                 payload = this.toPayload(input.id(), evaluationResult);
                 changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, editingContext.getId(), input);
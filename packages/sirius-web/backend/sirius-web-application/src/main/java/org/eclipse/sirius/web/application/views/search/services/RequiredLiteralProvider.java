@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.views.search.services;
+
+import java.util.Optional;
+
+import org.eclipse.sirius.web.application.views.search.dto.SearchQuery;
+
+/**
+ * Used to compute a literal which must be found in all the texts matching a search query.
+ *
+ * <p>
+ *     This literal is used to only test the objects containing it in the search index. When the query is a regular
+ *     expression, only its simplest constructs are understood. As soon as it contains an alternation, a quotation, a
+ *     flag or an escape sequence other than a backslash followed by a character which is neither a letter nor a digit
+ *     (such as <code>\x41bc</code>, <code>&#92;u0041</code>, <code>\0101</code>, <code>\k&lt;name&gt;</code> or
+ *     <code>\cX</code>), no literal is returned and all the objects are tested.
+ * </p>
+ *
+ * @author agent
+ */
+public class RequiredLiteralProvider {
+
+    public Optional<String> getRequiredLiteral(SearchQuery query) {
+        if (!query.useRegularExpression()) {
+            return Optional.of(query.text());
+        }
+
+        String regularExpression = query.text();
+        if (regularExpression.contains("|") || regularExpression.contains("(?") || this.hasUnsupportedEscape(regularExpression)) {
+            return Optional.empty();
+        }
+
+        String requiredLiteral = "";
+        StringBuilder currentLiteral = new StringBuilder();
+        int index = 0;
+        while (index < regularExpression.length()) {
+            char character = regularExpression.charAt(index);
+            boolean isLiteral = false;
+            if (character == '\\') {
+                currentLiteral.append(regularExpression.charAt(index + 1));
+                isLiteral = true;
+                index = index + 2;
+            } else if (character == '(' || character == '[') {
+                index = this.skipGroup(regularExpression, index);
+            } else if (character == '?' || character == '*' || character == '{') {
+                // The previous character is optional and thus not part of the required literal
+                if (!currentLiteral.isEmpty()) {
+                    currentLiteral.setLength(currentLiteral.length() - 1);
+                }
+                index = index + 1;
+                if (character == '{') {
+                    index = regularExpression.indexOf('}', index) + 1;
+                    if (index == 0) {
+                        index = regularExpression.length();
+                    }
+                }
+            } else if (".^$+)]}".indexOf(character) >= 0) {
+                index = index + 1;
+            } else {
+                currentLiteral.append(character);
+                isLiteral = true;
+                index = index + 1;
+            }
+
+            if (!isLiteral || index >= regularExpression.length()) {
+                if (currentLiteral.length() > requiredLiteral.length()) {
+                    requiredLiteral = currentLiteral.toString();
+                }
+                currentLiteral.setLength(0);
+            }
+        }
+        return Optional.of(requiredLiteral).filter(literal -> !literal.isEmpty());
+    }
+
+    /**
+     * Indicates if the regular expression contains an escape sequence other than a backslash followed by a character
+     * which is neither a letter nor a digit, including in its groups and character classes.
+     */
+    private boolean hasUnsupportedEscape(String regularExpression) {
+        boolean result = false;
+        int index = regularExpression.indexOf('\\');
+        while (index >= 0 && !result) {
+            result = index + 1 >= regularExpression.length() || Character.isLetterOrDigit(regularExpression.charAt(index + 1));
+            index = regularExpression.indexOf('\\', index + 2);
+        }
+        return result;
+    }
+
+    private int skipGroup(String regularExpression, int start) {
+        char opening = regularExpression.charAt(start);
+        char closing = ')';
+        if (opening == '[') {
+            closing = ']';
+        }
+
+        int depth = 0;
+        int index = start;
+        if (opening == '[') {
+            // A closing bracket at the beginning of a character class is one of its characters
+            depth = 1;
+            index = start + 1;
+            if (index < regularExpression.length() && regularExpression.charAt(index) == '^') {
+                index++;
+            }
+            if (index < regularExpression.length() && regularExpression.charAt(index) == ']') {
+                index++;
+            }
+        }
+        while (index < regularExpression.length()) {
+            char character = regularExpression.charAt(index);
+            if (character == '\\') {
+                index++;
+            } else if (character == opening) {
+                depth++;
+            } else if (character == closing) {
+                depth--;
+                if (depth == 0) {
+                    return index + 1;
+                }
+            }
+            index++;
+        }
+        return index;
+    }
+}
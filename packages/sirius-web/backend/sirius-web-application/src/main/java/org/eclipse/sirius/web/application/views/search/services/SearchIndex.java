@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.views.search.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+
+/**
+ * An index of the labels and attributes of the resources and objects of a resource set, used to search them without
+ * computing their label again.
+ *
+ * <p>
+ *     Each indexed object receives an identifier following the order in which it has been added to the resource set,
+ *     which matches the order of its contents when it is loaded.
+ *     The trigrams of its label and of the values of its attributes, ignoring the case, are associated to this
+ *     identifier. A literal which must be found in the matching texts thus only needs to be searched in the objects
+ *     associated to its least frequent trigram. Those candidates are then checked against the actual query with the
+ *     texts stored in the index.
+ * </p>
+ *
+ * <p>
+ *     The index is kept up to date with the notifications of the resource set. A modified object, or an object added
+ *     to the resource set, is indexed again during the next search or the next call to {@link #index(Function)}.
+ *     Since the label of an object may be computed from its container or from the objects it references, the
+ *     container of a modified object and the objects referencing it, found with the {@link ECrossReferenceAdapter} of
+ *     the resource set when there is one, are indexed again too. A label depending on objects more than one reference
+ *     away, for example on the container of a referenced object, can thus remain stale until its own object is
+ *     modified. Since the stale trigrams of an object are not removed, its associations are rebuilt once there are more
+ *     stale associations than live ones. The labels of the resources, which are few, are not indexed and are always
+ *     computed again.
+ * </p>
+ *
+ * <p>
+ *     The index keeps a copy of the label of each object and of the value of each of its attributes, converted with
+ *     {@link String#valueOf(Object)}, along with one identifier per distinct trigram of those texts. With a label and
+ *     five attributes of about twenty characters per object, this represents roughly 1 KB per object, that is about
+ *     200 MB for a model of 200 000 objects, retained as long as its editing context is loaded.
+ * </p>
+ *
+ * @author agent
+ */
+public class SearchIndex extends EContentAdapter {
+
+    private static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<Notifier, IndexEntry> notifiers2entries = new HashMap<>();
+
+    private final List<IndexEntry> entries = new ArrayList<>();
+
+    private final Set<Notifier> notifiersToIndex = new LinkedHashSet<>();
+
+    private final BitSet resourceIds = new BitSet();
+
+    private final Map<Long, IdList> labelTrigrams = new HashMap<>();
+
+    private final Map<Long, IdList> attributeTrigrams = new HashMap<>();
+
+    private long associationsCount;
+
+    private long staleAssociationsCount;
+
+    /**
+     * Searches the indexed objects.
+     *
+     * @param labelProvider
+     *         Used to compute the label of the resources and of the objects which need to be indexed again
+     * @param requiredLiteral
+     *         A literal which must be found, ignoring the case, in the texts matching the predicate
+     * @param searchInAttributes
+     *         Indicates if the values of the attributes should be searched too
+     * @param predicate
+     *         The predicate used to match the label and the values of the attributes
+     * @param maxResultSize
+     *         The maximum number of objects returned
+     * @return The matching objects, in the order in which they have been indexed
+     */
+    public synchronized List<Object> search(Function<Object, String> labelProvider, Optional<String> requiredLiteral, boolean searchInAttributes, Predicate<String> predicate, int maxResultSize) {
+        this.index(labelProvider);
+
+        BitSet candidateIds = null;
+        var optionalLiteral = requiredLiteral.map(this::normalize).filter(literal -> literal.length() >= TRIGRAM_LENGTH);
+        if (optionalLiteral.isPresent()) {
+            candidateIds = (BitSet) this.resourceIds.clone();
+            this.addCandidates(this.labelTrigrams, optionalLiteral.get(), candidateIds);
+            if (searchInAttributes) {
+                this.addCandidates(this.attributeTrigrams, optionalLiteral.get(), candidateIds);
+            }
+        } else {
+            candidateIds = new BitSet(this.entries.size());
+            candidateIds.set(0, this.entries.size());
+        }
+
+        List<Object> result = new ArrayList<>();
+        for (int id = candidateIds.nextSetBit(0); id >= 0 && result.size() < maxResultSize; id = candidateIds.nextSetBit(id + 1)) {
+            var entry = this.entries.get(id);
+            if (entry != null && entry.matches(labelProvider, predicate, searchInAttributes)) {
+                result.add(entry.notifier());
+            }
+        }
+        return result;
+    }
+
+    private void addCandidates(Map<Long, IdList> trigrams, String literal, BitSet candidateIds) {
+        IdList leastFrequentTrigramIds = null;
+        for (int i = 0; i + TRIGRAM_LENGTH <= literal.length(); i++) {
+            var ids = trigrams.get(this.getTrigram(literal, i));
+            if (ids == null) {
+                return;
+            }
+            if (leastFrequentTrigramIds == null || ids.size() < leastFrequentTrigramIds.size()) {
+                leastFrequentTrigramIds = ids;
+            }
+        }
+        if (leastFrequentTrigramIds != null) {
+            leastFrequentTrigramIds.forEach(candidateIds::set);
+        }
+    }
+
+    /**
+     * Indexes the objects added or modified since the last call, used to build the index before the first search.
+     *
+     * @param labelProvider
+     *         Used to compute the label of the objects which need to be indexed
+     */
+    public synchronized void index(Function<Object, String> labelProvider) {
+        for (Notifier notifier : this.notifiersToIndex) {
+            String label = null;
+            List<String> attributeValues = List.of();
+            if (notifier instanceof EObject eObject) {
+                label = labelProvider.apply(eObject);
+                attributeValues = eObject.eClass().getEAllAttributes().stream()
+                        .map(attribute -> String.valueOf(eObject.eGet(attribute)))
+                        .toList();
+            }
+
+            int id = this.entries.size();
+            var previousEntry = this.notifiers2entries.get(notifier);
+            if (previousEntry != null) {
+                id = previousEntry.id();
+                this.staleAssociationsCount += previousEntry.associationsCount();
+            } else {
+                this.entries.add(null);
+            }
+
+            var entry = this.createEntry(id, notifier, label, attributeValues);
+            this.entries.set(id, entry);
+            this.notifiers2entries.put(notifier, entry);
+        }
+        this.notifiersToIndex.clear();
+
+        if (this.staleAssociationsCount > this.associationsCount - this.staleAssociationsCount) {
+            this.rebuild();
+        }
+    }
+
+    private IndexEntry createEntry(int id, Notifier notifier, String label, List<String> attributeValues) {
+        int associationsCount = this.associate(this.labelTrigrams, id, label);
+        for (String attributeValue : attributeValues) {
+            associationsCount += this.associate(this.attributeTrigrams, id, attributeValue);
+        }
+        if (notifier instanceof Resource) {
+            this.resourceIds.set(id);
+        }
+        return new IndexEntry(id, notifier, label, attributeValues, associationsCount);
+    }
+
+    private void rebuild() {
+        var liveEntries = this.entries.stream()
+                .filter(entry -> entry != null)
+                .toList();
+
+        this.entries.clear();
+        this.notifiers2entries.clear();
+        this.resourceIds.clear();
+        this.labelTrigrams.clear();
+        this.attributeTrigrams.clear();
+        this.associationsCount = 0;
+        this.staleAssociationsCount = 0;
+
+        for (IndexEntry liveEntry : liveEntries) {
+            var entry = this.createEntry(this.entries.size(), liveEntry.notifier(), liveEntry.label(), liveEntry.attributeValues());
+            this.entries.add(entry);
+            this.notifiers2entries.put(entry.notifier(), entry);
+        }
+    }
+
+    private int associate(Map<Long, IdList> trigrams, int id, String text) {
+        int associationsCount = 0;
+        if (text != null) {
+            String normalizedText = this.normalize(text);
+            for (int i = 0; i + TRIGRAM_LENGTH <= normalizedText.length(); i++) {
+                if (trigrams.computeIfAbsent(this.getTrigram(normalizedText, i), key -> new IdList()).add(id)) {
+                    associationsCount++;
+                }
+            }
+        }
+        this.associationsCount += associationsCount;
+        return associationsCount;
+    }
+
+    private long getTrigram(String normalizedText, int index) {
+        return ((long) normalizedText.charAt(index) << 32) | ((long) normalizedText.charAt(index + 1) << 16) | normalizedText.charAt(index + 2);
+    }
+
+    /**
+     * Converts each character to lower case independently, unlike {@link String#toLowerCase()}, so that a substring of
+     * a text remains a substring of this text once both are normalized.
+     */
+    private String normalize(String text) {
+        char[] characters = text.toCharArray();
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = Character.toLowerCase(characters[i]);
+        }
+        return new String(characters);
+    }
+
+    @Override
+    public void notifyChanged(Notification notification) {
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch() && notification.getNotifier() instanceof EObject eObject) {
+            synchronized (this) {
+                this.notifiersToIndex.add(eObject);
+                this.addDependents(eObject);
+            }
+        }
+    }
+
+    /**
+     * Registers the objects whose label may have been computed from the given one, that is its container and the
+     * objects referencing it.
+     */
+    private void addDependents(EObject eObject) {
+        EObject eContainer = eObject.eContainer();
+        if (eContainer != null) {
+            this.notifiersToIndex.add(eContainer);
+        }
+
+        var crossReferenceAdapter = ECrossReferenceAdapter.getCrossReferenceAdapter(eObject);
+        if (crossReferenceAdapter != null) {
+            crossReferenceAdapter.getInverseReferences(eObject, false).stream()
+                    .map(EStructuralFeature.Setting::getEObject)
+                    .filter(this.notifiers2entries::containsKey)
+                    .forEach(this.notifiersToIndex::add);
+        }
+    }
+
+    @Override
+    protected void setTarget(Resource target) {
+        synchronized (this) {
+            this.notifiersToIndex.add(target);
+        }
+
+        super.setTarget(target);
+    }
+
+    @Override
+    protected void setTarget(EObject target) {
+        // The object is registered before its content to keep the order of the content of the resource set
+        synchronized (this) {
+            this.notifiersToIndex.add(target);
+        }
+
+        super.setTarget(target);
+    }
+
+    @Override
+    protected void unsetTarget(Resource target) {
+        super.unsetTarget(target);
+        this.remove(target);
+    }
+
+    @Override
+    protected void unsetTarget(EObject target) {
+        super.unsetTarget(target);
+        this.remove(target);
+    }
+
+    private synchronized void remove(Notifier notifier) {
+        this.notifiersToIndex.remove(notifier);
+        var entry = this.notifiers2entries.remove(notifier);
+        if (entry != null) {
+            this.entries.set(entry.id(), null);
+            this.resourceIds.clear(entry.id());
+            this.staleAssociationsCount += entry.associationsCount();
+        }
+    }
+
+    @Override
+    protected boolean resolve() {
+        return false;
+    }
+
+    /**
+     * The texts indexed for a resource or an object.
+     *
+     * @author agent
+     */
+    private record IndexEntry(int id, Notifier notifier, String label, List<String> attributeValues, int associationsCount) {
+
+        public boolean matches(Function<Object, String> labelProvider, Predicate<String> predicate, boolean searchInAttributes) {
+            String currentLabel = this.label;
+            if (this.notifier instanceof Resource) {
+                currentLabel = labelProvider.apply(this.notifier);
+            }
+
+            boolean result = currentLabel != null && predicate.test(currentLabel);
+            if (!result && searchInAttributes) {
+                result = this.attributeValues.stream().anyMatch(predicate);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The identifiers of the objects associated to a trigram.
+     *
+     * @author agent
+     */
+    private static final class IdList {
+
+        private int[] ids = new int[4];
+
+        private int size;
+
+        public boolean add(int id) {
+            if (this.size > 0 && this.ids[this.size - 1] == id) {
+                return false;
+            }
+            if (this.size == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, this.size * 2);
+            }
+            this.ids[this.size] = id;
+            this.size++;
+            return true;
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        public void forEach(IntConsumer consumer) {
+            for (int i = 0; i < this.size; i++) {
+                consumer.accept(this.ids[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.views.search.services;
+
+import java.util.Objects;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IEditingContextProcessor;
+import org.eclipse.sirius.components.core.api.ILabelService;
+import org.eclipse.sirius.components.emf.services.AdapterInstaller;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Used to build the search index of an editing context once it has been loaded instead of during the first search.
+ *
+ * @author agent
+ */
+@Service
+public class SearchIndexInitializer implements IEditingContextProcessor {
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
+    private final ILabelService labelService;
+
+    public SearchIndexInitializer(ILabelService labelService) {
+        this.labelService = Objects.requireNonNull(labelService);
+    }
+
+    @Override
+    public void postProcess(IEditingContext editingContext) {
+        if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+            var searchIndex = this.adapterInstaller.getOrInstall(emfEditingContext.getDomain().getResourceSet(), SearchIndex.class, SearchIndex::new);
+            searchIndex.index(object -> this.labelService.getStyledLabel(object).toString());
+        }
+    }
+}
@@ -15,15 +15,12 @@ package org.eclipse.sirius.web.application.views.search.services;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
-import java.util.stream.StreamSupport;
 
-import org.eclipse.emf.ecore.EObject;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.ILabelService;
+import org.eclipse.sirius.components.emf.services.AdapterInstaller;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.web.application.views.search.dto.SearchQuery;
 import org.eclipse.sirius.web.application.views.search.services.api.ISearchService;
@@ -42,22 +39,24 @@ public class SearchService implements ISearchService {
 
     private final Logger logger = LoggerFactory.getLogger(SearchService.class);
 
+    private final RequiredLiteralProvider requiredLiteralProvider = new RequiredLiteralProvider();
+
+    private final AdapterInstaller adapterInstaller = new AdapterInstaller();
+
     private ILabelService labelService;
 
     public SearchService(ILabelService labelService) {
         this.labelService = Objects.requireNonNull(labelService);
     }
 
+    @Override
     public List<Object> search(IEditingContext editingContext, SearchQuery query) {
         if (editingContext instanceof IEMFEditingContext emfEditingContext) {
             long start = System.nanoTime();
             var textPredicate = this.toTextPredicate(query);
 
-            var iterator = emfEditingContext.getDomain().getResourceSet().getAllContents();
-            var stream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
-            var result = stream.filter(obj -> this.matches(obj, query.searchInAttributes(), textPredicate))
-                    .limit(MAX_RESULT_SIZE)
-                    .map(Object.class::cast).toList();
+            var searchIndex = this.adapterInstaller.getOrInstall(emfEditingContext.getDomain().getResourceSet(), SearchIndex.class, SearchIndex::new);
+            var result = searchIndex.search(object -> this.labelService.getStyledLabel(object).toString(), this.requiredLiteralProvider.getRequiredLiteral(query), query.searchInAttributes(), textPredicate, MAX_RESULT_SIZE);
             var duration = Duration.ofNanos(System.nanoTime() - start);
             this.logger.debug("Search found {} matches in {}s", result.size(), duration.toMillis());
             return result;
@@ -86,18 +85,4 @@ public class SearchService implements ISearchService {
 
         return Pattern.compile(patternText.toString(), patternFlags).asPredicate();
     }
-
-    private boolean matches(Object object, boolean searchInAttributes, Predicate<String> predicate) {
-        boolean result = false;
-        String labelText = this.labelService.getStyledLabel(object).toString();
-        boolean isLabelMatch = labelText != null && predicate.test(labelText);
-        if (isLabelMatch) {
-            result = true;
-        } else if (searchInAttributes && object instanceof EObject eObject) {
-            result = eObject.eClass().getEAllAttributes().stream()
-                    .anyMatch(attribute -> predicate.test(String.valueOf(eObject.eGet(attribute))));
-        }
-        return result;
-    }
-
 }
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.collaborative;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.editingcontext.RepresentationEventProcessorEntry;
+import org.eclipse.sirius.components.collaborative.editingcontext.RepresentationEventProcessorRefresher;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.emf.services.ChangeScopeAdapter;
+import org.eclipse.sirius.components.emf.services.ModificationStampAdapter;
+import org.eclipse.sirius.components.emf.services.ScopeModificationAdapter;
+import org.eclipse.sirius.components.papaya.Type;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.web.application.editingcontext.services.DirtyResourceTracker;
+import org.eclipse.sirius.web.application.views.search.services.SearchIndex;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Benchmarks the refresh of the representations opened in an editing context after a semantic change.
+ *
+ * <p>
+ *     A change description which does not know the semantic elements modified concerns all the representations while
+ *     a change description scoped to a single semantic element only concerns the representations displaying it. The
+ *     number of representations refreshed for each change is reported with the duration of the refresh.
+ * </p>
+ *
+ * <p>
+ *     Recording the scope of the changes relies on one more content adapter installed on every object of the editing
+ *     context, next to the cross referencer, the dirty resource tracker, the modification stamps, the search index and
+ *     the adapters tracking the modifications of the views. The cost of these adapters is measured on a generated
+ *     Papaya model, with and without them, by:
+ * </p>
+ * <ul>
+ *     <li>{@code notifyModification} for each notification, since they all receive the notifications of every
+ *     object</li>
+ *     <li>{@code installAdapters} for each object, the score divided by the size of the model gives the time spent to
+ *     install them on an object while the normalized allocation rate reported by {@code -prof gc}, divided by the size
+ *     of the model too, gives the memory they retain for an object</li>
+ * </ul>
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangeScopeRefreshBenchmark {
+
+    private static final String EDITING_CONTEXT_ID = "editingContextId";
+
+    private static final int REPRESENTATIONS_COUNT = 30;
+
+    private static final int OBJECTS_COUNT_PER_REPRESENTATION = 100;
+
+    private static final long REFRESH_TOKENS = 10_000;
+
+    @Benchmark
+    public void refresh(RefreshState state) {
+        IEditingContext editingContext = () -> EDITING_CONTEXT_ID;
+        state.refresher.accept(Sinks.many().multicast().directBestEffort(), Sinks.many().multicast().directBestEffort(), editingContext, state.changeDescription);
+    }
+
+    @Benchmark
+    public void notifyModification(NotificationState state) {
+        state.editsCount++;
+        state.editedType.setName("EditedType" + state.editsCount);
+    }
+
+    @Benchmark
+    public void installAdapters(InstallationState state) {
+        state.adapters = new ContentAdapters(state.resourceSet);
+        state.adapters.install();
+    }
+
+    /**
+     * The representations opened in the editing context and the change description used to refresh them.
+     *
+     * @author agent
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RefreshState {
+
+        @Param({ "false", "true" })
+        private boolean scopedToModifiedObjects;
+
+        private RepresentationEventProcessorRefresher refresher;
+
+        private ChangeDescription changeDescription;
+
+        private long refreshesCount;
+
+        @Setup
+        public void setup() {
+            var registry = new RepresentationEventProcessorRegistry();
+            String modifiedObjectId = null;
+            for (int i = 0; i < REPRESENTATIONS_COUNT; i++) {
+                String representationId = UUID.randomUUID().toString();
+
+                Set<String> renderedObjectIds = new HashSet<>();
+                for (int j = 0; j < OBJECTS_COUNT_PER_REPRESENTATION; j++) {
+                    renderedObjectIds.add(UUID.randomUUID().toString());
+                }
+                if (modifiedObjectId == null) {
+                    modifiedObjectId = renderedObjectIds.iterator().next();
+                }
+
+                var representationEventProcessor = new FakeRepresentationEventProcessor(this, representationId, renderedObjectIds);
+                registry.put(EDITING_CONTEXT_ID, representationId, new RepresentationEventProcessorEntry(representationEventProcessor, () -> { }));
+            }
+
+            this.refresher = new RepresentationEventProcessorRefresher(registry, new SimpleMeterRegistry());
+
+            IInput input = () -> UUID.randomUUID();
+            var semanticChange = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, EDITING_CONTEXT_ID, input);
+            if (this.scopedToModifiedObjects) {
+                semanticChange = semanticChange.withModifiedObjectIds(Set.of(modifiedObjectId));
+            }
+            this.changeDescription = semanticChange;
+        }
+
+        @Setup(Level.Iteration)
+        public void resetRefreshesCount() {
+            this.refreshesCount = 0;
+        }
+
+        public long refreshes() {
+            return this.refreshesCount;
+        }
+    }
+
+    /**
+     * A generated model whose objects carry, or not, the content adapters of an editing context.
+     *
+     * @author agent
+     */
+    @State(Scope.Thread)
+    public static class NotificationState {
+
+        @Param({ "5000" })
+        private int size;
+
+        @Param({ "false", "true" })
+        private boolean withAdapters;
+
+        private Type editedType;
+
+        private int editsCount;
+
+        @Setup
+        public void setup() {
+            var resourceSet = new PapayaModelGenerator().generate(this.size).getDomain().getResourceSet();
+            if (this.withAdapters) {
+                new ContentAdapters(resourceSet).install();
+            }
+
+            var iterator = EcoreUtil.<Object>getAllContents(resourceSet, true);
+            while (this.editedType == null && iterator.hasNext()) {
+                if (iterator.next() instanceof Type type) {
+                    this.editedType = type;
+                }
+            }
+        }
+    }
+
+    /**
+     * A generated model on which the content adapters of an editing context are installed and then removed.
+     *
+     * @author agent
+     */
+    @State(Scope.Thread)
+    public static class InstallationState {
+
+        @Param({ "5000" })
+        private int size;
+
+        private ResourceSet resourceSet;
+
+        private ContentAdapters adapters;
+
+        @Setup
+        public void setup() {
+            this.resourceSet = new PapayaModelGenerator().generate(this.size).getDomain().getResourceSet();
+        }
+
+        @TearDown(Level.Invocation)
+        public void uninstallAdapters() {
+            if (this.adapters != null) {
+                this.adapters.uninstall();
+                this.adapters = null;
+            }
+        }
+    }
+
+    /**
+     * The content adapters installed on the objects of an editing context, with one adapter tracking the modifications
+     * of a view for each document.
+     *
+     * @author agent
+     */
+    private static final class ContentAdapters {
+
+        private final ResourceSet resourceSet;
+
+        private final List<Adapter> resourceSetAdapters = List.of(new ECrossReferenceAdapter(), new DirtyResourceTracker(), new ChangeScopeAdapter(), new ModificationStampAdapter(), new SearchIndex());
+
+        private final Map<EObject, Adapter> rootAdapters = new LinkedHashMap<>();
+
+        private ContentAdapters(ResourceSet resourceSet) {
+            this.resourceSet = resourceSet;
+        }
+
+        private void install() {
+            this.resourceSet.eAdapters().addAll(this.resourceSetAdapters);
+            this.resourceSet.getResources().stream()
+                    .flatMap(resource -> resource.getContents().stream())
+                    .forEach(root -> {
+                        var adapter = new ScopeModificationAdapter();
+                        root.eAdapters().add(adapter);
+                        this.rootAdapters.put(root, adapter);
+                    });
+            this.resourceSetAdapters.stream()
+                    .filter(ChangeScopeAdapter.class::isInstance)
+                    .map(ChangeScopeAdapter.class::cast)
+                    .forEach(ChangeScopeAdapter::beginRecording);
+        }
+
+        private void uninstall() {
+            this.rootAdapters.forEach((root, adapter) -> root.eAdapters().remove(adapter));
+            this.resourceSet.eAdapters().removeAll(this.resourceSetAdapters);
+        }
+    }
+
+    /**
+     * Representation event processor spending some time to refresh the representations concerned by a change.
+     *
+     * @author agent
+     */
+    private static final class FakeRepresentationEventProcessor extends IRepresentationEventProcessor.NoOp {
+
+        private final RefreshState state;
+
+        private final String representationId;
+
+        private final Set<String> renderedObjectIds;
+
+        private FakeRepresentationEventProcessor(RefreshState state, String representationId, Set<String> renderedObjectIds) {
+            this.state = state;
+            this.representationId = representationId;
+            this.renderedObjectIds = renderedObjectIds;
+        }
+
+        @Override
+        public IRepresentation getRepresentation() {
+            String id = this.representationId;
+            return new IRepresentation.NoOp() {
+                @Override
+                public String getId() {
+                    return id;
+                }
+            };
+        }
+
+        @Override
+        public void refresh(ChangeDescription changeDescription) {
+            if (changeDescription.mayConcern(this.renderedObjectIds)) {
+                Blackhole.consumeCPU(REFRESH_TOKENS);
+                this.state.refreshesCount++;
+            }
+        }
+    }
+}
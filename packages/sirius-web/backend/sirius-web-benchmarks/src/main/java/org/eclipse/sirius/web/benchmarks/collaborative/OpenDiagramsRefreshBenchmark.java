@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.collaborative;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.collaborative.api.ChangeDescription;
+import org.eclipse.sirius.components.collaborative.api.ChangeKind;
+import org.eclipse.sirius.components.collaborative.api.IRepresentationEventProcessor;
+import org.eclipse.sirius.components.collaborative.editingcontext.RepresentationEventProcessorEntry;
+import org.eclipse.sirius.components.collaborative.editingcontext.RepresentationEventProcessorRefresher;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationEventProcessorRegistry;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IInput;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.Type;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.eclipse.sirius.web.benchmarks.representations.PapayaDiagramDescriptionProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Benchmarks the latency of a semantic change performed from a diagram while ten diagrams are opened in its editing
+ * context.
+ *
+ * <p>
+ *     Each change renames a semantic element and all the opened diagrams, which display every element of the model, are
+ *     then rendered again from their previous version by the thread of the editing context. The score is thus the
+ *     sum of the rendering times of the ten diagrams and should be compared with the one of
+ *     {@code DiagramRendererBenchmark.refreshAfterSingleEdit} for the same size.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OpenDiagramsRefreshBenchmark {
+
+    private static final int DIAGRAMS_COUNT = 10;
+
+    @Param({ "1000", "5000" })
+    private int size;
+
+    private IEMFEditingContext editingContext;
+
+    private DiagramDescription diagramDescription;
+
+    private RepresentationEventProcessorRefresher refresher;
+
+    private String sourceId;
+
+    private Type editedType;
+
+    private int editsCount;
+
+    @Setup
+    public void setup() {
+        this.editingContext = new PapayaModelGenerator().generate(this.size);
+        this.diagramDescription = new PapayaDiagramDescriptionProvider().getDescription();
+
+        var iterator = EcoreUtil.<Object>getAllContents(this.editingContext.getDomain().getResourceSet(), true);
+        while (this.editedType == null && iterator.hasNext()) {
+            if (iterator.next() instanceof Type type) {
+                this.editedType = type;
+            }
+        }
+
+        var registry = new RepresentationEventProcessorRegistry();
+        for (int i = 0; i < DIAGRAMS_COUNT; i++) {
+            var representationEventProcessor = new DiagramRefreshProcessor(this.render(Optional.empty()));
+            String representationId = representationEventProcessor.getRepresentation().getId();
+            registry.put(this.editingContext.getId(), representationId, new RepresentationEventProcessorEntry(representationEventProcessor, () -> { }));
+            if (this.sourceId == null) {
+                this.sourceId = representationId;
+            }
+        }
+
+        this.refresher = new RepresentationEventProcessorRefresher(registry, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void refreshAfterSingleEdit() {
+        this.editsCount++;
+        this.editedType.setName("EditedType" + this.editsCount);
+
+        IInput input = () -> UUID.randomUUID();
+        var changeDescription = new ChangeDescription(ChangeKind.SEMANTIC_CHANGE, this.sourceId, input);
+        this.refresher.accept(Sinks.many().multicast().directBestEffort(), Sinks.many().multicast().directBestEffort(), this.editingContext, changeDescription);
+    }
+
+    private Diagram render(Optional<Diagram> optionalPreviousDiagram) {
+        var variableManager = new VariableManager();
+        variableManager.put(IEditingContext.EDITING_CONTEXT, this.editingContext);
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(variableManager)
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(optionalPreviousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .nodeAppearanceHandlers(List.of())
+                .edgeAppearanceHandlers(List.of())
+                .renderingMemo(Optional.empty())
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+
+    /**
+     * Representation event processor rendering its diagram again from its previous version during each refresh.
+     *
+     * @author agent
+     */
+    private final class DiagramRefreshProcessor extends IRepresentationEventProcessor.NoOp {
+
+        private Diagram diagram;
+
+        private DiagramRefreshProcessor(Diagram diagram) {
+            this.diagram = diagram;
+        }
+
+        @Override
+        public IRepresentation getRepresentation() {
+            return this.diagram;
+        }
+
+        @Override
+        public void refresh(ChangeDescription changeDescription) {
+            this.diagram = OpenDiagramsRefreshBenchmark.this.render(Optional.of(this.diagram));
+        }
+    }
+}
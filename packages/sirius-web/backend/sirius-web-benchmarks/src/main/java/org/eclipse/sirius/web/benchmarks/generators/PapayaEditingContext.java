@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.generators;
+
+import java.util.Objects;
+
+import org.eclipse.emf.common.command.BasicCommandStack;
+import org.eclipse.emf.ecore.impl.EPackageRegistryImpl;
+import org.eclipse.emf.ecore.util.BasicExtendedMetaData;
+import org.eclipse.emf.edit.domain.AdapterFactoryEditingDomain;
+import org.eclipse.emf.edit.provider.ComposedAdapterFactory;
+import org.eclipse.emf.edit.provider.ReflectiveItemProviderAdapterFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.PapayaPackage;
+import org.eclipse.sirius.components.papaya.provider.PapayaItemProviderAdapterFactory;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+
+/**
+ * Editing context containing Papaya models.
+ *
+ * <p>
+ *     Its resource set is configured like the one of the editing contexts of Sirius Web but, contrary to them, it
+ *     does not record the changes performed on its semantic elements in order to keep the generation of large models
+ *     cheap.
+ * </p>
+ *
+ * @author agent
+ */
+public class PapayaEditingContext implements IEMFEditingContext {
+
+    private final String id;
+
+    private final AdapterFactoryEditingDomain editingDomain;
+
+    public PapayaEditingContext(String id) {
+        this.id = Objects.requireNonNull(id);
+
+        var composedAdapterFactory = new ComposedAdapterFactory();
+        composedAdapterFactory.addAdapterFactory(new PapayaItemProviderAdapterFactory());
+        composedAdapterFactory.addAdapterFactory(new ReflectiveItemProviderAdapterFactory());
+
+        var ePackageRegistry = new EPackageRegistryImpl();
+        ePackageRegistry.put(PapayaPackage.eNS_URI, PapayaPackage.eINSTANCE);
+
+        this.editingDomain = new AdapterFactoryEditingDomain(composedAdapterFactory, new BasicCommandStack());
+        var resourceSet = this.editingDomain.getResourceSet();
+        resourceSet.setPackageRegistry(ePackageRegistry);
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_EXTENDED_META_DATA, new BasicExtendedMetaData(ePackageRegistry));
+        resourceSet.getLoadOptions().put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+    }
+
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    @Override
+    public AdapterFactoryEditingDomain getDomain() {
+        return this.editingDomain;
+    }
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.generators;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.IDAdapter;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.Component;
+import org.eclipse.sirius.components.papaya.Package;
+import org.eclipse.sirius.components.papaya.PapayaFactory;
+import org.eclipse.sirius.components.papaya.Type;
+import org.eclipse.sirius.web.papaya.factories.ApacheProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.EMFProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.FasterXMLProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.GoogleProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.GraphQLJavaProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.JavaProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.ReactiveStreamsProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.ReactorProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.SiriusWebProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.SpringProjectFactory;
+import org.eclipse.sirius.web.papaya.factories.services.EObjectIndexer;
+import org.eclipse.sirius.web.papaya.factories.services.EObjectInitializer;
+import org.eclipse.sirius.web.papaya.factories.services.api.IObjectFactory;
+
+/**
+ * Generates Papaya models of a given size from the projects created by the Papaya sample factories.
+ *
+ * <p>
+ *     The sample projects are created once, like with the Papaya benchmark project template. The types of their
+ *     packages are then copied, round after round, in new components until the generated model contains the requested
+ *     number of elements. The references between the types copied in the same package are kept while the references to
+ *     other elements are dropped, the generated model is thus self-contained.
+ * </p>
+ *
+ * <p>
+ *     The identifiers of the generated elements and documents are derived from their position in the model, the same
+ *     model is thus generated for a given size in all the runs in order to produce comparable results.
+ * </p>
+ *
+ * @author agent
+ */
+public class PapayaModelGenerator {
+
+    private List<Package> samplePackages;
+
+    /**
+     * Generates a new editing context containing a Papaya model.
+     *
+     * @param size
+     *         The number of elements of the model, the generation stops as soon as this number has been reached
+     * @return The editing context containing the generated model
+     */
+    public IEMFEditingContext generate(int size) {
+        var samplePackagesToCopy = this.getSamplePackages();
+        var editingContext = new PapayaEditingContext(this.toUUID("editingContext" + size).toString());
+
+        int elementsCount = 0;
+        int round = 0;
+        while (elementsCount < size) {
+            var component = PapayaFactory.eINSTANCE.createComponent();
+            component.setName("generated.component" + round);
+
+            var project = PapayaFactory.eINSTANCE.createProject();
+            project.setName("Generated project " + round);
+            project.getElements().add(component);
+            elementsCount = elementsCount + 2;
+
+            var iterator = samplePackagesToCopy.iterator();
+            while (iterator.hasNext() && elementsCount < size) {
+                elementsCount = elementsCount + this.copy(iterator.next(), component, size - elementsCount);
+            }
+
+            var resource = new JSONResourceFactory().createResourceFromPath(this.toUUID("document" + round).toString());
+            resource.eAdapters().add(new ResourceMetadataAdapter("Generated " + round));
+            resource.getContents().add(project);
+            editingContext.getDomain().getResourceSet().getResources().add(resource);
+
+            round++;
+        }
+
+        int index = 0;
+        var iterator = editingContext.getDomain().getResourceSet().getAllContents();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof EObject eObject) {
+                eObject.eAdapters().add(new IDAdapter(this.toUUID("element" + index)));
+                index++;
+            }
+        }
+        return editingContext;
+    }
+
+    /**
+     * Copies the types of the given package in a new package of the given component.
+     *
+     * @return The number of elements created
+     */
+    private int copy(Package samplePackage, Component component, int maximumElementsCount) {
+        var copiedPackage = PapayaFactory.eINSTANCE.createPackage();
+        copiedPackage.setName(samplePackage.getName());
+        component.getPackages().add(copiedPackage);
+        int elementsCount = 1;
+
+        // The references to the elements which have not been copied are dropped instead of targeting the sample
+        var copier = new EcoreUtil.Copier(true, false);
+        var typesIterator = samplePackage.getTypes().iterator();
+        while (typesIterator.hasNext() && elementsCount < maximumElementsCount) {
+            var copiedType = (Type) copier.copy(typesIterator.next());
+            copiedPackage.getTypes().add(copiedType);
+
+            elementsCount++;
+            var contentsIterator = copiedType.eAllContents();
+            while (contentsIterator.hasNext()) {
+                contentsIterator.next();
+                elementsCount++;
+            }
+        }
+        copier.copyReferences();
+
+        return elementsCount;
+    }
+
+    private List<Package> getSamplePackages() {
+        if (this.samplePackages == null) {
+            var editingContext = new PapayaEditingContext("sample");
+            List<IObjectFactory> objectFactories = List.of(
+                    new JavaProjectFactory(),
+                    new ReactiveStreamsProjectFactory(),
+                    new ReactorProjectFactory(),
+                    new SpringProjectFactory(),
+                    new EMFProjectFactory(),
+                    new SiriusWebProjectFactory(),
+                    new GoogleProjectFactory(),
+                    new GraphQLJavaProjectFactory(),
+                    new FasterXMLProjectFactory(),
+                    new ApacheProjectFactory()
+            );
+            objectFactories.forEach(objectFactory -> objectFactory.create(editingContext));
+
+            var resourceSet = editingContext.getDomain().getResourceSet();
+            var eObjectIndexer = new EObjectIndexer();
+            eObjectIndexer.index(resourceSet);
+            objectFactories.forEach(objectFactory -> objectFactory.link(eObjectIndexer));
+            new EObjectInitializer(eObjectIndexer).initialize(resourceSet);
+
+            List<Package> packages = new ArrayList<>();
+            var iterator = resourceSet.getAllContents();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof Package papayaPackage && !papayaPackage.getTypes().isEmpty()) {
+                    packages.add(papayaPackage);
+                }
+            }
+            this.samplePackages = List.copyOf(packages);
+        }
+        return this.samplePackages;
+    }
+
+    private UUID toUUID(String value) {
+        return UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
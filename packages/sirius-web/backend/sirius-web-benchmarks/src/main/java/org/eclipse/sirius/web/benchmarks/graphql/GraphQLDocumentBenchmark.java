@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.graphql;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.graphql.api.InstantScalarType;
+import org.eclipse.sirius.components.graphql.api.UploadScalarType;
+import org.eclipse.sirius.components.graphql.execution.CachingPreparsedDocumentProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import graphql.ExecutionInput;
+import graphql.ParseAndValidate;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.MockedWiringFactory;
+import graphql.schema.idl.RuntimeWiring;
+import graphql.schema.idl.SchemaGenerator;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks the parsing and the validation of a GraphQL query against the schema of Sirius Web.
+ *
+ * <p>
+ *     The query is either parsed and validated for each request or retrieved from the cache of the parsed and
+ *     validated documents used by Sirius Web.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQLDocumentBenchmark {
+
+    private static final String QUERY = """
+            query getRepresentationMetadata($editingContextId: ID!, $representationId: ID!, $objectId: ID!) {
+              viewer {
+                editingContext(editingContextId: $editingContextId) {
+                  id
+                  representation(representationId: $representationId) {
+                    id
+                    label
+                    kind
+                    iconURLs
+                    description {
+                      id
+                      label
+                    }
+                  }
+                  representationDescriptions(objectId: $objectId) {
+                    edges {
+                      node {
+                        id
+                        label
+                        defaultName
+                      }
+                    }
+                    pageInfo {
+                      hasNextPage
+                      count
+                    }
+                  }
+                }
+              }
+            }
+            """;
+
+    private GraphQLSchema graphQLSchema;
+
+    private CachingPreparsedDocumentProvider preparsedDocumentProvider;
+
+    @Setup
+    public void setup() throws IOException {
+        TypeDefinitionRegistry typeRegistry = new TypeDefinitionRegistry();
+        SchemaParser schemaParser = new SchemaParser();
+
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources("classpath*:/schema/**/*.graphqls");
+        for (Resource resource : resources) {
+            typeRegistry.merge(schemaParser.parse(resource.getInputStream()));
+        }
+
+        var runtimeWiring = RuntimeWiring.newRuntimeWiring()
+                .wiringFactory(new MockedWiringFactory())
+                .scalar(UploadScalarType.INSTANCE)
+                .scalar(InstantScalarType.INSTANCE)
+                .build();
+        this.graphQLSchema = new SchemaGenerator().makeExecutableSchema(typeRegistry, runtimeWiring);
+
+        this.preparsedDocumentProvider = new CachingPreparsedDocumentProvider(1000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public PreparsedDocumentEntry parseAndValidate() {
+        return this.parseAndValidate(this.newExecutionInput());
+    }
+
+    @Benchmark
+    public PreparsedDocumentEntry parseAndValidateWithCache() {
+        return this.preparsedDocumentProvider.getDocumentAsync(this.newExecutionInput(), this::parseAndValidate).join();
+    }
+
+    private ExecutionInput newExecutionInput() {
+        return ExecutionInput.newExecutionInput()
+                .query(QUERY)
+                .variables(Map.of("editingContextId", "editingContextId", "representationId", "representationId", "objectId", "objectId"))
+                .build();
+    }
+
+    /**
+     * Parses and validates the query like GraphQL Java, the errors are kept in the entry returned to the benchmark.
+     */
+    private PreparsedDocumentEntry parseAndValidate(ExecutionInput executionInput) {
+        var result = ParseAndValidate.parseAndValidate(this.graphQLSchema, executionInput);
+        if (result.isFailure()) {
+            return new PreparsedDocumentEntry(result.getErrors());
+        }
+        return new PreparsedDocumentEntry(result.getDocument());
+    }
+}
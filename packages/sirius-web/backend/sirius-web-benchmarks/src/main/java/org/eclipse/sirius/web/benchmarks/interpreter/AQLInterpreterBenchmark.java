@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.interpreter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.papaya.PapayaPackage;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the evaluation of some AQL expressions on all the elements of a generated model.
+ *
+ * <p>
+ *     The expressions are evaluated with some variables like during the rendering of a representation, going from a
+ *     simple feature access to a navigation of the content of each element.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AQLInterpreterBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    @Param({
+        "aql:self.name",
+        "aql:self.oclIsKindOf(papaya::Class)",
+        "aql:self.eContents()->size()",
+        "aql:self.eAllContents(papaya::Operation)->select(operation | operation.name.startsWith('get'))->size()",
+    })
+    private String expression;
+
+    private AQLInterpreter interpreter;
+
+    private List<VariableManager> variableManagers;
+
+    @Setup
+    public void setup() {
+        var editingContext = new PapayaModelGenerator().generate(this.size);
+        this.interpreter = new AQLInterpreter(List.of(), List.of(PapayaPackage.eINSTANCE));
+
+        var rootVariableManager = new VariableManager();
+        rootVariableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
+
+        this.variableManagers = new ArrayList<>();
+        var iterator = editingContext.getDomain().getResourceSet().getAllContents();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof EObject eObject) {
+                var variableManager = rootVariableManager.createChild();
+                variableManager.put(VariableManager.SELF, eObject);
+                this.variableManagers.add(variableManager);
+            }
+        }
+    }
+
+    @Benchmark
+    public void evaluateExpression(Blackhole blackhole) {
+        for (VariableManager variableManager : this.variableManagers) {
+            blackhole.consume(this.interpreter.evaluateExpression(variableManager.getVariablesView(), this.expression));
+        }
+    }
+}
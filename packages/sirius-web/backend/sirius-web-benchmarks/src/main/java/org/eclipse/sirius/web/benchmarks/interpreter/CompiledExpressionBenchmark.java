@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.interpreter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.DomainClassPredicate;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.interpreter.CompiledExpression;
+import org.eclipse.sirius.components.interpreter.Status;
+import org.eclipse.sirius.components.papaya.PapayaPackage;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.view.ViewPackage;
+import org.eclipse.sirius.components.view.diagram.DiagramElementDescription;
+import org.eclipse.sirius.components.view.diagram.EdgePalette;
+import org.eclipse.sirius.components.view.diagram.NodePalette;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.eclipse.sirius.web.papaya.representations.classdiagram.services.ClassDiagramServices;
+import org.eclipse.sirius.web.papaya.representations.componentdiagram.services.ComponentDiagramServices;
+import org.eclipse.sirius.web.papaya.representations.services.PapayaRepresentationServices;
+import org.eclipse.sirius.web.papaya.representations.services.PapayaTableServices;
+import org.eclipse.sirius.web.papaya.services.PapayaViewProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the evaluation of the expressions of the Papaya studio with and without their compilation ahead of time.
+ *
+ * <p>
+ *     The expressions of the node and edge descriptions of the Papaya diagrams, with their styles and labels, are
+ *     evaluated on all the elements of a generated model matching the domain type of their description. They are either
+ *     evaluated from their text, which requires to find them in the bounded cache of the interpreter for each
+ *     evaluation, or thanks to the compiled expressions kept by the value providers.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompiledExpressionBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    private AQLInterpreter interpreter;
+
+    private List<Evaluation> evaluations;
+
+    @Setup
+    public void setup() {
+        var editingContext = new PapayaModelGenerator().generate(this.size);
+        var view = new PapayaViewProvider().create();
+
+        var rootVariableManager = new VariableManager();
+        rootVariableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
+        rootVariableManager.put("semanticElementIds", List.of());
+
+        List<EObject> semanticElements = new ArrayList<>();
+        editingContext.getDomain().getResourceSet().getAllContents().forEachRemaining(notifier -> {
+            if (notifier instanceof EObject eObject) {
+                semanticElements.add(eObject);
+            }
+        });
+
+        this.interpreter = this.createInterpreter();
+        var compilingInterpreter = this.createInterpreter();
+
+        this.evaluations = new ArrayList<>();
+        view.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof DiagramElementDescription diagramElementDescription) {
+                var domainClassPredicate = new DomainClassPredicate(diagramElementDescription.getDomainType());
+                List<VariableManager> variableManagers = semanticElements.stream()
+                        .filter(semanticElement -> domainClassPredicate.test(semanticElement.eClass()))
+                        .map(semanticElement -> {
+                            var variableManager = rootVariableManager.createChild();
+                            variableManager.put(VariableManager.SELF, semanticElement);
+                            return variableManager;
+                        })
+                        .toList();
+
+                Set<String> expressions = new LinkedHashSet<>();
+                this.collectExpressions(diagramElementDescription, expressions);
+                if (!variableManagers.isEmpty()) {
+                    expressions.stream()
+                            .filter(expression -> this.interpreter.evaluateExpression(variableManagers.get(0).getVariablesView(), expression).getStatus() == Status.OK)
+                            .map(expression -> new Evaluation(expression, compilingInterpreter.compileExpression(expression), variableManagers))
+                            .forEach(this.evaluations::add);
+                }
+            }
+        });
+    }
+
+    private AQLInterpreter createInterpreter() {
+        List<Object> services = List.of(new PapayaRepresentationServices(new IObjectSearchService.NoOp()), new ComponentDiagramServices(), new ClassDiagramServices(), new PapayaTableServices());
+        return new AQLInterpreter(List.of(), services, List.of(PapayaPackage.eINSTANCE));
+    }
+
+    /**
+     * Collects the expressions of a diagram element description and its styles, without those of its tools and of its
+     * children which are collected with their own domain type.
+     */
+    private void collectExpressions(EObject eObject, Set<String> expressions) {
+        eObject.eClass().getEAllAttributes().stream()
+                .filter(eAttribute -> eAttribute.getEType() == ViewPackage.Literals.INTERPRETED_EXPRESSION && !eAttribute.isMany())
+                .map(eObject::eGet)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .filter(expression -> !expression.isBlank())
+                .forEach(expressions::add);
+
+        eObject.eContents().stream()
+                .filter(child -> !(child instanceof DiagramElementDescription || child instanceof NodePalette || child instanceof EdgePalette))
+                .forEach(child -> this.collectExpressions(child, expressions));
+    }
+
+    @Benchmark
+    public void evaluateFromText(Blackhole blackhole) {
+        for (Evaluation evaluation : this.evaluations) {
+            for (VariableManager variableManager : evaluation.variableManagers()) {
+                blackhole.consume(this.interpreter.evaluateExpression(variableManager.getVariablesView(), evaluation.expression()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void evaluateCompiledExpressions(Blackhole blackhole) {
+        for (Evaluation evaluation : this.evaluations) {
+            for (VariableManager variableManager : evaluation.variableManagers()) {
+                blackhole.consume(evaluation.compiledExpression().evaluate(variableManager.getVariablesView()));
+            }
+        }
+    }
+
+    /**
+     * An expression of the Papaya studio with the variables of all the elements on which it should be evaluated.
+     *
+     * @author agent
+     */
+    private record Evaluation(String expression, CompiledExpression compiledExpression, List<VariableManager> variableManagers) {
+    }
+}
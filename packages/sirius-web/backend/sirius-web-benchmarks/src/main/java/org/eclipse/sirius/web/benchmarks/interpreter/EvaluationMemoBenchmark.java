@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.interpreter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.DomainClassPredicate;
+import org.eclipse.sirius.components.interpreter.AQLInterpreter;
+import org.eclipse.sirius.components.papaya.PapayaPackage;
+import org.eclipse.sirius.components.representations.EvaluationMemo;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.view.diagram.DiagramDescription;
+import org.eclipse.sirius.components.view.diagram.LabelDescription;
+import org.eclipse.sirius.components.view.diagram.NodeDescription;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.eclipse.sirius.web.papaya.representations.classdiagram.services.ClassDiagramServices;
+import org.eclipse.sirius.web.papaya.representations.componentdiagram.services.ComponentDiagramServices;
+import org.eclipse.sirius.web.papaya.representations.services.PapayaRepresentationServices;
+import org.eclipse.sirius.web.papaya.representations.services.PapayaTableServices;
+import org.eclipse.sirius.web.papaya.services.PapayaViewProvider;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the rendering of the nodes of the Papaya diagrams with and without the memo of the expressions which do
+ * not call any service.
+ *
+ * <p>
+ *     Each rendering evaluates, like the diagram renderer, the semantic candidates of the node descriptions with their
+ *     parent element and the labels of each candidate, down the children and border node descriptions. The number of
+ *     results reused and computed by the memo during each rendering is reported with its duration.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluationMemoBenchmark {
+
+    /**
+     * Used to stop the rendering of the node descriptions whose semantic candidates are not contained by their parent.
+     */
+    private static final int MAX_DEPTH = 4;
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    @Param({ "false", "true" })
+    private boolean memoized;
+
+    private AQLInterpreter interpreter;
+
+    private List<Rendering> renderings;
+
+    private long hits;
+
+    private long misses;
+
+    @Setup
+    public void setup() {
+        var editingContext = new PapayaModelGenerator().generate(this.size);
+        var view = new PapayaViewProvider().create();
+
+        List<EObject> semanticElements = new ArrayList<>();
+        editingContext.getDomain().getResourceSet().getAllContents().forEachRemaining(notifier -> {
+            if (notifier instanceof EObject eObject) {
+                semanticElements.add(eObject);
+            }
+        });
+
+        List<Object> services = List.of(new PapayaRepresentationServices(new IObjectSearchService.NoOp()), new ComponentDiagramServices(), new ClassDiagramServices(), new PapayaTableServices());
+        this.interpreter = new AQLInterpreter(List.of(), services, List.of(PapayaPackage.eINSTANCE));
+
+        this.renderings = new ArrayList<>();
+        view.eAllContents().forEachRemaining(eObject -> {
+            if (eObject instanceof DiagramDescription diagramDescription) {
+                var domainClassPredicate = new DomainClassPredicate(diagramDescription.getDomainType());
+                semanticElements.stream()
+                        .filter(semanticElement -> domainClassPredicate.test(semanticElement.eClass()))
+                        .findFirst()
+                        .map(targetObject -> new Rendering(diagramDescription, targetObject, editingContext))
+                        .ifPresent(this.renderings::add);
+            }
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMemoCounts() {
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    @Benchmark
+    public void renderNodes(Blackhole blackhole) {
+        for (Rendering rendering : this.renderings) {
+            var variableManager = new VariableManager();
+            variableManager.put(VariableManager.SELF, rendering.targetObject());
+            variableManager.put(IEditingContext.EDITING_CONTEXT, rendering.editingContext());
+
+            Optional<EvaluationMemo> optionalEvaluationMemo = Optional.empty();
+            if (this.memoized) {
+                optionalEvaluationMemo = Optional.of(new EvaluationMemo());
+                variableManager.put(EvaluationMemo.EVALUATION_MEMO, optionalEvaluationMemo.get());
+            }
+
+            for (NodeDescription nodeDescription : rendering.diagramDescription().getNodeDescriptions()) {
+                this.renderNodes(nodeDescription, variableManager, 0, blackhole);
+            }
+
+            optionalEvaluationMemo.ifPresent(evaluationMemo -> {
+                this.hits += evaluationMemo.getHitCount();
+                this.misses += evaluationMemo.getMissCount();
+            });
+        }
+    }
+
+    private void renderNodes(NodeDescription nodeDescription, VariableManager parentVariableManager, int depth, Blackhole blackhole) {
+        var domainClassPredicate = new DomainClassPredicate(Optional.ofNullable(nodeDescription.getDomainType()).orElse(""));
+        List<Object> candidates = this.interpreter.evaluateMemoizableExpression(parentVariableManager.getVariablesView(), nodeDescription.getSemanticCandidatesExpression())
+                .asObjects()
+                .orElse(List.of());
+        for (Object candidate : candidates) {
+            if (candidate instanceof EObject eObject && domainClassPredicate.test(eObject.eClass())) {
+                var variableManager = parentVariableManager.createChild();
+                variableManager.put(VariableManager.SELF, candidate);
+
+                this.renderLabel(nodeDescription.getInsideLabel(), variableManager, blackhole);
+                nodeDescription.getOutsideLabels().forEach(outsideLabel -> this.renderLabel(outsideLabel, variableManager, blackhole));
+
+                if (depth < MAX_DEPTH) {
+                    nodeDescription.getChildrenDescriptions().forEach(childDescription -> this.renderNodes(childDescription, variableManager, depth + 1, blackhole));
+                    nodeDescription.getBorderNodesDescriptions().forEach(borderNodeDescription -> this.renderNodes(borderNodeDescription, variableManager, depth + 1, blackhole));
+                }
+            }
+        }
+    }
+
+    private void renderLabel(LabelDescription labelDescription, VariableManager variableManager, Blackhole blackhole) {
+        if (labelDescription != null) {
+            blackhole.consume(this.interpreter.evaluateMemoizableExpression(variableManager.getVariablesView(), labelDescription.getLabelExpression()));
+        }
+    }
+
+    public long hits() {
+        return this.hits;
+    }
+
+    public long misses() {
+        return this.misses;
+    }
+
+    /**
+     * A diagram description with the semantic element on which it is rendered.
+     *
+     * @author agent
+     */
+    private record Rendering(DiagramDescription diagramDescription, EObject targetObject, IEditingContext editingContext) {
+    }
+}
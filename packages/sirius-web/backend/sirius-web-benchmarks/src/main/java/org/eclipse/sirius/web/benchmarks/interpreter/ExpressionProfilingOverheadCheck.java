@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.interpreter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs {@link ExpressionProfilingBenchmark} with and without the profiling and fails if the profiling makes the
+ * evaluations more than 5% slower for one of the sizes of model.
+ *
+ * <p>
+ *     It is run from the jar of the benchmarks with
+ *     {@code java -cp benchmarks.jar org.eclipse.sirius.web.benchmarks.interpreter.ExpressionProfilingOverheadCheck}
+ *     and exits with the status 1 when the overhead is too high.
+ * </p>
+ *
+ * @author agent
+ */
+public class ExpressionProfilingOverheadCheck {
+
+    private static final double MAXIMUM_OVERHEAD = 0.05;
+
+    private static final String SIZE = "size";
+
+    private static final String PROFILING = "profiling";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExpressionProfilingOverheadCheck.class);
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+                .include(ExpressionProfilingBenchmark.class.getSimpleName())
+                .build();
+        Collection<RunResult> runResults = new Runner(options).run();
+
+        Map<String, Double> scoresWithoutProfiling = new HashMap<>();
+        Map<String, Double> scoresWithProfiling = new HashMap<>();
+        for (RunResult runResult : runResults) {
+            var benchmarkParams = runResult.getParams();
+            double score = runResult.getPrimaryResult().getScore();
+            if (Boolean.parseBoolean(benchmarkParams.getParam(PROFILING))) {
+                scoresWithProfiling.put(benchmarkParams.getParam(SIZE), score);
+            } else {
+                scoresWithoutProfiling.put(benchmarkParams.getParam(SIZE), score);
+            }
+        }
+
+        boolean tooExpensive = false;
+        for (var entry : scoresWithoutProfiling.entrySet()) {
+            Double scoreWithProfiling = scoresWithProfiling.get(entry.getKey());
+            if (scoreWithProfiling != null) {
+                double overhead = scoreWithProfiling / entry.getValue() - 1;
+                LOGGER.info(String.format("Overhead of the profiling with size=%s: %.2f%%", entry.getKey(), overhead * 100));
+                tooExpensive = tooExpensive || overhead > MAXIMUM_OVERHEAD;
+            }
+        }
+
+        if (tooExpensive) {
+            LOGGER.error(String.format("The profiling makes the evaluations more than %.0f%% slower", MAXIMUM_OVERHEAD * 100));
+            System.exit(1);
+        }
+    }
+}
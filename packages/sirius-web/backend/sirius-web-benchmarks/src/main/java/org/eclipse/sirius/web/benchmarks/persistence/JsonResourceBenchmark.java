@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceLoader;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaEditingContext;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the loading and the saving of the JSON resources of a generated model.
+ *
+ * <p>
+ *     The resources are loaded by the {@link ResourceLoader} used to load the documents of the editing contexts and
+ *     they are saved with the options used to persist the documents.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonResourceBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    private List<Resource> resources;
+
+    private List<Document> documents;
+
+    private final ResourceLoader resourceLoader = new ResourceLoader(List.of());
+
+    @Setup
+    public void setup() throws IOException {
+        var editingContext = new PapayaModelGenerator().generate(this.size);
+        this.resources = List.copyOf(editingContext.getDomain().getResourceSet().getResources());
+
+        this.documents = new ArrayList<>();
+        for (Resource resource : this.resources) {
+            this.documents.add(new Document(resource.getURI().path().substring(1), this.save(resource)));
+        }
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        var resourceSet = new PapayaEditingContext("load").getDomain().getResourceSet();
+        for (Document document : this.documents) {
+            blackhole.consume(this.resourceLoader.toResource(resourceSet, document.id(), document.id(), document.content(), false, false));
+        }
+    }
+
+    @Benchmark
+    public void save(Blackhole blackhole) throws IOException {
+        for (Resource resource : this.resources) {
+            blackhole.consume(this.save(resource));
+        }
+    }
+
+    private String save(Resource resource) throws IOException {
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
+        options.put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+
+        try (var outputStream = new ByteArrayOutputStream()) {
+            resource.save(outputStream, options);
+            return outputStream.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * The content of a document.
+     *
+     * @param id
+     *         The identifier of the document
+     * @param content
+     *         The serialized resource of the document
+     * @author agent
+     */
+    private record Document(String id, String content) {
+    }
+}
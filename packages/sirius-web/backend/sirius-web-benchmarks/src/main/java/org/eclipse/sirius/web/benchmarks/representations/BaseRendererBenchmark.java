@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.representations;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.papaya.NamedElement;
+import org.eclipse.sirius.components.representations.BaseRenderer;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.Fragment;
+import org.eclipse.sirius.components.representations.FragmentProps;
+import org.eclipse.sirius.components.representations.IComponent;
+import org.eclipse.sirius.components.representations.IProps;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the rendering of a tree of components by the {@link BaseRenderer}.
+ *
+ * <p>
+ *     A component is rendered for each element of a generated model, it creates an instance for this element and some
+ *     components for its children. It measures the cost of the rendering algorithm itself, shared by all the
+ *     representations, without the cost of their descriptions.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BaseRendererBenchmark {
+
+    private static final String INSTANCE_TYPE = "ModelElement";
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    private List<EObject> rootElements;
+
+    private BaseRenderer baseRenderer;
+
+    @Setup
+    public void setup() {
+        var editingContext = new PapayaModelGenerator().generate(this.size);
+        this.rootElements = editingContext.getDomain().getResourceSet().getResources().stream()
+                .flatMap(resource -> resource.getContents().stream())
+                .toList();
+
+        this.baseRenderer = new BaseRenderer(
+                (type, props) -> INSTANCE_TYPE.equals(type) && props instanceof ModelElementInstanceProps,
+                (componentType, props) -> ModelElementComponent.class.equals(componentType) && props instanceof ModelElementComponentProps,
+                (type, props, children) -> new ModelElementInstance(((ModelElementInstanceProps) props).label(), children)
+        );
+    }
+
+    @Benchmark
+    public Object render() {
+        var children = this.rootElements.stream()
+                .map(rootElement -> new Element(ModelElementComponent.class, new ModelElementComponentProps(rootElement)))
+                .toList();
+        return this.baseRenderer.renderElement(new Fragment(new FragmentProps(children)));
+    }
+
+    /**
+     * The properties of the component rendering an element of the model.
+     *
+     * @param eObject
+     *         The element of the model
+     * @author agent
+     */
+    public record ModelElementComponentProps(EObject eObject) implements IProps {
+        public ModelElementComponentProps {
+            Objects.requireNonNull(eObject);
+        }
+    }
+
+    /**
+     * The properties of the instance rendered for an element of the model.
+     *
+     * @param label
+     *         The label of the element
+     * @param children
+     *         The elements of the children
+     * @author agent
+     */
+    public record ModelElementInstanceProps(String label, List<Element> children) implements IProps {
+        public ModelElementInstanceProps {
+            Objects.requireNonNull(label);
+            Objects.requireNonNull(children);
+        }
+
+        @Override
+        public List<Element> getChildren() {
+            return this.children;
+        }
+    }
+
+    /**
+     * The instance rendered for an element of the model.
+     *
+     * @param label
+     *         The label of the element
+     * @param children
+     *         The instances rendered for the children of the element
+     * @author agent
+     */
+    public record ModelElementInstance(String label, List<Object> children) {
+    }
+
+    /**
+     * The component rendering an element of the model.
+     *
+     * @author agent
+     */
+    public static final class ModelElementComponent implements IComponent {
+
+        private final ModelElementComponentProps props;
+
+        public ModelElementComponent(ModelElementComponentProps props) {
+            this.props = Objects.requireNonNull(props);
+        }
+
+        @Override
+        public Element render() {
+            var eObject = this.props.eObject();
+            String label = Optional.of(eObject)
+                    .filter(NamedElement.class::isInstance)
+                    .map(NamedElement.class::cast)
+                    .map(NamedElement::getName)
+                    .orElse(eObject.eClass().getName());
+
+            var children = eObject.eContents().stream()
+                    .map(child -> new Element(ModelElementComponent.class, new ModelElementComponentProps(child)))
+                    .toList();
+            return new Element(INSTANCE_TYPE, new ModelElementInstanceProps(label, children));
+        }
+    }
+}
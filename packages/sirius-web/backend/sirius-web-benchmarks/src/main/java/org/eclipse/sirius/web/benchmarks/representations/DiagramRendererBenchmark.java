@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.representations;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderingMemo;
+import org.eclipse.sirius.components.emf.services.EMFModificationStampProvider;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.Type;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the rendering of a diagram with a node for each element of a generated model.
+ *
+ * <p>
+ *     The refresh of a diagram after the modification of a single semantic element is measured with and without a
+ *     {@link DiagramRenderingMemo}. With the memo, the nodes of the unmodified semantic elements of the previous
+ *     diagram are reused instead of being computed again. The size of the model is roughly the number of nodes of the
+ *     diagram.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiagramRendererBenchmark {
+
+    @Param({ "1000", "5000", "10000", "100000" })
+    private int size;
+
+    private IEMFEditingContext editingContext;
+
+    private DiagramDescription diagramDescription;
+
+    private Type editedType;
+
+    private int editsCount;
+
+    private Diagram previousDiagram;
+
+    private Diagram previousMemoizedDiagram;
+
+    private DiagramRenderingMemo renderingMemo;
+
+    @Setup
+    public void setup() {
+        this.editingContext = new PapayaModelGenerator().generate(this.size);
+        this.diagramDescription = new PapayaDiagramDescriptionProvider().getDescription();
+
+        var iterator = EcoreUtil.<Object>getAllContents(this.editingContext.getDomain().getResourceSet(), true);
+        while (this.editedType == null && iterator.hasNext()) {
+            if (iterator.next() instanceof Type type) {
+                this.editedType = type;
+            }
+        }
+
+        var modificationStampProvider = new EMFModificationStampProvider();
+        this.renderingMemo = new DiagramRenderingMemo(object -> modificationStampProvider.getModificationStamp(this.editingContext, object));
+
+        this.previousDiagram = this.render(Optional.empty(), Optional.empty());
+        this.previousMemoizedDiagram = this.render(Optional.empty(), Optional.of(this.renderingMemo));
+    }
+
+    @Benchmark
+    public Diagram renderFromScratch() {
+        return this.render(Optional.empty(), Optional.empty());
+    }
+
+    @Benchmark
+    public Diagram refreshAfterSingleEdit() {
+        this.edit();
+        this.previousDiagram = this.render(Optional.of(this.previousDiagram), Optional.empty());
+        return this.previousDiagram;
+    }
+
+    @Benchmark
+    public Diagram refreshAfterSingleEditWithRenderingMemo() {
+        this.edit();
+        this.previousMemoizedDiagram = this.render(Optional.of(this.previousMemoizedDiagram), Optional.of(this.renderingMemo));
+        return this.previousMemoizedDiagram;
+    }
+
+    private void edit() {
+        this.editsCount++;
+        this.editedType.setName("EditedType" + this.editsCount);
+    }
+
+    private Diagram render(Optional<Diagram> optionalPreviousDiagram, Optional<DiagramRenderingMemo> optionalRenderingMemo) {
+        var variableManager = new VariableManager();
+        variableManager.put(IEditingContext.EDITING_CONTEXT, this.editingContext);
+
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(variableManager)
+                .diagramDescription(this.diagramDescription)
+                .allDiagramDescriptions(List.of(this.diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(optionalPreviousDiagram)
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .nodeAppearanceHandlers(List.of())
+                .edgeAppearanceHandlers(List.of())
+                .renderingMemo(optionalRenderingMemo)
+                .build();
+        Element element = new Element(DiagramComponent.class, props);
+        return new DiagramRenderer().render(element);
+    }
+}
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.representations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.FreeFormLayoutStrategy;
+import org.eclipse.sirius.components.diagrams.HeaderSeparatorDisplayMode;
+import org.eclipse.sirius.components.diagrams.InsideLabelLocation;
+import org.eclipse.sirius.components.diagrams.LabelOverflowStrategy;
+import org.eclipse.sirius.components.diagrams.LabelTextAlign;
+import org.eclipse.sirius.components.diagrams.LabelVisibility;
+import org.eclipse.sirius.components.diagrams.LineStyle;
+import org.eclipse.sirius.components.diagrams.RectangularNodeStyle;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
+import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
+import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.NamedElement;
+import org.eclipse.sirius.components.papaya.Type;
+import org.eclipse.sirius.components.representations.Failure;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+
+/**
+ * Provides the description of a diagram of the types of a Papaya model.
+ *
+ * <p>
+ *     The diagram contains a node for each type of the model and a child node for each element contained by a type,
+ *     like its attributes and operations. The variable manager used to render the diagram must contain the editing
+ *     context of the model.
+ * </p>
+ *
+ * @author agent
+ */
+public class PapayaDiagramDescriptionProvider {
+
+    public static final String DIAGRAM_DESCRIPTION_ID = "papayaDiagramDescription";
+
+    private static final String NODE_TYPE = "node:rectangular";
+
+    private final EObjectIDManager idManager = new EObjectIDManager();
+
+    public DiagramDescription getDescription() {
+        NodeDescription memberNodeDescription = this.getNodeDescription("papayaMemberNodeDescription", this::getMembers, List.of());
+        NodeDescription typeNodeDescription = this.getNodeDescription("papayaTypeNodeDescription", this::getTypes, List.of(memberNodeDescription));
+
+        return DiagramDescription.newDiagramDescription(DIAGRAM_DESCRIPTION_ID)
+                .label("Papaya types")
+                .canCreatePredicate(variableManager -> true)
+                .targetObjectIdProvider(variableManager -> "papayaDiagram")
+                .labelProvider(variableManager -> "Papaya types")
+                .nodeDescriptions(List.of(typeNodeDescription))
+                .edgeDescriptions(List.of())
+                .palettes(List.of())
+                .dropHandler(variableManager -> new Failure(""))
+                .iconURLsProvider(variableManager -> List.of())
+                .build();
+    }
+
+    private NodeDescription getNodeDescription(String id, Function<VariableManager, List<?>> semanticElementsProvider, List<NodeDescription> childNodeDescriptions) {
+        LabelStyleDescription labelStyleDescription = LabelStyleDescription.newLabelStyleDescription()
+                .italicProvider(variableManager -> false)
+                .boldProvider(variableManager -> false)
+                .underlineProvider(variableManager -> false)
+                .strikeThroughProvider(variableManager -> false)
+                .colorProvider(variableManager -> "black")
+                .fontSizeProvider(variableManager -> 14)
+                .iconURLProvider(variableManager -> List.of())
+                .backgroundProvider(variableManager -> "transparent")
+                .borderColorProvider(variableManager -> "black")
+                .borderRadiusProvider(variableManager -> 0)
+                .borderSizeProvider(variableManager -> 0)
+                .borderStyleProvider(variableManager -> LineStyle.Solid)
+                .maxWidthProvider(variableManager -> null)
+                .visibilityProvider(variableManager -> LabelVisibility.visible)
+                .build();
+
+        InsideLabelDescription insideLabelDescription = InsideLabelDescription.newInsideLabelDescription(id + "InsideLabel")
+                .textProvider(this::getLabel)
+                .styleDescriptionProvider(variableManager -> labelStyleDescription)
+                .isHeaderProvider(variableManager -> !childNodeDescriptions.isEmpty())
+                .headerSeparatorDisplayModeProvider(variableManager -> HeaderSeparatorDisplayMode.NEVER)
+                .insideLabelLocation(InsideLabelLocation.TOP_CENTER)
+                .overflowStrategy(LabelOverflowStrategy.NONE)
+                .textAlign(LabelTextAlign.CENTER)
+                .build();
+
+        return NodeDescription.newNodeDescription(id)
+                .typeProvider(variableManager -> NODE_TYPE)
+                .semanticElementsProvider(semanticElementsProvider)
+                .targetObjectIdProvider(variableManager -> variableManager.get(VariableManager.SELF, EObject.class).flatMap(this.idManager::findId).orElse(""))
+                .targetObjectKindProvider(variableManager -> variableManager.get(VariableManager.SELF, EObject.class).map(eObject -> eObject.eClass().getName()).orElse(""))
+                .targetObjectLabelProvider(this::getLabel)
+                .insideLabelDescription(insideLabelDescription)
+                .styleProvider(variableManager -> RectangularNodeStyle.newRectangularNodeStyle()
+                        .background("white")
+                        .borderColor("black")
+                        .borderSize(1)
+                        .borderStyle(LineStyle.Solid)
+                        .childrenLayoutStrategy(new FreeFormLayoutStrategy())
+                        .build())
+                .borderNodeDescriptions(List.of())
+                .childNodeDescriptions(childNodeDescriptions)
+                .labelEditHandler((variableManager, newLabel) -> new Success())
+                .deleteHandler(variableManager -> new Success())
+                .initialChildBorderNodePositions(Map.of())
+                .build();
+    }
+
+    private List<?> getTypes(VariableManager variableManager) {
+        List<Type> types = new ArrayList<>();
+        var optionalEditingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEMFEditingContext.class);
+        if (optionalEditingContext.isPresent()) {
+            var iterator = optionalEditingContext.get().getDomain().getResourceSet().getAllContents();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof Type type) {
+                    types.add(type);
+                    iterator.prune();
+                }
+            }
+        }
+        return types;
+    }
+
+    private List<?> getMembers(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, Type.class)
+                .map(type -> List.copyOf(type.eContents()))
+                .orElse(List.of());
+    }
+
+    private String getLabel(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, EObject.class)
+                .flatMap(eObject -> Optional.of(eObject)
+                        .filter(NamedElement.class::isInstance)
+                        .map(NamedElement.class::cast)
+                        .map(NamedElement::getName)
+                        .or(() -> Optional.of(eObject.eClass().getName())))
+                .orElse("");
+    }
+}
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.representations;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.core.api.labels.StyledString;
+import org.eclipse.sirius.components.emf.ResourceMetadataAdapter;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.NamedElement;
+import org.eclipse.sirius.components.representations.Success;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.description.TreeDescription;
+
+/**
+ * Provides the description of a tree of the documents and semantic elements of a Papaya model, like the explorer.
+ *
+ * <p>
+ *     The variable manager used to render the tree must contain the editing context of the model.
+ * </p>
+ *
+ * @author agent
+ */
+public class PapayaTreeDescriptionProvider {
+
+    public static final String TREE_DESCRIPTION_ID = "papayaTreeDescription";
+
+    private static final String DOCUMENT_KIND = "siriusWeb://document";
+
+    private static final String SEMANTIC_KIND_PREFIX = "siriusComponents://semantic?domain=papaya&entity=";
+
+    private final EObjectIDManager idManager = new EObjectIDManager();
+
+    public TreeDescription getDescription() {
+        return TreeDescription.newTreeDescription(TREE_DESCRIPTION_ID)
+                .label("Papaya explorer")
+                .idProvider(variableManager -> "papayaTree")
+                .targetObjectIdProvider(variableManager -> "papayaTree")
+                .canCreatePredicate(variableManager -> true)
+                .elementsProvider(this::getElements)
+                .childrenProvider(this::getChildren)
+                .hasChildrenProvider(variableManager -> !this.getChildren(variableManager).isEmpty())
+                .treeItemIdProvider(this::getTreeItemId)
+                .kindProvider(this::getKind)
+                .labelProvider(variableManager -> StyledString.of("Papaya explorer"))
+                .treeItemLabelProvider(variableManager -> StyledString.of(this.getLabel(variableManager)))
+                .treeItemIconURLsProvider(variableManager -> List.of())
+                .iconURLsProvider(variableManager -> List.of())
+                .editableProvider(variableManager -> true)
+                .deletableProvider(variableManager -> true)
+                .selectableProvider(variableManager -> true)
+                .parentObjectProvider(variableManager -> variableManager.get(VariableManager.SELF, EObject.class).map(EObject::eContainer).orElse(null))
+                .treeItemObjectProvider(variableManager -> null)
+                .deleteHandler(variableManager -> new Success())
+                .renameHandler((variableManager, newName) -> new Success())
+                .build();
+    }
+
+    private List<?> getElements(VariableManager variableManager) {
+        return variableManager.get(IEditingContext.EDITING_CONTEXT, IEMFEditingContext.class)
+                .map(editingContext -> List.copyOf(editingContext.getDomain().getResourceSet().getResources()))
+                .orElse(List.of());
+    }
+
+    private List<?> getChildren(VariableManager variableManager) {
+        var self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        List<?> children = List.of();
+        if (self instanceof Resource resource) {
+            children = resource.getContents();
+        } else if (self instanceof EObject eObject) {
+            children = eObject.eContents();
+        }
+        return children;
+    }
+
+    private String getTreeItemId(VariableManager variableManager) {
+        var self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        String id = "";
+        if (self instanceof Resource resource) {
+            id = resource.getURI().path().substring(1);
+        } else if (self instanceof EObject eObject) {
+            id = this.idManager.findId(eObject).orElse("");
+        }
+        return id;
+    }
+
+    private String getKind(VariableManager variableManager) {
+        return variableManager.get(VariableManager.SELF, EObject.class)
+                .map(eObject -> SEMANTIC_KIND_PREFIX + eObject.eClass().getName())
+                .orElse(DOCUMENT_KIND);
+    }
+
+    private String getLabel(VariableManager variableManager) {
+        var self = variableManager.get(VariableManager.SELF, Object.class).orElse(null);
+        String label = "";
+        if (self instanceof Resource resource) {
+            label = resource.eAdapters().stream()
+                    .filter(ResourceMetadataAdapter.class::isInstance)
+                    .map(ResourceMetadataAdapter.class::cast)
+                    .findFirst()
+                    .map(ResourceMetadataAdapter::getName)
+                    .orElse("");
+        } else if (self instanceof EObject eObject) {
+            label = Optional.of(eObject)
+                    .filter(NamedElement.class::isInstance)
+                    .map(NamedElement.class::cast)
+                    .map(NamedElement::getName)
+                    .orElse(eObject.eClass().getName());
+        }
+        return label;
+    }
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.representations;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.sirius.components.collaborative.diagrams.services.DiagramDeserializer;
+import org.eclipse.sirius.components.collaborative.representations.RepresentationStdDeserializerProvider;
+import org.eclipse.sirius.components.collaborative.trees.services.TreeDeserializer;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.diagrams.Diagram;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponent;
+import org.eclipse.sirius.components.diagrams.components.DiagramComponentProps;
+import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
+import org.eclipse.sirius.components.diagrams.renderer.DiagramRenderer;
+import org.eclipse.sirius.components.representations.Element;
+import org.eclipse.sirius.components.representations.IOperationValidator;
+import org.eclipse.sirius.components.representations.IRepresentation;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.components.trees.Tree;
+import org.eclipse.sirius.components.trees.renderer.TreeRenderer;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks the serialization of the representations with Jackson, used to persist them and to load them.
+ *
+ * <p>
+ *     The object mapper is configured like the one of Sirius Web, with the deserializer of the representations.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepresentationSerializationBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private Diagram diagram;
+
+    private String diagramContent;
+
+    private Tree tree;
+
+    private String treeContent;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        var representationStdDeserializerProvider = new RepresentationStdDeserializerProvider(List.of(new DiagramDeserializer(), new TreeDeserializer()));
+        var module = new SimpleModule();
+        module.addDeserializer(IRepresentation.class, representationStdDeserializerProvider.getDeserializer());
+        this.objectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(module)
+                .build();
+
+        var editingContext = new PapayaModelGenerator().generate(this.size);
+        var variableManager = new VariableManager();
+        variableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
+
+        DiagramDescription diagramDescription = new PapayaDiagramDescriptionProvider().getDescription();
+        DiagramComponentProps props = DiagramComponentProps.newDiagramComponentProps()
+                .variableManager(variableManager)
+                .diagramDescription(diagramDescription)
+                .allDiagramDescriptions(List.of(diagramDescription))
+                .viewCreationRequests(List.of())
+                .viewDeletionRequests(List.of())
+                .previousDiagram(Optional.empty())
+                .operationValidator(new IOperationValidator.NoOp())
+                .diagramEvents(List.of())
+                .nodeAppearanceHandlers(List.of())
+                .edgeAppearanceHandlers(List.of())
+                .build();
+        this.diagram = new DiagramRenderer().render(new Element(DiagramComponent.class, props));
+        this.diagramContent = this.objectMapper.writeValueAsString(this.diagram);
+
+        this.tree = new TreeRenderer(variableManager, new PapayaTreeDescriptionProvider().getDescription()).render();
+        this.treeContent = this.objectMapper.writeValueAsString(this.tree);
+    }
+
+    @Benchmark
+    public String serializeDiagram() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(this.diagram);
+    }
+
+    @Benchmark
+    public IRepresentation deserializeDiagram() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.diagramContent, IRepresentation.class);
+    }
+
+    @Benchmark
+    public String serializeTree() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsString(this.tree);
+    }
+
+    @Benchmark
+    public IRepresentation deserializeTree() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.treeContent, IRepresentation.class);
+    }
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.representations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.sirius.components.core.api.IEditingContext;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.representations.VariableManager;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the access to the variables during a deep render of a generated model.
+ *
+ * <p>
+ *     Like a renderer, a child variable manager is created for each element of the model and the variables are
+ *     retrieved several times for each of them, as if some expressions were evaluated to render the element. The
+ *     variables are either copied in a new map or accessed through a read-only view.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VariableManagerBenchmark {
+
+    private static final int EXPRESSIONS_COUNT = 5;
+
+    @Param({ "1000", "10000", "100000" })
+    private int size;
+
+    private List<Resource> resources;
+
+    private VariableManager rootVariableManager;
+
+    @Setup
+    public void setup() {
+        IEMFEditingContext editingContext = new PapayaModelGenerator().generate(this.size);
+        this.resources = editingContext.getDomain().getResourceSet().getResources();
+
+        this.rootVariableManager = new VariableManager();
+        this.rootVariableManager.put(IEditingContext.EDITING_CONTEXT, editingContext);
+        this.rootVariableManager.put("environment", "benchmark");
+        this.rootVariableManager.put("representationId", "representationId");
+    }
+
+    @Benchmark
+    public void copiedVariables(Blackhole blackhole) {
+        this.render(VariableManager::getVariables, blackhole);
+    }
+
+    @Benchmark
+    public void variablesView(Blackhole blackhole) {
+        this.render(VariableManager::getVariablesView, blackhole);
+    }
+
+    private void render(Function<VariableManager, Map<String, Object>> variablesProvider, Blackhole blackhole) {
+        for (Resource resource : this.resources) {
+            for (EObject eObject : resource.getContents()) {
+                this.render(eObject, this.rootVariableManager, variablesProvider, blackhole);
+            }
+        }
+    }
+
+    private void render(EObject eObject, VariableManager parentVariableManager, Function<VariableManager, Map<String, Object>> variablesProvider, Blackhole blackhole) {
+        var variableManager = parentVariableManager.createChild();
+        variableManager.put(VariableManager.SELF, eObject);
+
+        for (int i = 0; i < EXPRESSIONS_COUNT; i++) {
+            var variables = variablesProvider.apply(variableManager);
+            blackhole.consume(variables.get(VariableManager.SELF));
+            blackhole.consume(variables.get(IEditingContext.EDITING_CONTEXT));
+        }
+
+        for (EObject child : eObject.eContents()) {
+            this.render(child, variableManager, variablesProvider, blackhole);
+        }
+    }
+}
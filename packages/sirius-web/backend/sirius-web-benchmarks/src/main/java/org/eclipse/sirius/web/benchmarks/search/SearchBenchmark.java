@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.sirius.components.core.api.ILabelService;
+import org.eclipse.sirius.components.core.api.labels.StyledString;
+import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
+import org.eclipse.sirius.components.papaya.NamedElement;
+import org.eclipse.sirius.web.application.views.search.dto.SearchQuery;
+import org.eclipse.sirius.web.application.views.search.services.SearchService;
+import org.eclipse.sirius.web.benchmarks.generators.PapayaModelGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the search of the semantic elements of a generated model matching a text.
+ *
+ * <p>
+ *     The search index maintained by the {@link SearchService} is compared with a scan of all the semantic elements,
+ *     testing the label and optionally the attributes of each of them.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({ "10000", "200000" })
+    private int size;
+
+    @Param({ "Reactive", "get" })
+    private String text;
+
+    @Param({ "false", "true" })
+    private boolean searchInAttributes;
+
+    private IEMFEditingContext editingContext;
+
+    private ILabelService labelService;
+
+    private SearchService searchService;
+
+    private SearchQuery query;
+
+    @Setup
+    public void setup() {
+        this.editingContext = new PapayaModelGenerator().generate(this.size);
+        this.labelService = new ILabelService.NoOp() {
+            @Override
+            public StyledString getStyledLabel(Object object) {
+                String label = "";
+                if (object instanceof NamedElement namedElement && namedElement.getName() != null) {
+                    label = namedElement.getName();
+                }
+                return StyledString.of(label);
+            }
+        };
+        this.searchService = new SearchService(this.labelService);
+        this.query = new SearchQuery(this.text, false, false, false, this.searchInAttributes);
+
+        // The search index is built by the first search
+        this.searchService.search(this.editingContext, this.query);
+    }
+
+    @Benchmark
+    public List<Object> searchWithIndex() {
+        return this.searchService.search(this.editingContext, this.query);
+    }
+
+    @Benchmark
+    public List<Object> searchWithModelScan() {
+        Predicate<String> predicate = Pattern.compile(Pattern.quote(this.text), Pattern.CASE_INSENSITIVE).asPredicate();
+
+        List<Object> result = new ArrayList<>();
+        var iterator = this.editingContext.getDomain().getResourceSet().getAllContents();
+        while (iterator.hasNext()) {
+            var object = iterator.next();
+            if (this.matches(object, predicate)) {
+                result.add(object);
+            }
+        }
+        return result;
+    }
+
+    private boolean matches(Object object, Predicate<String> predicate) {
+        boolean result = predicate.test(this.labelService.getStyledLabel(object).toString());
+        if (!result && this.searchInAttributes && object instanceof EObject eObject) {
+            result = eObject.eClass().getEAllAttributes().stream()
+                    .anyMatch(attribute -> predicate.test(String.valueOf(eObject.eGet(attribute))));
+        }
+        return result;
+    }
+}
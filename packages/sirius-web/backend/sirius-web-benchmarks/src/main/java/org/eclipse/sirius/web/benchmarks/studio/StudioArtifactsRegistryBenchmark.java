@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.benchmarks.studio;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.sirius.components.domain.DataType;
+import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.domain.DomainFactory;
+import org.eclipse.sirius.components.domain.DomainPackage;
+import org.eclipse.sirius.components.domain.Entity;
+import org.eclipse.sirius.components.emf.services.EObjectIDManager;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.components.events.ICause;
+import org.eclipse.sirius.emfjson.resource.JsonResource;
+import org.eclipse.sirius.web.application.editingcontext.services.ResourceLoader;
+import org.eclipse.sirius.web.application.studio.services.StudioArtifactsRegistry;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jdbc.core.mapping.AggregateReference;
+
+/**
+ * Benchmarks the retrieval of the artifacts of the studios needed to load an editing context.
+ *
+ * <p>
+ *     Creating a new registry for each load reproduces the parsing of all the studios performed for each editing
+ *     context while sharing the registry only checks the version of each of them.
+ * </p>
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StudioArtifactsRegistryBenchmark {
+
+    private static final int ENTITIES_COUNT = 20;
+
+    @Param({ "1", "50", "500" })
+    private int studiosCount;
+
+    private ISemanticDataSearchService semanticDataSearchService;
+
+    private StudioArtifactsRegistry sharedStudioArtifactsRegistry;
+
+    @Setup
+    public void setup() throws IOException {
+        Map<UUID, SemanticData> semanticData = new LinkedHashMap<>();
+        for (int i = 0; i < this.studiosCount; i++) {
+            var studio = this.createStudio("studio" + i);
+            semanticData.put(studio.getId(), studio);
+        }
+        this.semanticDataSearchService = new InMemorySemanticDataSearchService(semanticData);
+
+        this.sharedStudioArtifactsRegistry = this.newStudioArtifactsRegistry();
+        this.load(this.sharedStudioArtifactsRegistry);
+    }
+
+    @Benchmark
+    public List<EPackage> loadWithoutSharedRegistry() {
+        return this.load(this.newStudioArtifactsRegistry());
+    }
+
+    @Benchmark
+    public List<EPackage> loadWithSharedRegistry() {
+        return this.load(this.sharedStudioArtifactsRegistry);
+    }
+
+    private List<EPackage> load(StudioArtifactsRegistry studioArtifactsRegistry) {
+        var studioArtifacts = studioArtifactsRegistry.getStudioArtifacts();
+        return studioArtifactsRegistry.getEPackages(studioArtifacts);
+    }
+
+    private StudioArtifactsRegistry newStudioArtifactsRegistry() {
+        return new StudioArtifactsRegistry(this.semanticDataSearchService, new ResourceLoader(List.of()), resourceSet -> Optional.empty(), List.of());
+    }
+
+    private SemanticData createStudio(String name) throws IOException {
+        Domain domain = DomainFactory.eINSTANCE.createDomain();
+        domain.setName(name);
+
+        for (int i = 0; i < ENTITIES_COUNT; i++) {
+            Entity entity = DomainFactory.eINSTANCE.createEntity();
+            entity.setName("Entity" + i);
+            domain.getTypes().add(entity);
+
+            for (int j = 0; j < 5; j++) {
+                var attribute = DomainFactory.eINSTANCE.createAttribute();
+                attribute.setName("attribute" + j);
+                attribute.setType(DataType.STRING);
+                entity.getAttributes().add(attribute);
+            }
+        }
+
+        for (int i = 0; i < ENTITIES_COUNT; i++) {
+            Entity entity = domain.getTypes().get(i);
+
+            var containment = DomainFactory.eINSTANCE.createRelation();
+            containment.setName("children");
+            containment.setContainment(true);
+            containment.setTargetType(domain.getTypes().get((i + 1) % ENTITIES_COUNT));
+            entity.getRelations().add(containment);
+
+            var reference = DomainFactory.eINSTANCE.createRelation();
+            reference.setName("references");
+            reference.setTargetType(domain.getTypes().get((i + 2) % ENTITIES_COUNT));
+            entity.getRelations().add(reference);
+        }
+
+        var documentId = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+        var resource = new JSONResourceFactory().createResourceFromPath(documentId.toString());
+        resource.getContents().add(domain);
+
+        Map<Object, Object> options = new HashMap<>();
+        options.put(JsonResource.OPTION_ID_MANAGER, new EObjectIDManager());
+        options.put(JsonResource.OPTION_SCHEMA_LOCATION, true);
+
+        String content;
+        try (var outputStream = new ByteArrayOutputStream()) {
+            resource.save(outputStream, options);
+            content = outputStream.toString(StandardCharsets.UTF_8);
+        }
+
+        var document = Document.newDocument(documentId)
+                .name(name)
+                .content(content)
+                .build();
+        return SemanticData.newSemanticData()
+                .documents(List.of(document))
+                .domains(List.of(DomainPackage.eNS_URI))
+                .dependencies(List.of())
+                .build(new ICause.NoOp());
+    }
+
+    /**
+     * Semantic data search service returning the studios kept in memory.
+     *
+     * @author agent
+     */
+    private static final class InMemorySemanticDataSearchService implements ISemanticDataSearchService {
+
+        private final Map<UUID, SemanticData> semanticData;
+
+        InMemorySemanticDataSearchService(Map<UUID, SemanticData> semanticData) {
+            this.semanticData = Objects.requireNonNull(semanticData);
+        }
+
+        @Override
+        public List<SemanticData> findAllByDomains(List<String> domainUris) {
+            return List.copyOf(this.semanticData.values());
+        }
+
+        @Override
+        public List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris) {
+            return this.semanticData.values().stream()
+                    .map(studio -> new SemanticDataVersion(studio.getId(), studio.getLastModifiedOn()))
+                    .toList();
+        }
+
+        @Override
+        public Optional<SemanticData> findById(UUID id) {
+            return Optional.ofNullable(this.semanticData.get(id));
+        }
+
+        @Override
+        public boolean isUsingDomains(UUID id, List<String> domainUris) {
+            return this.semanticData.containsKey(id);
+        }
+
+        @Override
+        public boolean existsById(UUID id) {
+            return this.semanticData.containsKey(id);
+        }
+
+        @Override
+        public List<AggregateReference<SemanticData, UUID>> findAllDependenciesIdById(UUID id) {
+            return List.of();
+        }
+
+        @Override
+        public List<SemanticData> findAllDependenciesRecursivelyById(UUID id) {
+            return List.of();
+        }
+    }
+}
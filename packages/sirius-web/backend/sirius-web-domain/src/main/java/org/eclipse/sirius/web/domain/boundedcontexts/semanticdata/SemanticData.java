@@ -60,6 +60,12 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
 
     private Instant lastModifiedOn;
 
+    @Transient
+    private List<Document> modifiedDocuments = new ArrayList<>();
+
+    @Transient
+    private boolean requiresFullUpdate;
+
     @Override
     public UUID getId() {
         return this.id;
@@ -90,8 +96,29 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
         return this.isNew;
     }
 
+    /**
+     * Returns the existing documents whose name or content have been modified by the last update of the documents.
+     *
+     * @return The modified documents
+     */
+    public List<Document> getModifiedDocuments() {
+        return Collections.unmodifiableList(this.modifiedDocuments);
+    }
+
+    /**
+     * Indicates if the last update of the documents has added or removed some documents or changed the domains. In
+     * this case, the whole aggregate has to be saved since updating the modified documents is not enough.
+     *
+     * @return <code>true</code> if the whole aggregate should be saved, <code>false</code> otherwise
+     */
+    public boolean requiresFullUpdate() {
+        return this.requiresFullUpdate;
+    }
+
     public void updateDocuments(ICause cause, Set<Document> newDocuments, Set<String> domainUris) {
         boolean shouldBeUpdated = false;
+        List<Document> newlyModifiedDocuments = new ArrayList<>();
+        boolean documentAdded = false;
 
         Set<Document> documentsToSet = new LinkedHashSet<>();
         for (var document : newDocuments) {
@@ -104,27 +131,41 @@ public class SemanticData extends AbstractValidatingAggregateRoot<SemanticData>
                 if (this.sameContent(existingDocument, document)) {
                     // Reuse the existing instance, timestamps included
                     documentsToSet.add(existingDocument);
+                } else if (existingDocument.isReadOnly() && document.isReadOnly()) {
+                    // A read-only document keeps the version which has already been persisted
+                    documentsToSet.add(existingDocument);
                 } else {
                     var newDocument = Document.newDocument(existingDocument.getId())
                             .name(document.getName())
                             .content(document.getContent())
                             .build();
                     documentsToSet.add(newDocument);
+                    newlyModifiedDocuments.add(newDocument);
                     shouldBeUpdated = true;
                 }
             } else {
                 // New document which did not exist before
                 documentsToSet.add(document);
+                documentAdded = true;
                 shouldBeUpdated = true;
             }
         }
         // The previous code will not detect the removal of an existing document as cause for update, so also check if the set of document ids has changed
-        shouldBeUpdated = shouldBeUpdated || !this.documents.stream()
+        boolean documentRemoved = !this.documents.stream()
                 .map(Document::getId)
                 .collect(Collectors.toSet())
                 .equals(documentsToSet.stream()
                         .map(Document::getId)
                         .collect(Collectors.toSet()));
+        shouldBeUpdated = shouldBeUpdated || documentRemoved;
+
+        boolean domainsModified = !this.domains.stream()
+                .map(SemanticDataDomain::uri)
+                .collect(Collectors.toSet())
+                .equals(domainUris);
+
+        this.modifiedDocuments = newlyModifiedDocuments;
+        this.requiresFullUpdate = shouldBeUpdated && (documentAdded || documentRemoved || domainsModified);
 
         if (shouldBeUpdated) {
             this.doUpdateDocuments(cause, documentsToSet, domainUris);
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.ListCrudRepository;
 import org.springframework.data.repository.ListPagingAndSortingRepository;
@@ -27,7 +28,7 @@ import org.springframework.stereotype.Repository;
  * @author sbegaudeau
  */
 @Repository
-public interface ISemanticDataRepository extends ListPagingAndSortingRepository<SemanticData, UUID>, ListCrudRepository<SemanticData, UUID> {
+public interface ISemanticDataRepository extends ListPagingAndSortingRepository<SemanticData, UUID>, ListCrudRepository<SemanticData, UUID>, SemanticDataDocumentsRepository {
 
     @Query("""
         SELECT semanticData.*
@@ -39,6 +40,16 @@ public interface ISemanticDataRepository extends ListPagingAndSortingRepository<
         """)
     List<SemanticData> findAllByDomains(List<String> domainUris);
 
+    @Query("""
+        SELECT semanticData.id, semanticData.last_modified_on
+        FROM semantic_data semanticData
+        JOIN semantic_data_domain semanticDataDomain
+        ON semanticData.id = semanticDataDomain.semantic_data_id
+        WHERE semanticDataDomain.uri IN (:domainUris)
+        GROUP BY semanticData.id
+        """)
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
+
     @Query("""
             SELECT CASE WHEN COUNT(semanticDataDomain.*) > 0 THEN true ELSE false END
             FROM semantic_data semanticData
@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import org.eclipse.sirius.components.annotations.RepositoryFragment;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+
+/**
+ * Fragment interface used to save only the documents of the semantic data which have been modified.
+ *
+ * @author agent
+ */
+@RepositoryFragment
+public interface SemanticDataDocumentsRepository {
+
+    /**
+     * Updates the rows of the documents returned by {@link SemanticData#getModifiedDocuments()} and the date of the
+     * last modification of the semantic data, without deleting and inserting again all their documents like saving
+     * the whole aggregate would do. Since the name of this method starts with <code>save</code>, the domain events
+     * registered by the aggregate are published once it has been called, just like with a regular save.
+     *
+     * @param semanticData
+     *         The semantic data whose modified documents should be saved
+     */
+    void saveModifiedDocuments(SemanticData semanticData);
+}
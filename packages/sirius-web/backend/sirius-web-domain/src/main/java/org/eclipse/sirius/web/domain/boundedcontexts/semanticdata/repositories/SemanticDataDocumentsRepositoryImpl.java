@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.repositories;
+
+import java.sql.Timestamp;
+import java.util.Objects;
+
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Fragment repository used to save only the documents of the semantic data which have been modified.
+ *
+ * @author agent
+ */
+@Repository
+public class SemanticDataDocumentsRepositoryImpl implements SemanticDataDocumentsRepository {
+
+    private static final String UPDATE_DOCUMENT = """
+            UPDATE document
+            SET name = :name, content = :content, last_modified_on = :lastModifiedOn
+            WHERE id = :documentId
+            AND semantic_data_id = :semanticDataId
+            """;
+
+    private static final String UPDATE_LAST_MODIFIED_ON = """
+            UPDATE semantic_data
+            SET last_modified_on = :lastModifiedOn
+            WHERE id = :id
+            """;
+
+    private final JdbcClient jdbcClient;
+
+    public SemanticDataDocumentsRepositoryImpl(JdbcClient jdbcClient) {
+        this.jdbcClient = Objects.requireNonNull(jdbcClient);
+    }
+
+    @Override
+    public void saveModifiedDocuments(SemanticData semanticData) {
+        semanticData.getModifiedDocuments().forEach(document -> this.jdbcClient.sql(UPDATE_DOCUMENT)
+                .param("name", document.getName())
+                .param("content", document.getContent())
+                .param("lastModifiedOn", Timestamp.from(document.getLastModifiedOn()))
+                .param("documentId", document.getId())
+                .param("semanticDataId", semanticData.getId())
+                .update());
+
+        this.jdbcClient.sql(UPDATE_LAST_MODIFIED_ON)
+                .param("lastModifiedOn", Timestamp.from(semanticData.getLastModifiedOn()))
+                .param("id", semanticData.getId())
+                .update();
+    }
+}
@@ -43,7 +43,11 @@ public class SemanticDataUpdateService implements ISemanticDataUpdateService {
     public void updateDocuments(ICause cause, AggregateReference<SemanticData, UUID> semanticDataId, Set<Document> documents, Set<String> domainUris) {
         this.semanticDataRepository.findById(semanticDataId.getId()).ifPresent(semanticData -> {
             semanticData.updateDocuments(cause, documents, domainUris);
-            this.semanticDataRepository.save(semanticData);
+            if (semanticData.requiresFullUpdate()) {
+                this.semanticDataRepository.save(semanticData);
+            } else if (!semanticData.getModifiedDocuments().isEmpty()) {
+                this.semanticDataRepository.saveModifiedDocuments(semanticData);
+            }
         });
     }
 
@@ -17,6 +17,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticDataVersion;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 
 /**
@@ -28,6 +29,8 @@ public interface ISemanticDataSearchService {
 
     List<SemanticData> findAllByDomains(List<String> domainUris);
 
+    List<SemanticDataVersion> findAllVersionsByDomains(List<String> domainUris);
+
     Optional<SemanticData> findById(UUID id);
 
     boolean isUsingDomains(UUID id, List<String> domainUris);
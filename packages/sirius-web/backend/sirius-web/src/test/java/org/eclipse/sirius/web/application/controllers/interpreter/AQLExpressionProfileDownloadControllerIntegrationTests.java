@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.controllers.interpreter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.eclipse.sirius.web.tests.services.api.IGivenInitialServerState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the download of the report of the AQL expressions.
+ *
+ * @author agent
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = { "sirius.components.interpreter.profiling=true" })
+public class AQLExpressionProfileDownloadControllerIntegrationTests extends AbstractIntegrationTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private IGivenInitialServerState givenInitialServerState;
+
+    @BeforeEach
+    public void beforeEach() {
+        this.givenInitialServerState.initialize();
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given an editing context without any interpreter, when the report of its AQL expressions is requested, then a 404 NOT FOUND is returned")
+    public void givenEditingContextWithoutAnyInterpreterWhenTheReportOfItsAQLExpressionsIsRequestedThen404NotFoundIsReturned() {
+        var uri = "http://localhost:" + this.port + "/api/editingcontexts/" + UUID.randomUUID() + "/aqlprofile";
+
+        HttpEntity<String> entity = new HttpEntity<>(null, new HttpHeaders());
+        var response = new TestRestTemplate().exchange(uri, HttpMethod.GET, entity, Resource.class);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
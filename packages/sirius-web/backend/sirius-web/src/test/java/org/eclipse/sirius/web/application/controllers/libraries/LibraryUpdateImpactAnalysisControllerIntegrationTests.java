@@ -20,6 +20,7 @@ import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,6 +45,7 @@ import org.eclipse.sirius.components.graphql.tests.ExecuteEditingContextFunction
 import org.eclipse.sirius.components.graphql.tests.ExecuteEditingContextFunctionRunner;
 import org.eclipse.sirius.components.papaya.Interface;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
 import org.eclipse.sirius.web.application.library.services.LibraryMetadataAdapter;
 import org.eclipse.sirius.web.data.PapayaIdentifiers;
 import org.eclipse.sirius.web.domain.boundedcontexts.library.Library;
@@ -90,6 +92,9 @@ public class LibraryUpdateImpactAnalysisControllerIntegrationTests extends Abstr
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private IResourceToDocumentService resourceToDocumentService;
+
     @BeforeEach
     public void beforeEach() {
         this.givenInitialServerState.initialize();
@@ -204,6 +209,51 @@ public class LibraryUpdateImpactAnalysisControllerIntegrationTests extends Abstr
             .verify(Duration.ofSeconds(5));
     }
 
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a project with dependencies, when an impact analysis report is requested for the update of a dependency, then the serialized content of the project is identical")
+    public void givenProjectWithDependenciesWhenImpactAnalysisReportIsRequestedForTheUpdateOfADependencyThenTheSerializedContentOfTheProjectIsIdentical() {
+        Optional<Library> optionalLibrary = this.librarySearchService.findByNamespaceAndNameAndVersion("papaya", "sirius-web-tests-data", "3.0.0");
+        assertThat(optionalLibrary).isPresent();
+
+        var editingContextEventInput = new EditingContextEventInput(UUID.randomUUID(), PapayaIdentifiers.PAPAYA_EDITING_CONTEXT_ID.toString());
+        var flux = this.editingContextEventSubscriptionRunner.run(editingContextEventInput);
+
+        List<List<String>> documentContents = new ArrayList<>();
+        BiFunction<IEditingContext, IInput, IPayload> getDocumentContentsFunction = (editingContext, executeEditingContextFunctionInput) -> {
+            if (editingContext instanceof IEMFEditingContext emfEditingContext) {
+                documentContents.add(emfEditingContext.getDomain().getResourceSet().getResources().stream()
+                        .map(resource -> this.resourceToDocumentService.toDocument(resource, false)
+                                .map(documentData -> resource.getURI() + documentData.document().getContent())
+                                .orElse(""))
+                        .toList());
+                return new SuccessPayload(executeEditingContextFunctionInput.id());
+            }
+            return new ErrorPayload(executeEditingContextFunctionInput.id(), "Invalid editing context");
+        };
+
+        Runnable getDocumentContents = () -> {
+            var getDocumentContentsInput = new ExecuteEditingContextFunctionInput(UUID.randomUUID(), PapayaIdentifiers.PAPAYA_EDITING_CONTEXT_ID.toString(), getDocumentContentsFunction);
+            var payload = this.executeEditingContextFunctionRunner.execute(getDocumentContentsInput).block();
+            assertThat(payload).isInstanceOf(SuccessPayload.class);
+        };
+
+        Runnable getUpdateLibraryImpactAnalysisReport = () -> {
+            Map<String, Object> input = Map.of("editingContextId", PapayaIdentifiers.PAPAYA_EDITING_CONTEXT_ID, "libraryId", optionalLibrary.get().getId());
+            this.editingContextUpdateLibraryImpactAnalysisReportQueryRunner.run(input);
+        };
+
+        StepVerifier.create(flux)
+            .then(getDocumentContents)
+            .then(getUpdateLibraryImpactAnalysisReport)
+            .then(getDocumentContents)
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(documentContents).hasSize(2);
+        assertThat(documentContents.get(1)).isEqualTo(documentContents.get(0));
+    }
+
     private boolean hasResourceName(Resource resource, String name) {
         return resource.eAdapters().stream()
                 .filter(ResourceMetadataAdapter.class::isInstance)
@@ -15,18 +15,29 @@ package org.eclipse.sirius.web.application.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.core.api.IEditingContextPersistenceService;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.core.api.IObjectSearchService;
+import org.eclipse.sirius.components.emf.services.AdapterInstaller;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.events.ICause;
 import org.eclipse.sirius.components.papaya.Class;
+import org.eclipse.sirius.components.papaya.NamedElement;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.DirtyResourceTracker;
 import org.eclipse.sirius.web.application.library.services.LibraryMetadataAdapter;
 import org.eclipse.sirius.web.data.PapayaIdentifiers;
 import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.Document;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.SemanticData;
+import org.eclipse.sirius.web.domain.boundedcontexts.semanticdata.services.api.ISemanticDataSearchService;
 import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,6 +64,9 @@ public class EditingContextLifecycleTests extends AbstractIntegrationTests {
     @Autowired
     private IObjectSearchService objectSearchService;
 
+    @Autowired
+    private ISemanticDataSearchService semanticDataSearchService;
+
     @Test
     @GivenSiriusWebServer
     @DisplayName("Given semantic data using static metamodels, when the loading is performed, then the semantic data are available in the editing context")
@@ -183,4 +197,89 @@ public class EditingContextLifecycleTests extends AbstractIntegrationTests {
             fail("Invalid editing context");
         }
     }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given an editing context already persisted, when a single document is modified and persisted, then the other documents are neither serialized nor written")
+    public void givenEditingContextAlreadyPersistedWhenASingleDocumentIsModifiedAndPersistedThenTheOtherDocumentsAreNeitherSerializedNorWritten() {
+        var optionalEditingContext = this.editingContextSearchService.findById(PapayaIdentifiers.PAPAYA_EDITING_CONTEXT_ID.toString());
+        assertThat(optionalEditingContext).isPresent();
+        var editingContext = optionalEditingContext.get();
+
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        if (editingContext instanceof EditingContext siriusWebEditingContext) {
+            var resourceSet = siriusWebEditingContext.getDomain().getResourceSet();
+            var optionalDirtyResourceTracker = new AdapterInstaller().find(resourceSet, DirtyResourceTracker.class);
+            assertThat(optionalDirtyResourceTracker).isPresent();
+            var dirtyResourceTracker = optionalDirtyResourceTracker.get();
+
+            TestTransaction.start();
+            this.editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            TestTransaction.start();
+            var documentsBefore = this.getDocuments();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            var documentResources = resourceSet.getResources().stream()
+                    .filter(resource -> documentsBefore.keySet().stream().anyMatch(documentId -> resource.getURI().path().equals("/" + documentId)))
+                    .toList();
+            assertThat(documentResources).hasSize(documentsBefore.size()).noneMatch(dirtyResourceTracker::isDirty);
+
+            var optionalProject = this.objectSearchService.getObject(editingContext, PapayaIdentifiers.PROJECT_OBJECT.toString());
+            assertThat(optionalProject).isPresent().get().isInstanceOf(NamedElement.class);
+            NamedElement project = (NamedElement) optionalProject.get();
+            project.setName("Sirius Web Updated");
+
+            var modifiedResource = project.eResource();
+            assertThat(documentResources).filteredOn(dirtyResourceTracker::isDirty).containsExactly(modifiedResource);
+
+            TestTransaction.start();
+            this.editingContextPersistenceService.persist(new ICause.NoOp(), editingContext);
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            TestTransaction.start();
+            var documentsAfter = this.getDocuments();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+
+            var modifiedDocumentId = PapayaIdentifiers.PAPAYA_SIRIUS_WEB_ARCHITECTURE_DOCUMENT;
+            assertThat(documentsAfter).hasSameSizeAs(documentsBefore);
+
+            var modifiedDocumentBefore = documentsBefore.get(modifiedDocumentId);
+            var modifiedDocumentAfter = documentsAfter.get(modifiedDocumentId);
+            assertThat(modifiedDocumentAfter.getLastModifiedOn()).isAfter(modifiedDocumentBefore.getLastModifiedOn());
+            assertThat(modifiedDocumentBefore.getContent()).doesNotContain("Sirius Web Updated");
+            assertThat(modifiedDocumentAfter.getContent()).contains("Sirius Web Updated");
+            assertThat(dirtyResourceTracker.getCleanDocumentData(modifiedResource))
+                    .isPresent()
+                    .get()
+                    .extracting(documentData -> documentData.document().getContent())
+                    .isEqualTo(modifiedDocumentAfter.getContent());
+
+            documentsBefore.values().stream()
+                    .filter(document -> !document.getId().equals(modifiedDocumentId))
+                    .forEach(document -> {
+                        var documentAfter = documentsAfter.get(document.getId());
+                        assertThat(documentAfter.getLastModifiedOn()).isEqualTo(document.getLastModifiedOn());
+                        assertThat(documentAfter.getName()).isEqualTo(document.getName());
+                        assertThat(documentAfter.getContent()).isEqualTo(document.getContent());
+                    });
+        } else {
+            fail("Invalid editing context");
+        }
+    }
+
+    private Map<UUID, Document> getDocuments() {
+        return this.semanticDataSearchService.findById(PapayaIdentifiers.PAPAYA_EDITING_CONTEXT_ID)
+                .map(SemanticData::getDocuments)
+                .orElseThrow()
+                .stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+    }
 }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
+import org.eclipse.sirius.components.emf.services.JSONResourceFactory;
+import org.eclipse.sirius.web.AbstractIntegrationTests;
+import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.editingcontext.services.EditingContextSnapshotService;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceLoader;
+import org.eclipse.sirius.web.application.editingcontext.services.api.IResourceToDocumentService;
+import org.eclipse.sirius.web.data.TestIdentifiers;
+import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests of the snapshots of the editing contexts.
+ *
+ * @author agent
+ */
+@Transactional
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class EditingContextSnapshotServiceTests extends AbstractIntegrationTests {
+
+    @Autowired
+    private IEditingContextSearchService editingContextSearchService;
+
+    @Autowired
+    private IResourceToDocumentService resourceToDocumentService;
+
+    @Autowired
+    private IResourceLoader resourceLoader;
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a snapshot recording the changes, when it is restored, then the model is identical to the one before the changes")
+    public void givenASnapshotRecordingTheChangesWhenItIsRestoredThenTheModelIsIdenticalToTheOneBeforeTheChanges() {
+        var editingContext = this.getEditingContext();
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        var contentsBefore = this.getContents(resourceSet);
+        var documentsBefore = this.getDocumentContents(resourceSet);
+
+        var snapshotService = new EditingContextSnapshotService(this.resourceToDocumentService, this.resourceLoader, false);
+        var optionalSnapshot = snapshotService.createSnapshot(editingContext);
+        assertThat(optionalSnapshot).isPresent();
+
+        this.modify(resourceSet);
+        assertThat(this.getDocumentContents(resourceSet)).isNotEqualTo(documentsBefore);
+
+        snapshotService.restoreSnapshot(editingContext, optionalSnapshot.get());
+
+        assertThat(this.getDocumentContents(resourceSet)).isEqualTo(documentsBefore);
+        assertThat(this.getContents(resourceSet)).containsExactlyElementsOf(contentsBefore);
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a full snapshot, when it is restored, then the model is identical to the one before the changes")
+    public void givenAFullSnapshotWhenItIsRestoredThenTheModelIsIdenticalToTheOneBeforeTheChanges() {
+        var editingContext = this.getEditingContext();
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        var documentsBefore = this.getDocumentContents(resourceSet);
+
+        var snapshotService = new EditingContextSnapshotService(this.resourceToDocumentService, this.resourceLoader, true);
+        var optionalSnapshot = snapshotService.createSnapshot(editingContext);
+        assertThat(optionalSnapshot).isPresent();
+
+        this.modify(resourceSet);
+        assertThat(this.getDocumentContents(resourceSet)).isNotEqualTo(documentsBefore);
+
+        snapshotService.restoreSnapshot(editingContext, optionalSnapshot.get());
+
+        assertThat(this.getDocumentContents(resourceSet)).isEqualTo(documentsBefore);
+    }
+
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a full snapshot, when a resource is unloaded and removed, then the model is identical to the one before once the snapshot is restored")
+    public void givenAFullSnapshotWhenAResourceIsUnloadedAndRemovedThenTheModelIsIdenticalToTheOneBeforeOnceTheSnapshotIsRestored() {
+        var editingContext = this.getEditingContext();
+        ResourceSet resourceSet = editingContext.getDomain().getResourceSet();
+        var documentsBefore = this.getDocumentContents(resourceSet);
+
+        var snapshotService = new EditingContextSnapshotService(this.resourceToDocumentService, this.resourceLoader, false);
+        var optionalSnapshot = snapshotService.createFullSnapshot(editingContext);
+        assertThat(optionalSnapshot).isPresent();
+
+        Resource resource = resourceSet.getResources().get(0);
+        resource.unload();
+        resourceSet.getResources().remove(resource);
+        assertThat(this.getDocumentContents(resourceSet)).isNotEqualTo(documentsBefore);
+
+        snapshotService.restoreSnapshot(editingContext, optionalSnapshot.get());
+
+        assertThat(this.getDocumentContents(resourceSet)).isEqualTo(documentsBefore);
+        assertThat(this.getContents(resourceSet)).noneMatch(EObject::eIsProxy);
+    }
+
+    private EditingContext getEditingContext() {
+        var optionalEditingContext = this.editingContextSearchService.findById(TestIdentifiers.ECORE_SAMPLE_EDITING_CONTEXT_ID)
+                .filter(EditingContext.class::isInstance)
+                .map(EditingContext.class::cast);
+        assertThat(optionalEditingContext).isPresent();
+        return optionalEditingContext.get();
+    }
+
+    private void modify(ResourceSet resourceSet) {
+        EPackage ePackage = resourceSet.getResources().stream()
+                .flatMap(resource -> resource.getContents().stream())
+                .filter(EPackage.class::isInstance)
+                .map(EPackage.class::cast)
+                .filter(aPackage -> aPackage.getEClassifiers().size() > 1)
+                .findFirst()
+                .orElseThrow();
+
+        ePackage.setName("renamed");
+        EcoreUtil.delete(ePackage.getEClassifiers().get(0), true);
+
+        EClass newEClass = EcoreFactory.eINSTANCE.createEClass();
+        newEClass.setName("NewEClass");
+        ePackage.getEClassifiers().add(newEClass);
+
+        var newResource = new JSONResourceFactory().createResourceFromPath(UUID.randomUUID().toString());
+        resourceSet.getResources().add(newResource);
+        newResource.getContents().add(ePackage.getEClassifiers().get(0));
+    }
+
+    private List<EObject> getContents(ResourceSet resourceSet) {
+        List<EObject> contents = new ArrayList<>();
+        resourceSet.getResources().forEach(resource -> resource.getAllContents().forEachRemaining(contents::add));
+        return contents;
+    }
+
+    private List<Optional<String>> getDocumentContents(ResourceSet resourceSet) {
+        return resourceSet.getResources().stream()
+                .map(resource -> this.resourceToDocumentService.toDocument(resource, false)
+                        .map(documentData -> resource.getURI() + documentData.document().getContent()))
+                .toList();
+    }
+}
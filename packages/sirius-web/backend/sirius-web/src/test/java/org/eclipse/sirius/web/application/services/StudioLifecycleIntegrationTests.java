@@ -15,12 +15,17 @@ package org.eclipse.sirius.web.application.services;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.Optional;
+
+import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.core.api.IEditingContextSearchService;
 import org.eclipse.sirius.components.domain.Domain;
+import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.form.FormDescription;
 import org.eclipse.sirius.components.view.util.services.ColorPaletteService;
 import org.eclipse.sirius.web.AbstractIntegrationTests;
 import org.eclipse.sirius.web.application.editingcontext.EditingContext;
+import org.eclipse.sirius.web.application.studio.services.api.IStudioArtifactsRegistry;
 import org.eclipse.sirius.web.data.StudioIdentifiers;
 import org.eclipse.sirius.web.tests.data.GivenSiriusWebServer;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +47,9 @@ public class StudioLifecycleIntegrationTests extends AbstractIntegrationTests {
     @Autowired
     private IEditingContextSearchService editingContextSearchService;
 
+    @Autowired
+    private IStudioArtifactsRegistry studioArtifactsRegistry;
+
     @Test
     @GivenSiriusWebServer
     @DisplayName("Given a regular project, when it is loaded, then the domains from all studios are available")
@@ -81,6 +89,20 @@ public class StudioLifecycleIntegrationTests extends AbstractIntegrationTests {
         }
     }
 
+    @Test
+    @GivenSiriusWebServer
+    @DisplayName("Given a regular project, when it is loaded twice, then the views of the studios are parsed only once")
+    public void givenRegularProjectWhenItIsLoadedTwiceThenTheViewsOfTheStudiosAreParsedOnlyOnce() {
+        var firstHumanFormView = this.findHumanFormView(this.editingContextSearchService.findById(StudioIdentifiers.EMPTY_STUDIO_EDITING_CONTEXT_ID.toString()));
+        var secondHumanFormView = this.findHumanFormView(this.editingContextSearchService.findById(StudioIdentifiers.EMPTY_STUDIO_EDITING_CONTEXT_ID.toString()));
+        assertThat(secondHumanFormView).isSameAs(firstHumanFormView);
+
+        this.studioArtifactsRegistry.getStudioArtifacts().forEach(studioArtifacts -> this.studioArtifactsRegistry.invalidate(studioArtifacts.semanticDataId()));
+
+        var thirdHumanFormView = this.findHumanFormView(this.editingContextSearchService.findById(StudioIdentifiers.EMPTY_STUDIO_EDITING_CONTEXT_ID.toString()));
+        assertThat(thirdHumanFormView).isNotSameAs(firstHumanFormView);
+    }
+
     @Test
     @GivenSiriusWebServer
     @DisplayName("Given a studio, when it is loaded, then the color palette is available")
@@ -139,4 +161,15 @@ public class StudioLifecycleIntegrationTests extends AbstractIntegrationTests {
         var rootString = root.toString();
         assertThat(rootString.substring(rootString.indexOf("("))).isEqualTo(content);
     }
+
+    private View findHumanFormView(Optional<IEditingContext> optionalEditingContext) {
+        return optionalEditingContext.filter(EditingContext.class::isInstance)
+                .map(EditingContext.class::cast)
+                .flatMap(siriusWebEditingContext -> siriusWebEditingContext.getViews().stream()
+                        .filter(view -> view.getDescriptions().stream()
+                                .filter(FormDescription.class::isInstance)
+                                .anyMatch(representationDescription -> representationDescription.getName().equals("Human Form")))
+                        .findFirst())
+                .orElseThrow(() -> new IllegalStateException("Missing view"));
+    }
 }
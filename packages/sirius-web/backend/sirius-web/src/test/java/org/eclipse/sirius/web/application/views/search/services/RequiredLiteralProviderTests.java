@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.views.search.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.sirius.web.application.views.search.dto.SearchQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the computation of the literal required by a search query.
+ *
+ * @author agent
+ */
+public class RequiredLiteralProviderTests {
+
+    private final RequiredLiteralProvider requiredLiteralProvider = new RequiredLiteralProvider();
+
+    @Test
+    @DisplayName("Given a plain text query, when its required literal is computed, then the text is returned")
+    public void givenPlainTextQueryWhenItsRequiredLiteralIsComputedThenTheTextIsReturned() {
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.plainText("a|b\\x41"))).contains("a|b\\x41");
+    }
+
+    @Test
+    @DisplayName("Given a regular expression, when its required literal is computed, then its longest mandatory literal is returned")
+    public void givenRegularExpressionWhenItsRequiredLiteralIsComputedThenItsLongestMandatoryLiteralIsReturned() {
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("^ab.cdef$"))).contains("cdef");
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("abcdx?"))).contains("abcd");
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("abc[de]+fg"))).contains("abc");
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("ab(cdef)gh"))).contains("ab");
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("abcde{2,3}"))).contains("abcd");
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("a\\.b\\*c"))).contains("a.b*c");
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression(".*"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given a regular expression with an escape sequence before a letter or a digit, when its required literal is computed, then nothing is returned")
+    public void givenRegularExpressionWithEscapeSequenceBeforeLetterOrDigitWhenItsRequiredLiteralIsComputedThenNothingIsReturned() {
+        var regularExpressions = List.of("\\x41bc", "\\u0041bcd", "\\0101bcd", "(?<name>abc)\\k<name>", "\\cXabcd", "\\Qabc\\E", "abcd\\d", "[\\w]abcd", "abcd\\");
+        for (String regularExpression : regularExpressions) {
+            assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression(regularExpression))).as(regularExpression).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Given a regular expression with an alternation or a flag, when its required literal is computed, then nothing is returned")
+    public void givenRegularExpressionWithAlternationOrFlagWhenItsRequiredLiteralIsComputedThenNothingIsReturned() {
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("abcd|efgh"))).isEmpty();
+        assertThat(this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression("(?i)abcd"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given regular expressions, when their required literal is computed, then it is found in the texts they match")
+    public void givenRegularExpressionsWhenTheirRequiredLiteralIsComputedThenItIsFoundInTheTextsTheyMatch() {
+        var regularExpressionToText = List.of(
+                List.of("ab\\.cd[e-g]h", "ab.cdfh"),
+                List.of("(ab)+cde\\?f", "ababcde?f"),
+                List.of("x*yzw{1,2}", "yzww"),
+                List.of("[]a]bcd", "]bcd")
+        );
+        for (List<String> regularExpressionAndText : regularExpressionToText) {
+            var regularExpression = regularExpressionAndText.get(0);
+            var text = regularExpressionAndText.get(1);
+            assertThat(Pattern.compile(regularExpression).matcher(text).find()).as(regularExpression).isTrue();
+
+            var optionalRequiredLiteral = this.requiredLiteralProvider.getRequiredLiteral(this.regularExpression(regularExpression));
+            assertThat(optionalRequiredLiteral).as(regularExpression).isPresent();
+            assertThat(text).as(regularExpression).contains(optionalRequiredLiteral.get());
+        }
+    }
+
+    private SearchQuery plainText(String text) {
+        return new SearchQuery(text, false, false, false, false);
+    }
+
+    private SearchQuery regularExpression(String text) {
+        return new SearchQuery(text, false, false, true, false);
+    }
+}
@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.web.application.views.search.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the search index.
+ *
+ * @author agent
+ */
+public class SearchIndexTests {
+
+    private static final int MAX_RESULT_SIZE = 100;
+
+    private final Function<Object, String> labelProvider = object -> {
+        String label = null;
+        if (object instanceof EReference eReference && eReference.getEType() != null) {
+            label = eReference.getName() + " : " + eReference.getEType().getName();
+        } else if (object instanceof ENamedElement namedElement) {
+            label = namedElement.getName();
+        } else if (object instanceof Resource resource) {
+            label = resource.getURI().toString();
+        }
+        return label;
+    };
+
+    @Test
+    @DisplayName("Given an indexed resource set, when it is searched with a required literal, then only the objects containing this literal are tested")
+    public void givenIndexedResourceSetWhenItIsSearchedWithRequiredLiteralThenOnlyTheObjectsContainingThisLiteralAreTested() {
+        var resourceSet = new ResourceSetImpl();
+        var searchIndex = new SearchIndex();
+        resourceSet.eAdapters().add(searchIndex);
+
+        var resource = this.createResource(resourceSet);
+        var ePackage = this.createEPackage(resource, "library");
+        var book = this.createEClass(ePackage, "Book");
+        var bookshelf = this.createEClass(ePackage, "Bookshelf");
+        this.createEClass(ePackage, "Author");
+
+        var result = searchIndex.search(this.labelProvider, Optional.of("book"), false, text -> true, MAX_RESULT_SIZE);
+        assertThat(result).containsExactly(resource, book, bookshelf);
+
+        result = searchIndex.search(this.labelProvider, Optional.empty(), false, text -> text.contains("o"), MAX_RESULT_SIZE);
+        assertThat(result).containsExactly(book, bookshelf, this.find(ePackage, "Author"));
+    }
+
+    @Test
+    @DisplayName("Given an indexed resource set, when it is modified, then the search returns the current objects")
+    public void givenIndexedResourceSetWhenItIsModifiedThenTheSearchReturnsTheCurrentObjects() {
+        var resourceSet = new ResourceSetImpl();
+        var resource = this.createResource(resourceSet);
+        var ePackage = this.createEPackage(resource, "library");
+        var book = this.createEClass(ePackage, "Book");
+        var author = this.createEClass(ePackage, "Author");
+
+        var searchIndex = new SearchIndex();
+        resourceSet.eAdapters().add(searchIndex);
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Book"), false, text -> text.equals("Book"), MAX_RESULT_SIZE)).containsExactly(book);
+
+        book.setName("Novel");
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Book"), false, text -> text.equals("Book"), MAX_RESULT_SIZE)).isEmpty();
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Novel"), false, text -> text.equals("Novel"), MAX_RESULT_SIZE)).containsExactly(book);
+
+        ePackage.getEClassifiers().remove(author);
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Author"), false, text -> text.equals("Author"), MAX_RESULT_SIZE)).isEmpty();
+
+        var writer = this.createEClass(ePackage, "Writer");
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Writer"), false, text -> text.equals("Writer"), MAX_RESULT_SIZE)).containsExactly(writer);
+    }
+
+    @Test
+    @DisplayName("Given an indexed resource set, when it is often modified, then the index remains consistent once rebuilt")
+    public void givenIndexedResourceSetWhenItIsOftenModifiedThenTheIndexRemainsConsistentOnceRebuilt() {
+        var resourceSet = new ResourceSetImpl();
+        var searchIndex = new SearchIndex();
+        resourceSet.eAdapters().add(searchIndex);
+
+        var resource = this.createResource(resourceSet);
+        var ePackage = this.createEPackage(resource, "library");
+        var eClass = this.createEClass(ePackage, "Name0");
+        for (int i = 1; i <= 20; i++) {
+            eClass.setName("Name" + i);
+            searchIndex.search(this.labelProvider, Optional.of("Name"), false, text -> true, MAX_RESULT_SIZE);
+        }
+
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Name20"), false, text -> text.equals("Name20"), MAX_RESULT_SIZE)).containsExactly(eClass);
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Name19"), false, text -> text.equals("Name19"), MAX_RESULT_SIZE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Given an indexed resource set, when the values of the attributes are searched, then the objects are found with them")
+    public void givenIndexedResourceSetWhenTheValuesOfTheAttributesAreSearchedThenTheObjectsAreFoundWithThem() {
+        var resourceSet = new ResourceSetImpl();
+        var searchIndex = new SearchIndex();
+        resourceSet.eAdapters().add(searchIndex);
+
+        var resource = this.createResource(resourceSet);
+        var ePackage = this.createEPackage(resource, "library");
+        ePackage.setNsURI("https://example.org/library");
+
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("example"), false, text -> text.contains("example"), MAX_RESULT_SIZE)).isEmpty();
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("example"), true, text -> text.contains("example"), MAX_RESULT_SIZE)).containsExactly(ePackage);
+    }
+
+    @Test
+    @DisplayName("Given an indexed resource set, when an object referenced by another one is modified, then the label of the referencing object is indexed again")
+    public void givenIndexedResourceSetWhenAnObjectReferencedByAnotherOneIsModifiedThenTheLabelOfTheReferencingObjectIsIndexedAgain() {
+        var resourceSet = new ResourceSetImpl();
+        resourceSet.eAdapters().add(new ECrossReferenceAdapter());
+        var searchIndex = new SearchIndex();
+        resourceSet.eAdapters().add(searchIndex);
+
+        var resource = this.createResource(resourceSet);
+        var ePackage = this.createEPackage(resource, "library");
+        var book = this.createEClass(ePackage, "Book");
+        var library = this.createEClass(ePackage, "Library");
+        var books = EcoreFactory.eINSTANCE.createEReference();
+        books.setName("books");
+        books.setEType(book);
+        library.getEStructuralFeatures().add(books);
+        searchIndex.index(this.labelProvider);
+
+        book.setName("Novel");
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Novel"), false, text -> text.contains("Novel"), MAX_RESULT_SIZE)).containsExactly(book, books);
+        assertThat(searchIndex.search(this.labelProvider, Optional.of("Book"), false, text -> text.contains("Book"), MAX_RESULT_SIZE)).isEmpty();
+    }
+
+    private Resource createResource(ResourceSet resourceSet) {
+        var resource = new ResourceImpl(URI.createURI("sample"));
+        resourceSet.getResources().add(resource);
+        return resource;
+    }
+
+    private EPackage createEPackage(Resource resource, String name) {
+        var ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName(name);
+        resource.getContents().add(ePackage);
+        return ePackage;
+    }
+
+    private EClass createEClass(EPackage ePackage, String name) {
+        var eClass = EcoreFactory.eINSTANCE.createEClass();
+        eClass.setName(name);
+        ePackage.getEClassifiers().add(eClass);
+        return eClass;
+    }
+
+    private EClass find(EPackage ePackage, String name) {
+        return (EClass) ePackage.getEClassifier(name);
+    }
+}
@@ -80,7 +80,7 @@ public class ReferenceWidgetBehaviorConverter implements IReferenceWidgetBehavio
         String safeValueExpression = Optional.ofNullable(referenceOwnerExpression).orElse("");
         EObject referenceOwner = variableManager.get(VariableManager.SELF, EObject.class).orElse(null);
         if (!safeValueExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), safeValueExpression);
             referenceOwner = result.asObject().filter(EObject.class::isInstance).map(EObject.class::cast).orElse(referenceOwner);
         }
         return referenceOwner;
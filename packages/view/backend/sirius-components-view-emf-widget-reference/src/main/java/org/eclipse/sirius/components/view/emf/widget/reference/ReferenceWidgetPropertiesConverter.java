@@ -107,7 +107,7 @@ public class ReferenceWidgetPropertiesConverter implements IReferenceWidgetPrope
                     .isPresent();
 
             if (!isReadOnly && expression != null && !expression.isBlank()) {
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), expression);
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), expression);
                 isReadOnly = result.asBoolean()
                         .map(value -> !value)
                         .orElse(Boolean.FALSE);
@@ -170,7 +170,7 @@ public class ReferenceWidgetPropertiesConverter implements IReferenceWidgetPrope
         String safeValueExpression = Optional.ofNullable(referenceOwnerExpression).orElse("");
         EObject referenceOwner = variableManager.get(VariableManager.SELF, EObject.class).orElse(null);
         if (!safeValueExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), safeValueExpression);
             referenceOwner = result.asObject()
                     .filter(EObject.class::isInstance)
                     .map(EObject.class::cast)
@@ -245,7 +245,7 @@ public class ReferenceWidgetPropertiesConverter implements IReferenceWidgetPrope
     private Function<VariableManager, ReferenceWidgetStyle> getStyleProvider(ReferenceWidgetDescription viewReferenceWidgetDescription, AQLInterpreter interpreter) {
         return variableManager -> {
             var effectiveStyle = viewReferenceWidgetDescription.getConditionalStyles().stream()
-                    .filter(style -> interpreter.evaluateExpression(variableManager.getVariables(), style.getCondition()).asBoolean().orElse(Boolean.FALSE))
+                    .filter(style -> interpreter.evaluateExpression(variableManager.getVariablesView(), style.getCondition()).asBoolean().orElse(Boolean.FALSE))
                     .map(ReferenceWidgetDescriptionStyle.class::cast)
                     .findFirst()
                     .orElseGet(viewReferenceWidgetDescription::getStyle);
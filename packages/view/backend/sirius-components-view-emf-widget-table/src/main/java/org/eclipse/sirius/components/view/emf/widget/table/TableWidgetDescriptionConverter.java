@@ -84,7 +84,7 @@ public class TableWidgetDescriptionConverter implements IWidgetDescriptionConver
             StringValueProvider labelProvider = new StringValueProvider(interpreter, Optional.ofNullable(viewTableWidgetDescription.getLabelExpression()).orElse(""));
             Predicate<VariableManager> isStripeRowPredicate = variableManager -> {
                 if (viewTableWidgetDescription.getUseStripedRowsExpression() != null) {
-                    return interpreter.evaluateExpression(variableManager.getVariables(), viewTableWidgetDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
+                    return interpreter.evaluateExpression(variableManager.getVariablesView(), viewTableWidgetDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
                 }
                 return false;
             };
@@ -26,10 +26,7 @@ import org.eclipse.acceleo.query.runtime.ICompletionResult;
 import org.eclipse.acceleo.query.runtime.QueryCompletion;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.EPackage.Registry;
 import org.eclipse.sirius.components.core.api.IEditingContext;
-import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.forms.CompletionProposal;
 import org.eclipse.sirius.components.forms.CompletionRequest;
 import org.eclipse.sirius.components.forms.TextareaStyle;
@@ -38,9 +35,7 @@ import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.view.View;
 import org.eclipse.sirius.components.view.ViewPackage;
 import org.eclipse.sirius.components.view.diagram.NodeLabelStyle;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.ApplicationContext;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.springframework.stereotype.Component;
 
 /**
@@ -60,13 +55,10 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
 
     private static final String AQL_PREFIX = "aql:";
 
-    private final ApplicationContext applicationContext;
+    private final IViewAQLInterpreterFactory viewAQLInterpreterFactory;
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
-
-    public AQLTextfieldCustomizer(ApplicationContext applicationContext, List<IJavaServiceProvider> javaServiceProviders) {
-        this.applicationContext = Objects.requireNonNull(applicationContext);
-        this.javaServiceProviders = Objects.requireNonNull(javaServiceProviders);
+    public AQLTextfieldCustomizer(IViewAQLInterpreterFactory viewAQLInterpreterFactory) {
+        this.viewAQLInterpreterFactory = Objects.requireNonNull(viewAQLInterpreterFactory);
     }
 
     @Override
@@ -89,7 +81,7 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
                 return List.of(new CompletionProposal("AQL prefix", AQL_PREFIX, cursorPosition));
             }
 
-            List<EPackage> visibleEPackages = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class).map(this::getAccessibleEPackages).orElse(List.of());
+            IEditingContext editingContext = variableManager.get(IEditingContext.EDITING_CONTEXT, IEditingContext.class).orElse(null);
             View view = variableManager.get(VariableManager.SELF, EObject.class).map(self -> {
                 EObject current = self;
                 while (current != null) {
@@ -101,7 +93,7 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
                 }
                 return null;
             }).orElse(null);
-            AQLInterpreter interpreter = this.createInterpreter(view, visibleEPackages);
+            AQLInterpreter interpreter = this.viewAQLInterpreterFactory.createInterpreter(editingContext, view);
 
             ICompletionResult completionResult = interpreter.getProposals(currentText.substring(AQL_PREFIX.length()), cursorPosition - AQL_PREFIX.length());
             Set<ICompletionProposal> aqlProposals = new LinkedHashSet<>(completionResult.getProposals(QueryCompletion.createBasicFilter(completionResult)));
@@ -125,34 +117,4 @@ public class AQLTextfieldCustomizer implements ITextfieldCustomizer {
         return null;
     }
 
-    private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
-        if (editingContext instanceof IEMFEditingContext) {
-            Registry packageRegistry = ((IEMFEditingContext) editingContext).getDomain().getResourceSet().getPackageRegistry();
-            return packageRegistry.values().stream()
-                    .filter(EPackage.class::isInstance)
-                    .map(EPackage.class::cast)
-                    .toList();
-        } else {
-            return List.of();
-        }
-    }
-
-    private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .map(serviceClass -> {
-                    try {
-                        return beanFactory.createBean(serviceClass);
-                    } catch (BeansException beansException) {
-                        //this.logger.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .map(Object.class::cast)
-                .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
-    }
-
 }
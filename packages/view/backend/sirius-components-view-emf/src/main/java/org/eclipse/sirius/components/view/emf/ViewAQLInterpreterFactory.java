@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.sirius.components.collaborative.diagrams.DiagramServices;
 import org.eclipse.sirius.components.core.api.IEditingContext;
 import org.eclipse.sirius.components.diagrams.Node;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
 import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.trees.TreeItem;
@@ -38,6 +39,11 @@ import org.springframework.stereotype.Service;
 /**
  * Used to create an AQL interpreter parameterized for the view DSL.
  *
+ * <p>
+ *     The interpreter of a view, with the instances of its Java services, is reused for the whole editing context
+ *     until the view or the EPackages visible are modified.
+ * </p>
+ *
  * @author sbegaudeau
  */
 @Service
@@ -47,20 +53,30 @@ public class ViewAQLInterpreterFactory implements IViewAQLInterpreterFactory {
 
     private final ApplicationContext applicationContext;
 
+    private final IAQLInterpreterPool aqlInterpreterPool;
+
     private final Logger logger = LoggerFactory.getLogger(ViewAQLInterpreterFactory.class);
 
-    public ViewAQLInterpreterFactory(List<IJavaServiceProvider> javaServiceProviders, ApplicationContext applicationContext) {
+    public ViewAQLInterpreterFactory(List<IJavaServiceProvider> javaServiceProviders, ApplicationContext applicationContext, IAQLInterpreterPool aqlInterpreterPool) {
         this.javaServiceProviders = new ArrayList<>();
         this.javaServiceProviders.addAll(Objects.requireNonNull(javaServiceProviders));
         IServiceProvider nodeServiceProvider = (IReadOnlyQueryEnvironment queryEnvironment, boolean forWorkspace) -> ServiceUtils.getReceiverServices(null, Node.class).stream().toList();
         IServiceProvider treeItemServiceProvider = (IReadOnlyQueryEnvironment queryEnvironment, boolean forWorkspace) -> ServiceUtils.getReceiverServices(null, TreeItem.class).stream().toList();
         this.javaServiceProviders.add((View view) -> List.of(CanonicalServices.class, DiagramServices.class, nodeServiceProvider.getClass(), treeItemServiceProvider.getClass()));
         this.applicationContext = Objects.requireNonNull(applicationContext);
+        this.aqlInterpreterPool = Objects.requireNonNull(aqlInterpreterPool);
     }
 
     @Override
     public AQLInterpreter createInterpreter(IEditingContext editingContext, View view) {
         List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
+        if (editingContext == null || view == null) {
+            return this.newInterpreter(view, visibleEPackages);
+        }
+        return this.aqlInterpreterPool.getInterpreter(editingContext, view, visibleEPackages, () -> this.newInterpreter(view, visibleEPackages));
+    }
+
+    private AQLInterpreter newInterpreter(View view, List<EPackage> visibleEPackages) {
         AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
         List<Object> serviceInstances = this.javaServiceProviders.stream()
                 .flatMap(provider -> provider.getServiceClasses(view).stream())
@@ -27,6 +27,7 @@ import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.view.RepresentationDescription;
 import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.ViewPackage;
 import org.eclipse.sirius.components.view.diagram.DiagramDescription;
 import org.eclipse.sirius.components.view.diagram.DialogDescription;
 import org.eclipse.sirius.components.view.emf.api.IDialogDescriptionConverter;
@@ -69,6 +70,8 @@ public class ViewConverter implements IViewConverter {
 
             AQLInterpreter interpreter = this.viewAQLInterpreterFactory.createInterpreter(editingContext, view);
             try {
+                this.compileExpressions(view, interpreter);
+
                 viewConverterResult.addAll(view.getDescriptions().stream()
                         .map(representationDescription -> this.convert(representationDescription, allViewsRepresentationDescriptions, interpreter))
                         .flatMap(Optional::stream)
@@ -86,6 +89,24 @@ public class ViewConverter implements IViewConverter {
         return viewConverterResult;
     }
 
+    /**
+     * Compiles ahead of time all the expressions of the given view.
+     *
+     * <p>
+     *     The compiled expressions are kept by the interpreter as long as the representation descriptions which will
+     *     be converted with it. They will thus never have to be converted and parsed again when evaluated.
+     * </p>
+     */
+    private void compileExpressions(View view, AQLInterpreter interpreter) {
+        this.getAllContent(view).forEach(eObject -> eObject.eClass().getEAllAttributes().stream()
+                .filter(eAttribute -> eAttribute.getEType() == ViewPackage.Literals.INTERPRETED_EXPRESSION && !eAttribute.isMany())
+                .map(eObject::eGet)
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .filter(expression -> !expression.isBlank())
+                .forEach(interpreter::compileExpression));
+    }
+
     private List<ViewConverterResult> convertDialogDescriptions(View view, AQLInterpreter interpreter) {
         List<ViewConverterResult> viewConverterResult = new ArrayList<>();
         view.getDescriptions().stream()
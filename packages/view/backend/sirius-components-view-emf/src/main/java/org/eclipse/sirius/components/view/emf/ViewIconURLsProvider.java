@@ -41,7 +41,7 @@ public class ViewIconURLsProvider implements Function<VariableManager, List<Stri
         if (this.iconExpression.trim().isBlank()) {
             return List.of();
         }
-        return interpreter.evaluateExpression(variableManager.getVariables(), this.iconExpression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), this.iconExpression)
                 .asObjects()
                 .stream()
                 .flatMap(Collection::stream)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2022, 2024 Obeo.
+ * Copyright (c) 2022, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -16,16 +16,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.EPackage.Registry;
 import org.eclipse.sirius.components.collaborative.api.IRepresentationDescriptionsProvider;
 import org.eclipse.sirius.components.collaborative.api.RepresentationDescriptionMetadata;
 import org.eclipse.sirius.components.core.api.IEditingContext;
-import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.representations.IRepresentationDescription;
 import org.eclipse.sirius.components.representations.VariableManager;
 import org.eclipse.sirius.components.view.View;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.springframework.stereotype.Service;
 
 /**
@@ -38,13 +36,13 @@ public class ViewRepresentationDescriptionsProvider implements IRepresentationDe
 
     private final IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService;
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
+    private final IViewAQLInterpreterFactory viewAQLInterpreterFactory;
 
     private final IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate;
 
-    public ViewRepresentationDescriptionsProvider(IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, List<IJavaServiceProvider> javaServiceProviders, IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate) {
+    public ViewRepresentationDescriptionsProvider(IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IViewAQLInterpreterFactory viewAQLInterpreterFactory, IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate) {
         this.viewRepresentationDescriptionSearchService = Objects.requireNonNull(viewRepresentationDescriptionSearchService);
-        this.javaServiceProviders = Objects.requireNonNull(javaServiceProviders);
+        this.viewAQLInterpreterFactory = Objects.requireNonNull(viewAQLInterpreterFactory);
         this.viewRepresentationDescriptionPredicate = Objects.requireNonNull(viewRepresentationDescriptionPredicate);
     }
 
@@ -64,34 +62,14 @@ public class ViewRepresentationDescriptionsProvider implements IRepresentationDe
         return result;
     }
 
-    private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
-        if (editingContext instanceof IEMFEditingContext) {
-            Registry packageRegistry = ((IEMFEditingContext) editingContext).getDomain().getResourceSet().getPackageRegistry();
-            return packageRegistry.values().stream()
-                    .filter(EPackage.class::isInstance)
-                    .map(EPackage.class::cast)
-                    .toList();
-        } else {
-            return List.of();
-        }
-    }
-
     private String getDefaultName(org.eclipse.sirius.components.view.RepresentationDescription viewRepresentationDescription, IEditingContext editingContext, Object self) {
         String titleExpression = viewRepresentationDescription.getTitleExpression();
         if (titleExpression != null && !titleExpression.isBlank()) {
-            List<EPackage> accessibleEPackages = this.getAccessibleEPackages(editingContext);
-            AQLInterpreter interpreter = this.createInterpreter((View) viewRepresentationDescription.eContainer(), accessibleEPackages);
+            AQLInterpreter interpreter = this.viewAQLInterpreterFactory.createInterpreter(editingContext, (View) viewRepresentationDescription.eContainer());
             VariableManager variableManager = new VariableManager();
             variableManager.put(VariableManager.SELF, self);
-            return interpreter.evaluateExpression(variableManager.getVariables(), titleExpression).asString().orElse(null);
+            return interpreter.evaluateExpression(variableManager.getVariablesView(), titleExpression).asString().orElse(null);
         }
         return null;
     }
-
-    private AQLInterpreter createInterpreter(View view, List<EPackage> visibleEPackages) {
-        List<Class<?>> serviceClasses = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .toList();
-        return new AQLInterpreter(serviceClasses, visibleEPackages);
-    }
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2024 Obeo.
+ * Copyright (c) 2024, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -22,5 +22,15 @@ import org.eclipse.sirius.components.view.View;
  * @author sbegaudeau
  */
 public interface IViewAQLInterpreterFactory {
+
+    /**
+     * Returns an interpreter for the given view, it may have been created before for the same editing context.
+     *
+     * @param editingContext
+     *         The editing context
+     * @param view
+     *         The view
+     * @return The interpreter
+     */
     AQLInterpreter createInterpreter(IEditingContext editingContext, View view);
 }
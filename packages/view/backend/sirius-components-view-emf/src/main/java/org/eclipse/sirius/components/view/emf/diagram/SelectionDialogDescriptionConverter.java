@@ -192,7 +192,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
             if (safeExpression.isBlank()) {
                 return true;
             }
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), safeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), safeExpression);
             return result.asBoolean()
                     .orElse(false);
         };
@@ -307,7 +307,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
         String childrenExpression = selectionDialogTreeDescription.getChildrenExpression();
         String safeExpression = Optional.ofNullable(childrenExpression).orElse("");
         if (!safeExpression.isBlank()) {
-            Result interpreterResult = interpreter.evaluateExpression(variableManager.getVariables(), safeExpression);
+            Result interpreterResult = interpreter.evaluateExpression(variableManager.getVariablesView(), safeExpression);
             result = interpreterResult.asObjects()
                     .orElse(List.of())
                     .stream()
@@ -326,7 +326,7 @@ public class SelectionDialogDescriptionConverter implements IDialogDescriptionCo
                 this.convertTreeIdParametersToVariables(variableManager, optionalEditingContext.get());
 
                 String elementsExpression = selectionDialogTreeDescription.getElementsExpression();
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementsExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), elementsExpression);
                 return result.asObjects()
                         .orElse(List.of())
                         .stream()
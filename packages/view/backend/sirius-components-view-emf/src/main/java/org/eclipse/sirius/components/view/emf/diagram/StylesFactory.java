@@ -175,7 +175,7 @@ public final class StylesFactory {
                     boolean isShowIcon = false;
                     String showIconExpression = labelStyle.getShowIconExpression();
                     if (showIconExpression != null && !showIconExpression.isBlank()) {
-                        isShowIcon = this.interpreter.evaluateExpression(variableManager.getVariables(), showIconExpression).asBoolean().orElse(false);
+                        isShowIcon = this.interpreter.evaluateExpression(variableManager.getVariablesView(), showIconExpression).asBoolean().orElse(false);
                     }
                     if (isShowIcon && labelStyle.getLabelIcon() == null) {
                         iconURL = variableManager.get(VariableManager.SELF, Object.class).map(this.labelService::getImagePaths).orElse(List.of());
@@ -208,7 +208,7 @@ public final class StylesFactory {
                     boolean isShowIcon = false;
                     String showIconExpression = labelStyle.getShowIconExpression();
                     if (showIconExpression != null && !showIconExpression.isBlank()) {
-                        isShowIcon = this.interpreter.evaluateExpression(variableManager.getVariables(), showIconExpression).asBoolean().orElse(false);
+                        isShowIcon = this.interpreter.evaluateExpression(variableManager.getVariablesView(), showIconExpression).asBoolean().orElse(false);
                     }
                     if (isShowIcon && labelStyle.getLabelIcon() == null) {
                         iconURL = variableManager.get(VariableManager.SELF, Object.class).map(this.labelService::getImagePaths).orElse(List.of());
@@ -238,7 +238,7 @@ public final class StylesFactory {
 
     private String computeMaxWidthProvider(String maxWidthExpression, VariableManager variableManager) {
         if (maxWidthExpression != null && !maxWidthExpression.isBlank()) {
-            Result result = this.interpreter.evaluateExpression(variableManager.getVariables(), maxWidthExpression);
+            Result result = this.interpreter.evaluateExpression(variableManager.getVariablesView(), maxWidthExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asString().isPresent()) {
                 return result.asString().get();
             }
@@ -117,7 +117,7 @@ public class ViewActionsProvider implements IActionsProvider {
     private Action createAction(org.eclipse.sirius.components.view.diagram.Action viewAction, VariableManager variableManager, AQLInterpreter interpreter) {
         var id = UUID.nameUUIDFromBytes(viewAction.getName().getBytes()).toString();
         var iconURLs = this.getActionIconURLs(viewAction, interpreter, variableManager);
-        var tooltip = interpreter.evaluateExpression(variableManager.getVariables(), viewAction.getTooltipExpression()).asString().orElse("");
+        var tooltip = interpreter.evaluateExpression(variableManager.getVariablesView(), viewAction.getTooltipExpression()).asString().orElse("");
 
         return new Action(id, iconURLs, tooltip);
     }
@@ -137,7 +137,7 @@ public class ViewActionsProvider implements IActionsProvider {
     }
 
     private List<String> evaluateListString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        var objects = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        var objects = interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asObjects().orElse(List.of());
         return objects.stream()
                 .filter(String.class::isInstance)
                 .map(String.class::cast)
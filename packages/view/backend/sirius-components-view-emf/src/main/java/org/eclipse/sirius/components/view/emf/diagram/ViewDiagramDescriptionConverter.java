@@ -247,7 +247,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         if (optionalEClass.isPresent()) {
             String preconditionExpression = viewDiagramDescription.getPreconditionExpression();
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -308,7 +308,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 .toList();
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewNodeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewNodeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
@@ -372,16 +372,16 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private ILayoutStrategy getListLayoutStrategy(ListLayoutStrategyDescription listLayoutStrategyDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
+        Result resultAreChildNodesDraggable = interpreter.evaluateExpression(variableManager.getVariablesView(), listLayoutStrategyDescription.getAreChildNodesDraggableExpression());
         var builder = ListLayoutStrategy.newListLayoutStrategy()
                 .areChildNodesDraggable(resultAreChildNodesDraggable.asBoolean().orElse(true))
                 .growableNodeIds(listLayoutStrategyDescription.getGrowableNodes().stream().map(this.diagramIdProvider::getId).toList());
         if (listLayoutStrategyDescription.getBottomGapExpression() != null && !listLayoutStrategyDescription.getBottomGapExpression().isBlank()) {
-            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getBottomGapExpression());
+            Result resultBottomGap = interpreter.evaluateExpression(variableManager.getVariablesView(), listLayoutStrategyDescription.getBottomGapExpression());
             builder.bottomGap(resultBottomGap.asInt().orElse(0));
         }
         if (listLayoutStrategyDescription.getTopGapExpression() != null && !listLayoutStrategyDescription.getTopGapExpression().isBlank()) {
-            Result resultTopGap = interpreter.evaluateExpression(variableManager.getVariables(), listLayoutStrategyDescription.getTopGapExpression());
+            Result resultTopGap = interpreter.evaluateExpression(variableManager.getVariablesView(), listLayoutStrategyDescription.getTopGapExpression());
             builder.topGap(resultTopGap.asInt().orElse(0));
         }
 
@@ -390,7 +390,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Boolean computeBooleanProvider(String booleanExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (booleanExpression != null && !booleanExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), booleanExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), booleanExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0) {
                 return result.asBoolean().orElse(false);
             }
@@ -400,7 +400,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
 
     private Integer computeDefaultSizeProvider(String defaultSizeExpression, AQLInterpreter interpreter, VariableManager variableManager) {
         if (defaultSizeExpression != null && !defaultSizeExpression.isBlank()) {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), defaultSizeExpression);
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), defaultSizeExpression);
             if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asInt().isPresent()) {
                 return result.asInt().getAsInt();
             }
@@ -415,7 +415,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
     }
 
     private boolean matches(AQLInterpreter interpreter, String condition, VariableManager variableManager) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), condition).asBoolean().orElse(Boolean.FALSE);
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), condition).asBoolean().orElse(Boolean.FALSE);
     }
 
     private InsideLabelDescription getInsideLabelDescription(org.eclipse.sirius.components.view.diagram.NodeDescription viewNodeDescription, AQLInterpreter interpreter, StylesFactory stylesFactory) {
@@ -512,9 +512,12 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 .build());
     }
 
+    /**
+     * The results of the semantic candidates expressions which do not call any service can be reused during a rendering.
+     */
     private Function<VariableManager, List<?>> getSemanticElementsProvider(DiagramElementDescription elementDescription, AQLInterpreter interpreter) {
         return variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression());
+            Result result = interpreter.evaluateMemoizableExpression(variableManager.getVariablesView(), elementDescription.getSemanticCandidatesExpression());
             List<Object> candidates = result.asObjects().orElse(List.of());
             return candidates.stream()
                     .filter(EObject.class::isInstance)
@@ -537,7 +540,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         }
 
         Predicate<VariableManager> shouldRenderPredicate = variableManager -> {
-            Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewEdgeDescription.getPreconditionExpression());
+            Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewEdgeDescription.getPreconditionExpression());
             return result.asBoolean().orElse(true);
         };
 
@@ -551,7 +554,7 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
                 DiagramRenderingCache cache = optionalCache.get();
                 String sourceFinderExpression = viewEdgeDescription.getSourceExpression();
 
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), sourceFinderExpression);
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), sourceFinderExpression);
                 List<Object> semanticCandidates = result.asObjects().orElse(List.of());
                 var diagramElementCandidates = semanticCandidates.stream().flatMap(semanticObject -> cache.getElementsRepresenting(semanticObject).stream());
 
@@ -714,7 +717,10 @@ public class ViewDiagramDescriptionConverter implements IRepresentationDescripti
         return variableManager.get(VariableManager.SELF, Object.class);
     }
 
+    /**
+     * The results of the title and label expressions which do not call any service can be reused during a rendering.
+     */
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateMemoizableExpression(variableManager.getVariablesView(), expression).asString().orElse("");
     }
 }
@@ -46,7 +46,7 @@ public class DeleteViewOperationHandler implements IOperationHandler {
         if (operation instanceof DeleteView deleteViewOperation && optionalDiagramContext.isPresent()) {
             var diagramContext = optionalDiagramContext.get();
 
-            var optionalElement = interpreter.evaluateExpression(variableManager.getVariables(), deleteViewOperation.getViewExpression()).asObject();
+            var optionalElement = interpreter.evaluateExpression(variableManager.getVariablesView(), deleteViewOperation.getViewExpression()).asObject();
             if (optionalElement.isPresent()) {
                 var element = optionalElement.get();
 
@@ -18,8 +18,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
-import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.EPackage.Registry;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IDiagramQueryService;
 import org.eclipse.sirius.components.collaborative.diagrams.api.IInitialDirectEditElementLabelProvider;
 import org.eclipse.sirius.components.core.api.IEditingContext;
@@ -29,7 +27,6 @@ import org.eclipse.sirius.components.diagrams.Edge;
 import org.eclipse.sirius.components.diagrams.Node;
 import org.eclipse.sirius.components.diagrams.OutsideLabel;
 import org.eclipse.sirius.components.diagrams.description.EdgeLabelKind;
-import org.eclipse.sirius.components.emf.services.api.IEMFEditingContext;
 import org.eclipse.sirius.components.interpreter.AQLInterpreter;
 import org.eclipse.sirius.components.interpreter.Result;
 import org.eclipse.sirius.components.interpreter.Status;
@@ -41,15 +38,10 @@ import org.eclipse.sirius.components.view.diagram.EdgePalette;
 import org.eclipse.sirius.components.view.diagram.LabelEditTool;
 import org.eclipse.sirius.components.view.diagram.NodeDescription;
 import org.eclipse.sirius.components.view.diagram.NodePalette;
-import org.eclipse.sirius.components.view.emf.IJavaServiceProvider;
 import org.eclipse.sirius.components.view.emf.IViewRepresentationDescriptionPredicate;
 import org.eclipse.sirius.components.view.emf.IViewRepresentationDescriptionSearchService;
+import org.eclipse.sirius.components.view.emf.api.IViewAQLInterpreterFactory;
 import org.eclipse.sirius.components.view.emf.diagram.IDiagramIdProvider;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 
 /**
@@ -60,8 +52,6 @@ import org.springframework.stereotype.Service;
 @Service
 public class ViewInitialDirectEditElementLabelProvider implements IInitialDirectEditElementLabelProvider {
 
-    private final Logger logger = LoggerFactory.getLogger(ViewInitialDirectEditElementLabelProvider.class);
-
     private final IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate;
 
     private final IDiagramQueryService diagramQueryService;
@@ -70,21 +60,18 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
 
     private final IObjectService objectService;
 
-    private final List<IJavaServiceProvider> javaServiceProviders;
+    private final IViewAQLInterpreterFactory viewAQLInterpreterFactory;
 
     private final IDiagramIdProvider idProvider;
 
-    private final ApplicationContext applicationContext;
-
     public ViewInitialDirectEditElementLabelProvider(IViewRepresentationDescriptionPredicate viewRepresentationDescriptionPredicate, IDiagramQueryService diagramQueryService, IViewRepresentationDescriptionSearchService viewRepresentationDescriptionSearchService, IObjectService objectService,
-            List<IJavaServiceProvider> javaServiceProviders, IDiagramIdProvider idProvider, ApplicationContext applicationContext) {
+            IViewAQLInterpreterFactory viewAQLInterpreterFactory, IDiagramIdProvider idProvider) {
         this.viewRepresentationDescriptionPredicate = Objects.requireNonNull(viewRepresentationDescriptionPredicate);
         this.diagramQueryService = Objects.requireNonNull(diagramQueryService);
         this.viewRepresentationDescriptionSearchService = Objects.requireNonNull(viewRepresentationDescriptionSearchService);
         this.objectService = Objects.requireNonNull(objectService);
-        this.javaServiceProviders = Objects.requireNonNull(javaServiceProviders);
+        this.viewAQLInterpreterFactory = Objects.requireNonNull(viewAQLInterpreterFactory);
         this.idProvider = Objects.requireNonNull(idProvider);
-        this.applicationContext = Objects.requireNonNull(applicationContext);
     }
 
     @Override
@@ -135,7 +122,7 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
             if (optionalLabelEditTool.isPresent() && semanticElement.isPresent()) {
                 LabelEditTool labelEditTool = optionalLabelEditTool.get();
                 if (labelEditTool.getInitialDirectEditLabelExpression() != null && !labelEditTool.getInitialDirectEditLabelExpression().isBlank()) {
-                    AQLInterpreter interpreter = this.createInterpreter((View) diagramDescription.eContainer(), editingContext);
+                    AQLInterpreter interpreter = this.viewAQLInterpreterFactory.createInterpreter(editingContext, (View) diagramDescription.eContainer());
                     VariableManager variableManager = new VariableManager();
                     variableManager.put(VariableManager.SELF, semanticElement.get());
                     variableManager.put("view", diagramElement);
@@ -151,7 +138,7 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
                         variableManager.put("semanticEdgeTarget", semanticEdgeTarget);
                     }
 
-                    Result result = interpreter.evaluateExpression(variableManager.getVariables(), labelEditTool.getInitialDirectEditLabelExpression());
+                    Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), labelEditTool.getInitialDirectEditLabelExpression());
                     if (result.getStatus().compareTo(Status.WARNING) <= 0 && result.asString().isPresent()) {
                         initialDirectEditElementLabel = result.asString().get();
                     }
@@ -193,35 +180,4 @@ public class ViewInitialDirectEditElementLabelProvider implements IInitialDirect
                 .findFirst();
     }
 
-    private List<EPackage> getAccessibleEPackages(IEditingContext editingContext) {
-        if (editingContext instanceof IEMFEditingContext) {
-            Registry packageRegistry = ((IEMFEditingContext) editingContext).getDomain().getResourceSet().getPackageRegistry();
-            return packageRegistry.values().stream()
-                    .filter(EPackage.class::isInstance)
-                    .map(EPackage.class::cast)
-                    .toList();
-        } else {
-            return List.of();
-        }
-    }
-
-    private AQLInterpreter createInterpreter(View view, IEditingContext editingContext) {
-        List<EPackage> visibleEPackages = this.getAccessibleEPackages(editingContext);
-        AutowireCapableBeanFactory beanFactory = this.applicationContext.getAutowireCapableBeanFactory();
-        List<Object> serviceInstances = this.javaServiceProviders.stream()
-                .flatMap(provider -> provider.getServiceClasses(view).stream())
-                .map(serviceClass -> {
-                    try {
-                        return beanFactory.createBean(serviceClass);
-                    } catch (BeansException beansException) {
-                        this.logger.warn("Error while trying to instantiate Java service class " + serviceClass.getName(), beansException);
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .map(Object.class::cast)
-                .toList();
-        return new AQLInterpreter(List.of(), serviceInstances, visibleEPackages);
-    }
-
 }
@@ -83,7 +83,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
 
         UnaryOperator<VariableManager> variableManagerInitializer = variableManager -> {
             for (FormVariable formVariable : viewFormDescription.getFormVariables()) {
-                Result result = interpreter.evaluateExpression(variableManager.getVariables(), formVariable.getDefaultValueExpression());
+                Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), formVariable.getDefaultValueExpression());
                 if (result.asObject().isPresent()) {
                     variableManager.put(formVariable.getName(), result.asObject().get());
                 }
@@ -106,7 +106,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
 
     private String computeFormLabel(org.eclipse.sirius.components.view.form.FormDescription viewFormDescription, VariableManager variableManager, AQLInterpreter interpreter) {
         return variableManager.get(FormDescription.LABEL, String.class)
-                .or(() -> interpreter.evaluateExpression(variableManager.getVariables(), viewFormDescription.getTitleExpression()).asString())
+                .or(() -> interpreter.evaluateExpression(variableManager.getVariablesView(), viewFormDescription.getTitleExpression()).asString())
                 .orElse(DEFAULT_FORM_LABEL);
     }
 
@@ -117,7 +117,7 @@ public class ViewFormDescriptionConverter implements IRepresentationDescriptionC
                 .filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
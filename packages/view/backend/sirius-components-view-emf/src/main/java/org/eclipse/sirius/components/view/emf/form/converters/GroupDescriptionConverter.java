@@ -79,7 +79,7 @@ public class GroupDescriptionConverter implements IGroupDescriptionConverter {
 
         Function<VariableManager, ContainerBorderStyle> borderStyleProvider = variableManager -> {
             var effectiveStyle = viewGroupDescription.getConditionalBorderStyles().stream()
-                    .filter(style -> interpreter.evaluateExpression(variableManager.getVariables(), style.getCondition())
+                    .filter(style -> interpreter.evaluateExpression(variableManager.getVariablesView(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(org.eclipse.sirius.components.view.form.ContainerBorderStyle.class::cast)
@@ -113,7 +113,7 @@ public class GroupDescriptionConverter implements IGroupDescriptionConverter {
     }
 
     private List<?> getSemanticElementsProvider(org.eclipse.sirius.components.view.form.GroupDescription viewGroupDescription, VariableManager variableManager, AQLInterpreter interpreter) {
-        Result result = interpreter.evaluateExpression(variableManager.getVariables(), viewGroupDescription.getSemanticCandidatesExpression());
+        Result result = interpreter.evaluateExpression(variableManager.getVariablesView(), viewGroupDescription.getSemanticCandidatesExpression());
         List<Object> candidates = result.asObjects().orElse(List.of());
         return candidates.stream()
                 .filter(EObject.class::isInstance)
@@ -48,7 +48,7 @@ public class MultiValueProvider<T> implements Function<VariableManager, List<T>>
         VariableManager childVariableManager = variableManager.createChild();
         childVariableManager.put(VARIABLE_MANAGER, variableManager);
         if (this.expression != null && !this.expression.isBlank()) {
-            var optionalCollection = this.interpreter.evaluateExpression(childVariableManager.getVariables(), expression).asObjects();
+            var optionalCollection = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), expression).asObjects();
             if (optionalCollection.isPresent()) {
                 var collection = optionalCollection.get();
                 return collection.stream()
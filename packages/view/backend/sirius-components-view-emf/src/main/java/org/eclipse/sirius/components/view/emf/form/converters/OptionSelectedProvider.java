@@ -42,7 +42,7 @@ public class OptionSelectedProvider implements Function<VariableManager, Boolean
     public Boolean apply(VariableManager variableManager) {
         VariableManager childVariableManager = variableManager.createChild();
         childVariableManager.put(VARIABLE_MANAGER, variableManager);
-        Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariables(), this.expression).asObject();
+        Optional<Object> optionalResult = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), this.expression).asObject();
         Object candidate = variableManager.getVariables().get(RadioComponent.CANDIDATE_VARIABLE);
         return optionalResult.map(candidate::equals).orElse(Boolean.FALSE);
     }
@@ -52,7 +52,7 @@ public class ReadOnlyValueProvider implements Function<VariableManager, Boolean>
 
         VariableManager childVariableManager = variableManager.createChild();
         childVariableManager.put(VARIABLE_MANAGER, variableManager);
-        Result result = this.interpreter.evaluateExpression(childVariableManager.getVariables(), this.expression);
+        Result result = this.interpreter.evaluateExpression(childVariableManager.getVariablesView(), this.expression);
         return result.asBoolean()
                 .map(value -> !value)
                 .orElse(Boolean.FALSE);
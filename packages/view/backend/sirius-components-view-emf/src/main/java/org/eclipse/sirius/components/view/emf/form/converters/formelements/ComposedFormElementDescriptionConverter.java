@@ -102,7 +102,7 @@ public class ComposedFormElementDescriptionConverter implements IComposedFormEle
             if (!safeIterabeExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Result result = interpreter.evaluateExpression(childVariableManager.getVariables(), safeIterabeExpression);
+                Result result = interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeIterabeExpression);
                 return result.asObjects().orElse(List.of());
             } else {
                 return List.of();
@@ -150,7 +150,7 @@ public class ComposedFormElementDescriptionConverter implements IComposedFormEle
             VariableManager childVariableManager = variableManager.createChild();
             childVariableManager.put(VARIABLE_MANAGER, variableManager);
             var effectiveStyle = viewFlexboxContainerDescription.getConditionalBorderStyles().stream()
-                    .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                    .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariablesView(), style.getCondition())
                             .asBoolean()
                             .orElse(Boolean.FALSE))
                     .map(org.eclipse.sirius.components.view.form.ContainerBorderStyle.class::cast)
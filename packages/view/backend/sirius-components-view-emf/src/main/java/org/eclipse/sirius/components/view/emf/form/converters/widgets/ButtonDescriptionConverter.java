@@ -82,7 +82,7 @@ public class ButtonDescriptionConverter implements IWidgetDescriptionConverter {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
                 var effectiveStyle = viewButtonDescription.getConditionalStyles().stream()
-                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariablesView(), style.getCondition())
                                 .asBoolean()
                                 .orElse(Boolean.FALSE))
                         .map(ButtonDescriptionStyle.class::cast)
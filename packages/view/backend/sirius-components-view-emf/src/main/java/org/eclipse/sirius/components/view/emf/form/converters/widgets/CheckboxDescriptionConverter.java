@@ -83,7 +83,7 @@ public class CheckboxDescriptionConverter implements IWidgetDescriptionConverter
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
                 var effectiveStyle = viewCheckboxDescription.getConditionalStyles().stream()
-                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariablesView(), style.getCondition())
                                 .asBoolean()
                                 .orElse(Boolean.FALSE))
                         .map(CheckboxDescriptionStyle.class::cast)
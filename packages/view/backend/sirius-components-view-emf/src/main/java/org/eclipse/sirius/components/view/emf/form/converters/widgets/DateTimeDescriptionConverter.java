@@ -107,7 +107,7 @@ public class DateTimeDescriptionConverter implements IWidgetDescriptionConverter
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
                 var effectiveStyle = viewDateTimeDescription.getConditionalStyles().stream()
-                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariablesView(), style.getCondition())
                                 .asBoolean()
                                 .orElse(Boolean.FALSE))
                         .map(DateTimeDescriptionStyle.class::cast)
@@ -68,7 +68,7 @@ public class LabelDescriptionConverter implements IWidgetDescriptionConverter {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
                 var effectiveStyle = viewLabelDescription.getConditionalStyles().stream()
-                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariablesView(), style.getCondition())
                                 .asBoolean()
                                 .orElse(Boolean.FALSE))
                         .map(LabelDescriptionStyle.class::cast)
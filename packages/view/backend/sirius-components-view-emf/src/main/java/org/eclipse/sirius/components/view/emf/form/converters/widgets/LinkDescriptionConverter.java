@@ -68,7 +68,7 @@ public class LinkDescriptionConverter implements IWidgetDescriptionConverter {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
                 var effectiveStyle = viewLinkDescription.getConditionalStyles().stream()
-                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariables(), style.getCondition())
+                        .filter(style -> interpreter.evaluateExpression(childVariableManager.getVariablesView(), style.getCondition())
                                 .asBoolean()
                                 .orElse(Boolean.FALSE))
                         .map(LinkDescriptionStyle.class::cast)
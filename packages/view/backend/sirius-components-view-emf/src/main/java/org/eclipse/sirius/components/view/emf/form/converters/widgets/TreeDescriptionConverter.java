@@ -134,7 +134,7 @@ public class TreeDescriptionConverter implements IWidgetDescriptionConverter {
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = interpreter.evaluateExpression(variableManager.getVariablesView(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     values = optionalResult.get().stream().filter(String.class::isInstance).map(String.class::cast).toList();
                 }
@@ -150,7 +150,7 @@ public class TreeDescriptionConverter implements IWidgetDescriptionConverter {
             if (!safeValueExpression.isBlank()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VARIABLE_MANAGER, variableManager);
-                Optional<List<Object>> optionalResult = interpreter.evaluateExpression(childVariableManager.getVariables(), safeValueExpression).asObjects();
+                Optional<List<Object>> optionalResult = interpreter.evaluateExpression(childVariableManager.getVariablesView(), safeValueExpression).asObjects();
                 if (optionalResult.isPresent()) {
                     var list = optionalResult.get().stream().filter(List.class::isInstance).map(List.class::cast).toList();
                     return list.stream().map(valuesList -> (List<String>) valuesList.stream().filter(String.class::isInstance).map(String.class::cast).toList())
@@ -171,7 +171,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     private Temporal getTemporalFromExpression(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
         Temporal result = null;
 
-        var optionalObject = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObject();
+        var optionalObject = interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asObject();
         if (optionalObject.isPresent()) {
             var object = optionalObject.get();
             if (object instanceof Temporal temporal) {
@@ -192,7 +192,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
 
 
     private <T> T evaluateExpression(VariableManager variableManager, AQLInterpreter interpreter, String expression, Class<T> type, T defaultValue) {
-        T value = interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        T value = interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asObject()
                 .filter(type::isInstance)
                 .map(type::cast)
@@ -202,7 +202,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     }
 
     private List<EObject> getSemanticCandidateElements(VariableManager variableManager, AQLInterpreter interpreter, org.eclipse.sirius.components.view.gantt.TaskDescription viewTaskDescription) {
-        List<EObject> semanticObjects = interpreter.evaluateExpression(variableManager.getVariables(), viewTaskDescription.getSemanticCandidatesExpression())
+        List<EObject> semanticObjects = interpreter.evaluateExpression(variableManager.getVariablesView(), viewTaskDescription.getSemanticCandidatesExpression())
                 .asObjects()
                 .orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
@@ -213,7 +213,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     }
 
     private List<Object> getTaskDependencies(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        List<Object> semanticObjects = interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        List<Object> semanticObjects = interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asObjects()
                 .orElseGet(List::of).stream()
                 .filter(EObject.class::isInstance)
@@ -226,7 +226,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
         Optional<EClass> optionalEClass = variableManager.get(VariableManager.SELF, EObject.class).map(EObject::eClass).filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -245,7 +245,7 @@ public class ViewGanttDescriptionConverter implements IRepresentationDescription
     }
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asString().orElse("");
     }
 
     private Optional<Object> self(VariableManager variableManager) {
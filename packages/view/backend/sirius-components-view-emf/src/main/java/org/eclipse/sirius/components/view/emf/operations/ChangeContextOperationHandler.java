@@ -40,7 +40,7 @@ public class ChangeContextOperationHandler implements IOperationHandler {
     @Override
     public OperationEvaluationResult handle(AQLInterpreter interpreter, VariableManager variableManager, Operation operation) {
         if (operation instanceof ChangeContext changeContextOperation) {
-            Optional<Object> newContext = interpreter.evaluateExpression(variableManager.getVariables(), changeContextOperation.getExpression()).asObject();
+            Optional<Object> newContext = interpreter.evaluateExpression(variableManager.getVariablesView(), changeContextOperation.getExpression()).asObject();
             if (newContext.isPresent()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(VariableManager.SELF, newContext.get());
@@ -41,7 +41,7 @@ public class ForOperationHandler implements IOperationHandler {
     @Override
     public OperationEvaluationResult handle(AQLInterpreter interpreter, VariableManager variableManager, Operation operation) {
         if (operation instanceof For forOperation) {
-            Optional<List<Object>> optionalList = interpreter.evaluateExpression(variableManager.getVariables(), forOperation.getExpression()).asObjects();
+            Optional<List<Object>> optionalList = interpreter.evaluateExpression(variableManager.getVariablesView(), forOperation.getExpression()).asObjects();
             if (optionalList.isPresent()) {
                 List<VariableManager> variableManagers = new ArrayList<>();
                 for (Object object : optionalList.get()) {
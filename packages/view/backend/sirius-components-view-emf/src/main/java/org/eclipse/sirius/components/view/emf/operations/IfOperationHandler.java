@@ -41,7 +41,7 @@ public class IfOperationHandler implements IOperationHandler {
     public OperationEvaluationResult handle(AQLInterpreter interpreter, VariableManager variableManager, Operation operation) {
         OperationEvaluationResult operationEvaluationResult = new OperationEvaluationResult(OperationExecutionStatus.FAILURE, List.of(variableManager), Map.of());
         if (operation instanceof If ifOperation) {
-            Optional<Boolean> result = interpreter.evaluateExpression(variableManager.getVariables(), ifOperation.getConditionExpression()).asBoolean();
+            Optional<Boolean> result = interpreter.evaluateExpression(variableManager.getVariablesView(), ifOperation.getConditionExpression()).asBoolean();
             if (result.isPresent() && Boolean.TRUE.equals(result.get())) {
                 operationEvaluationResult = new OperationEvaluationResult(OperationExecutionStatus.SUCCESS, List.of(variableManager), Map.of());
             } else {
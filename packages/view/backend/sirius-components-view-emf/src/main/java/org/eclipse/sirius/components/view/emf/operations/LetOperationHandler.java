@@ -40,7 +40,7 @@ public class LetOperationHandler implements IOperationHandler {
     @Override
     public OperationEvaluationResult handle(AQLInterpreter interpreter, VariableManager variableManager, Operation operation) {
         if (operation instanceof Let letOperation) {
-            Optional<Object> variableValue = interpreter.evaluateExpression(variableManager.getVariables(), letOperation.getValueExpression()).asObject();
+            Optional<Object> variableValue = interpreter.evaluateExpression(variableManager.getVariablesView(), letOperation.getValueExpression()).asObject();
             if (variableValue.isPresent()) {
                 VariableManager childVariableManager = variableManager.createChild();
                 childVariableManager.put(letOperation.getVariableName(), variableValue.get());
@@ -56,7 +56,7 @@ public class SetValueOperationHandler implements IOperationHandler {
             var optionalSelf = variableManager.get(VariableManager.SELF, EObject.class);
             if (optionalSelf.isPresent()) {
                 var self = optionalSelf.get();
-                var optionalNewValue = interpreter.evaluateExpression(variableManager.getVariables(), setValueOperation.getValueExpression()).asObject();
+                var optionalNewValue = interpreter.evaluateExpression(variableManager.getVariablesView(), setValueOperation.getValueExpression()).asObject();
 
                 Object instance = null;
                 if (optionalNewValue.isPresent()) {
@@ -67,7 +67,7 @@ public class CellDescriptionConverter {
         Function<VariableManager, String> targetObjectIdProvider = variableManager -> {
             Optional<Object> optionalSelf = variableManager.get(VariableManager.SELF, Object.class);
             if (viewCellDescription.getSelectedTargetObjectExpression() != null && !viewCellDescription.getSelectedTargetObjectExpression().isBlank()) {
-                optionalSelf = interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
+                optionalSelf = interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
             }
             return optionalSelf.map(this.identityService::getId)
                     .orElse("");
@@ -76,14 +76,14 @@ public class CellDescriptionConverter {
         Function<VariableManager, String> targetObjectKindProvider = variableManager -> {
             Optional<Object> optionalSelf = variableManager.get(VariableManager.SELF, Object.class);
             if (viewCellDescription.getSelectedTargetObjectExpression() != null && !viewCellDescription.getSelectedTargetObjectExpression().isBlank()) {
-                optionalSelf = interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
+                optionalSelf = interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getSelectedTargetObjectExpression()).asObject();
             }
             return optionalSelf.map(this.identityService::getKind)
                     .orElse("");
         };
 
         Predicate<VariableManager> canCreatePredicate =
-                variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false);
+                variableManager -> interpreter.evaluateExpression(variableManager.getVariablesView(), viewCellDescription.getPreconditionExpression()).asBoolean().orElse(false);
 
         BiFunction<VariableManager, Object, String> cellValueProvider = (variableManager, columnTargetObject) -> {
             var child = variableManager.createChild();
@@ -138,6 +138,6 @@ public class CellDescriptionConverter {
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asString().orElse("");
     }
 }
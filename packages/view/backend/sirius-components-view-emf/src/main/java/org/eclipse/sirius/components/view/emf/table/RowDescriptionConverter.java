@@ -49,14 +49,14 @@ public class RowDescriptionConverter {
                 .headerLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, rowDescription.getHeaderLabelExpression()))
                 .headerIconURLsProvider(new ViewIconURLsProvider(interpreter, rowDescription.getHeaderIconExpression()))
                 .headerIndexLabelProvider(variableManager -> this.evaluateString(interpreter, variableManager, rowDescription.getHeaderIndexLabelExpression()))
-                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getIsResizableExpression()).asBoolean().orElse(false))
-                .initialHeightProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getInitialHeightExpression()).asInt().orElse(-1))
-                .depthLevelProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), rowDescription.getDepthLevelExpression()).asInt().orElse(0))
+                .isResizablePredicate(variableManager -> interpreter.evaluateExpression(variableManager.getVariablesView(), rowDescription.getIsResizableExpression()).asBoolean().orElse(false))
+                .initialHeightProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariablesView(), rowDescription.getInitialHeightExpression()).asInt().orElse(-1))
+                .depthLevelProvider(variableManager -> interpreter.evaluateExpression(variableManager.getVariablesView(), rowDescription.getDepthLevelExpression()).asInt().orElse(0))
                 .build();
     }
 
     private Function<VariableManager, PaginatedData> getRowSemanticElementsProvider(org.eclipse.sirius.components.view.table.RowDescription elementDescription, AQLInterpreter interpreter) {
-        return variableManager -> interpreter.evaluateExpression(variableManager.getVariables(), elementDescription.getSemanticCandidatesExpression())
+        return variableManager -> interpreter.evaluateExpression(variableManager.getVariablesView(), elementDescription.getSemanticCandidatesExpression())
                 .asObject()
                 .filter(PaginatedData.class::isInstance)
                 .map(PaginatedData.class::cast)
@@ -65,6 +65,6 @@ public class RowDescriptionConverter {
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asString().orElse("");
     }
 }
@@ -103,13 +103,13 @@ public class ViewRowContextMenuEntryProvider implements IRowContextMenuEntryProv
     }
 
     private String evaluateString(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asString()
                 .orElse("");
     }
 
     private List<String> evaluateStringList(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        List<Object> objects = interpreter.evaluateExpression(variableManager.getVariables(), expression).asObjects().orElse(List.of());
+        List<Object> objects = interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asObjects().orElse(List.of());
         return objects.stream()
                 .filter(String.class::isInstance)
                 .map(String.class::cast)
@@ -118,7 +118,7 @@ public class ViewRowContextMenuEntryProvider implements IRowContextMenuEntryProv
     }
 
     private Boolean evaluateBoolean(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asBoolean()
                 .orElse(true);
     }
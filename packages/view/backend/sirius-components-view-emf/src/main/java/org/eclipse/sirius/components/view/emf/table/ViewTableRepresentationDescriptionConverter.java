@@ -76,14 +76,14 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
 
         Predicate<VariableManager> isStripeRowPredicate = variableManager -> {
             if (viewTableDescription.getUseStripedRowsExpression() != null) {
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewTableDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
+                return interpreter.evaluateExpression(variableManager.getVariablesView(), viewTableDescription.getUseStripedRowsExpression()).asBoolean().orElse(false);
             }
             return false;
         };
 
         Function<VariableManager, List<Integer>> pageSizeOptionsProvider = variableManager -> {
             if (viewTableDescription.getPageSizeOptionsExpression() != null && !viewTableDescription.getPageSizeOptionsExpression().isBlank()) {
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewTableDescription.getPageSizeOptionsExpression())
+                return interpreter.evaluateExpression(variableManager.getVariablesView(), viewTableDescription.getPageSizeOptionsExpression())
                         .asObjects()
                         .orElse(List.of(5, 10, 20, 50))
                         .stream()
@@ -96,7 +96,7 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
 
         Function<VariableManager, Integer> defaultPageSizeIndexProvider = variableManager -> {
             if (viewTableDescription.getDefaultPageSizeIndexExpression() != null) {
-                return interpreter.evaluateExpression(variableManager.getVariables(), viewTableDescription.getDefaultPageSizeIndexExpression()).asInt().orElse(0);
+                return interpreter.evaluateExpression(variableManager.getVariablesView(), viewTableDescription.getDefaultPageSizeIndexExpression()).asInt().orElse(0);
             }
             return 0;
         };
@@ -138,7 +138,7 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
         Optional<EClass> optionalEClass = variableManager.get(VariableManager.SELF, EObject.class).map(EObject::eClass).filter(new DomainClassPredicate(domainType));
         if (optionalEClass.isPresent()) {
             if (preconditionExpression != null && !preconditionExpression.isBlank()) {
-                result = interpreter.evaluateExpression(variableManager.getVariables(), preconditionExpression).asBoolean().orElse(false);
+                result = interpreter.evaluateExpression(variableManager.getVariablesView(), preconditionExpression).asBoolean().orElse(false);
             } else {
                 result = true;
             }
@@ -148,7 +148,7 @@ public class ViewTableRepresentationDescriptionConverter implements IRepresentat
 
 
     private String evaluateString(AQLInterpreter interpreter, VariableManager variableManager, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression).asString().orElse("");
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression).asString().orElse("");
     }
 
     private Optional<Object> self(VariableManager variableManager) {
@@ -101,7 +101,7 @@ public class ViewFetchTreeItemContextMenuEntryDataProvider implements IFetchTree
     }
 
     private String evaluateString(VariableManager variableManager, AQLInterpreter interpreter, String expression) {
-        return interpreter.evaluateExpression(variableManager.getVariables(), expression)
+        return interpreter.evaluateExpression(variableManager.getVariablesView(), expression)
                 .asString()
                 .orElse("");
     }
@@ -38,6 +38,7 @@ import org.eclipse.sirius.components.diagrams.description.DiagramDescription;
 import org.eclipse.sirius.components.diagrams.description.InsideLabelDescription;
 import org.eclipse.sirius.components.diagrams.description.LabelStyleDescription;
 import org.eclipse.sirius.components.diagrams.description.NodeDescription;
+import org.eclipse.sirius.components.emf.services.api.IAQLInterpreterPool;
 import org.eclipse.sirius.components.representations.Failure;
 import org.eclipse.sirius.components.representations.Success;
 import org.eclipse.sirius.components.view.diagram.DiagramFactory;
@@ -249,7 +250,7 @@ public class ViewPaletteProviderTests {
         };
 
         return new ViewPaletteProvider(urlParser, representationDescription -> true, viewDiagramDescriptionSearchService, new IDiagramDescriptionService.NoOp(), new IDiagramIdProvider.NoOp(),
-                new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext()), List.of(new PaletteDefaultToolsProvider()));
+                new ViewAQLInterpreterFactory(List.of(), new StaticApplicationContext(), new IAQLInterpreterPool.NoOp()), List.of(new PaletteDefaultToolsProvider()));
     }
 
     private DiagramDescription createDiagramDescription() {
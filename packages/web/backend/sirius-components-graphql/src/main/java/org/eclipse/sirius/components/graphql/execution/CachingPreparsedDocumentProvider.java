@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import graphql.ExecutionInput;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.execution.preparsed.persisted.PersistedQueryError;
+import graphql.execution.preparsed.persisted.PersistedQueryIdInvalid;
+import graphql.execution.preparsed.persisted.PersistedQueryNotFound;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Used to parse and validate only once the GraphQL documents sent again and again by the clients.
+ *
+ * <p>
+ *     The parsed and validated documents are kept in a bounded cache using the SHA-256 hash of the text of their query
+ *     as key. Following the automatic persisted queries protocol, clients can send this hash in the
+ *     <code>persistedQuery</code> extension instead of the text of a query which has already been sent. If the query is
+ *     not known, a <code>PersistedQueryNotFound</code> error is returned and the client has to send both the hash and the
+ *     text of the query. The hits and misses of the cache are published with the given meter registry.
+ * </p>
+ *
+ * @author agent
+ */
+public class CachingPreparsedDocumentProvider implements PreparsedDocumentProvider {
+
+    private static final String CACHE_NAME = "siriusweb_graphql_documents";
+
+    private final DocumentHashProvider documentHashProvider = new DocumentHashProvider();
+
+    private final Cache<String, PreparsedDocumentEntry> documents;
+
+    public CachingPreparsedDocumentProvider(long maximumSize, MeterRegistry meterRegistry) {
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Objects.requireNonNull(meterRegistry), this.documents, CACHE_NAME);
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput, Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        String query = executionInput.getQuery();
+        boolean hasQuery = this.documentHashProvider.hasQuery(query);
+
+        PreparsedDocumentEntry preparsedDocumentEntry = null;
+        var optionalPersistedQueryId = this.documentHashProvider.getPersistedQueryId(executionInput.getExtensions());
+        if (optionalPersistedQueryId.isPresent()) {
+            String persistedQueryId = optionalPersistedQueryId.get();
+            if (!hasQuery) {
+                preparsedDocumentEntry = Optional.ofNullable(this.documents.getIfPresent(persistedQueryId))
+                        .orElseGet(() -> {
+                            var persistedQueryNotFound = new PersistedQueryNotFound(persistedQueryId);
+                            return this.getError(persistedQueryNotFound, persistedQueryNotFound.getExtensions());
+                        });
+            } else {
+                var optionalHash = this.documentHashProvider.hash(query);
+                if (optionalHash.isEmpty()) {
+                    preparsedDocumentEntry = parseAndValidateFunction.apply(executionInput);
+                } else if (!persistedQueryId.equals(optionalHash.get())) {
+                    var persistedQueryIdInvalid = new PersistedQueryIdInvalid(persistedQueryId);
+                    preparsedDocumentEntry = this.getError(persistedQueryIdInvalid, persistedQueryIdInvalid.getExtensions());
+                } else {
+                    preparsedDocumentEntry = this.documents.get(persistedQueryId, key -> parseAndValidateFunction.apply(executionInput));
+                }
+            }
+        } else if (hasQuery) {
+            preparsedDocumentEntry = this.documentHashProvider.hash(query)
+                    .map(hash -> this.documents.get(hash, key -> parseAndValidateFunction.apply(executionInput)))
+                    .orElseGet(() -> parseAndValidateFunction.apply(executionInput));
+        } else {
+            preparsedDocumentEntry = parseAndValidateFunction.apply(executionInput);
+        }
+        return CompletableFuture.completedFuture(preparsedDocumentEntry);
+    }
+
+    private PreparsedDocumentEntry getError(PersistedQueryError persistedQueryError, Map<String, Object> extensions) {
+        GraphQLError error = GraphqlErrorBuilder.newError()
+                .errorType(persistedQueryError)
+                .message(persistedQueryError.getMessage())
+                .extensions(extensions)
+                .build();
+        return new PreparsedDocumentEntry(error);
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+
+/**
+ * Used to identify a GraphQL document by the SHA-256 hash of the text of its query.
+ *
+ * <p>
+ *     Following the automatic persisted queries protocol, clients can send this hash in the <code>sha256Hash</code>
+ *     field of the <code>persistedQuery</code> extension instead of the text of a query which has already been sent.
+ * </p>
+ *
+ * @author agent
+ */
+public class DocumentHashProvider {
+
+    private static final String PERSISTED_QUERY = "persistedQuery";
+
+    private static final String SHA256_HASH = "sha256Hash";
+
+    private final Logger logger = LoggerFactory.getLogger(DocumentHashProvider.class);
+
+    /**
+     * Returns the hash of the document of a request, computed from the text of its query if it has been sent or
+     * retrieved from its persisted query extension otherwise.
+     *
+     * @param query
+     *         The text of the query, which may be null or the persisted query marker
+     * @param extensions
+     *         The extensions of the request, which may be null
+     * @return The hash of the document or an empty optional if it cannot be computed
+     */
+    public Optional<String> getDocumentHash(String query, Map<String, Object> extensions) {
+        if (this.hasQuery(query)) {
+            return this.hash(query);
+        }
+        return this.getPersistedQueryId(extensions);
+    }
+
+    public boolean hasQuery(String query) {
+        return query != null && !query.isBlank() && !PersistedQuerySupport.PERSISTED_QUERY_MARKER.equals(query);
+    }
+
+    public Optional<String> getPersistedQueryId(Map<String, Object> extensions) {
+        return Optional.ofNullable(extensions)
+                .map(extensionsMap -> extensionsMap.get(PERSISTED_QUERY))
+                .filter(Map.class::isInstance)
+                .map(Map.class::cast)
+                .map(persistedQuery -> persistedQuery.get(SHA256_HASH))
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .map(persistedQueryId -> persistedQueryId.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Computes the SHA-256 hash of the given query, or nothing if this algorithm is not available.
+     *
+     * @param query
+     *         The text of a query
+     * @return The hexadecimal representation of its hash
+     */
+    public Optional<String> hash(String query) {
+        Optional<String> result = Optional.empty();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(query.getBytes(StandardCharsets.UTF_8));
+            result = Optional.of(HexFormat.of().formatHex(digest));
+        } catch (NoSuchAlgorithmException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+        return result;
+    }
+}
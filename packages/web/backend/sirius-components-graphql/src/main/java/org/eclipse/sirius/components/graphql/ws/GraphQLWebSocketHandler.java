@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2023 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -191,6 +191,8 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
 
     private final Map<WebSocketSession, Disposable> sessions2keepAliveSubscriptions = new ConcurrentHashMap<>();
 
+    private final SubscriptionPublications subscriptionPublications;
+
     private final Counter connectionInitCounter;
 
     private final Counter startMessageCounter;
@@ -210,6 +212,7 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
         this.graphQL = Objects.requireNonNull(graphQL);
         this.meterRegistry = Objects.requireNonNull(meterRegistry);
         this.listener = Objects.requireNonNull(listener);
+        this.subscriptionPublications = new SubscriptionPublications(objectMapper);
 
         // @formatter:off
         this.startMessageCounter = Counter.builder(COUNTER_METRIC_NAME)
@@ -254,7 +257,7 @@ public class GraphQLWebSocketHandler extends TextWebSocketHandler implements Sub
             } else if (operationMessage instanceof StartMessage) {
                 StartMessage startMessage = (StartMessage) operationMessage;
 
-                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.meterRegistry).handle(startMessage);
+                new StartMessageHandler(session, this.graphQL, this.objectMapper, this.sessions2entries, this.subscriptionPublications, this.meterRegistry).handle(startMessage);
                 this.startMessageCounter.increment();
             } else if (operationMessage instanceof StopMessage) {
                 StopMessage stopMessage = (StopMessage) operationMessage;
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.ws;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.components.graphql.execution.DocumentHashProvider;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import graphql.ExecutionResult;
+import reactor.core.publisher.Flux;
+
+/**
+ * Used to execute and serialize only once the results published to all the subscriptions sharing the same GraphQL
+ * operation.
+ *
+ * <p>
+ *     Subscriptions are grouped in publications by the hash of their document, operation name and variables. The hash
+ *     is computed from the text of the query or retrieved from the persisted query extension when only the hash has
+ *     been sent, a subscription whose document cannot be identified is not grouped. The identifier of the input
+ *     variable is ignored since it is only used by the clients to correlate their requests.
+ * </p>
+ *
+ * <p>
+ *     The execution of the first subscription of a publication is shared by all the subscriptions which join it while
+ *     it is running, its results are thus serialized once for all of them. Since the subscriptions start by publishing
+ *     the current state of what they observe, for example the current version of a representation, a subscription
+ *     joining a running publication still uses its own execution for its first result only, followed by the results
+ *     of the shared execution published after it has joined. The first of those shared results is dropped if it is
+ *     identical to this first result. Only the envelope of the data message, which contains the identifier of each
+ *     subscription, is built for each of them. The publication is removed once all its subscriptions have been
+ *     disposed or once its shared execution has terminated.
+ * </p>
+ *
+ * @author agent
+ */
+public class SubscriptionPublications {
+
+    private static final String INPUT = "input";
+
+    private static final String ID = "id";
+
+    private final Logger logger = LoggerFactory.getLogger(SubscriptionPublications.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<PublicationKey, Flux<String>> publications = new ConcurrentHashMap<>();
+
+    private final DocumentHashProvider documentHashProvider = new DocumentHashProvider();
+
+    public SubscriptionPublications(ObjectMapper objectMapper) {
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    public PublicationKey getPublicationKey(GraphQLPayload graphQLPayload) {
+        Map<String, Object> variables = new HashMap<>(Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of()));
+        if (variables.get(INPUT) instanceof Map<?, ?> input) {
+            Map<Object, Object> inputWithoutId = new HashMap<>(input);
+            inputWithoutId.remove(ID);
+            variables.put(INPUT, inputWithoutId);
+        }
+
+        var documentHash = this.documentHashProvider.getDocumentHash(graphQLPayload.getQuery(), graphQLPayload.getExtensions()).orElse(null);
+        return new PublicationKey(documentHash, graphQLPayload.getOperationName(), variables);
+    }
+
+    /**
+     * Returns the serialized results of the given subscription, shared with the other subscriptions of the same
+     * publication.
+     *
+     * @param graphQLPayload
+     *         The payload of the subscription
+     * @param publisher
+     *         The results of the execution of the subscription
+     * @return The serialized payloads of the results of the subscription
+     */
+    public Flux<String> getSerializedResults(GraphQLPayload graphQLPayload, Publisher<ExecutionResult> publisher) {
+        var publicationKey = this.getPublicationKey(graphQLPayload);
+        if (publicationKey.documentHash() == null) {
+            return this.serialize(publisher);
+        }
+
+        AtomicBoolean joined = new AtomicBoolean(true);
+        var sharedResults = this.publications.computeIfAbsent(publicationKey, key -> {
+            joined.set(false);
+            return this.share(key, publisher);
+        });
+        if (joined.get()) {
+            return this.join(sharedResults, publisher);
+        }
+        return sharedResults;
+    }
+
+    private Flux<String> share(PublicationKey publicationKey, Publisher<ExecutionResult> publisher) {
+        AtomicReference<Flux<String>> sharedResults = new AtomicReference<>();
+        sharedResults.set(this.serialize(publisher)
+                .doFinally(signalType -> this.publications.remove(publicationKey, sharedResults.get()))
+                .share());
+        return sharedResults.get();
+    }
+
+    private Flux<String> join(Flux<String> sharedResults, Publisher<ExecutionResult> publisher) {
+        return Flux.defer(() -> {
+            AtomicReference<String> firstResult = new AtomicReference<>();
+            AtomicBoolean firstSharedResult = new AtomicBoolean(true);
+            var ownFirstResult = this.serialize(publisher).take(1).doOnNext(firstResult::set);
+
+            // The shared results are buffered while the first result is computed, the first of them may thus be identical
+            return Flux.mergeSequential(ownFirstResult, sharedResults).filter(result -> {
+                boolean isDuplicate = false;
+                if (result != firstResult.get() && firstSharedResult.getAndSet(false)) {
+                    isDuplicate = result.equals(firstResult.get());
+                }
+                return !isDuplicate;
+            });
+        });
+    }
+
+    private Flux<String> serialize(Publisher<ExecutionResult> publisher) {
+        return Flux.from(publisher).handle((result, sink) -> {
+            try {
+                sink.next(this.objectMapper.writeValueAsString(result.toSpecification()));
+            } catch (JsonProcessingException exception) {
+                this.logger.warn(exception.getMessage(), exception);
+            }
+        });
+    }
+
+    /**
+     * Returns the data message of the given subscription.
+     *
+     * @param id
+     *         The identifier of the subscription
+     * @param serializedPayload
+     *         The serialized result of the subscription, shared with the other subscriptions of the same publication
+     * @return The serialized data message
+     * @throws JsonProcessingException
+     *         If the identifier cannot be serialized
+     */
+    public String getDataMessage(String id, String serializedPayload) throws JsonProcessingException {
+        return "{\"id\":" + this.objectMapper.writeValueAsString(id) + ",\"payload\":" + serializedPayload + ",\"type\":\"data\"}";
+    }
+
+    public int getPublicationsCount() {
+        return this.publications.size();
+    }
+
+    /**
+     * The key of a publication.
+     *
+     * @author agent
+     */
+    public record PublicationKey(String documentHash, String operationName, Map<String, Object> variables) {
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -31,6 +31,14 @@ public interface IWebSocketMessageHandler {
     default void send(ObjectMapper objectMapper, WebSocketSession session, IOperationMessage message, Logger logger) {
         try {
             String responsePayload = objectMapper.writeValueAsString(message);
+            this.send(session, responsePayload, message, logger);
+        } catch (IOException exception) {
+            logger.warn(exception.getMessage(), exception);
+        }
+    }
+
+    default void send(WebSocketSession session, String responsePayload, Object message, Logger logger) {
+        try {
             TextMessage textMessage = new TextMessage(responsePayload);
             synchronized (session) {
                 if (session.isOpen()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@
  *******************************************************************************/
 package org.eclipse.sirius.components.graphql.ws.handlers;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
@@ -24,6 +25,7 @@ import java.util.function.Consumer;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
 import org.eclipse.sirius.components.graphql.ws.SubscriptionEntry;
+import org.eclipse.sirius.components.graphql.ws.SubscriptionPublications;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.CompleteMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.output.DataMessage;
@@ -36,16 +38,17 @@ import org.springframework.web.socket.WebSocketSession;
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import reactor.core.Disposable;
-import reactor.core.publisher.Flux;
 
 /**
  * This class will handle all the start messages sent by the consumers of the Web Socket API. It will executes the
  * GraphQL payload provided. If that payload contains a query or a mutation, it will return the result directly. If,
  * otherwise, it contains a subscription then it creates a new GraphQL subscription and registers it in the subscription
- * entries of the Web Socket session.
+ * entries of the Web Socket session. The subscriptions of the same publication share a single execution whose results are
+ * serialized once for all of them.
  *
  * @author sbegaudeau
  */
@@ -63,13 +66,21 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     private final Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries;
 
+    private final SubscriptionPublications subscriptionPublications;
+
     private final Timer graphQLRequestTimer;
 
     public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries, MeterRegistry meterRegistry) {
+        this(session, graphQL, objectMapper, sessions2entries, new SubscriptionPublications(objectMapper), meterRegistry);
+    }
+
+    public StartMessageHandler(WebSocketSession session, GraphQL graphQL, ObjectMapper objectMapper, Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries,
+            SubscriptionPublications subscriptionPublications, MeterRegistry meterRegistry) {
         this.session = Objects.requireNonNull(session);
         this.graphQL = Objects.requireNonNull(graphQL);
         this.objectMapper = Objects.requireNonNull(objectMapper);
         this.sessions2entries = Objects.requireNonNull(sessions2entries);
+        this.subscriptionPublications = Objects.requireNonNull(subscriptionPublications);
 
         this.graphQLRequestTimer = Timer.builder(COUNTER_METRIC_NAME).register(meterRegistry);
     }
@@ -78,14 +89,16 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         String id = startMessage.getId();
         GraphQLPayload graphQLPayload = startMessage.getPayload();
 
-        String query = graphQLPayload.getQuery();
+        String query = Optional.ofNullable(graphQLPayload.getQuery()).orElse(PersistedQuerySupport.PERSISTED_QUERY_MARKER);
         Map<String, Object> variables = Optional.ofNullable(graphQLPayload.getVariables()).orElse(Map.of());
+        Map<String, Object> extensions = Optional.ofNullable(graphQLPayload.getExtensions()).orElse(Map.of());
         String operationName = graphQLPayload.getOperationName();
 
         // @formatter:off
         ExecutionInput executionInput = ExecutionInput.newExecutionInput()
                 .query(query)
                 .variables(variables)
+                .extensions(extensions)
                 .operationName(operationName)
                 .build();
         // @formatter:on
@@ -99,14 +112,14 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         if (executionResult.getData() instanceof Publisher<?>) {
             Publisher<ExecutionResult> publisher = executionResult.getData();
 
-            this.subscribe(id, publisher);
+            this.subscribe(id, graphQLPayload, publisher);
         } else {
             this.send(this.objectMapper, this.session, new DataMessage(id, executionResult.toSpecification()), this.logger);
         }
     }
 
-    private void subscribe(String id, Publisher<ExecutionResult> publisher) {
-        Consumer<ExecutionResult> consumer = result -> this.send(this.objectMapper, this.session, new DataMessage(id, result.toSpecification()), this.logger);
+    private void subscribe(String id, GraphQLPayload graphQLPayload, Publisher<ExecutionResult> publisher) {
+        Consumer<String> consumer = serializedPayload -> this.sendData(id, serializedPayload);
         Consumer<Throwable> onErrorConsumer = error -> {
             this.logger.warn(error.getMessage(), error);
             this.send(this.objectMapper, this.session, new ErrorMessage(id, null), this.logger);
@@ -114,7 +127,7 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
         Runnable onCompleteConsumer = () -> this.send(this.objectMapper, this.session, new CompleteMessage(id), this.logger);
 
         // @formatter:off
-        Disposable subscription = Flux.from(publisher)
+        Disposable subscription = this.subscriptionPublications.getSerializedResults(graphQLPayload, publisher)
                 .subscribe(consumer, onErrorConsumer, onCompleteConsumer);
         // @formatter:on
 
@@ -126,4 +139,13 @@ public class StartMessageHandler implements IWebSocketMessageHandler {
 
     }
 
+    private void sendData(String id, String serializedPayload) {
+        try {
+            String dataMessage = this.subscriptionPublications.getDataMessage(id, serializedPayload);
+            this.send(this.session, dataMessage, id, this.logger);
+        } catch (JsonProcessingException exception) {
+            this.logger.warn(exception.getMessage(), exception);
+        }
+    }
+
 }
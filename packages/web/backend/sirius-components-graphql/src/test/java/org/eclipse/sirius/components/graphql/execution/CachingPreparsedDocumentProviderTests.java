@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Obeo.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Obeo - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.sirius.components.graphql.execution;
+
+import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.ExecutionResult;
+import graphql.GraphQL;
+import graphql.Scalars;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
+import graphql.schema.GraphQLObjectType;
+import graphql.schema.GraphQLSchema;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tests of the cache of the parsed and validated GraphQL documents.
+ *
+ * @author agent
+ */
+public class CachingPreparsedDocumentProviderTests {
+
+    private static final String QUERY = "query { field }";
+
+    private static final String CACHE_GETS = "cache.gets";
+
+    private static final String RESULT = "result";
+
+    @Test
+    public void givenTheSameQueryWhenItIsExecutedSeveralTimesThenItIsParsedOnce() {
+        var meterRegistry = new SimpleMeterRegistry();
+        GraphQL graphQL = this.getGraphQL(meterRegistry);
+
+        for (int i = 0; i < 3; i++) {
+            ExecutionResult executionResult = graphQL.execute(ExecutionInput.newExecutionInput().query(QUERY).build());
+            assertThat(executionResult.getErrors()).isEmpty();
+        }
+
+        assertThat(meterRegistry.get(CACHE_GETS).tag(RESULT, "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(CACHE_GETS).tag(RESULT, "hit").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenAPersistedQueryWhenItIsExecutedWithItsHashOnlyThenTheCachedDocumentIsUsed() throws NoSuchAlgorithmException {
+        GraphQL graphQL = this.getGraphQL(new SimpleMeterRegistry());
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(QUERY.getBytes(StandardCharsets.UTF_8)));
+        Map<String, Object> extensions = Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash));
+
+        ExecutionInput hashOnlyInput = ExecutionInput.newExecutionInput()
+                .query(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extensions(extensions)
+                .build();
+        ExecutionResult executionResult = graphQL.execute(hashOnlyInput);
+        assertThat(executionResult.getErrors()).hasSize(1);
+        assertThat(executionResult.getErrors().get(0).getMessage()).isEqualTo("PersistedQueryNotFound");
+
+        ExecutionInput fullInput = ExecutionInput.newExecutionInput()
+                .query(QUERY)
+                .extensions(extensions)
+                .build();
+        executionResult = graphQL.execute(fullInput);
+        assertThat(executionResult.getErrors()).isEmpty();
+
+        executionResult = graphQL.execute(hashOnlyInput);
+        assertThat(executionResult.getErrors()).isEmpty();
+        assertThat(executionResult.<Map<String, Object>>getData()).containsKey("field");
+    }
+
+    @Test
+    public void givenAPersistedQueryWithAnInvalidHashWhenItIsExecutedThenAnErrorIsReturned() {
+        GraphQL graphQL = this.getGraphQL(new SimpleMeterRegistry());
+
+        ExecutionInput executionInput = ExecutionInput.newExecutionInput()
+                .query(QUERY)
+                .extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", "invalid")))
+                .build();
+        ExecutionResult executionResult = graphQL.execute(executionInput);
+        assertThat(executionResult.getErrors()).hasSize(1);
+        assertThat(executionResult.getErrors().get(0).getMessage()).isEqualTo("PersistedQueryIdInvalid");
+    }
+
+    private GraphQL getGraphQL(SimpleMeterRegistry meterRegistry) {
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(newFieldDefinition()
+                        .name("field")
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .build();
+        return GraphQL.newGraphQL(graphQLSchema)
+                .preparsedDocumentProvider(new CachingPreparsedDocumentProvider(100, meterRegistry))
+                .build();
+    }
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2022 Obeo.
+ * Copyright (c) 2019, 2025 Obeo.
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v2.0
  * which accompanies this distribution, and is available at
@@ -15,14 +15,18 @@ package org.eclipse.sirius.components.graphql.ws;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.sirius.components.graphql.controllers.GraphQLPayload;
+import org.eclipse.sirius.components.graphql.execution.DocumentHashProvider;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StartMessage;
 import org.eclipse.sirius.components.graphql.ws.dto.input.StopMessage;
 import org.eclipse.sirius.components.graphql.ws.handlers.ConnectionInitMessageHandler;
@@ -36,6 +40,7 @@ import org.springframework.web.socket.WebSocketSession;
 
 import graphql.GraphQL;
 import graphql.Scalars;
+import graphql.execution.preparsed.persisted.PersistedQuerySupport;
 import graphql.schema.DataFetcher;
 import graphql.schema.FieldCoordinates;
 import graphql.schema.GraphQLCodeRegistry;
@@ -44,6 +49,8 @@ import graphql.schema.GraphQLSchema;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 /**
  * Unit tests of the various Web Socket handlers. The handlers should implement the behavior described in the
@@ -158,6 +165,117 @@ public class WebSocketHandlerTests {
         assertThat(textMessage.getPayload()).isEqualTo("{\"id\":\"subscriptionOperationId\",\"type\":\"complete\"}");
     }
 
+    @Test
+    public void givenManySubscriptionsToTheSameOperationWhenAnEventIsPublishedThenItIsExecutedAndSerializedOnce() {
+        int sessionsCount = 100;
+        int eventsCount = 3;
+
+        Sinks.Many<String> sink = Sinks.many().multicast().directBestEffort();
+        DataFetcher<Flux<String>> dataFetcher = environment -> Flux.concat(Mono.just("InitialState"), sink.asFlux());
+
+        // @formatter:off
+        GraphQLCodeRegistry codeRegistry = GraphQLCodeRegistry.newCodeRegistry()
+                .dataFetcher(FieldCoordinates.coordinates("Subscription", "eventReceived"), dataFetcher)
+                .build();
+
+        GraphQLObjectType queryType = GraphQLObjectType.newObject()
+                .name("Query")
+                .field(newFieldDefinition()
+                        .name("field")
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLObjectType subscriptionType = GraphQLObjectType.newObject()
+                .name("Subscription")
+                .field(newFieldDefinition()
+                        .name("eventReceived")
+                        .type(Scalars.GraphQLString))
+                .build();
+        GraphQLSchema graphQLSchema = GraphQLSchema.newSchema()
+                .query(queryType)
+                .subscription(subscriptionType)
+                .codeRegistry(codeRegistry)
+                .build();
+        GraphQL graphQL = GraphQL.newGraphQL(graphQLSchema)
+                .build();
+        // @formatter:on
+
+        AtomicInteger payloadSerializationsCount = new AtomicInteger();
+        ObjectMapper objectMapper = new ObjectMapper() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public String writeValueAsString(Object value) throws JsonProcessingException {
+                if (value instanceof Map<?, ?>) {
+                    payloadSerializationsCount.incrementAndGet();
+                }
+                return super.writeValueAsString(value);
+            }
+        };
+        Map<WebSocketSession, List<SubscriptionEntry>> sessions2entries = new HashMap<>();
+        SubscriptionPublications subscriptionPublications = new SubscriptionPublications(objectMapper);
+
+        List<NoOpWebSocketSession> sessions = new ArrayList<>();
+        for (int i = 0; i < sessionsCount; i++) {
+            NoOpWebSocketSession session = new NoOpWebSocketSession();
+            sessions.add(session);
+
+            // @formatter:off
+            GraphQLPayload payload = GraphQLPayload.newGraphQLPayload()
+                    .query("subscription { eventReceived }")
+                    .variables(Map.of("input", Map.of("id", "input" + i)))
+                    .build();
+            // @formatter:on
+
+            StartMessage startMessage = new StartMessage("subscription" + i, payload);
+            new StartMessageHandler(session, graphQL, objectMapper, sessions2entries, subscriptionPublications, new SimpleMeterRegistry()).handle(startMessage);
+        }
+        assertThat(subscriptionPublications.getPublicationsCount()).isEqualTo(1);
+        assertThat(sink.currentSubscriberCount()).isEqualTo(1);
+
+        for (int i = 0; i < eventsCount; i++) {
+            sink.tryEmitNext("Event" + i);
+        }
+
+        // The initial state is serialized for each subscription and each event only once
+        assertThat(payloadSerializationsCount.get()).isEqualTo(sessionsCount + eventsCount);
+        for (int i = 0; i < sessionsCount; i++) {
+            List<WebSocketMessage<?>> messages = sessions.get(i).getMessages();
+            assertThat(messages).hasSize(1 + eventsCount);
+            assertThat(messages.get(0).getPayload()).isEqualTo("{\"id\":\"subscription" + i + "\",\"payload\":{\"data\":{\"eventReceived\":\"InitialState\"}},\"type\":\"data\"}");
+            assertThat(messages.get(eventsCount).getPayload()).isEqualTo("{\"id\":\"subscription" + i + "\",\"payload\":{\"data\":{\"eventReceived\":\"Event" + (eventsCount - 1) + "\"}},\"type\":\"data\"}");
+        }
+
+        sessions2entries.values().stream().flatMap(List::stream).forEach(entry -> entry.getSubscription().dispose());
+        assertThat(subscriptionPublications.getPublicationsCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void givenSubscriptionsSendingTheQueryOrItsPersistedHashWhenTheirPublicationIsComputedThenTheyShareTheSamePublication() {
+        SubscriptionPublications subscriptionPublications = new SubscriptionPublications(new ObjectMapper());
+
+        String query = "subscription { eventReceived }";
+        String hash = new DocumentHashProvider().hash(query).orElseThrow();
+
+        // @formatter:off
+        GraphQLPayload payloadWithQuery = GraphQLPayload.newGraphQLPayload()
+                .query(query)
+                .extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash)))
+                .build();
+        GraphQLPayload payloadWithHash = GraphQLPayload.newGraphQLPayload()
+                .query(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .extensions(Map.of("persistedQuery", Map.of("version", 1, "sha256Hash", hash.toUpperCase(Locale.ROOT))))
+                .build();
+        GraphQLPayload payloadWithoutDocument = GraphQLPayload.newGraphQLPayload()
+                .query(PersistedQuerySupport.PERSISTED_QUERY_MARKER)
+                .build();
+        // @formatter:on
+
+        var publicationKey = subscriptionPublications.getPublicationKey(payloadWithQuery);
+        assertThat(subscriptionPublications.getPublicationKey(payloadWithHash)).isEqualTo(publicationKey);
+        assertThat(publicationKey.documentHash()).isEqualTo(hash);
+        assertThat(subscriptionPublications.getPublicationKey(payloadWithoutDocument).documentHash()).isNull();
+    }
+
     @Test
     public void testStopMessageHandler() {
         NoOpWebSocketSession session = new NoOpWebSocketSession();